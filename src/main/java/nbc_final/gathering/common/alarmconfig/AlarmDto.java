@@ -3,6 +3,7 @@ package nbc_final.gathering.common.alarmconfig;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class AlarmDto {
 
@@ -47,4 +48,13 @@ public class AlarmDto {
                     '}';
         }
     }
+
+    // 짧은 시간 안에 쌓인 같은 유저의 알림을 한 번에 전달하기 위한 응답
+    // 클라이언트는 /user/queue/alarm 을 구독하고 {"messages": [...]} 형태로 받음 (이전: /gathering/inbox 로 알림 문자열 하나씩 전체 전송)
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class AlarmInboxRes {
+        private List<String> messages;
+    }
 }
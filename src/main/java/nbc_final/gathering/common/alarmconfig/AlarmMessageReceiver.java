@@ -1,37 +1,95 @@
 package nbc_final.gathering.common.alarmconfig;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RabbitMQ 알림 메시지를 유저별 STOMP 목적지(/user/queue/alarm)로 전달
+ * 같은 유저에게 짧은 시간(COALESCE_WINDOW_MS) 안에 몰린 알림은 하나의 프레임으로 묶어서 전송합니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AlarmMessageReceiver {
 
+    public static final String USER_ALARM_DESTINATION = "/queue/alarm";
+    private static final long COALESCE_WINDOW_MS = 200;
+
     private final SimpMessagingTemplate messagingTemplate;
-    private final ObjectMapper objectMapper;
+    private final long coalesceWindowMs;
+    private final ConcurrentHashMap<Long, List<String>> pendingAlarms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushScheduler;
+
+    @Autowired
+    public AlarmMessageReceiver(SimpMessagingTemplate messagingTemplate) {
+        this(messagingTemplate, COALESCE_WINDOW_MS,
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("alarm-coalesce-")));
+    }
+
+    AlarmMessageReceiver(SimpMessagingTemplate messagingTemplate, long coalesceWindowMs,
+                         ScheduledExecutorService flushScheduler) {
+        this.messagingTemplate = messagingTemplate;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.flushScheduler = flushScheduler;
+    }
 
     @RabbitListener(queues = "${RABBITMQ_NOTIFICATION_QUEUE}")
-//    public void receiveAlarmMessage(byte[] message) {
     public void receiveAlarmMessage(AlarmDto.AlarmMessageRes alarmMessageRes) {
-        try {
-            // byte[] 메시지를 AlarmMessageRes 객체로 변환
-//            AlarmDto.AlarmMessageRes alarmMessageRes = objectMapper.readValue(message, AlarmDto.AlarmMessageRes.class);
-//            alarmMessageRes = objectMapper.readValue(message, AlarmDto.AlarmMessageRes.class);
+        log.info("RabbitMQ에서 수신한 알람 메시지: {}", alarmMessageRes);
 
-            // RabbitMQ에서 메시지를 정상적으로 수신한 경우
-            log.info("RabbitMQ에서 수신한 알람 메시지: {}", alarmMessageRes);
+        Long userId = alarmMessageRes.getUserId();
+        if (userId == null) {
+            log.warn("수신자가 없는 알람 메시지는 전송하지 않습니다: {}", alarmMessageRes);
+            return;
+        }
 
-            // WebSocket으로 알람 메시지 전송 (엔드포인트 /gathering/inbox로 수정)
-            messagingTemplate.convertAndSend("/gathering/inbox", alarmMessageRes.getMessage());
-            log.info("WebSocket으로 알람 메시지 전송 완료: {}", alarmMessageRes.getMessage());
-        } catch (Exception e) {
-            log.error("메시지 변환 실패: {}", e.getMessage());
+        // 유저별 대기 목록에 추가하고, 첫 메시지인 경우에만 전송 예약
+        boolean[] firstInWindow = {false};
+        pendingAlarms.compute(userId, (id, messages) -> {
+            if (messages == null) {
+                messages = new ArrayList<>();
+                firstInWindow[0] = true;
+            }
+            messages.add(alarmMessageRes.getMessage());
+            return messages;
+        });
+
+        if (firstInWindow[0]) {
+            flushScheduler.schedule(() -> flush(userId), coalesceWindowMs, TimeUnit.MILLISECONDS);
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+        // 종료 전에 대기 중인 알림을 모두 전송
+        new ArrayList<>(pendingAlarms.keySet()).forEach(this::flush);
+    }
+
+    private void flush(Long userId) {
+        List<String> messages = pendingAlarms.remove(userId);
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            // WebSocket 으로 해당 유저의 세션에만 알람 메시지 전송
+            messagingTemplate.convertAndSendToUser(userId.toString(), USER_ALARM_DESTINATION,
+                    new AlarmDto.AlarmInboxRes(messages));
+            log.info("WebSocket으로 알람 메시지 전송 완료: 유저 ID {}, {}건", userId, messages.size());
+        } catch (Exception e) {
+            log.error("알람 메시지 전송 실패: 유저 ID {}, {}", userId, e.getMessage());
+        }
+    }
 }
@@ -1,17 +1,83 @@
 package nbc_final.gathering.common.alarmconfig;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AlarmService {
 
     private static final String NOTIFICATION_EXCHANGE = "notification-exchange";
     private static final String ROUTING_KEY = "user-notification-routing-key";
+    // insertMany / 발행 확인 단위
+    private static final int FAN_OUT_CHUNK_SIZE = 500;
+    private static final long CONFIRM_TIMEOUT_MS = 5_000;
+    private static final int FAN_OUT_THREADS = 4;
+    private static final int FAN_OUT_QUEUE_CAPACITY = 1000;
+
     private final RabbitTemplate rabbitTemplate;
     private final AlarmMessageRepository alarmMessageRepository;
+    // 알림 일괄 전송 전용 스레드 풀 (고정 크기, 큐가 가득 차면 요청 스레드에서 실행하지 않고 버린 뒤 지표로 기록)
+    private final ThreadPoolExecutor alarmFanOutExecutor;
+
+    private final Timer fanOutLatency;
+    private final Counter fanOutRecipients;
+    private final Counter fanOutFailures;
+    private final Counter fanOutRejected;
+
+    @Autowired
+    public AlarmService(RabbitTemplate rabbitTemplate,
+                        AlarmMessageRepository alarmMessageRepository,
+                        MeterRegistry meterRegistry) {
+        this(rabbitTemplate, alarmMessageRepository, meterRegistry, FAN_OUT_THREADS, FAN_OUT_QUEUE_CAPACITY);
+    }
+
+    AlarmService(RabbitTemplate rabbitTemplate,
+                 AlarmMessageRepository alarmMessageRepository,
+                 MeterRegistry meterRegistry,
+                 int fanOutThreads,
+                 int fanOutQueueCapacity) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.alarmMessageRepository = alarmMessageRepository;
+        // 코어 = 최대 스레드 수 (LinkedBlockingQueue 는 큐가 가득 차기 전까지 코어 수 이상으로 늘어나지 않음)
+        this.alarmFanOutExecutor = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(fanOutQueueCapacity),
+                new CustomizableThreadFactory("alarm-fanout-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.alarmFanOutExecutor.allowCoreThreadTimeOut(true);
+        this.fanOutLatency = meterRegistry.timer("alarm.fanout.latency");
+        this.fanOutRecipients = meterRegistry.counter("alarm.fanout.recipients");
+        this.fanOutFailures = meterRegistry.counter("alarm.fanout.failures");
+        this.fanOutRejected = meterRegistry.counter("alarm.fanout.rejected");
+        meterRegistry.gauge("alarm.fanout.queue.depth", alarmFanOutExecutor, executor -> executor.getQueue().size());
+    }
+
+    // 종료 시 대기 중인 알림 전송을 마무리
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        alarmFanOutExecutor.shutdown();
+        if (!alarmFanOutExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("알림 일괄 전송 스레드 풀 종료 대기 시간 초과, 남은 작업 {}건", alarmFanOutExecutor.getQueue().size());
+        }
+    }
 
     // 알람 메시지를 RabbitMQ로 전송하는 서비스 메서드
     public void sendAlarm(AlarmDto.AlarmMessageReq request) {
@@ -21,6 +87,81 @@ public class AlarmService {
 
         // RabbitMQ로 전송
         AlarmDto.AlarmMessageRes alarmMessageRes = AlarmDto.AlarmMessageRes.createRes(alarmMessage);
-        rabbitTemplate.convertAndSend(NOTIFICATION_EXCHANGE, "user-notification-routing-key", alarmMessageRes);
+        rabbitTemplate.convertAndSend(NOTIFICATION_EXCHANGE, ROUTING_KEY, alarmMessageRes);
+    }
+
+    /**
+     * 여러 유저에게 같은 알림을 비동기로 일괄 전송합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에만 전송하고, 호출 즉시 반환합니다.
+     *
+     * @param userIds 수신자 ID 목록
+     * @param message 알림 메시지
+     */
+    public void sendAlarmToAll(Collection<Long> userIds, String message) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> recipients = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submitFanOut(recipients, message);
+                }
+            });
+        } else {
+            submitFanOut(recipients, message);
+        }
+    }
+
+    private void submitFanOut(List<Long> recipients, String message) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            alarmFanOutExecutor.execute(() -> {
+                try {
+                    fanOut(recipients, message);
+                } catch (RuntimeException e) {
+                    fanOutFailures.increment();
+                    log.error("알림 일괄 전송 실패: 수신자 {}명, 메시지={}", recipients.size(), message, e);
+                } finally {
+                    fanOutLatency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 찬 경우 요청 스레드를 붙잡지 않도록 버리고 기록
+            fanOutRejected.increment();
+            log.error("알림 일괄 전송 대기열 초과로 전송 생략: 수신자 {}명, 메시지={}", recipients.size(), message);
+        }
+    }
+
+    // 청크 단위로 Mongo insertMany 후, 같은 채널에서 연속 발행하고 한 번에 발행 확인
+    private void fanOut(List<Long> recipients, String message) {
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        for (int from = 0; from < recipients.size(); from += FAN_OUT_CHUNK_SIZE) {
+            List<Long> chunk = recipients.subList(from, Math.min(from + FAN_OUT_CHUNK_SIZE, recipients.size()));
+
+            List<AlarmMessage> alarmMessages = new ArrayList<>(chunk.size());
+            for (Long userId : chunk) {
+                alarmMessages.add(AlarmMessage.builder()
+                        .userId(userId)
+                        .message(message)
+                        .createdAt(createdAt)
+                        .build());
+            }
+            alarmMessageRepository.insert(alarmMessages);
+
+            rabbitTemplate.invoke(operations -> {
+                for (AlarmMessage alarmMessage : alarmMessages) {
+                    operations.convertAndSend(NOTIFICATION_EXCHANGE, ROUTING_KEY,
+                            AlarmDto.AlarmMessageRes.createRes(alarmMessage));
+                }
+                operations.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MS);
+                return null;
+            });
+
+            fanOutRecipients.increment(chunk.size());
+        }
     }
 }
@@ -4,13 +4,35 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
-    String key(); // Lock의 이름 (고유값)
 
-    long waitTime() default 10;  // Lock획득을 시도하는 최대 시간 (ms)
+    /**
+     * Lock의 이름 (고유값)
+     * {} 안은 메서드 파라미터 기준 SpEL 로 평가됩니다. (예: "event:{#eventId}:lock")
+     * 여러 개를 지정하면 모든 락을 한 번에 획득하는 멀티 락으로 동작합니다.
+     */
+    String[] key();
 
-    long leaseTime() default 15; // 락을 획득한 후, 점유하는 최대 시간 (ms)
+    LockType type() default LockType.REENTRANT; // 락 종류
+
+    long waitTime() default 10;  // Lock획득을 시도하는 최대 시간 (timeUnit 단위)
+
+    long leaseTime() default 15; // 락을 획득한 후, 점유하는 최대 시간 (timeUnit 단위)
+
+    TimeUnit timeUnit() default TimeUnit.SECONDS; // waitTime, leaseTime 의 시간 단위
+
+    enum LockType {
+        // 일반 재진입 락
+        REENTRANT,
+        // 요청 순서대로 획득하는 공정 락
+        FAIR,
+        // 읽기 락 (읽기끼리는 동시에 획득 가능)
+        READ,
+        // 쓰기 락 (읽기/쓰기 모두 배타적)
+        WRITE
+    }
 }
@@ -1,24 +1,53 @@
 package nbc_final.gathering.common.aop;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import nbc_final.gathering.common.annotation.DistributedLock;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+// 트랜잭션 커밋 이후에 락을 해제하도록 트랜잭션 AOP(LOWEST_PRECEDENCE) 보다 먼저 실행
 @Slf4j
 @Aspect
 @Component
-@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
 public class DistributedLockAspect {
 
+    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    private static final TemplateParserContext KEY_TEMPLATE = new TemplateParserContext("{", "}");
+
     private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    // 락 키 템플릿별로 파싱된 SpEL 표현식 캐시
+    private final Map<String, Expression> keyExpressions = new ConcurrentHashMap<>();
+
+    public DistributedLockAspect(RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
      * 분산 락 처리 AOP
@@ -29,31 +58,94 @@ public class DistributedLockAspect {
      */
     @Around("@annotation(distributedLock)")
     public Object handleDistributedLock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
-        String lockKey = distributedLock.key();
-        long waitTime = distributedLock.waitTime();
-        long leaseTime = distributedLock.leaseTime();
-
-        RLock lock = redissonClient.getLock(lockKey);
+        // 메트릭 태그는 평가 전 키 템플릿을 사용 (이벤트 ID 등으로 태그가 늘어나지 않도록)
+        String lockName = String.join(",", distributedLock.key());
+        String[] lockKeys = resolveKeys(joinPoint, distributedLock.key());
+        RLock lock = getLock(distributedLock.type(), lockKeys);
+        TimeUnit timeUnit = distributedLock.timeUnit();
 
+        boolean acquired = false;
+        long waitStart = System.nanoTime();
+        long holdStart = 0;
         try {
             // 락 획득 시도
-            if (lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS)) {
-                log.info("Lock acquired: {}", lockKey);
-                return joinPoint.proceed(); // 락 획득 후 메서드 실행
-            } else {
-                log.warn("Failed to acquire lock: {}", lockKey);
-                throw new IllegalStateException("Could not acquire lock: " + lockKey);
+            acquired = lock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), timeUnit);
+            meterRegistry.timer("distributed.lock.wait", "name", lockName, "acquired", String.valueOf(acquired))
+                    .record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+            if (!acquired) {
+                recordFailure(lockName, "timeout");
+                log.warn("Failed to acquire lock: {}", String.join(",", lockKeys));
+                throw new ResponseCodeException(ResponseCode.LOCK_TIMEOUT);
             }
+
+            holdStart = System.nanoTime();
+            log.debug("Lock acquired: {}", String.join(",", lockKeys));
+            return joinPoint.proceed(); // 락 획득 후 메서드 실행
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            log.error("Lock acquisition interrupted: {}", lockKey, e);
-            throw new IllegalStateException("Lock acquisition interrupted: " + lockKey, e);
+            recordFailure(lockName, "interrupted");
+            log.error("Lock acquisition interrupted: {}", String.join(",", lockKeys), e);
+            throw new ResponseCodeException(ResponseCode.LOCK_ACQUISITION_FAILED);
         } finally {
             // 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.info("Lock released: {}", lockKey);
+            if (acquired) {
+                meterRegistry.timer("distributed.lock.hold", "name", lockName)
+                        .record(System.nanoTime() - holdStart, TimeUnit.NANOSECONDS);
+                unlock(lock, lockName, lockKeys);
             }
         }
     }
+
+    // 키 템플릿의 {} 부분을 메서드 파라미터 기준 SpEL 로 평가
+    private String[] resolveKeys(ProceedingJoinPoint joinPoint, String[] keyTemplates) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        EvaluationContext context = new MethodBasedEvaluationContext(
+                null, method, joinPoint.getArgs(), parameterNameDiscoverer);
+
+        String[] keys = new String[keyTemplates.length];
+        for (int i = 0; i < keyTemplates.length; i++) {
+            Expression expression = keyExpressions.computeIfAbsent(keyTemplates[i],
+                    template -> PARSER.parseExpression(template, KEY_TEMPLATE));
+            keys[i] = expression.getValue(context, String.class);
+        }
+        return keys;
+    }
+
+    private RLock getLock(DistributedLock.LockType type, String[] lockKeys) {
+        if (lockKeys.length == 1) {
+            return getLock(type, lockKeys[0]);
+        }
+
+        // 여러 키는 모두 획득해야 성공하는 멀티 락
+        RLock[] locks = new RLock[lockKeys.length];
+        for (int i = 0; i < lockKeys.length; i++) {
+            locks[i] = getLock(type, lockKeys[i]);
+        }
+        return redissonClient.getMultiLock(locks);
+    }
+
+    private RLock getLock(DistributedLock.LockType type, String lockKey) {
+        return switch (type) {
+            case REENTRANT -> redissonClient.getLock(lockKey);
+            case FAIR -> redissonClient.getFairLock(lockKey);
+            case READ -> redissonClient.getReadWriteLock(lockKey).readLock();
+            case WRITE -> redissonClient.getReadWriteLock(lockKey).writeLock();
+        };
+    }
+
+    private void unlock(RLock lock, String lockName, String[] lockKeys) {
+        try {
+            lock.unlock();
+            log.debug("Lock released: {}", String.join(",", lockKeys));
+        } catch (IllegalMonitorStateException e) {
+            // leaseTime 이 지나 이미 해제된 경우
+            recordFailure(lockName, "lease_expired");
+            log.warn("Lock already released (lease expired): {}", String.join(",", lockKeys));
+        }
+    }
+
+    private void recordFailure(String lockName, String reason) {
+        meterRegistry.counter("distributed.lock.failures", "name", lockName, "reason", reason).increment();
+    }
 }
@@ -0,0 +1,40 @@
+package nbc_final.gathering.common.config.chatconfig;
+
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 서버 간 공유 토픽(/topic/unresolved-user, /topic/simp-user-registry)은 클라이언트가 구독 · 전송할 수 없음
+ * 구독하면 다른 유저에게 가는 알림과 전체 접속 유저 정보를 받을 수 있고,
+ * 전송하면 다른 서버가 이를 유저 목적지 메시지로 처리하므로 둘 다 거부합니다.
+ */
+@Component
+public class BrokerBroadcastDestinationInterceptor implements ChannelInterceptor {
+
+    private static final Set<String> BROADCAST_DESTINATIONS = Set.of(
+            WebSocketConfig.USER_DESTINATION_BROADCAST, WebSocketConfig.USER_REGISTRY_BROADCAST);
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null
+                || (accessor.getCommand() != StompCommand.SUBSCRIBE && accessor.getCommand() != StompCommand.SEND)) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination != null && BROADCAST_DESTINATIONS.contains(destination)) {
+            throw new ResponseCodeException(ResponseCode.FORBIDDEN);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,32 @@
+package nbc_final.gathering.common.config.chatconfig;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "chat.dispatch")
+public class ChatDispatchProperties {
+
+    // 채팅방을 나눠 담을 전송 레인 수 (레인마다 전용 스레드 1개)
+    private int lanes = 8;
+
+    // 레인별 대기 메시지 최대 수
+    private int laneCapacity = 1000;
+
+    // 레인이 가득 찼을 때의 처리 방식
+    private Backpressure backpressure = Backpressure.BLOCK;
+
+    // BLOCK 모드에서 자리가 날 때까지 기다리는 최대 시간 (ms), 초과 시 거절
+    private long blockTimeoutMs = 500;
+
+    public enum Backpressure {
+        // 자리가 날 때까지 대기
+        BLOCK,
+        // 가장 오래된 대기 메시지를 버리고 추가
+        DROP_OLDEST,
+        // 즉시 CHAT_DISPATCH_QUEUE_FULL 예외
+        REJECT
+    }
+}
@@ -0,0 +1,33 @@
+package nbc_final.gathering.common.config.chatconfig;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "chat.persistence")
+public class ChatPersistenceProperties {
+
+    // 채팅 메시지 저장 방식 (SYNC : 전송 전 MongoDB 저장, WRITE_BEHIND : 전송 후 모아서 저장, 장애 시 유실 가능하므로 명시적으로 선택)
+    private Mode mode = Mode.SYNC;
+
+    // WRITE_BEHIND 모드에서 모아둔 메시지를 저장하는 주기 (ms)
+    private long flushIntervalMs = 200;
+
+    // 한 번에 insertMany 로 저장할 최대 메시지 수 (대기 메시지가 이 수에 도달하면 주기와 관계없이 저장)
+    private int flushBatchSize = 500;
+
+    // 메모리에 대기시킬 최대 메시지 수 (초과분은 바로 스필 파일에 기록)
+    private int maxPending = 20_000;
+
+    // MongoDB 저장 실패/지연 시 메시지를 기록할 스필 파일 디렉터리
+    private String spillDir = "data/chat-spill";
+
+    // 스필 파일을 MongoDB 로 재적재하는 최소 간격 (ms)
+    private long spillReplayIntervalMs = 10_000;
+
+    public enum Mode {
+        SYNC, WRITE_BEHIND
+    }
+}
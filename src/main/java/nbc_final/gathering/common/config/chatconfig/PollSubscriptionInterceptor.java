@@ -0,0 +1,76 @@
+package nbc_final.gathering.common.config.chatconfig;
+
+import lombok.RequiredArgsConstructor;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.member.service.AccessControlService;
+import nbc_final.gathering.domain.poll.repository.PollRepository;
+import nbc_final.gathering.domain.poll.service.PollResultPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * 실시간 투표 현황(/topic/poll.{pollId}) 구독은 해당 이벤트 참가자만 가능
+ * (구독할 때 한 번만 확인하고, 이후 현황은 브로커가 전달)
+ * RabbitMQ 는 토픽 목적지의 *, # 를 와일드카드로, /exchange, /amq 목적지를 교환기 · 큐 직접 구독으로 처리하므로
+ * 이 목적지로는 참가자 확인을 우회해 투표 현황을 받을 수 있어 구독을 허용하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PollSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final List<String> DIRECT_DESTINATION_PREFIXES = List.of("/exchange/", "/amq/");
+
+    private final PollRepository pollRepository;
+    private final AccessControlService accessControlService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return message;
+        }
+        // 와일드카드 · 교환기 · 큐 직접 구독은 투표 현황 라우팅 키와 겹칠 수 있으므로 거부
+        if (destination.contains("*") || destination.contains("#")
+                || DIRECT_DESTINATION_PREFIXES.stream().anyMatch(destination::startsWith)) {
+            throw new ResponseCodeException(ResponseCode.FORBIDDEN);
+        }
+        if (!destination.startsWith(PollResultPublisher.DESTINATION_PREFIX)) {
+            return message;
+        }
+
+        Principal user = accessor.getUser();
+        if (user == null) {
+            throw new ResponseCodeException(ResponseCode.INVALID_TOKEN);
+        }
+
+        Long pollId = parsePollId(destination);
+        Long eventId = pollRepository.findEventIdById(pollId)
+                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_POLL));
+        if (!accessControlService.isParticipant(Long.valueOf(user.getName()), eventId)) {
+            throw new ResponseCodeException(ResponseCode.NOT_PARTICIPATED);
+        }
+        return message;
+    }
+
+    private Long parsePollId(String destination) {
+        try {
+            return Long.valueOf(destination.substring(PollResultPublisher.DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new ResponseCodeException(ResponseCode.NOT_FOUND_POLL);
+        }
+    }
+}
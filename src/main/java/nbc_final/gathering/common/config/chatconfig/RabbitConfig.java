@@ -164,6 +164,7 @@ public class RabbitConfig {
         factory.setVirtualHost(virtualHost); // RabbitMQ 가상 호스트 설정
         factory.setUsername(username); // RabbitMQ 사용자 이름 설정
         factory.setPassword(password); // RabbitMQ 비밀번호 설정
+        factory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE); // 알림 일괄 발행 시 waitForConfirms 사용
         return factory;
     }
 }
@@ -3,9 +3,11 @@ package nbc_final.gathering.common.config.chatconfig;
 import lombok.RequiredArgsConstructor;
 //import nbc_final.gathering.common.config.jwt.JwtHandshakeInterceptor;
 import nbc_final.gathering.common.config.jwt.JwtHandshakeInterceptor;
+import nbc_final.gathering.common.config.jwt.JwtPrincipalHandshakeHandler;
 import nbc_final.gathering.common.config.jwt.JwtUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -17,7 +19,13 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 서버 간 유저 목적지 · 접속 유저 정보 공유용 토픽 (서버끼리만 사용, 클라이언트 구독 · 전송 불가)
+    public static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user";
+    public static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+
     private final JwtUtil jwtUtil;
+    private final BrokerBroadcastDestinationInterceptor brokerBroadcastDestinationInterceptor;
+    private final PollSubscriptionInterceptor pollSubscriptionInterceptor;
     @Value("${rabbitmq_host}")
     private String host;
     @Value("${rabbitmq_relay_port}")
@@ -36,6 +44,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // WebSocket 연결을 위한 STOMP 엔드포인트 설정
         registry.addEndpoint("/gathering/inbox") // 클라이언트가 연결할 WebSocket 엔드포인트를 정의
                 .setAllowedOriginPatterns("*") // CORS를 허용하기 위해 모든 오리진을 허용
+                .setHandshakeHandler(new JwtPrincipalHandshakeHandler()) // 검증된 userId 를 세션 Principal 로 등록
                 .addInterceptors(new JwtHandshakeInterceptor(jwtUtil)); // WebSocket 연결 시 JWT 인증 인터셉터 추가
     }
 
@@ -51,11 +60,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setSystemLogin(systemLogin) // RabbitMQ 시스템 사용자 로그인 설정
                 .setSystemPasscode(systemPasscode) // RabbitMQ 시스템 사용자 비밀번호 설정
                 .setClientLogin(clientLogin) // RabbitMQ 클라이언트 사용자 로그인 설정
-                .setClientPasscode(clientPasscode); // RabbitMQ 클라이언트 사용자 비밀번호 설정
+                .setClientPasscode(clientPasscode) // RabbitMQ 클라이언트 사용자 비밀번호 설정
+                .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST) // 다른 서버에 접속한 유저 목적지 전달
+                .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST); // 서버 간 접속 유저 정보 공유
 
         // 클라이언트에서 메시지를 보낼 때 사용할 prefix 설정
         registry.setApplicationDestinationPrefixes("/pub"); // 클라이언트가 메시지를 전송할 경로의 접두어
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 서버 간 공유 토픽은 클라이언트가 구독 · 전송할 수 없고, 실시간 투표 현황 구독은 이벤트 참가자만 가능
+        registration.interceptors(brokerBroadcastDestinationInterceptor, pollSubscriptionInterceptor);
+    }
+
 
 }
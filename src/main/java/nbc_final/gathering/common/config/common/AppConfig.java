@@ -1,23 +1,21 @@
 package nbc_final.gathering.common.config.common;
 
+import nbc_final.gathering.common.config.http.OutboundHttpClient;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 @Configuration
 public class AppConfig {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, OutboundHttpClient outboundHttpClient) {
         return restTemplateBuilder
-                // RestTemplate 으로 외부 API 호출 시 일정 시간이 지나도 응답이 없을 때
-                // 무한 대기 상태 방지를 위해 강제 종료 설정
-                .setConnectTimeout(Duration.ofSeconds(10)) // 5초
-                .setReadTimeout(Duration.ofSeconds(10)) // 5초
+                // 외부 API 공용 연결 풀 사용 (연결 · 응답 제한 시간은 outbound.http 설정)
+                .requestFactory(outboundHttpClient::requestFactory)
+                // 외부 API 별 벌크헤드 · 서킷 브레이커 · 지연 시간 기록
+                .additionalInterceptors(outboundHttpClient)
                 .build();
     }
 }
-
@@ -0,0 +1,114 @@
+package nbc_final.gathering.common.config.http;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 API 서킷 브레이커 (호출 수 기준 슬라이딩 윈도)
+ * - CLOSED : 최근 windowSize 번의 결과를 기록, 실패율이 기준 이상이면 OPEN
+ * - OPEN : openDuration 동안 호출 차단, 이후 HALF_OPEN
+ * - HALF_OPEN : 시험 호출 한 번만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class OutboundCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoTime;
+
+    // 최근 호출 결과 (true : 실패)
+    private final boolean[] window;
+    private int index;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public OutboundCircuitBreaker(OutboundHttpProperties.Dependency dependency) {
+        this(dependency, System::nanoTime);
+    }
+
+    OutboundCircuitBreaker(OutboundHttpProperties.Dependency dependency, LongSupplier nanoTime) {
+        this.window = new boolean[dependency.getWindowSize()];
+        this.minimumCalls = dependency.getMinimumCalls();
+        this.failureRateThreshold = dependency.getFailureRateThreshold();
+        this.openDurationNanos = dependency.getOpenDuration().toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    // 호출 허용 여부 (허용했으면 반드시 onSuccess / onFailure 중 하나를 호출)
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (calls == window.length) {
+            // 가장 오래된 결과를 덮어씀
+            if (window[index]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[index] = failed;
+        if (failed) {
+            failures++;
+        }
+        index = (index + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoTime.getAsLong();
+        trialInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        index = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
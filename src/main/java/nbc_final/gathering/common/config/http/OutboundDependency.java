@@ -0,0 +1,80 @@
+package nbc_final.gathering.common.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 하나에 대한 보호 장치 (벌크헤드 + 서킷 브레이커 + 호스트별 지연 시간 기록)
+ */
+public class OutboundDependency {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final OutboundHttpProperties.Dependency config;
+    private final Semaphore bulkhead;
+    private final OutboundCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public OutboundDependency(String name, OutboundHttpProperties.Dependency config, MeterRegistry meterRegistry) {
+        this(name, config, new OutboundCircuitBreaker(config), meterRegistry);
+    }
+
+    OutboundDependency(String name, OutboundHttpProperties.Dependency config,
+                       OutboundCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.config = config;
+        this.bulkhead = new Semaphore(config.getMaxConcurrentCalls());
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+
+        meterRegistry.gauge("http.client.outbound.circuit.open", Tags.of("dependency", name), circuitBreaker,
+                breaker -> breaker.getState() == OutboundCircuitBreaker.State.OPEN ? 1 : 0);
+        meterRegistry.gauge("http.client.outbound.bulkhead.available", Tags.of("dependency", name), bulkhead,
+                Semaphore::availablePermits);
+    }
+
+    /**
+     * 호출 자리를 잡습니다. 동시 호출 수가 가득 찼거나 서킷이 열려 있으면 기다리지 않고 EXTERNAL_API_UNAVAILABLE 예외를 던집니다.
+     * 자리를 잡았다면 반드시 release 를 호출해야 합니다.
+     */
+    public void acquire() {
+        if (!bulkhead.tryAcquire()) {
+            reject("bulkhead_full");
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            reject("circuit_open");
+        }
+    }
+
+    // 호출 결과 반영 (실패 : 연결 오류 / 시간 초과 / 5xx)
+    public void release(String host, long startNanos, boolean failed) {
+        bulkhead.release();
+        if (failed) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+
+        Timer.builder("http.client.outbound")
+                .tag("dependency", name)
+                .tag("host", host == null ? "unknown" : host)
+                .tag("outcome", failed ? "failure" : "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("http.client.outbound.rejected", "dependency", name, "reason", reason).increment();
+        throw new ResponseCodeException(ResponseCode.EXTERNAL_API_UNAVAILABLE);
+    }
+}
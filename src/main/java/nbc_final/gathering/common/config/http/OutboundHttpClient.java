@@ -0,0 +1,180 @@
+package nbc_final.gathering.common.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.ReactorNettyClientRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 API 공용 HTTP 클라이언트 (reactor-netty)
+ * - 호스트별 keep-alive 연결 풀 (최대 연결 수는 외부 API 별 설정)
+ * - 외부 API 별 응답 제한 시간 · 벌크헤드 · 서킷 브레이커, 호스트별 지연 시간 히스토그램 (http.client.outbound)
+ * - 등록되지 않은 호스트는 defaults 설정으로 호스트마다 벌크헤드 · 서킷 브레이커를 따로 둠 (한 호스트의 장애가 다른 호스트를 막지 않도록)
+ * RestTemplate 은 requestFactory() + 인터셉터로 같은 연결 풀과 보호 장치를 사용하고,
+ * 논블로킹 호출이 필요한 곳은 get() 의 Mono 를 사용합니다.
+ */
+@Component
+public class OutboundHttpClient implements ClientHttpRequestInterceptor {
+
+    private static final int[] PORTS = {443, 80};
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final OutboundDependency defaults;
+    private final Map<String, OutboundDependency> dependenciesByHost = new HashMap<>();
+    private final Map<String, OutboundDependency> defaultsByHost = new ConcurrentHashMap<>();
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+
+    public OutboundHttpClient(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.defaults = new OutboundDependency("default", properties.getDefaults(), meterRegistry);
+
+        ConnectionProvider.Builder pool = ConnectionProvider.builder("outbound")
+                .maxConnections(properties.getDefaults().getMaxConnections())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getMaxIdleTime())
+                .metrics(true);
+
+        properties.getDependencies().forEach((name, config) -> {
+            OutboundDependency dependency = new OutboundDependency(name, config, meterRegistry);
+            for (String host : config.getHosts()) {
+                dependenciesByHost.put(host, dependency);
+                for (int port : PORTS) {
+                    pool.forRemoteHost(InetSocketAddress.createUnresolved(host, port),
+                            spec -> spec.maxConnections(config.getMaxConnections()));
+                }
+            }
+        });
+
+        this.connectionProvider = pool.build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                // 외부 API 별 응답 제한 시간
+                .doOnRequest((request, connection) -> request.responseTimeout(
+                        resolve(URI.create(request.resourceUrl()).getHost()).getConfig().getResponseTimeout()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * RestTemplate 용 요청 팩토리 (같은 연결 풀 사용)
+     * 팩토리 기본 제한 시간(응답 10초, 교환 전체 5초)이 외부 API 별 응답 제한 시간보다 먼저 끊지 않도록
+     * 가장 긴 응답 제한 시간에 맞추고, 교환 전체에는 연결 대기 · 연결 수립 시간을 더합니다.
+     */
+    public ClientHttpRequestFactory requestFactory() {
+        Duration responseTimeout = maxResponseTimeout();
+        ReactorNettyClientRequestFactory requestFactory = new ReactorNettyClientRequestFactory(httpClient);
+        requestFactory.setReadTimeout(responseTimeout);
+        requestFactory.setExchangeTimeout(responseTimeout
+                .plus(properties.getPendingAcquireTimeout())
+                .plus(properties.getConnectTimeout()));
+        return requestFactory;
+    }
+
+    /**
+     * 논블로킹 GET 호출. 응답 본문을 문자열로 돌려줍니다.
+     * 4xx 는 HttpClientErrorException, 5xx 는 HttpServerErrorException 으로 끝나며,
+     * 동시 호출 수가 가득 찼거나 서킷이 열려 있으면 구독 시점에 EXTERNAL_API_UNAVAILABLE 예외로 끝납니다.
+     */
+    public Mono<String> get(URI uri) {
+        String host = uri.getHost();
+        OutboundDependency dependency = resolve(host);
+
+        return Mono.defer(() -> {
+            dependency.acquire();
+            long start = System.nanoTime();
+            return httpClient.get()
+                    .uri(uri)
+                    .responseSingle((response, body) -> {
+                        int status = response.status().code();
+                        if (status < 400) {
+                            return body.asString(StandardCharsets.UTF_8);
+                        }
+                        return body.asByteArray()
+                                .defaultIfEmpty(new byte[0])
+                                .flatMap(bytes -> Mono.error(statusException(status,
+                                        response.status().reasonPhrase(), bytes)));
+                    })
+                    .doOnSuccess(body -> dependency.release(host, start, false))
+                    .doOnError(e -> dependency.release(host, start, !(e instanceof HttpClientErrorException)))
+                    .doOnCancel(() -> dependency.release(host, start, true));
+        });
+    }
+
+    // RestTemplate 호출에 벌크헤드 · 서킷 브레이커 · 지연 시간 기록 적용
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        OutboundDependency dependency = resolve(host);
+        dependency.acquire();
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().is5xxServerError();
+            return response;
+        } finally {
+            dependency.release(host, start, failed);
+        }
+    }
+
+    OutboundDependency resolve(String host) {
+        if (host == null) {
+            return defaults;
+        }
+        OutboundDependency dependency = dependenciesByHost.get(host);
+        if (dependency != null) {
+            return dependency;
+        }
+        return defaultsByHost.computeIfAbsent(host,
+                key -> new OutboundDependency("default:" + key, properties.getDefaults(), meterRegistry));
+    }
+
+    private Duration maxResponseTimeout() {
+        Duration max = properties.getDefaults().getResponseTimeout();
+        for (OutboundHttpProperties.Dependency config : properties.getDependencies().values()) {
+            if (config.getResponseTimeout().compareTo(max) > 0) {
+                max = config.getResponseTimeout();
+            }
+        }
+        return max;
+    }
+
+    private static RuntimeException statusException(int status, String reason, byte[] body) {
+        HttpStatusCode statusCode = HttpStatusCode.valueOf(status);
+        if (statusCode.is5xxServerError()) {
+            return HttpServerErrorException.create(statusCode, reason, HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+        }
+        return HttpClientErrorException.create(statusCode, reason, HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,49 @@
+package nbc_final.gathering.common.config.http;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    // 연결 수립 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    // 호스트별 연결 풀이 가득 찼을 때 연결을 기다리는 시간
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    // 유휴 연결 유지 시간 (상대 서버의 keep-alive 보다 짧게)
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    // 등록되지 않은 호스트에 적용하는 설정
+    private Dependency defaults = new Dependency();
+
+    // 외부 API 별 설정 (google, toss, kakao, naver ...)
+    private Map<String, Dependency> dependencies = new LinkedHashMap<>();
+
+    @Data
+    public static class Dependency {
+        // 이 설정을 적용할 호스트 목록
+        private List<String> hosts = new ArrayList<>();
+        // 응답 대기 제한 시간
+        private Duration responseTimeout = Duration.ofSeconds(5);
+        // 호스트별 최대 연결 수
+        private int maxConnections = 50;
+        // 동시에 진행할 수 있는 호출 수 (초과 시 기다리지 않고 실패 → 느린 외부 API 가 Tomcat 스레드를 모두 붙잡지 않도록)
+        private int maxConcurrentCalls = 20;
+        // 서킷 브레이커 : 최근 windowSize 번의 호출 중 실패율이 failureRateThreshold(%) 이상이면 openDuration 동안 호출 차단
+        private int windowSize = 50;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,32 @@
+package nbc_final.gathering.common.config.jwt;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * JwtHandshakeInterceptor 가 검증한 userId 를 WebSocket 세션의 Principal 로 등록
+ * (convertAndSendToUser 로 유저별 목적지에 전송하기 위해 사용)
+ */
+public class JwtPrincipalHandshakeHandler extends DefaultHandshakeHandler {
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        Object userId = attributes.get("userId");
+        if (userId == null) {
+            return super.determineUser(request, wsHandler, attributes);
+        }
+        return new StompPrincipal(userId.toString());
+    }
+
+    private record StompPrincipal(String name) implements Principal {
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
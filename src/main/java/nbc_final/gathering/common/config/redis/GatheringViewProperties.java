@@ -0,0 +1,29 @@
+package nbc_final.gathering.common.config.redis;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "gathering.view")
+public class GatheringViewProperties {
+
+    // 일일 조회수 집계 방식 (EXACT : Set, HLL : HyperLogLog + 블룸 필터)
+    private CountingMode countingMode = CountingMode.EXACT;
+
+    // HLL 모드에서 신규 조회자 판별용 블룸 필터 설정
+    private Bloom bloom = new Bloom();
+
+    public enum CountingMode {
+        EXACT, HLL
+    }
+
+    @Data
+    public static class Bloom {
+        // 하루 동안 예상되는 (소모임, 유저) 조회 쌍의 수
+        private long expectedInsertions = 1_000_000;
+        // 허용 오탐률 (오탐 시 신규 조회자가 랭킹에 반영되지 않음)
+        private double falsePositiveRate = 0.01;
+    }
+}
@@ -0,0 +1,25 @@
+package nbc_final.gathering.common.config.redis;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "location.cache")
+public class LocationCacheProperties {
+
+    // 주변 장소 캐시 키의 지오해시 자릿수 (7 : 약 150m 격자, 같은 격자 안의 좌표는 캐시를 공유)
+    private int geohashPrecision = 7;
+
+    // 주소 → 좌표 캐시 유지 기간
+    private Duration geocodeTtl = Duration.ofDays(365);
+
+    // 주변 장소 캐시 유지 기간
+    private Duration placesTtl = Duration.ofDays(7);
+
+    // 결과가 없는 주소 / 장소 캐시 유지 기간 (잘못된 주소로 외부 API 를 반복 호출하지 않도록)
+    private Duration negativeTtl = Duration.ofMinutes(10);
+}
@@ -6,12 +6,16 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.lettuce.core.ReadFrom;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -29,6 +33,7 @@ public class RedisConfig {
     }
 
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
         // Redis Sentinel 설정
         LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
@@ -47,10 +52,43 @@ public class RedisConfig {
         return new LettuceConnectionFactory(staticMasterReplicaConfiguration, clientConfig);
     }
 
+    /**
+     * pub/sub 전용 연결 (마스터 단독 연결)
+     * 정적 마스터/레플리카 연결은 SUBSCRIBE 를 지원하지 않으므로 (UnsupportedOperationException)
+     * 구독 컨테이너와 발행은 마스터에 직접 연결합니다.
+     */
     @Bean
+    public RedisConnectionFactory pubSubConnectionFactory() {
+        final RedisSentinelProperties.RedisMasterProperties masterConfig = redisSentinelProperties.getMaster();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(masterConfig.getHost(), masterConfig.getPort()));
+    }
+
+    @Bean
+    @Primary
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
+        return jsonRedisTemplate(redisConnectionFactory, objectMapper);
+    }
+
+    // pub/sub 발행용 (convertAndSend), 값 직렬화는 redisTemplate 과 같음
+    @Bean
+    public RedisTemplate<String, Object> pubSubRedisTemplate(
+            @Qualifier("pubSubConnectionFactory") RedisConnectionFactory pubSubConnectionFactory, ObjectMapper objectMapper) {
+        return jsonRedisTemplate(pubSubConnectionFactory, objectMapper);
+    }
+
+    // Redis pub/sub 구독 컨테이너 (노드 간 로컬 캐시 무효화 등), pub/sub 전용 연결 사용
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            @Qualifier("pubSubConnectionFactory") RedisConnectionFactory pubSubConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(pubSubConnectionFactory);
+        return container;
+    }
+
+    private static RedisTemplate<String, Object> jsonRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                   ObjectMapper objectMapper) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory);
+        template.setConnectionFactory(connectionFactory);
 
         // GenericJackson2JsonRedisSerializer에 ObjectMapper를 주입하여 직렬화 설정
         GenericJackson2JsonRedisSerializer genericSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
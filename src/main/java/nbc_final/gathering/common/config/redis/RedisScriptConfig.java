@@ -0,0 +1,110 @@
+package nbc_final.gathering.common.config.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 여러 Redis 명령을 한 번의 EVALSHA 로 처리하기 위한 Lua 스크립트 등록
+ * (RedisTemplate 은 SHA 로 먼저 실행하고 NOSCRIPT 인 경우에만 스크립트 본문을 전송)
+ */
+@Configuration
+public class RedisScriptConfig {
+
+    // 소모임 단 건 조회 : 레이트 리밋 + 조회 기록 + 시간/일 랭킹 반영 + 오늘 조회수 반환
+    @Bean
+    public RedisScript<Long> gatheringViewScript() {
+        return RedisScript.of(new ClassPathResource("scripts/gathering-view.lua"), Long.class);
+    }
+
+    // 소모임 단 건 조회 (HLL 모드) : 일일 조회자를 HyperLogLog 로, 신규 조회자 판별은 블룸 필터로 처리
+    @Bean
+    public RedisScript<Long> gatheringViewHllScript() {
+        return RedisScript.of(new ClassPathResource("scripts/gathering-view-hll.lua"), Long.class);
+    }
+
+    // 소모임 구간 랭킹 : 구간 ZSET 이 없거나 곧 만료되면 버킷을 합쳐 다시 생성 + 소모임 수 반환
+    @Bean
+    public RedisScript<Long> gatheringRankingWindowScript() {
+        return RedisScript.of(new ClassPathResource("scripts/gathering-ranking-window.lua"), Long.class);
+    }
+
+    // 소모임 조회수 스냅샷 꺼내기 : 스냅샷 조회수를 반영 중 키로 옮기고 옮긴 조회수 반환
+    @SuppressWarnings("rawtypes")
+    @Bean
+    public RedisScript<List> gatheringViewCountClaimScript() {
+        return RedisScript.of(new ClassPathResource("scripts/gathering-view-count-claim.lua"), List.class);
+    }
+
+    // 소모임 조회수 스냅샷 반영 마무리 : 반영 중 키에서 꺼낸 만큼 빼고, DB 반영 실패 시 스냅샷 키로 되돌림
+    @Bean
+    public RedisScript<Long> gatheringViewCountSettleScript() {
+        return RedisScript.of(new ClassPathResource("scripts/gathering-view-count-settle.lua"), Long.class);
+    }
+
+    // 이벤트 참가 : 중복 참가 확인 + 정원 확인 + 참가자 수 증가 (분산락 없이 원자적으로 좌석 예약)
+    @Bean
+    public RedisScript<Long> eventJoinScript() {
+        return RedisScript.of(new ClassPathResource("scripts/event-join.lua"), Long.class);
+    }
+
+    // 이벤트 참가 취소 : 참가자 Set 제거 + 참가자 수 감소
+    @Bean
+    public RedisScript<Long> eventCancelScript() {
+        return RedisScript.of(new ClassPathResource("scripts/event-cancel.lua"), Long.class);
+    }
+
+    // 이벤트 참가자 복구 : 관측한 참가자 수가 그대로일 때만 DB 기준으로 참가자 Set + 참가자 수 재작성
+    @Bean
+    public RedisScript<Long> eventParticipantsRepairScript() {
+        return RedisScript.of(new ClassPathResource("scripts/event-participants-repair.lua"), Long.class);
+    }
+
+    // 이벤트 대기열 등록 : 정원이 찬 경우에만 FIFO 대기열에 추가하고 대기 순번 반환
+    @Bean
+    public RedisScript<Long> eventWaitlistJoinScript() {
+        return RedisScript.of(new ClassPathResource("scripts/event-waitlist-join.lua"), Long.class);
+    }
+
+    // 이벤트 좌석 반환 + 대기열 승급 : 빈 좌석만큼 대기열 앞에서부터 참가자로 등록
+    @SuppressWarnings("rawtypes")
+    @Bean
+    public RedisScript<List> eventWaitlistPromoteScript() {
+        return RedisScript.of(new ClassPathResource("scripts/event-waitlist-promote.lua"), List.class);
+    }
+
+    // 투표 참여 : 유저 선택지 기록 + 선택지 득표 수 반영 (선택 · 취소 · 변경을 원자적으로 처리)
+    @Bean
+    public RedisScript<Long> pollVoteScript() {
+        return RedisScript.of(new ClassPathResource("scripts/poll-vote.lua"), Long.class);
+    }
+
+    // 투표 득표 수 초기화 : 득표 수가 없을 때만 DB 기준으로 득표 수 + 유저 선택지 채움
+    @Bean
+    public RedisScript<Long> pollVoteInitScript() {
+        return RedisScript.of(new ClassPathResource("scripts/poll-vote-init.lua"), Long.class);
+    }
+
+    // 투표 DB 반영 대상 꺼내기 : 반영 대기 유저를 반영 중 Set 으로 옮기고 목록 반환
+    @SuppressWarnings("rawtypes")
+    @Bean
+    public RedisScript<List> pollVoteDrainScript() {
+        return RedisScript.of(new ClassPathResource("scripts/poll-vote-drain.lua"), List.class);
+    }
+
+    // 캐시 적재 · 투표 DB 반영 · 위치 색인 보정 임대 반환 : 자신이 잡은 임대만 삭제
+    @Bean
+    public RedisScript<Long> singleFlightReleaseScript() {
+        return RedisScript.of(new ClassPathResource("scripts/single-flight-release.lua"), Long.class);
+    }
+
+    // 결제 타임아웃 꺼내기 : 리더 노드만 마감이 지난 주문을 꺼내고 처리 제한 시간 동안 숨김
+    @SuppressWarnings("rawtypes")
+    @Bean
+    public RedisScript<List> paymentTimeoutClaimScript() {
+        return RedisScript.of(new ClassPathResource("scripts/payment-timeout-claim.lua"), List.class);
+    }
+}
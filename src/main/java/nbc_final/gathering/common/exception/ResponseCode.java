@@ -11,6 +11,7 @@ public enum ResponseCode {
     // 공통 응답
     INVALID_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "다시 시도해주세요."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스 응답이 지연되고 있습니다. 잠시 후 다시 시도해 주세요."),
 
     // Search 관련 예외
     INVALID_SEARCH(HttpStatus.NOT_FOUND, "검색 조건이 필요합니다."),
@@ -48,6 +49,7 @@ public enum ResponseCode {
     INVALID_TITLE(HttpStatus.NOT_FOUND, "타이틀을 입력해주세요."),
     INVALID_MAX_COUNT(HttpStatus.NOT_FOUND, "인원 수 입력이 잘못 되었습니다."),
     TOO_MANY_REQUSETS(HttpStatus.TOO_MANY_REQUESTS, "너무 많은 요청입니다. 나중에 다시 시도해주세요"),
+    INVALID_RANKING_WINDOW(HttpStatus.BAD_REQUEST, "랭킹 조회 구간은 hour, day, week 중 하나여야 합니다."),
 
 
     // 이벤트 관련 예외
@@ -61,6 +63,10 @@ public enum ResponseCode {
     ADMIN_CANNOT_PARTICIPATE(HttpStatus.BAD_REQUEST, "관리자 계정은 이벤트에 참가할 수 없습니다."),
     ADMIN_CANNOT_CANCEL_PARTICIPATION(HttpStatus.BAD_REQUEST, "관리자 계정은 이벤트 참가를 취소할 수 없습니다"),
     EVENT_CREATOR_ONLY(HttpStatus.FORBIDDEN, "이벤트 생성자만 가능한 권한입니다"),
+    SEAT_AVAILABLE(HttpStatus.CONFLICT, "참가 가능한 좌석이 있습니다. 대기 없이 바로 참가해주세요."),
+    NOT_IN_WAITLIST(HttpStatus.NOT_FOUND, "이벤트 대기열에 등록되어 있지 않습니다."),
+    EVENT_CLOSED(HttpStatus.BAD_REQUEST, "이미 종료된 이벤트입니다."),
+    INVALID_EVENT_DATE(HttpStatus.BAD_REQUEST, "존재하지 않는 날짜입니다."),
 
     // 댓글 관련 예외
     NOT_FOUND_COMMENT(HttpStatus.NOT_FOUND, "해당 댓글을 찾을 수 없습니다."),
@@ -75,6 +81,8 @@ public enum ResponseCode {
 
     // 장소 관련 예외
     NOT_FOUND_LOCATION(HttpStatus.NOT_FOUND, "관련된 장소를 찾을 수 없습니다."),
+    LOCATION_LOAD_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "위치 정보를 불러오는 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_COORDINATE(HttpStatus.BAD_REQUEST, "위도, 경도 또는 반경이 올바르지 않습니다."),
 
     // 락 관련 예외
     LOCK_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "락을 획득하는 데 실패했습니다."),
@@ -84,6 +92,8 @@ public enum ResponseCode {
     // 채팅 관련 예외
     CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
     CHATMEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅방에 속해있는 유저를 찾을 수 없습니다."),
+    INVALID_CHAT_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 채팅 메시지 커서입니다."),
+    CHAT_DISPATCH_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "채팅 메시지가 많아 전송할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // 결제 및 광고 관련 예외
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
@@ -101,7 +111,8 @@ public enum ResponseCode {
 
     // 투표 관련 예외
     NOT_FOUND_POLL(HttpStatus.NOT_FOUND, "존재하지 않은 투표 안건입니다"),
-    DEACTIVATED_POLL(HttpStatus.BAD_REQUEST, "이미 종료된 투표입니다");
+    DEACTIVATED_POLL(HttpStatus.BAD_REQUEST, "이미 종료된 투표입니다"),
+    INVALID_POLL_OPTION(HttpStatus.BAD_REQUEST, "존재하지 않는 투표 선택지입니다");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -4,15 +4,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import nbc_final.gathering.common.config.chatconfig.ChatDto;
-import nbc_final.gathering.common.config.chatconfig.ChatMessageRes;
 import nbc_final.gathering.domain.chatting.chatmessage.service.ChatMessageService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,15 +34,23 @@ public class ChatMessageController {
     }
 
     /**
-     * 특정 채팅방의 모든 메시지를 조회하는 메서드입니다.
+     * 특정 채팅방의 메시지를 커서 기반으로 페이지 조회하는 메서드입니다.
      *
      * @param chatRoomId 조회할 채팅방의 ID
-     * @return ResponseEntity에 감싸진 List<ChatMessageRes>로, 지정된 채팅방 ID의 모든 메시지 정보를 반환합니다.
+     * @param before     이 커서 이전(과거)의 메시지를 최신 순으로 조회
+     * @param after      이 커서 이후(최신)의 메시지를 오래된 순으로 조회
+     * @param limit      페이지 크기 (최대 100)
+     * @return messages, 다음 페이지 조회용 nextCursor, hasNext 를 담은 JSON 을 스트리밍으로 반환합니다.
      */
-    @Operation(summary = "특정 채팅방 메세지 조회", description = "특정 채팅방의 모든 메시지를 조회합니다.")
+    @Operation(summary = "특정 채팅방 메세지 조회", description = "특정 채팅방의 메시지를 커서(before/after) 기반으로 페이지 조회합니다.")
     @GetMapping("/api/v1/chat-messages/chat-room/{chatRoomId}")
-    public ResponseEntity getChatMessages(@PathVariable Long chatRoomId) {
-        List<ChatMessageRes> chatMessageResList = chatMessageService.getChatMessagesByChatRoomId(chatRoomId);
-        return ResponseEntity.ok(chatMessageResList);
+    public ResponseEntity<StreamingResponseBody> getChatMessages(@PathVariable Long chatRoomId,
+                                                                 @RequestParam(required = false) String before,
+                                                                 @RequestParam(required = false) String after,
+                                                                 @RequestParam(defaultValue = "50") int limit) {
+        StreamingResponseBody body = chatMessageService.getChatMessagesByChatRoomId(chatRoomId, before, after, limit);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
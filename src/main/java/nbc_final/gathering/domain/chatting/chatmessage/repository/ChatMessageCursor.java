@@ -0,0 +1,51 @@
+package nbc_final.gathering.domain.chatting.chatmessage.repository;
+
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.chatting.chatmessage.entity.ChatMessage;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * 채팅 메시지 키셋 페이지네이션 커서 (createdAt + _id)
+ * 클라이언트에는 "{epochMillis}:{_id}" 를 Base64 URL 인코딩한 불투명 문자열로 전달합니다.
+ */
+public record ChatMessageCursor(LocalDateTime createdAt, ObjectId id) {
+
+    private static final String DELIMITER = ":";
+
+    public static ChatMessageCursor of(ChatMessage chatMessage) {
+        return new ChatMessageCursor(chatMessage.getCreatedAt(), new ObjectId(chatMessage.getId()));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 형식이 잘못된 경우 INVALID_CHAT_CURSOR 예외를 던집니다.
+     */
+    public static ChatMessageCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, 2);
+            if (parts.length != 2 || !ObjectId.isValid(parts[1])) {
+                throw new ResponseCodeException(ResponseCode.INVALID_CHAT_CURSOR);
+            }
+
+            // MongoDB 는 LocalDateTime 을 시스템 기본 타임존 기준 Date 로 저장하므로 같은 기준으로 변환
+            LocalDateTime createdAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(Long.parseLong(parts[0])), ZoneId.systemDefault());
+            return new ChatMessageCursor(createdAt, new ObjectId(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseCodeException(ResponseCode.INVALID_CHAT_CURSOR);
+        }
+    }
+
+    public String encode() {
+        long epochMillis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String raw = epochMillis + DELIMITER + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package nbc_final.gathering.domain.chatting.chatmessage.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.chatting.chatmessage.entity.ChatMessage;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 메시지 키셋(커서) 페이지 조회
+ * {chatRoomId:1, createdAt:-1, _id:-1} 인덱스를 타고 커서 위치부터 limit 개만 읽으므로
+ * 채팅방 메시지 수와 무관하게 페이지 조회 비용이 일정합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageCursorRepository {
+
+    public static final String CHAT_ROOM_CREATED_AT_INDEX = "chatRoomId_createdAt_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    // 애플리케이션 시작 시 채팅방별 최신순 조회용 복합 인덱스 보장 (이미 있으면 무시됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        String indexName = mongoTemplate.indexOps(ChatMessage.class).ensureIndex(new Index()
+                .on("chatRoomId", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named(CHAT_ROOM_CREATED_AT_INDEX));
+        log.info("채팅 메시지 인덱스 확인 완료: {}", indexName);
+    }
+
+    /**
+     * 커서 기준으로 한 페이지를 스트리밍 조회합니다. 다음 페이지 존재 여부 확인을 위해 fetchSize 만큼 읽습니다.
+     * 반환된 Stream 은 MongoDB 커서를 점유하므로 사용 후 반드시 닫아야 합니다.
+     *
+     * @param cursor    기준 커서 (null 이면 가장 최근 메시지부터)
+     * @param after     true 면 커서 이후(최신 방향, 오래된 순), false 면 커서 이전(과거 방향, 최신 순)
+     * @param fetchSize 조회할 최대 메시지 수
+     */
+    public Stream<ChatMessage> streamPage(Long chatRoomId, ChatMessageCursor cursor, boolean after, int fetchSize) {
+        return mongoTemplate.stream(pageQuery(chatRoomId, cursor, after, fetchSize), ChatMessage.class);
+    }
+
+    public static Query pageQuery(Long chatRoomId, ChatMessageCursor cursor, boolean after, int fetchSize) {
+        Criteria criteria = Criteria.where("chatRoomId").is(chatRoomId);
+        if (cursor != null) {
+            // (createdAt, _id) 튜플 비교 : createdAt 이 같은 메시지는 _id 로 순서를 결정
+            criteria = after
+                    ? criteria.orOperator(
+                    Criteria.where("createdAt").gt(cursor.createdAt()),
+                    Criteria.where("createdAt").is(cursor.createdAt()).and("_id").gt(cursor.id()))
+                    : criteria.orOperator(
+                    Criteria.where("createdAt").lt(cursor.createdAt()),
+                    Criteria.where("createdAt").is(cursor.createdAt()).and("_id").lt(cursor.id()));
+        }
+
+        Sort.Direction direction = after ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Query query = new Query(criteria)
+                .with(Sort.by(direction, "createdAt").and(Sort.by(direction, "_id")))
+                .limit(fetchSize)
+                .cursorBatchSize(fetchSize);
+
+        // 응답에 필요한 필드만 조회
+        query.fields().include("chatRoomId", "memberId", "message", "createdAt");
+        return query;
+    }
+}
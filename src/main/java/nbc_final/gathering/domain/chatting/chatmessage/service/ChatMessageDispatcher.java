@@ -0,0 +1,194 @@
+package nbc_final.gathering.domain.chatting.chatmessage.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.config.chatconfig.ChatDispatchProperties;
+import nbc_final.gathering.common.config.chatconfig.ChatDispatchProperties.Backpressure;
+import nbc_final.gathering.common.config.chatconfig.ChatMessageRes;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 STOMP 전송 디스패처
+ * 채팅방 ID 로 고정된 레인(단일 스레드 + 제한 크기 큐)에 배정하여 같은 채팅방의 메시지는 항상 보낸 순서대로 전송합니다.
+ * 레인이 가득 찬 경우 설정된 backpressure 방식(BLOCK / DROP_OLDEST / REJECT)으로 처리합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageDispatcher {
+
+    public static final String ROOM_DESTINATION_PREFIX = "/topic/room.";
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Backpressure backpressure;
+    private final long blockTimeoutMs;
+    private final Lane[] lanes;
+    private final ExecutorService laneExecutor;
+    private volatile boolean running = true;
+
+    public ChatMessageDispatcher(SimpMessagingTemplate messagingTemplate,
+                                 ChatDispatchProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.backpressure = properties.getBackpressure();
+        this.blockTimeoutMs = properties.getBlockTimeoutMs();
+
+        int laneCount = properties.getLanes();
+        this.lanes = new Lane[laneCount];
+        this.laneExecutor = Executors.newFixedThreadPool(laneCount, new CustomizableThreadFactory("chat-dispatch-"));
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i, properties.getLaneCapacity(), meterRegistry);
+            laneExecutor.execute(lanes[i]);
+        }
+    }
+
+    /**
+     * 채팅방 레인에 메시지를 추가합니다. 레인이 가득 차 거절되면 CHAT_DISPATCH_QUEUE_FULL 예외를 던집니다.
+     */
+    public void dispatch(Long chatRoomId, ChatMessageRes chatMessageRes) {
+        if (!lane(chatRoomId).enqueue(new Dispatch(chatRoomId, chatMessageRes, System.nanoTime()))) {
+            throw new ResponseCodeException(ResponseCode.CHAT_DISPATCH_QUEUE_FULL);
+        }
+    }
+
+    /**
+     * 이미 저장된 메시지를 채팅방 레인에 추가합니다.
+     * 저장된 메시지를 거절하면 클라이언트는 실패로 보고 다시 보내 중복 저장되므로, 레인이 가득 차면 호출 스레드에서 바로 전송합니다.
+     */
+    public void dispatchPersisted(Long chatRoomId, ChatMessageRes chatMessageRes) {
+        Lane lane = lane(chatRoomId);
+        Dispatch dispatch = new Dispatch(chatRoomId, chatMessageRes, System.nanoTime());
+        if (!lane.enqueue(dispatch)) {
+            lane.sendDirect(dispatch);
+        }
+    }
+
+    private Lane lane(Long chatRoomId) {
+        return lanes[Math.floorMod(chatRoomId.hashCode(), lanes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기 중인 메시지를 모두 전송한 뒤 레인 종료
+        running = false;
+        laneExecutor.shutdown();
+        try {
+            if (!laneExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                laneExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            laneExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Dispatch(Long chatRoomId, ChatMessageRes message, long enqueuedAt) {
+    }
+
+    private final class Lane implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<Dispatch> queue;
+        private final Timer latency;
+        private final Counter dropped;
+        private final Counter rejected;
+        private final Counter direct;
+
+        private Lane(int index, int capacity, MeterRegistry meterRegistry) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+
+            Tags tags = Tags.of("lane", String.valueOf(index));
+            meterRegistry.gaugeCollectionSize("chat.dispatch.lane.depth", tags, queue);
+            this.latency = meterRegistry.timer("chat.dispatch.lane.latency", tags);
+            this.dropped = meterRegistry.counter("chat.dispatch.lane.dropped", tags);
+            this.rejected = meterRegistry.counter("chat.dispatch.lane.rejected", tags);
+            this.direct = meterRegistry.counter("chat.dispatch.lane.direct", tags);
+        }
+
+        // 레인에 추가하지 못하면 false
+        private boolean enqueue(Dispatch dispatch) {
+            switch (backpressure) {
+                case BLOCK -> {
+                    try {
+                        if (!queue.offer(dispatch, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                            return reject(dispatch);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return reject(dispatch);
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(dispatch)) {
+                        Dispatch oldest = queue.poll();
+                        if (oldest != null) {
+                            dropped.increment();
+                            log.warn("채팅 전송 레인 {} 가득 참, 가장 오래된 메시지 폐기: 채팅방 ID {}", index, oldest.chatRoomId());
+                        }
+                    }
+                }
+                case REJECT -> {
+                    if (!queue.offer(dispatch)) {
+                        return reject(dispatch);
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean reject(Dispatch dispatch) {
+            rejected.increment();
+            log.warn("채팅 전송 레인 {} 가득 참, 메시지 거절: 채팅방 ID {}", index, dispatch.chatRoomId());
+            return false;
+        }
+
+        // 레인을 거치지 않고 호출 스레드에서 전송 (대기 중인 메시지보다 먼저 도착할 수 있음)
+        private void sendDirect(Dispatch dispatch) {
+            direct.increment();
+            send(dispatch);
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Dispatch dispatch = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    if (dispatch != null) {
+                        send(dispatch);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void send(Dispatch dispatch) {
+            try {
+                // STOMP 전송 대상 경로에 전송
+                messagingTemplate.convertAndSend(ROOM_DESTINATION_PREFIX + dispatch.chatRoomId(), dispatch.message());
+                log.debug("STOMP broker로 메세지를 보냄: {}", dispatch.message());
+            } catch (Exception e) {
+                log.error("채팅 메시지 전송 실패: 채팅방 ID {}, {}", dispatch.chatRoomId(), e.getMessage());
+            } finally {
+                latency.record(System.nanoTime() - dispatch.enqueuedAt(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
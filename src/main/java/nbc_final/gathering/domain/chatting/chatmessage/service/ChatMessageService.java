@@ -2,12 +2,10 @@ package nbc_final.gathering.domain.chatting.chatmessage.service;
 
 
 import nbc_final.gathering.common.config.chatconfig.ChatDto;
-import nbc_final.gathering.common.config.chatconfig.ChatMessageRes;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface ChatMessageService {
     void sendMessage(ChatDto.ChatMessageReq message);
 
-    List<ChatMessageRes> getChatMessagesByChatRoomId(Long chatRoomId);
+    StreamingResponseBody getChatMessagesByChatRoomId(Long chatRoomId, String before, String after, int limit);
 }
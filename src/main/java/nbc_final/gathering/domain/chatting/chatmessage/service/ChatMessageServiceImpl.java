@@ -1,88 +1,120 @@
 package nbc_final.gathering.domain.chatting.chatmessage.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nbc_final.gathering.common.config.chatconfig.ChatDto;
 import nbc_final.gathering.common.config.chatconfig.ChatMessageRes;
+import nbc_final.gathering.common.config.chatconfig.ChatPersistenceProperties;
 import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
 import nbc_final.gathering.domain.chatting.chatmessage.entity.ChatMessage;
+import nbc_final.gathering.domain.chatting.chatmessage.repository.ChatMessageCursor;
+import nbc_final.gathering.domain.chatting.chatmessage.repository.ChatMessageCursorRepository;
 import nbc_final.gathering.domain.chatting.chatmessage.repository.ChatMessageRepository;
-import nbc_final.gathering.domain.chatting.chatroom.entity.ChatRoom;
-import nbc_final.gathering.domain.chatting.chatroom.repository.ChatRoomRepository;
-import nbc_final.gathering.domain.user.entity.User;
-import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageServiceImpl implements ChatMessageService {
 
-    private final ChatRoomRepository chatRoomRepository;
-    private final UserRepository userRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatSenderExistenceCache chatSenderExistenceCache;
     @Autowired
     @Qualifier("mongoChatMessageRepository")
     private final ChatMessageRepository chatMessageRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-    // 메시지를 관리할 큐 (크기는 100으로 제한)
-    private final BlockingQueue<ChatMessageRes> messageQueue = new LinkedBlockingQueue<>(100);
-
+    private final ChatMessageCursorRepository chatMessageCursorRepository;
+    private final ChatMessageDispatcher chatMessageDispatcher;
+    private final ChatMessageWriteBehindBuffer chatMessageWriteBehindBuffer;
+    private final ChatPersistenceProperties chatPersistenceProperties;
+    private final ObjectMapper objectMapper;
 
-    // 채팅 send 메서드
+    /**
+     * 채팅 메시지를 전송합니다.
+     * WRITE_BEHIND 모드에서는 메시지 ID 를 직접 부여해 바로 전송하고, 저장은 write-behind 버퍼에 맡깁니다.
+     */
     @Override
     public void sendMessage(ChatDto.ChatMessageReq chatMessageReq) {
-        // ChatRoom이 존재하는지 확인
-        ChatRoom chatRoom = chatRoomRepository.findById(chatMessageReq.getChatRoomId())
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.CHAT_ROOM_NOT_FOUND));
-
-        // User가 존재하는지 확인
-        User user = userRepository.findById(chatMessageReq.getMemberId())
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER));
-
-        // ChatMessage 엔티티 생성 및 저장
-        ChatMessage chatMessage = chatMessageReq.toEntity(chatRoom.getId(), user.getId());
-        chatMessageRepository.save(chatMessage);  // MongoDB에 저장
+        // ChatRoom, User 존재 여부 확인 (노드 로컬 캐시)
+        chatSenderExistenceCache.validateChatRoom(chatMessageReq.getChatRoomId());
+        chatSenderExistenceCache.validateUser(chatMessageReq.getMemberId());
 
-        // 전송 메시지 생성
-        ChatMessageRes chatMessageRes = ChatMessageRes.createRes(chatMessage);
+        // ChatMessage 엔티티 생성
+        ChatMessage chatMessage = chatMessageReq.toEntity(chatMessageReq.getChatRoomId(), chatMessageReq.getMemberId());
 
-        // 메시지 큐에 추가
-        if (!messageQueue.offer(chatMessageRes)) {
-            log.warn("Message queue is full. Dropping message: {}", chatMessageRes);
+        if (chatPersistenceProperties.getMode() == ChatPersistenceProperties.Mode.SYNC) {
+            chatMessageRepository.save(chatMessage);  // MongoDB에 저장
+            // 저장된 메시지는 레인이 가득 차도 거절하지 않고 바로 전송
+            chatMessageDispatcher.dispatchPersisted(chatMessage.getChatRoomId(), ChatMessageRes.createRes(chatMessage));
             return;
         }
 
-        // 비동기로 메시지 처리
-        CompletableFuture.runAsync(() -> {
-            try {
-                // 메시지 큐에서 가져오기
-                ChatMessageRes messageToSend = messageQueue.take();
-
-                // STOMP 전송 대상 경로에 전송
-                messagingTemplate.convertAndSend("topic/room." + chatMessageReq.getChatRoomId(), messageToSend);
-                log.info("STOMP broker로 메세지를 보냄: {}", messageToSend);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Message sending interrupted", e);
-            }
-        });
+        // 저장 전에 ID 를 부여해 재적재 시 중복 저장을 방지
+        chatMessage.setId(new ObjectId().toHexString());
+
+        // 채팅방 레인에 추가 (같은 채팅방은 순서대로 전송) 후 저장 대기열에 추가
+        chatMessageDispatcher.dispatch(chatMessage.getChatRoomId(), ChatMessageRes.createRes(chatMessage));
+        chatMessageWriteBehindBuffer.add(chatMessage);
     }
 
-    // 채팅방에서 채팅내용 찾는 메서드
+    /**
+     * 채팅방 메시지를 커서 기준으로 한 페이지 조회합니다.
+     * 커서 검증은 즉시 수행하고, 메시지는 MongoDB 커서에서 읽는 즉시 응답 스트림에 기록합니다.
+     *
+     * @param before 이 커서보다 과거 메시지를 최신 순으로 조회 (before, after 모두 없으면 가장 최근 메시지부터)
+     * @param after  이 커서보다 최신 메시지를 오래된 순으로 조회
+     * @param limit  페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
     @Override
-    public List<ChatMessageRes> getChatMessagesByChatRoomId(Long chatRoomId) {
-        List<ChatMessage> chatMessages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId);
-        return chatMessages.stream()
-                .map(ChatMessageRes::createRes)
-                .toList();
+    public StreamingResponseBody getChatMessagesByChatRoomId(Long chatRoomId, String before, String after, int limit) {
+        if (before != null && after != null) {
+            throw new ResponseCodeException(ResponseCode.INVALID_CHAT_CURSOR);
+        }
+
+        boolean forward = after != null;
+        String encodedCursor = forward ? after : before;
+        ChatMessageCursor cursor = encodedCursor == null ? null : ChatMessageCursor.decode(encodedCursor);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        return outputStream -> writePage(chatRoomId, cursor, forward, pageSize, outputStream);
+    }
+
+    // {"messages":[...],"nextCursor":"...","hasNext":true} 형태로 기록
+    private void writePage(Long chatRoomId, ChatMessageCursor cursor, boolean forward, int pageSize,
+                           OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             Stream<ChatMessage> messages = chatMessageCursorRepository.streamPage(chatRoomId, cursor, forward, pageSize + 1)) {
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("messages");
+
+            // 다음 페이지 존재 여부 확인을 위해 pageSize + 1 개까지 읽음
+            Iterator<ChatMessage> iterator = messages.iterator();
+            ChatMessage last = null;
+            int written = 0;
+            while (iterator.hasNext() && written < pageSize) {
+                last = iterator.next();
+                objectMapper.writeValue(generator, ChatMessageRes.createRes(last));
+                written++;
+            }
+            boolean hasNext = iterator.hasNext();
+
+            generator.writeEndArray();
+            generator.writeStringField("nextCursor", hasNext ? ChatMessageCursor.of(last).encode() : null);
+            generator.writeBooleanField("hasNext", hasNext);
+            generator.writeEndObject();
+        }
     }
-}
\ No newline at end of file
+}
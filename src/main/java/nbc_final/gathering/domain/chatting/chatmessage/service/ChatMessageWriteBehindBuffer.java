@@ -0,0 +1,322 @@
+package nbc_final.gathering.domain.chatting.chatmessage.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.config.chatconfig.ChatPersistenceProperties;
+import nbc_final.gathering.domain.chatting.chatmessage.entity.ChatMessage;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ * - 전송이 끝난 메시지를 메모리에 모아 flushIntervalMs 마다 또는 flushBatchSize 개가 모이면 insertMany 로 저장
+ * - 저장 실패 또는 대기 메시지가 maxPending 을 넘으면 append-only 스필 파일에 기록하고, 이후 MongoDB 로 재적재 (at-least-once)
+ * - maxPending 초과분은 스필 전용 스레드가 모아서 한 번에 기록하므로 fsync 는 메시지마다가 아니라 묶음마다 한 번
+ * - 메시지 ID 는 전송 전에 부여되므로 재적재로 인한 중복 저장(중복 키)은 성공으로 간주합니다.
+ * - 재적재 중 읽을 수 없는 줄(기록 도중 종료 등)은 격리 파일로 옮기고 나머지 메시지는 계속 재적재합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindBuffer {
+
+    private static final String SPILL_FILE_NAME = "chat-spill.jsonl";
+    private static final String REPLAY_SUFFIX = ".replaying";
+    private static final String QUARANTINE_FILE_NAME = "chat-spill.quarantine.jsonl";
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean writeBehind;
+    private final int flushBatchSize;
+    private final int maxPending;
+    private final long spillReplayIntervalMs;
+    private final Path spillDir;
+    private final Path spillFile;
+    private final Path quarantineFile;
+
+    private final BlockingQueue<ChatMessage> pending = new LinkedBlockingQueue<>();
+    private final BlockingQueue<ChatMessage> overflow = new LinkedBlockingQueue<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicBoolean overflowSpillRequested = new AtomicBoolean();
+    private final Object spillLock = new Object();
+    private final ScheduledExecutorService flushScheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("chat-write-behind-"));
+    private final ExecutorService overflowSpiller =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("chat-spill-"));
+    private volatile long lastReplayAttempt;
+
+    private final Timer flushTimer;
+    private final Counter flushedMessages;
+    private final Counter flushFailures;
+    private final Counter spilledMessages;
+    private final Counter replayedMessages;
+    private final Counter lostMessages;
+    private final Counter quarantinedLines;
+
+    public ChatMessageWriteBehindBuffer(MongoTemplate mongoTemplate,
+                                        ObjectMapper objectMapper,
+                                        ChatPersistenceProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.writeBehind = properties.getMode() == ChatPersistenceProperties.Mode.WRITE_BEHIND;
+        this.flushBatchSize = properties.getFlushBatchSize();
+        this.maxPending = properties.getMaxPending();
+        this.spillReplayIntervalMs = properties.getSpillReplayIntervalMs();
+        this.spillDir = Paths.get(properties.getSpillDir());
+        this.spillFile = spillDir.resolve(SPILL_FILE_NAME);
+        this.quarantineFile = spillDir.resolve(QUARANTINE_FILE_NAME);
+        if (writeBehind) {
+            // SYNC 모드에서는 스필 파일을 쓰지 않으므로 디렉터리도 만들지 않음
+            try {
+                Files.createDirectories(spillDir);
+            } catch (IOException e) {
+                throw new UncheckedIOException("채팅 스필 디렉터리를 생성할 수 없습니다: " + spillDir, e);
+            }
+        }
+
+        meterRegistry.gaugeCollectionSize("chat.persistence.pending", List.of(), pending);
+        meterRegistry.gaugeCollectionSize("chat.persistence.overflow", List.of(), overflow);
+        this.flushTimer = meterRegistry.timer("chat.persistence.flush.duration");
+        this.flushedMessages = meterRegistry.counter("chat.persistence.flushed");
+        this.flushFailures = meterRegistry.counter("chat.persistence.flush.failures");
+        this.spilledMessages = meterRegistry.counter("chat.persistence.spilled");
+        this.replayedMessages = meterRegistry.counter("chat.persistence.replayed");
+        this.lostMessages = meterRegistry.counter("chat.persistence.lost");
+        this.quarantinedLines = meterRegistry.counter("chat.persistence.quarantined");
+
+        if (writeBehind) {
+            // 이전 실행에서 남은 스필 파일부터 재적재한 뒤 주기적으로 저장
+            flushScheduler.execute(this::replaySpill);
+            flushScheduler.scheduleWithFixedDelay(this::flush,
+                    properties.getFlushIntervalMs(), properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 저장 대기열에 메시지를 추가합니다. 대기 메시지가 maxPending 을 넘으면 스필 전용 스레드가 모아서 스필 파일에 기록합니다.
+     */
+    public void add(ChatMessage chatMessage) {
+        if (pending.size() >= maxPending) {
+            overflow.add(chatMessage);
+            if (overflowSpillRequested.compareAndSet(false, true)) {
+                overflowSpiller.execute(this::spillOverflow);
+            }
+            return;
+        }
+
+        pending.add(chatMessage);
+        if (writeBehind && pending.size() >= flushBatchSize && flushRequested.compareAndSet(false, true)) {
+            flushScheduler.execute(this::flush);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+        overflowSpiller.shutdown();
+        try {
+            flushScheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            overflowSpiller.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 메시지 저장 (실패 시 스필 파일에 남겨 다음 실행에서 재적재)
+        spillOverflow();
+        if (writeBehind) {
+            flush();
+        }
+    }
+
+    // 기록 중에 쌓인 초과분까지 한 번에 꺼내 하나의 쓰기 + fsync 로 스필 파일에 기록
+    void spillOverflow() {
+        overflowSpillRequested.set(false);
+        List<ChatMessage> batch = new ArrayList<>();
+        if (overflow.drainTo(batch) > 0) {
+            spill(batch);
+        }
+    }
+
+    // 대기 메시지를 flushBatchSize 단위로 저장하고, 저장에 성공했다면 스필 파일 재적재 시도
+    void flush() {
+        flushRequested.set(false);
+        boolean healthy = true;
+
+        List<ChatMessage> batch = new ArrayList<>(flushBatchSize);
+        while (pending.drainTo(batch, flushBatchSize) > 0) {
+            if (insert(batch)) {
+                flushedMessages.increment(batch.size());
+            } else {
+                healthy = false;
+                spill(batch);
+            }
+            batch = new ArrayList<>(flushBatchSize);
+        }
+
+        if (healthy && System.currentTimeMillis() - lastReplayAttempt >= spillReplayIntervalMs) {
+            replaySpill();
+        }
+    }
+
+    // 스필 파일을 재적재 파일로 교체한 뒤 순서대로 MongoDB 에 저장, 실패 시 파일을 남겨 다음 주기에 재시도
+    void replaySpill() {
+        lastReplayAttempt = System.currentTimeMillis();
+        try {
+            synchronized (spillLock) {
+                if (Files.exists(spillFile)) {
+                    Path replayFile = spillDir.resolve(SPILL_FILE_NAME + "." + System.currentTimeMillis() + REPLAY_SUFFIX);
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            List<Path> replayFiles;
+            try (Stream<Path> files = Files.list(spillDir)) {
+                replayFiles = files.filter(path -> path.getFileName().toString().endsWith(REPLAY_SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+
+            for (Path replayFile : replayFiles) {
+                if (!replay(replayFile)) {
+                    return;
+                }
+                Files.delete(replayFile);
+            }
+        } catch (IOException e) {
+            log.error("채팅 스필 파일 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean replay(Path replayFile) throws IOException {
+        List<ChatMessage> batch = new ArrayList<>(flushBatchSize);
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ChatMessage chatMessage = parse(replayFile, line);
+                if (chatMessage == null) {
+                    continue;
+                }
+                batch.add(chatMessage);
+                if (batch.size() == flushBatchSize) {
+                    if (!insert(batch)) {
+                        return false;
+                    }
+                    replayed += batch.size();
+                    batch = new ArrayList<>(flushBatchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            if (!insert(batch)) {
+                return false;
+            }
+            replayed += batch.size();
+        }
+
+        replayedMessages.increment(replayed);
+        log.info("채팅 스필 파일 재적재 완료: {} ({}건)", replayFile.getFileName(), replayed);
+        return true;
+    }
+
+    // 스필 파일 한 줄을 메시지로 변환, 읽을 수 없는 줄은 격리 파일에 옮기고 null 반환
+    private ChatMessage parse(Path replayFile, String line) throws IOException {
+        try {
+            return objectMapper.readValue(line, ChatMessage.class);
+        } catch (JsonProcessingException e) {
+            quarantine(line);
+            quarantinedLines.increment();
+            log.warn("채팅 스필 파일의 읽을 수 없는 줄을 격리: {}, {}", replayFile.getFileName(), e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    // 격리 파일에 원본 줄을 그대로 추가하고 디스크까지 동기화 (재적재 대상에서 제외)
+    private void quarantine(String line) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(quarantineFile.toFile(), true);
+             Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write(line);
+            writer.write('\n');
+            writer.flush();
+            out.getFD().sync();
+        }
+    }
+
+    // 순서 없는 insertMany 로 저장, 이미 저장된 메시지(중복 키)만 실패한 경우 성공으로 간주
+    private boolean insert(List<ChatMessage> batch) {
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(batch)
+                    .execute();
+            return true;
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY_ERROR);
+            if (!onlyDuplicates) {
+                flushFailures.increment();
+                log.warn("채팅 메시지 일괄 저장 실패: {}건, {}", batch.size(), e.getMessage());
+            }
+            return onlyDuplicates;
+        } catch (DataAccessException e) {
+            flushFailures.increment();
+            log.warn("채팅 메시지 일괄 저장 실패: {}건, {}", batch.size(), e.getMessage());
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // JSON Lines 형식으로 스필 파일에 추가하고 디스크까지 동기화
+    private void spill(List<ChatMessage> chatMessages) {
+        synchronized (spillLock) {
+            try (FileOutputStream out = new FileOutputStream(spillFile.toFile(), true);
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                for (ChatMessage chatMessage : chatMessages) {
+                    writer.write(objectMapper.writeValueAsString(chatMessage));
+                    writer.write('\n');
+                }
+                writer.flush();
+                out.getFD().sync();
+                spilledMessages.increment(chatMessages.size());
+            } catch (IOException e) {
+                lostMessages.increment(chatMessages.size());
+                log.error("채팅 메시지 스필 파일 기록 실패, {}건 유실: {}", chatMessages.size(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package nbc_final.gathering.domain.chatting.chatmessage.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.chatting.chatroom.repository.ChatRoomRepository;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채팅 전송 시 채팅방/유저 존재 여부 확인 결과를 노드 로컬에 짧게 캐싱
+ * 존재하는 경우만 캐싱하므로 새로 생성된 채팅방/유저는 바로 반영됩니다.
+ */
+@Component
+public class ChatSenderExistenceCache {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final long MAX_SIZE = 10_000;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> chatRooms = Caffeine.newBuilder().maximumSize(MAX_SIZE).expireAfterWrite(TTL).build();
+    private final Cache<Long, Boolean> users = Caffeine.newBuilder().maximumSize(MAX_SIZE).expireAfterWrite(TTL).build();
+
+    public ChatSenderExistenceCache(ChatRoomRepository chatRoomRepository, UserRepository userRepository) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.userRepository = userRepository;
+    }
+
+    public void validateChatRoom(Long chatRoomId) {
+        if (chatRooms.getIfPresent(chatRoomId) != null) {
+            return;
+        }
+        if (!chatRoomRepository.existsById(chatRoomId)) {
+            throw new ResponseCodeException(ResponseCode.CHAT_ROOM_NOT_FOUND);
+        }
+        chatRooms.put(chatRoomId, Boolean.TRUE);
+    }
+
+    public void validateUser(Long userId) {
+        if (users.getIfPresent(userId) != null) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER);
+        }
+        users.put(userId, Boolean.TRUE);
+    }
+}
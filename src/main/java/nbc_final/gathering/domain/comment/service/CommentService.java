@@ -10,12 +10,14 @@ import nbc_final.gathering.domain.comment.repository.CommentRepository;
 import nbc_final.gathering.domain.event.entity.Event;
 import nbc_final.gathering.domain.event.repository.EventRepository;
 import nbc_final.gathering.domain.event.repository.EventRepositoryCustom;
+import nbc_final.gathering.domain.event.service.EventDetailCache;
 import nbc_final.gathering.domain.gathering.entity.Gathering;
 import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
 import nbc_final.gathering.domain.member.entity.Member;
 import nbc_final.gathering.domain.member.enums.MemberRole;
 import nbc_final.gathering.domain.member.enums.MemberStatus;
 import nbc_final.gathering.domain.member.repository.MemberRepository;
+import nbc_final.gathering.domain.member.service.AccessControlService;
 import nbc_final.gathering.domain.user.entity.User;
 import nbc_final.gathering.domain.user.enums.UserRole;
 import nbc_final.gathering.domain.user.repository.UserRepository;
@@ -35,6 +37,8 @@ public class CommentService {
     private final EventRepository eventRepository;
     private final MemberRepository memberRepository;
     private final EventRepositoryCustom eventRepositoryCustom;
+    private final EventDetailCache eventDetailCache;
+    private final AccessControlService accessControlService;
 
 
     @Transactional
@@ -47,27 +51,26 @@ public class CommentService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_EVENT));
 
-        // 멤버 존재 여부 확인
-        Optional<Member> optionalMember = memberRepository.findByUserIdAndGatheringId(userId, gatheringId);
-
-        User user = userRepository.findById(userId).get();
+        // 멤버 권한 확인 (캐시된 권한 정보 사용)
+        AccessControlService.MemberAccess memberAccess = accessControlService.getMembership(userId, gatheringId);
 
         // 참가 신청 권한 없어서 멤버가 아닌(멤버가 없는) 관리자인지 확인 - 유저 7번(관리자) [생성]
-        if ((!optionalMember.isPresent()) && user.getUserRole() != UserRole.ROLE_ADMIN) {
+        if (!memberAccess.isMember() && !accessControlService.isAdmin(userId)) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
 
         // 멤버 신청은 되었지만 아직 승인되지 않은 경우
-        if (optionalMember.isPresent()) {
-            Member member = optionalMember.get();
-            if (member.getStatus() != MemberStatus.APPROVED) {
-                throw new ResponseCodeException(ResponseCode.FORBIDDEN);
-            }
+        if (memberAccess.isMember() && !memberAccess.isApproved()) {
+            throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
 
+        // 유저 존재 여부는 권한 조회에서 확인했으므로 프록시로 참조
+        User user = userRepository.getReferenceById(userId);
+
         //댓글 생성
         Comment comment = new Comment(commentRequestDto.getContent(), gathering, event, user);
         commentRepository.save(comment);
+        eventDetailCache.evict(eventId);
 
         return CommentResponseDto.of(comment);
     }
@@ -96,6 +99,7 @@ public class CommentService {
 
         //댓글 수정
         comment.updateContent(commentRequestDto.getContent());
+        eventDetailCache.evict(eventId);
 
         return new CommentResponseDto(
                 comment.getId(),
@@ -153,6 +157,7 @@ public class CommentService {
         }
         // 댓글 삭제
         commentRepository.deleteById(commentId);
+        eventDetailCache.evict(comment.getEvent().getId());
     }
 
     // 삭제 기능 (권한: 어드민, 이벤트 생성자, 소모임 생성자)
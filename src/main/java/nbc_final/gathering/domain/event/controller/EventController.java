@@ -1,6 +1,5 @@
 package nbc_final.gathering.domain.event.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -10,10 +9,12 @@ import nbc_final.gathering.common.exception.ApiResponse;
 import nbc_final.gathering.domain.event.dto.ParticipantResponseDto;
 import nbc_final.gathering.domain.event.dto.request.EventCreateRequestDto;
 import nbc_final.gathering.domain.event.dto.request.EventUpdateRequestDto;
-import nbc_final.gathering.domain.event.dto.response.EventListResponseDto;
 import nbc_final.gathering.domain.event.dto.response.EventResponseDto;
 import nbc_final.gathering.domain.event.dto.response.EventUpdateResponseDto;
+import nbc_final.gathering.domain.event.dto.response.WaitlistResponseDto;
 import nbc_final.gathering.domain.event.service.EventService;
+import nbc_final.gathering.domain.event.service.EventWaitlistService;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +28,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final EventWaitlistService eventWaitlistService;
 
     /**
      * 이벤트 검색
@@ -85,14 +87,38 @@ public class EventController {
      *
      * @param authUser    인증 사용자
      * @param gatheringId 모임 ID
+     * @param page        페이지 번호 (1부터 시작)
+     * @param size        페이지 크기 (1 ~ 100)
      * @return 이벤트 목록
      */
-    @Operation(summary = "소모임 내 이벤트 목록 조회", description = "해당 소모임 내에 존재하는 이벤트의 목록을 조회합니다.")
+    @Operation(summary = "소모임 내 이벤트 목록 조회", description = "해당 소모임 내에 존재하는 이벤트의 목록을 최신순으로 페이지 조회합니다.")
     @GetMapping("/v1/gatherings/{gatheringId}/events")
-    public ResponseEntity<ApiResponse<EventListResponseDto>> getAllEvents(
+    public ResponseEntity<ApiResponse<Page<EventResponseDto>>> getAllEvents(
             @AuthenticationPrincipal AuthUser authUser,
-            @PathVariable Long gatheringId) throws JsonProcessingException {
-        EventListResponseDto events = eventService.getAllEvents(authUser.getUserId(), gatheringId);
+            @PathVariable Long gatheringId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<EventResponseDto> events = eventService.getAllEvents(authUser.getUserId(), gatheringId, page, size);
+        return ResponseEntity.ok(ApiResponse.createSuccess(events));
+    }
+
+    /**
+     * 다가오는 이벤트 목록 조회
+     *
+     * @param authUser    인증 사용자
+     * @param gatheringId 모임 ID
+     * @param page        페이지 번호 (1부터 시작)
+     * @param size        페이지 크기 (1 ~ 100)
+     * @return 오늘 이후 이벤트 목록 (날짜 순)
+     */
+    @Operation(summary = "소모임 내 다가오는 이벤트 목록 조회", description = "해당 소모임에서 오늘 이후 열리는 이벤트를 날짜가 가까운 순으로 페이지 조회합니다.")
+    @GetMapping("/v1/gatherings/{gatheringId}/events/upcoming")
+    public ResponseEntity<ApiResponse<Page<EventResponseDto>>> getUpcomingEvents(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable Long gatheringId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<EventResponseDto> events = eventService.getUpcomingEvents(authUser.getUserId(), gatheringId, page, size);
         return ResponseEntity.ok(ApiResponse.createSuccess(events));
     }
 
@@ -102,15 +128,19 @@ public class EventController {
      * @param authUser    인증 사용자
      * @param gatheringId 모임 ID
      * @param eventId     이벤트 ID
+     * @param commentPage 댓글 페이지 번호 (1부터 시작)
+     * @param commentSize 댓글 페이지 크기 (1 ~ 100)
      * @return 이벤트 상세 정보
      */
-    @Operation(summary = "이벤트 상세 조회", description = "해당 이벤트의 상세 정보를 조회합니다.")
+    @Operation(summary = "이벤트 상세 조회", description = "해당 이벤트의 상세 정보와 댓글 한 페이지를 조회합니다.")
     @GetMapping("/v1/gatherings/{gatheringId}/events/{eventId}")
     public ResponseEntity<ApiResponse<EventResponseDto>> getEvent(
             @AuthenticationPrincipal AuthUser authUser,
             @PathVariable Long gatheringId,
-            @PathVariable Long eventId) {
-        EventResponseDto event = eventService.getEvent(authUser.getUserId(), gatheringId, eventId);
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "1") int commentPage,
+            @RequestParam(defaultValue = "20") int commentSize) {
+        EventResponseDto event = eventService.getEvent(authUser.getUserId(), gatheringId, eventId, commentPage, commentSize);
         return ResponseEntity.ok(ApiResponse.createSuccess(event));
     }
 
@@ -147,7 +177,7 @@ public class EventController {
             @AuthenticationPrincipal AuthUser authUser,
             @PathVariable Long gatheringId,
             @PathVariable Long eventId) {
-        eventService.joinEventWithLock(authUser.getUserId(), eventId);
+        eventService.joinEvent(authUser.getUserId(), eventId);
         return ResponseEntity.ok(ApiResponse.createSuccess(null));
     }
 
@@ -165,7 +195,61 @@ public class EventController {
             @AuthenticationPrincipal AuthUser authUser,
             @PathVariable Long gatheringId,
             @PathVariable Long eventId) {
-        eventService.joinEventWithLock(authUser.getUserId(), eventId);
+        eventService.cancelParticipation(authUser.getUserId(), eventId);
+        return ResponseEntity.ok(ApiResponse.createSuccess(null));
+    }
+
+    /**
+     * 이벤트 대기열 등록
+     *
+     * @param authUser    인증 사용자
+     * @param gatheringId 모임 ID
+     * @param eventId     이벤트 ID
+     * @return 대기 순번
+     */
+    @Operation(summary = "이벤트 대기열 등록", description = "정원이 찬 이벤트의 대기열에 등록합니다. 좌석이 생기면 순서대로 자동 참가됩니다.")
+    @PostMapping("/v1/gatherings/{gatheringId}/events/{eventId}/waitlist")
+    public ResponseEntity<ApiResponse<WaitlistResponseDto>> joinWaitlist(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable Long gatheringId,
+            @PathVariable Long eventId) {
+        WaitlistResponseDto waitlist = eventWaitlistService.joinWaitlist(authUser.getUserId(), gatheringId, eventId);
+        return ResponseEntity.ok(ApiResponse.createSuccess(waitlist));
+    }
+
+    /**
+     * 이벤트 대기 순번 조회
+     *
+     * @param authUser    인증 사용자
+     * @param gatheringId 모임 ID
+     * @param eventId     이벤트 ID
+     * @return 대기 순번
+     */
+    @Operation(summary = "이벤트 대기 순번 조회", description = "이벤트 대기열에서 나의 대기 순번을 조회합니다.")
+    @GetMapping("/v1/gatherings/{gatheringId}/events/{eventId}/waitlist")
+    public ResponseEntity<ApiResponse<WaitlistResponseDto>> getWaitlistPosition(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable Long gatheringId,
+            @PathVariable Long eventId) {
+        WaitlistResponseDto waitlist = eventWaitlistService.getPosition(authUser.getUserId(), gatheringId, eventId);
+        return ResponseEntity.ok(ApiResponse.createSuccess(waitlist));
+    }
+
+    /**
+     * 이벤트 대기열 등록 취소
+     *
+     * @param authUser    인증 사용자
+     * @param gatheringId 모임 ID
+     * @param eventId     이벤트 ID
+     * @return 성공 여부
+     */
+    @Operation(summary = "이벤트 대기열 등록 취소", description = "이벤트 대기열에서 나갑니다.")
+    @DeleteMapping("/v1/gatherings/{gatheringId}/events/{eventId}/waitlist")
+    public ResponseEntity<ApiResponse<Void>> leaveWaitlist(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable Long gatheringId,
+            @PathVariable Long eventId) {
+        eventWaitlistService.leaveWaitlist(authUser.getUserId(), gatheringId, eventId);
         return ResponseEntity.ok(ApiResponse.createSuccess(null));
     }
 
@@ -11,6 +11,7 @@ import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Getter
@@ -64,7 +65,7 @@ public class EventElasticDto {
         return new EventElasticDto(
                 event.getTitle(),
                 event.getDescription(),
-                event.getDate(),
+                Objects.toString(event.getDate(), null),
                 event.getLocation(),
                 event.getMaxParticipants(),
                 event.getId(),
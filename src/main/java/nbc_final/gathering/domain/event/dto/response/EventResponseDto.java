@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 import nbc_final.gathering.domain.comment.dto.response.CommentResponseDto;
 import nbc_final.gathering.domain.event.dto.EventElasticDto;
 import nbc_final.gathering.domain.event.entity.Event;
+import nbc_final.gathering.domain.event.repository.EventDetail;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -26,7 +28,7 @@ public class EventResponseDto {
     private Long userId;
     private String title;
     private String description;
-    private String date;
+    private LocalDate date;
     private String location;
     private Integer maxParticipants;
     private long currentParticipants;
@@ -45,7 +47,7 @@ public class EventResponseDto {
             @JsonProperty("userId") Long userId,
             @JsonProperty("title") String title,
             @JsonProperty("description") String description,
-            @JsonProperty("date") String date,
+            @JsonProperty("date") LocalDate date,
             @JsonProperty("location") String location,
             @JsonProperty("maxParticipants") Integer maxParticipants,
             @JsonProperty("currentParticipants") Integer currentParticipants,
@@ -130,6 +132,22 @@ public class EventResponseDto {
         );
     }
 
+    // 이벤트 상세 읽기 모델 + Redis 참가자 수
+    public static EventResponseDto of(EventDetail detail, Long userId, long currentParticipantsCount) {
+        return new EventResponseDto(
+                detail.eventId(),
+                userId,
+                detail.title(),
+                detail.description(),
+                detail.date(),
+                detail.location(),
+                detail.maxParticipants(),
+                currentParticipantsCount,
+                detail.createdAt(),
+                detail.updatedAt(),
+                detail.comments()
+        );
+    }
 
     public static EventResponseDto of(EventElasticDto eventElasticDto) {
         return new EventResponseDto(
@@ -137,7 +155,7 @@ public class EventResponseDto {
                 eventElasticDto.getUserId(),
                 eventElasticDto.getTitle(),
                 eventElasticDto.getDescription(),
-                eventElasticDto.getDate(),
+                eventElasticDto.getDate() == null ? null : LocalDate.parse(eventElasticDto.getDate()),
                 eventElasticDto.getLocation(),
                 eventElasticDto.getMaxParticipants(),
                 eventElasticDto.getCurrentParticipants(),
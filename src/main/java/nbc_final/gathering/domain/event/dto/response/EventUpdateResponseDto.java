@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import nbc_final.gathering.domain.event.entity.Event;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Getter
@@ -15,7 +16,7 @@ public class EventUpdateResponseDto {
     private Long eventId;
     private String title;
     private String description;
-    private String date;
+    private LocalDate date;
     private String location;
     private Integer maxParticipants;
     private Long currentParticipants;
@@ -0,0 +1,19 @@
+package nbc_final.gathering.domain.event.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistResponseDto {
+
+    private Long eventId;
+    private Long position;     // 대기 순번 (1부터)
+    private Long waitingCount; // 전체 대기 인원
+
+    public static WaitlistResponseDto of(Long eventId, long position, long waitingCount) {
+        return new WaitlistResponseDto(eventId, position, waitingCount);
+    }
+}
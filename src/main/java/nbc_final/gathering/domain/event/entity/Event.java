@@ -4,18 +4,26 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import nbc_final.gathering.common.entity.TimeStamped;
+import nbc_final.gathering.domain.event.enums.EventStatus;
 import nbc_final.gathering.domain.gathering.entity.Gathering;
 import nbc_final.gathering.domain.poll.entity.Poll;
 import nbc_final.gathering.domain.user.entity.User;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Getter
 @Entity
-@Table(name = "events")
+@Table(name = "events",
+        indexes = {
+                @Index(name = "idx_events_gathering_date", columnList = "gathering_id, event_date"),
+                @Index(name = "idx_events_status_date", columnList = "status, event_date")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Event extends TimeStamped {
 
@@ -25,10 +33,18 @@ public class Event extends TimeStamped {
 
     private String title;
     private String description;
-    private String date;
+
+    @Column(name = "event_date")
+    private LocalDate date;
+
     private String location;
     private Integer maxParticipants;
-    private Integer currentParticipants = 0;
+    private Integer currentParticipants = 0; // 종료(CLOSED) 시 확정된 참가자 수
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @ColumnDefault("'OPEN'")
+    private EventStatus status = EventStatus.OPEN;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "gathering_id")
@@ -44,7 +60,7 @@ public class Event extends TimeStamped {
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Poll> polls = new ArrayList<>();
 
-    public static Event of(String title, String description, String date, String location, Integer maxParticipants, Gathering gathering, User user) {
+    public static Event of(String title, String description, LocalDate date, String location, Integer maxParticipants, Gathering gathering, User user) {
 
         Event event = new Event();
         event.title = title;
@@ -57,7 +73,7 @@ public class Event extends TimeStamped {
         return event;
     }
 
-    public void updateEvent(String title, String description, String date, String location, Integer maxParticipants) {
+    public void updateEvent(String title, String description, LocalDate date, String location, Integer maxParticipants) {
         this.title = title;
         this.description = description;
         this.date = date;
@@ -76,6 +92,10 @@ public class Event extends TimeStamped {
         }
     }
 
+    public boolean isClosed() {
+        return this.status == EventStatus.CLOSED;
+    }
+
     public int getCurrentParticipants() {
         return currentParticipants;
     }
@@ -0,0 +1,6 @@
+package nbc_final.gathering.domain.event.enums;
+
+public enum EventStatus {
+    OPEN,   // 진행 예정 (참가 / 취소 가능)
+    CLOSED  // 종료 (참가자 수를 DB 에 확정하고 Redis 키 정리)
+}
@@ -0,0 +1,30 @@
+package nbc_final.gathering.domain.event.repository;
+
+import nbc_final.gathering.domain.comment.dto.response.CommentResponseDto;
+import nbc_final.gathering.domain.event.enums.EventStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 이벤트 상세 조회용 읽기 모델 (이벤트 + 작성자 + 댓글 한 페이지 + 댓글 작성자)
+public record EventDetail(
+        Long eventId,
+        Long gatheringId,
+        Long authorId,
+        String title,
+        String description,
+        LocalDate date,
+        String location,
+        Integer maxParticipants,
+        EventStatus status,
+        Integer currentParticipants, // 종료(CLOSED) 시 확정된 참가자 수
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<CommentResponseDto> comments
+) {
+
+    public boolean isClosed() {
+        return status == EventStatus.CLOSED;
+    }
+}
@@ -0,0 +1,5 @@
+package nbc_final.gathering.domain.event.repository;
+
+// 이벤트별 참가자 수 (GROUP BY 집계 결과)
+public record EventParticipantCount(Long eventId, Long count) {
+}
@@ -0,0 +1,5 @@
+package nbc_final.gathering.domain.event.repository;
+
+// 이벤트별 참가자 userId
+public record EventParticipantUserId(Long eventId, Long userId) {
+}
@@ -1,12 +1,40 @@
 package nbc_final.gathering.domain.event.repository;
 
 import nbc_final.gathering.domain.event.entity.Event;
+import nbc_final.gathering.domain.event.enums.EventStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
 
-    List<Event> findAllByGatheringId(Long gatheringId);
+    Page<Event> findAllByGatheringId(Long gatheringId, Pageable pageable);
+
+    // 소모임의 다가오는 이벤트 (idx_events_gathering_date 범위 조회, 날짜 오름차순)
+    @Query(value = "SELECT e FROM Event e WHERE e.gathering.id = :gatheringId AND e.date >= :from ORDER BY e.date ASC, e.id ASC",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.gathering.id = :gatheringId AND e.date >= :from")
+    Page<Event> findUpcoming(@Param("gatheringId") Long gatheringId, @Param("from") LocalDate from, Pageable pageable);
+
+    // 진행 중(OPEN) 이벤트 ID 를 id 기준 키셋 페이징으로 조회 (종료된 이벤트는 Redis 키가 없음)
+    @Query("SELECT e.id FROM Event e WHERE e.status = :status AND e.id > :lastId ORDER BY e.id")
+    List<Long> findIdsByStatusAfter(@Param("status") EventStatus status, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 날짜가 지난 진행 중 이벤트 ID (idx_events_status_date 범위 조회)
+    @Query("SELECT e.id FROM Event e WHERE e.status = :status AND e.date < :before ORDER BY e.date ASC, e.id ASC")
+    List<Long> findIdsByStatusAndDateBefore(@Param("status") EventStatus status, @Param("before") LocalDate before, Pageable pageable);
+
+    // 이벤트 종료 처리 : 참가자 수를 DB 기준으로 확정하고 상태를 CLOSED 로 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET e.status = nbc_final.gathering.domain.event.enums.EventStatus.CLOSED, " +
+            "e.currentParticipants = (SELECT CAST(COUNT(p) AS Integer) FROM Participant p WHERE p.event.id = e.id) " +
+            "WHERE e.id IN :ids AND e.status = nbc_final.gathering.domain.event.enums.EventStatus.OPEN")
+    int closeEvents(@Param("ids") Collection<Long> ids);
 
 }
@@ -1,9 +1,13 @@
 package nbc_final.gathering.domain.event.repository;
 
+import java.util.Optional;
+
 public interface EventRepositoryCustom {
 
     boolean isUserInGathering(Long gatheringId, Long userId);
 
     boolean isGatheringCreator(Long userId, Long gatheringId);
 
+    Optional<EventDetail> findEventDetail(Long eventId, int commentOffset, int commentLimit);
+
 }
@@ -1,12 +1,19 @@
 package nbc_final.gathering.domain.event.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import nbc_final.gathering.domain.comment.dto.response.CommentResponseDto;
+import nbc_final.gathering.domain.comment.entity.QComment;
+import nbc_final.gathering.domain.event.entity.QEvent;
 import nbc_final.gathering.domain.gathering.entity.QGathering;
 import nbc_final.gathering.domain.member.entity.QMember;
 import nbc_final.gathering.domain.member.enums.MemberStatus;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Primary
 @Repository
 public class EventRepositoryCustomImpl implements EventRepositoryCustom {
@@ -41,5 +48,68 @@ public class EventRepositoryCustomImpl implements EventRepositoryCustom {
                         .and(gathering.userId.eq(userId)))
                 .fetchFirst() != null;
     }
-}
 
+    /**
+     * 이벤트 + 작성자 + 댓글 한 페이지 + 댓글 작성자를 한 번의 쿼리로 조회합니다.
+     * 댓글을 left join 하여 댓글 한 건당 한 row 를 받으며, 작성자는 FK 값만 사용하므로 users 조인은 없습니다.
+     */
+    @Override
+    public Optional<EventDetail> findEventDetail(Long eventId, int commentOffset, int commentLimit) {
+        QEvent event = QEvent.event;
+        QComment comment = QComment.comment;
+
+        List<Tuple> rows = queryFactory
+                .select(event.id, event.gathering.id, event.user.id, event.title, event.description,
+                        event.date, event.location, event.maxParticipants, event.status, event.currentParticipants,
+                        event.createdAt, event.updatedAt,
+                        comment.id, comment.content, comment.user.id, comment.createdAt, comment.updatedAt)
+                .from(event)
+                .leftJoin(comment).on(comment.event.id.eq(event.id))
+                .where(event.id.eq(eventId))
+                .orderBy(comment.id.asc())
+                .offset(commentOffset)
+                .limit(commentLimit)
+                .fetch();
+
+        // 댓글 페이지를 벗어난 경우 이벤트만 다시 조회
+        if (rows.isEmpty() && commentOffset > 0) {
+            return findEventDetail(eventId, 0, 1)
+                    .map(detail -> withComments(detail, List.of()));
+        }
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<CommentResponseDto> comments = rows.stream()
+                .filter(row -> row.get(comment.id) != null)
+                .map(row -> new CommentResponseDto(
+                        row.get(comment.id),
+                        row.get(comment.content),
+                        row.get(comment.user.id),
+                        row.get(comment.createdAt),
+                        row.get(comment.updatedAt)))
+                .toList();
+
+        Tuple first = rows.get(0);
+        return Optional.of(new EventDetail(
+                first.get(event.id),
+                first.get(event.gathering.id),
+                first.get(event.user.id),
+                first.get(event.title),
+                first.get(event.description),
+                first.get(event.date),
+                first.get(event.location),
+                first.get(event.maxParticipants),
+                first.get(event.status),
+                first.get(event.currentParticipants),
+                first.get(event.createdAt),
+                first.get(event.updatedAt),
+                comments));
+    }
+
+    private EventDetail withComments(EventDetail detail, List<CommentResponseDto> comments) {
+        return new EventDetail(detail.eventId(), detail.gatheringId(), detail.authorId(), detail.title(),
+                detail.description(), detail.date(), detail.location(), detail.maxParticipants(),
+                detail.status(), detail.currentParticipants(), detail.createdAt(), detail.updatedAt(), comments);
+    }
+}
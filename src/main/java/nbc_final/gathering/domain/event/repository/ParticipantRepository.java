@@ -3,7 +3,10 @@ package nbc_final.gathering.domain.event.repository;
 import nbc_final.gathering.domain.event.entity.Event;
 import nbc_final.gathering.domain.event.entity.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +15,17 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     Optional<Participant> findByEventAndUserId(Event event, Long userId);
 
     List<Participant> findAllByEvent(Event event);
+
+    @Query("SELECT p.user.id FROM Participant p WHERE p.event.id = :eventId")
+    List<Long> findUserIdsByEventId(@Param("eventId") Long eventId);
+
+    boolean existsByEventIdAndUserId(Long eventId, Long userId);
+
+    @Query("SELECT new nbc_final.gathering.domain.event.repository.EventParticipantCount(p.event.id, COUNT(p)) " +
+            "FROM Participant p WHERE p.event.id IN :eventIds GROUP BY p.event.id")
+    List<EventParticipantCount> countByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("SELECT new nbc_final.gathering.domain.event.repository.EventParticipantUserId(p.event.id, p.user.id) " +
+            "FROM Participant p WHERE p.event.id IN :eventIds")
+    List<EventParticipantUserId> findUserIdsByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
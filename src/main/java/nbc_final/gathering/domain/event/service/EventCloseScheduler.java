@@ -0,0 +1,91 @@
+package nbc_final.gathering.domain.event.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.event.enums.EventStatus;
+import nbc_final.gathering.domain.event.repository.EventRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 날짜가 지난 이벤트 종료 작업
+ * - (status, event_date) 인덱스로 날짜가 지난 진행 중(OPEN) 이벤트를 배치 단위로 조회
+ * - 배치마다 UPDATE 한 번으로 참가자 수를 DB 기준으로 확정하고 CLOSED 로 변경
+ * - 커밋 이후 Redis 참가자 Set / 참가자 수 / 대기열 키를 DEL 한 번으로 정리
+ * 종료된 이벤트는 배치에서 빠지므로 매 배치 첫 페이지만 조회합니다.
+ */
+@Slf4j
+@Component
+public class EventCloseScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final EventDetailCache eventDetailCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter closedCounter;
+
+    public EventCloseScheduler(EventRepository eventRepository,
+                               EventDetailCache eventDetailCache,
+                               RedisTemplate<String, Object> redisTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventDetailCache = eventDetailCache;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.closedCounter = meterRegistry.counter("event.close.closed");
+    }
+
+    // 매일 00:03 에 어제까지의 이벤트 종료
+    @Scheduled(cron = "0 3 0 * * ?")
+    public void closeScheduled() {
+        closePastEvents(LocalDate.now());
+    }
+
+    /**
+     * today 이전 날짜의 진행 중 이벤트를 모두 종료합니다.
+     *
+     * @return 종료한 이벤트 수
+     */
+    public int closePastEvents(LocalDate today) {
+        int closed = 0;
+        List<Long> eventIds;
+        while (!(eventIds = eventRepository.findIdsByStatusAndDateBefore(
+                EventStatus.OPEN, today, PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            List<Long> batch = eventIds;
+            Integer updated = transactionTemplate.execute(status -> eventRepository.closeEvents(batch));
+            releaseRedisKeys(batch);
+
+            // 다른 노드가 같은 배치를 먼저 종료했다면 다음 조회에서 빠지므로 계속 진행
+            closed += updated == null ? 0 : updated;
+        }
+
+        closedCounter.increment(closed);
+        log.info("날짜가 지난 이벤트 종료 완료: {}개", closed);
+        return closed;
+    }
+
+    // 종료된 이벤트의 Redis 참가자 / 대기열 키 정리 + 상세 캐시 무효화
+    private void releaseRedisKeys(List<Long> eventIds) {
+        List<String> keys = eventIds.stream()
+                .flatMap(eventId -> Stream.of(
+                        EventParticipantCounter.countKey(eventId),
+                        EventParticipantCounter.participantsKey(eventId),
+                        EventWaitlist.waitlistKey(eventId),
+                        EventWaitlist.sequenceKey(eventId)))
+                .toList();
+        redisTemplate.delete(keys);
+        eventIds.forEach(eventDetailCache::evict);
+    }
+}
@@ -0,0 +1,101 @@
+package nbc_final.gathering.domain.event.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import nbc_final.gathering.domain.event.repository.EventDetail;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 이벤트 상세(댓글 첫 페이지 포함) 로컬 캐시
+ * - 노드 로컬 Caffeine, 짧은 TTL 로 다른 노드의 변경도 곧 반영
+ * - 이벤트/댓글 변경 시 커밋 이후 pub/sub 으로 모든 노드의 캐시를 무효화합니다.
+ * 참가자 수는 자주 바뀌므로 캐시하지 않습니다.
+ */
+@Component
+public class EventDetailCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "eventDetail:invalidate";
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final long MAX_SIZE = 10_000;
+
+    private final RedisTemplate<String, Object> pubSubRedisTemplate;
+    private final Cache<Long, EventDetail> localCache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public EventDetailCache(@Qualifier("pubSubRedisTemplate") RedisTemplate<String, Object> pubSubRedisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            MeterRegistry meterRegistry) {
+        this.pubSubRedisTemplate = pubSubRedisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .build();
+
+        this.hits = meterRegistry.counter("event.detail.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("event.detail.cache.requests", "result", "miss");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시 → loader 순으로 이벤트 상세를 조회합니다. 없는 이벤트는 캐시하지 않습니다.
+     */
+    public Optional<EventDetail> get(Long eventId, Supplier<Optional<EventDetail>> loader) {
+        EventDetail cached = localCache.getIfPresent(eventId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+
+        Optional<EventDetail> detail = loader.get();
+        detail.ifPresent(value -> localCache.put(eventId, value));
+        return detail;
+    }
+
+    /**
+     * 이벤트 상세 캐시를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다.
+     */
+    public void evict(Long eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(eventId);
+                }
+            });
+        } else {
+            evictNow(eventId);
+        }
+    }
+
+    // 다른 노드(자신 포함)에서 발행한 무효화 메시지 수신 시 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object eventId = pubSubRedisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (eventId != null) {
+            localCache.invalidate(Long.valueOf(String.valueOf(eventId)));
+        }
+    }
+
+    private void evictNow(Long eventId) {
+        localCache.invalidate(eventId);
+        pubSubRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, eventId);
+    }
+}
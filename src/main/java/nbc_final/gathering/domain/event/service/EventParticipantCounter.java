@@ -0,0 +1,188 @@
+package nbc_final.gathering.domain.event.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.event.repository.EventParticipantUserId;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 참가 좌석 관리 (Redis)
+ * - event:{id}:participants        : 참가자 userId Set (중복 참가 확인)
+ * - event:{id}:currentParticipants : 참가자 수
+ * 중복 확인 · 정원 확인 · 증가를 하나의 Lua 스크립트로 처리하므로 분산락 없이 정원을 보장합니다.
+ * 키가 사라진 경우(장애 조치, flush) 0 을 반환하지 않고 처음 접근할 때 DB 참가자 기준으로 다시 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventParticipantCounter {
+
+    private static final long ALREADY_PARTICIPATED = -1;
+    private static final long LIMIT_EXCEEDED = -2;
+    private static final long NOT_INITIALIZED = -3;
+    public static final long MISSING = -1; // 관측 시 참가자 수 키가 없음
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScript<Long> eventJoinScript;
+    private final RedisScript<Long> eventCancelScript;
+    private final RedisScript<Long> eventParticipantsRepairScript;
+    private final ParticipantRepository participantRepository;
+
+    public static String countKey(Long eventId) {
+        return "event:" + eventId + ":currentParticipants";
+    }
+
+    public static String participantsKey(Long eventId) {
+        return "event:" + eventId + ":participants";
+    }
+
+    // 이벤트 생성 커밋 이후 생성자를 첫 참가자로 등록 (그 사이 참가 요청으로 DB 기준 복구가 끝났다면 참가자 수는 유지)
+    public void initialize(Long eventId, Long creatorId) {
+        redisTemplate.opsForSet().add(participantsKey(eventId), creatorId);
+        redisTemplate.opsForValue().setIfAbsent(countKey(eventId), 1);
+    }
+
+    // 이벤트 삭제 시 참가자 Set 과 참가자 수 제거
+    public void delete(Long eventId) {
+        redisTemplate.delete(List.of(participantsKey(eventId), countKey(eventId)));
+    }
+
+    /**
+     * 좌석을 예약하고 예약 후 참가자 수를 반환합니다.
+     * 이미 참가한 경우 ALREADY_PARTICIPATED, 정원이 찬 경우 PARTICIPANT_LIMIT_EXCEEDED 예외를 던집니다.
+     */
+    public long reserve(Long eventId, Long userId, int maxParticipants) {
+        List<String> keys = List.of(participantsKey(eventId), countKey(eventId));
+        Long result = redisTemplate.execute(eventJoinScript, keys, userId, maxParticipants, 0);
+
+        // 참가자 Set 또는 참가자 수가 없으면 DB 참가자로 채운 뒤 한 번 더 시도
+        if (result != null && result == NOT_INITIALIZED) {
+            rebuild(eventId);
+            result = redisTemplate.execute(eventJoinScript, keys, userId, maxParticipants, 1);
+        }
+
+        if (result == null) {
+            throw new ResponseCodeException(ResponseCode.TRANSACTION_FAILED);
+        }
+        if (result == ALREADY_PARTICIPATED) {
+            throw new ResponseCodeException(ResponseCode.ALREADY_PARTICIPATED);
+        }
+        if (result == LIMIT_EXCEEDED) {
+            throw new ResponseCodeException(ResponseCode.PARTICIPANT_LIMIT_EXCEEDED);
+        }
+        return result;
+    }
+
+    // 예약한 좌석 반환 (참가하지 않은 유저면 무시)
+    public void release(Long eventId, Long userId) {
+        redisTemplate.execute(eventCancelScript, List.of(participantsKey(eventId), countKey(eventId)), userId);
+    }
+
+    // 현재 참가자 수 조회 (키가 없으면 DB 기준으로 다시 채운 값)
+    public long getCount(Long eventId) {
+        return getCounts(List.of(eventId)).getOrDefault(eventId, 0L);
+    }
+
+    /**
+     * 여러 이벤트의 참가자 수를 한 번의 MGET 으로 조회합니다.
+     * Redis 에 키가 없는 이벤트는 DB 참가자 기준으로 다시 채운 뒤 그 값을 반환합니다.
+     */
+    public Map<Long, Long> getCounts(Collection<Long> eventIds) {
+        Map<Long, Long> counts = peekCounts(eventIds);
+
+        Map<Long, Long> missing = new LinkedHashMap<>();
+        for (Long eventId : eventIds) {
+            if (!counts.containsKey(eventId)) {
+                missing.put(eventId, MISSING);
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.info("Redis 에 참가자 수가 없어 DB 기준으로 다시 채웁니다: {}", missing.keySet());
+            counts.putAll(repair(missing));
+        }
+        return counts;
+    }
+
+    /**
+     * Redis 에 저장된 참가자 수를 그대로 조회합니다. (키가 없는 이벤트는 결과에 포함되지 않음)
+     */
+    public Map<Long, Long> peekCounts(Collection<Long> eventIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Long> ids = new ArrayList<>(eventIds);
+        List<Object> values = redisTemplate.opsForValue()
+                .multiGet(ids.stream().map(EventParticipantCounter::countKey).toList());
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value != null) {
+                counts.put(ids.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return counts;
+    }
+
+    // 참가자 Set 또는 참가자 수가 없는 이벤트를 DB 참가자 기준으로 다시 채움
+    public void rebuild(Long eventId) {
+        repair(Map.of(eventId, peekCounts(List.of(eventId)).getOrDefault(eventId, MISSING)));
+    }
+
+    /**
+     * 참가자 Set 과 참가자 수를 DB 참가자 기준으로 다시 작성합니다.
+     * 이벤트마다 복구 스크립트를 파이프라인으로 한 번에 전송하며,
+     * 관측한 값(observedCounts, 키가 없었다면 MISSING)이 그 사이 바뀐 이벤트는 동시 참가/취소와 경합하지 않도록 건너뜁니다.
+     *
+     * @param observedCounts 이벤트 ID 별 관측한 Redis 참가자 수
+     * @return 이벤트 ID 별 DB 참가자 수
+     */
+    public Map<Long, Long> repair(Map<Long, Long> observedCounts) {
+        Map<Long, List<Long>> userIdsByEvent = participantRepository.findUserIdsByEventIds(observedCounts.keySet()).stream()
+                .collect(Collectors.groupingBy(EventParticipantUserId::eventId,
+                        Collectors.mapping(EventParticipantUserId::userId, Collectors.toList())));
+
+        Map<Long, Long> dbCounts = new LinkedHashMap<>();
+        observedCounts.keySet().forEach(eventId ->
+                dbCounts.put(eventId, (long) userIdsByEvent.getOrDefault(eventId, List.of()).size()));
+
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        RedisSerializer<String> keySerializer = redisTemplate.getStringSerializer();
+        byte[] script = eventParticipantsRepairScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            observedCounts.forEach((eventId, observed) -> {
+                List<Long> userIds = userIdsByEvent.getOrDefault(eventId, List.of());
+                byte[][] keysAndArgs = new byte[4 + userIds.size()][];
+                keysAndArgs[0] = keySerializer.serialize(participantsKey(eventId));
+                keysAndArgs[1] = keySerializer.serialize(countKey(eventId));
+                keysAndArgs[2] = valueSerializer.serialize(observed);
+                keysAndArgs[3] = valueSerializer.serialize(dbCounts.get(eventId));
+                for (int i = 0; i < userIds.size(); i++) {
+                    keysAndArgs[4 + i] = valueSerializer.serialize(userIds.get(i));
+                }
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2, keysAndArgs);
+            });
+            return null;
+        });
+        return dbCounts;
+    }
+}
@@ -0,0 +1,125 @@
+package nbc_final.gathering.domain.event.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.event.enums.EventStatus;
+import nbc_final.gathering.domain.event.repository.EventParticipantCount;
+import nbc_final.gathering.domain.event.repository.EventRepository;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 이벤트 참가자 수를 MySQL 참가자 기준으로 맞추는 정합성 작업
+ * - 진행 중(OPEN) 이벤트 ID 를 키셋 페이징으로 순회하고, 페이지마다 MGET 한 번 + GROUP BY 집계 쿼리 한 번으로 비교
+ * - 어긋난 카운터는 파이프라인으로 한 번에 복구 (관측 이후 값이 바뀐 이벤트는 건너뜀)
+ * - Redis 가 DB 보다 작거나 키가 없으면 초과 예약 위험이 있으므로 바로 복구하고,
+ *   Redis 가 DB 보다 크면 커밋 전인 참가 예약일 수 있으므로 다음 주기에도 같은 값일 때만 복구합니다.
+ */
+@Slf4j
+@Component
+public class EventParticipantReconciler {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final ParticipantRepository participantRepository;
+    private final EventParticipantCounter eventParticipantCounter;
+
+    private final Counter driftCounter;
+    private final Timer reconcileTimer;
+    private final AtomicLong lastDrift;
+
+    // 이전 주기에 DB 보다 크게 관측된 이벤트 ID 별 Redis 참가자 수
+    private Map<Long, Long> pendingOvercounts = new HashMap<>();
+
+    public EventParticipantReconciler(EventRepository eventRepository,
+                                      ParticipantRepository participantRepository,
+                                      EventParticipantCounter eventParticipantCounter,
+                                      MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.participantRepository = participantRepository;
+        this.eventParticipantCounter = eventParticipantCounter;
+        this.driftCounter = meterRegistry.counter("event.participants.reconcile.drift");
+        this.reconcileTimer = meterRegistry.timer("event.participants.reconcile.duration");
+        this.lastDrift = meterRegistry.gauge("event.participants.reconcile.last.drift", new AtomicLong());
+    }
+
+    // 5분마다 전체 이벤트의 참가자 수 정합성 확인
+    @Scheduled(cron = "0 */5 * * * ?")
+    public void reconcileScheduled() {
+        reconcile();
+    }
+
+    /**
+     * 전체 이벤트의 Redis 참가자 수를 DB 와 비교하여 어긋난 카운터를 복구합니다.
+     *
+     * @return 어긋난 카운터 수
+     */
+    public synchronized long reconcile() {
+        long startNanos = System.nanoTime();
+        Map<Long, Long> overcounts = new HashMap<>();
+        long drift = 0;
+
+        Long lastId = 0L;
+        List<Long> eventIds;
+        while (!(eventIds = eventRepository.findIdsByStatusAfter(EventStatus.OPEN, lastId, PageRequest.of(0, PAGE_SIZE))).isEmpty()) {
+            drift += reconcilePage(eventIds, overcounts);
+            lastId = eventIds.get(eventIds.size() - 1);
+        }
+
+        pendingOvercounts = overcounts;
+        driftCounter.increment(drift);
+        lastDrift.set(drift);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        reconcileTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        log.info("이벤트 참가자 수 정합성 확인 완료: 불일치 {}개, 다음 주기 재확인 {}개, {} ms",
+                drift, overcounts.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return drift;
+    }
+
+    // 한 페이지의 이벤트를 비교하고 복구, 불일치 카운터 수 반환
+    private long reconcilePage(List<Long> eventIds, Map<Long, Long> overcounts) {
+        // 참가는 Redis 예약 후 DB 저장, 취소는 DB 삭제 후 Redis 반환 순서이므로 Redis 를 먼저 읽어야 DB 보다 작게 관측되지 않음
+        Map<Long, Long> redisCounts = eventParticipantCounter.peekCounts(eventIds);
+        Map<Long, Long> dbCounts = participantRepository.countByEventIds(eventIds).stream()
+                .collect(Collectors.toMap(EventParticipantCount::eventId, EventParticipantCount::count));
+
+        long drift = 0;
+        Map<Long, Long> repairs = new LinkedHashMap<>();
+        for (Long eventId : eventIds) {
+            long dbCount = dbCounts.getOrDefault(eventId, 0L);
+            Long redisCount = redisCounts.get(eventId);
+
+            if (redisCount == null || redisCount < dbCount) {
+                drift++;
+                repairs.put(eventId, redisCount == null ? EventParticipantCounter.MISSING : redisCount);
+            } else if (redisCount > dbCount) {
+                drift++;
+                if (redisCount.equals(pendingOvercounts.get(eventId))) {
+                    repairs.put(eventId, redisCount);
+                } else {
+                    overcounts.put(eventId, redisCount);
+                }
+            }
+        }
+
+        if (!repairs.isEmpty()) {
+            log.warn("이벤트 참가자 수 복구: {}", repairs.keySet());
+            eventParticipantCounter.repair(repairs);
+        }
+        return drift;
+    }
+}
@@ -8,17 +8,15 @@ import nbc_final.gathering.common.annotation.DistributedLock;
 import nbc_final.gathering.common.elasticsearch.EventElasticSearchRepository;
 import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
-import nbc_final.gathering.domain.comment.dto.response.CommentResponseDto;
-import nbc_final.gathering.domain.comment.repository.CommentRepository;
 import nbc_final.gathering.domain.event.dto.EventElasticDto;
 import nbc_final.gathering.domain.event.dto.ParticipantResponseDto;
 import nbc_final.gathering.domain.event.dto.request.EventCreateRequestDto;
 import nbc_final.gathering.domain.event.dto.request.EventUpdateRequestDto;
-import nbc_final.gathering.domain.event.dto.response.EventListResponseDto;
 import nbc_final.gathering.domain.event.dto.response.EventResponseDto;
 import nbc_final.gathering.domain.event.dto.response.EventUpdateResponseDto;
 import nbc_final.gathering.domain.event.entity.Event;
 import nbc_final.gathering.domain.event.entity.Participant;
+import nbc_final.gathering.domain.event.repository.EventDetail;
 import nbc_final.gathering.domain.event.repository.EventRepository;
 import nbc_final.gathering.domain.event.repository.EventRepositoryCustom;
 import nbc_final.gathering.domain.event.repository.ParticipantRepository;
@@ -27,16 +25,22 @@ import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
 import nbc_final.gathering.domain.member.entity.Member;
 import nbc_final.gathering.domain.member.enums.MemberStatus;
 import nbc_final.gathering.domain.member.repository.MemberRepository;
+import nbc_final.gathering.domain.member.service.AccessControlService;
 import nbc_final.gathering.domain.user.entity.User;
-import nbc_final.gathering.domain.user.enums.UserRole;
 import nbc_final.gathering.domain.user.repository.UserRepository;
-import org.redisson.api.RAtomicLong;
-import org.redisson.api.RedissonClient;
 import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -50,11 +54,17 @@ public class EventService {
     private final EventRepository eventRepository;
     private final EventRepositoryCustom eventRepositoryCustom;
     private final GatheringRepository gatheringRepository;
-    private final CommentRepository commentRepository;
     private final AlarmService alarmService;
     private final MemberRepository memberRepository;
-    private final RedissonClient redissonClient;
+    private final EventParticipantCounter eventParticipantCounter;
     private final EventElasticSearchRepository eventElasticSearchRepository;
+    private final EventDetailCache eventDetailCache;
+    private final AccessControlService accessControlService;
+    private final EventWaitlistService eventWaitlistService;
+
+    private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
 
 
     //이벤트 검색(형태소 기반)
@@ -78,64 +88,70 @@ public class EventService {
 
         Event event = createEventInstance(requestDto, gathering, user);
         eventRepository.save(event);
+        // 커밋 이후 Redis 에 생성자를 첫 참가자로 등록 (롤백 시 존재하지 않는 이벤트의 키가 남지 않도록)
+        Long eventId = event.getId();
+        runAfterCommit(() -> eventParticipantCounter.initialize(eventId, userId));
 
         //엘라스틱 서치
         EventElasticDto eventElasticDto = EventElasticDto.of(event);
         eventElasticSearchRepository.save(eventElasticDto); //엘라스틱 서치 추가
 
-        resetParticipantCount(event); // Redis에 참가자 초기 카운트를 설정
-
         Participant creatorParticipant = Participant.of(event, user);
         participantRepository.save(creatorParticipant);
 
-        long currentParticipantsCount = getParticipantCountRedis(event.getId()); // 초기화된 카운트를 바로 가져오기
+        long currentParticipantsCount = 1; // 생성 직후 참가자는 생성자뿐
 
         // APPROVED 상태의 멤버만 필터링
-        List<Member> approvedMembers = members.stream()
+        List<Long> approvedUserIds = members.stream()
                 .filter(member -> member.getStatus() == MemberStatus.APPROVED)
+                .map(member -> member.getUser().getId())
                 .collect(Collectors.toList());
 
         // 이벤트 생성 알림 메시지
         String message = "이벤트 '" + event.getTitle() + "'이(가) 생성되었습니다.";
 
-        // 승인된 멤버에게 알림 전송
-        approvedMembers.forEach(member -> {
-            AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(
-                    member.getUser().getId(), message
-            );
-            alarmService.sendAlarm(alarmMessageReq);  // AlarmService를 사용하여 알림 전송
-            log.info("알림 전송: 멤버 ID={}, 메시지={}", member.getUser().getId(), message);
-        });
+        // 승인된 멤버에게 알림 일괄 전송 (커밋 이후 비동기)
+        alarmService.sendAlarmToAll(approvedUserIds, message);
+        log.info("알림 일괄 전송 요청: 이벤트 ID={}, 수신자 {}명", event.getId(), approvedUserIds.size());
 
-        return EventResponseDto.of(event, userId, currentParticipantsCount); // 초기화된 카운트 반영
+        return EventResponseDto.of(event, userId, currentParticipantsCount);
     }
 
     // 이벤트 수정 (권한: 이벤트 생성자만 가능, 어드민 본인 이벤트만 가능)
     @Transactional
     public EventUpdateResponseDto updateEvent(Long userId, Long gatheringId, Long eventId, EventUpdateRequestDto requestDto) {
 
-        User user = getUserOrThrow(userId);
+        boolean isAdmin = accessControlService.isAdmin(userId);
 
-        if (!user.getUserRole().equals(UserRole.ROLE_ADMIN)) {
+        if (!isAdmin) {
             verifyMembership(userId, gatheringId);
         }
 
         Event event = getEventOrThrow(eventId);
 
-        if (!(isEventCreator(userId, event) || (user.getUserRole().equals(UserRole.ROLE_ADMIN) && isEventCreator(userId, event)))) {
+        if (!(isEventCreator(userId, event) || (isAdmin && isEventCreator(userId, event)))) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
+        validateOpen(event);
 
-        long currentParticipantsCount = getParticipantCountRedis(eventId);
+        long currentParticipantsCount = eventParticipantCounter.getCount(eventId);
 
         if (requestDto.getMaxParticipants() < currentParticipantsCount) {
             throw new ResponseCodeException(ResponseCode.INVALID_MAX_PARTICIPANTS);
         }
 
         validateParticipantLimit(event, requestDto.getMaxParticipants());
+        boolean seatsAdded = requestDto.getMaxParticipants() > event.getMaxParticipants();
 
-        event.updateEvent(requestDto.getTitle(), requestDto.getDescription(), requestDto.getDate(),
+        event.updateEvent(requestDto.getTitle(), requestDto.getDescription(), parseDate(requestDto.getDate()),
                 requestDto.getLocation(), requestDto.getMaxParticipants());
+        eventDetailCache.evict(eventId);
+
+        // 정원이 늘어나면 커밋 이후 늘어난 좌석만큼 대기열에서 승급
+        if (seatsAdded) {
+            int maxParticipants = requestDto.getMaxParticipants();
+            runAfterCommit(() -> eventWaitlistService.releaseAndPromote(eventId, null, maxParticipants));
+        }
 
         List<Participant> participants = participantRepository.findAllByEvent(event);
 
@@ -156,41 +172,59 @@ public class EventService {
     }
 
 
-    // 이벤트 다건 조회 (권한: 소모임 멤버 또는 어드민)
-    public EventListResponseDto getAllEvents(Long userId, Long gatheringId) {
+    // 이벤트 다건 조회 (권한: 소모임 멤버 또는 어드민), 페이지 크기는 최대 MAX_PAGE_SIZE
+    @Transactional(readOnly = true)
+    public Page<EventResponseDto> getAllEvents(Long userId, Long gatheringId, int page, int size) {
         verifyViewPermission(userId, gatheringId);
 
-        List<Event> events = eventRepository.findAllByGatheringId(gatheringId);
+        PageRequest pageable = PageRequest.of(Math.max(page, 1) - 1, clamp(size, MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "id"));
+        Page<Event> events = eventRepository.findAllByGatheringId(gatheringId, pageable);
 
-        // Redis에서 참가자 수를 추가하여 응답 생성
-        List<EventResponseDto> eventResponseDtos = events.stream()
-                .map(event -> {
-                    long currentParticipantsCount = getParticipantCountRedis(event.getId());
-                    return EventResponseDto.of(event, userId, currentParticipantsCount);
-                })
-                .collect(Collectors.toList());
+        return toResponsePage(userId, events);
+    }
+
+    // 소모임의 다가오는 이벤트 조회 (권한: 소모임 멤버 또는 어드민)
+    // 오늘 이후 이벤트를 날짜 순으로, (gathering_id, event_date) 인덱스 범위 조회로 페이징
+    @Transactional(readOnly = true)
+    public Page<EventResponseDto> getUpcomingEvents(Long userId, Long gatheringId, int page, int size) {
+        verifyViewPermission(userId, gatheringId);
 
-        return EventListResponseDto.of(eventResponseDtos);
+        Page<Event> events = eventRepository.findUpcoming(gatheringId, LocalDate.now(),
+                PageRequest.of(Math.max(page, 1) - 1, clamp(size, MAX_PAGE_SIZE)));
+
+        return toResponsePage(userId, events);
     }
 
     // 이벤트 단건 조회 (권한: 소모임 멤버 또는 어드민)
-    public EventResponseDto getEvent(Long userId, Long gatheringId, Long eventId) {
+    // 이벤트 + 작성자 + 댓글 한 페이지는 한 번의 쿼리로 조회하고, 기본 첫 페이지는 이벤트 ID 기준으로 캐시
+    // 댓글 페이지 크기는 최대 MAX_COMMENT_PAGE_SIZE
+    @Transactional(readOnly = true)
+    public EventResponseDto getEvent(Long userId, Long gatheringId, Long eventId, int commentPage, int commentSize) {
         verifyViewPermission(userId, gatheringId);
 
-        Event event = getEventOrThrow(eventId);
-        long currentParticipantsCount = getParticipantCountRedis(eventId);
+        commentPage = Math.max(commentPage, 1);
+        commentSize = clamp(commentSize, MAX_COMMENT_PAGE_SIZE);
+        int commentOffset = (int) Math.min(PageRequest.of(commentPage - 1, commentSize).getOffset(), Integer.MAX_VALUE);
+        boolean defaultPage = commentPage == 1 && commentSize == DEFAULT_COMMENT_PAGE_SIZE;
+        EventDetail detail = (defaultPage
+                ? eventDetailCache.get(eventId, () -> eventRepositoryCustom.findEventDetail(eventId, 0, DEFAULT_COMMENT_PAGE_SIZE))
+                : eventRepositoryCustom.findEventDetail(eventId, commentOffset, commentSize))
+                .filter(found -> found.gatheringId().equals(gatheringId))
+                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_EVENT));
 
-        List<CommentResponseDto> commentResponseDtos = getCommentsForEvent(eventId);
+        // 종료된 이벤트는 Redis 키가 정리되었으므로 확정된 참가자 수 사용
+        long currentParticipantsCount = detail.isClosed()
+                ? detail.currentParticipants()
+                : eventParticipantCounter.getCount(eventId);
 
-        return EventResponseDto.of(event, userId, commentResponseDtos, currentParticipantsCount);
+        return EventResponseDto.of(detail, userId, currentParticipantsCount);
     }
 
     // 이벤트 삭제 (권한: 이벤트 생성자 또는 어드민)
     @Transactional
     public void deleteEvent(Long userId, Long gatheringId, Long eventId) {
-        User user = getUserOrThrow(userId);
-
-        if (!user.getUserRole().equals(UserRole.ROLE_ADMIN)) {
+        if (!accessControlService.isAdmin(userId)) {
             verifyDeletionPermission(userId, eventId, gatheringId);
         }
 
@@ -213,33 +247,38 @@ public class EventService {
         });
 
         eventRepository.delete(event);
+        eventDetailCache.evict(eventId);
+        accessControlService.evictEvent(eventId);
+        runAfterCommit(() -> {
+            eventWaitlistService.clear(eventId);
+            eventParticipantCounter.delete(eventId);
+        });
     }
 
-    // 이벤트 참가 (분산락, 권한: 어드민 불가, 이벤트 생성자 불가, 게더링 멤버 가능)
-    @DistributedLock(key = "event:{#eventId}:lock", waitTime = 10, leaseTime = 15)
+    // 이벤트 참가 (권한: 어드민 불가, 이벤트 생성자 불가, 게더링 멤버 가능)
+    // 중복 확인 · 정원 확인 · 좌석 예약은 Redis Lua 스크립트로 원자적으로 처리하므로 분산락을 사용하지 않음
     @Transactional(rollbackFor = ResponseCodeException.class)
-    public void joinEventWithLock(Long userId, Long eventId) {
-        User user = getUserOrThrow(userId);
+    public void joinEvent(Long userId, Long eventId) {
+        boolean isAdmin = accessControlService.isAdmin(userId);
         Event event = getEventOrThrow(eventId);
 
-        validateParticipation(user, event, userId);
-
-        if (isParticipantLimitExceeded(event.getMaxParticipants(), eventId)) {
-            throw new ResponseCodeException(ResponseCode.PARTICIPANT_LIMIT_EXCEEDED);
-        }
+        validateParticipation(isAdmin, event, userId);
+        validateOpen(event);
 
-        registerParticipant(user, event);
+        eventParticipantCounter.reserve(eventId, userId, event.getMaxParticipants());
+        releaseSeatOnRollback(eventId, userId, event.getMaxParticipants());
 
-        // 참가자에게 알림 전송
-        String message = "이벤트 참가 신청이 완료되었습니다.";
-        AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(userId, message);
+        // 유저 존재 여부는 권한 조회에서 확인했으므로 프록시로 참조
+        participantRepository.save(Participant.of(event, userRepository.getReferenceById(userId)));
+        accessControlService.evictParticipation(userId, eventId);
     }
 
     // 이벤트 취소 (분산락, 권한: 어드민 불가, 이벤트 생성자 불가)
+    // 반환된 좌석은 커밋 이후 대기열 맨 앞 유저에게 원자적으로 넘겨주고 승급 알림 전송
     @DistributedLock(key = "event:{#eventId}:lock", waitTime = 10, leaseTime = 15)
     @Transactional(rollbackFor = {ResponseCodeException.class})
     public void cancelParticipation(Long userId, Long eventId) {
-        User user = getUserOrThrow(userId);
+        boolean isAdmin = accessControlService.isAdmin(userId);
         Event event = getEventOrThrow(eventId);
 
         // 이벤트 참가 여부 확인
@@ -247,10 +286,12 @@ public class EventService {
                 .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_PARTICIPATED));
 
         // 취소 권한 확인
-        checkCancelPermission(user, event);
+        checkCancelPermission(isAdmin, userId, event);
+        validateOpen(event);
 
         // 참가자 제거
         removeParticipant(participant, event);
+        accessControlService.evictParticipation(userId, eventId);
 
         // 참가 취소 알림 전송
         String message = "이벤트 참가가 취소되었습니다.";
@@ -276,14 +317,11 @@ public class EventService {
 
 // ------- 권한 검증 메서드 -------
 
-    // 권한 검증: 어드민 또는 소모임 멤버인지 확인
+    // 권한 검증: 어드민 또는 소모임 멤버인지 확인 (캐시된 권한 정보 사용)
     private void checkPermission(Long userId, Long gatheringId, boolean forAdmin, boolean forMember) {
-        User user = getUserOrThrow(userId);
+        boolean isAdmin = accessControlService.isAdmin(userId);
 
-        boolean isAdmin = user.getUserRole().equals(UserRole.ROLE_ADMIN);
-        boolean isGatheringMember = eventRepositoryCustom.isUserInGathering(gatheringId, userId);
-
-        if ((forAdmin && isAdmin) || (forMember && isGatheringMember)) {
+        if ((forAdmin && isAdmin) || (forMember && accessControlService.isApprovedMember(userId, gatheringId))) {
             return;
         }
 
@@ -297,8 +335,7 @@ public class EventService {
 
     // 이벤트 삭제 권한 검증: 어드민이 아니고 이벤트 생성자가 아닌 경우
     private void verifyDeletionPermission(Long userId, Long eventId, Long gatheringId) {
-        boolean isGatheringMember = eventRepositoryCustom.isUserInGathering(gatheringId, userId);
-        if (!isGatheringMember) {
+        if (!accessControlService.isApprovedMember(userId, gatheringId)) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
 
@@ -312,10 +349,7 @@ public class EventService {
 
     // 소모임 멤버 여부 확인
     private void verifyMembership(Long userId, Long gatheringId) {
-        User user = getUserOrThrow(userId);
-        boolean isGatheringMember = eventRepositoryCustom.isUserInGathering(gatheringId, userId);
-
-        if (!isGatheringMember) {
+        if (!accessControlService.isApprovedMember(userId, gatheringId)) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
     }
@@ -334,11 +368,6 @@ public class EventService {
                 .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_EVENT));
     }
 
-    // 현재 참가자 수 조회
-    public long getParticipantCountRedis(Long eventId) {
-        return redissonClient.getAtomicLong("event:" + eventId + ":currentParticipants").get();
-    }
-
     // 소모임 조회
     private Gathering getGatheringOrThrow(Long gatheringId) {
         return gatheringRepository.findById(gatheringId)
@@ -351,24 +380,50 @@ public class EventService {
                 .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
     }
 
+    // 페이지 내 이벤트를 응답으로 변환
+    // 진행 중인 이벤트의 참가자 수는 한 번에 조회하고 (Redis 에 없는 경우 DB 참가자 기준으로 다시 채움), 종료된 이벤트는 확정된 값 사용
+    // 페이지 크기를 1 ~ max 로 제한
+    private int clamp(int size, int max) {
+        return Math.max(1, Math.min(size, max));
+    }
+
+    private Page<EventResponseDto> toResponsePage(Long userId, Page<Event> events) {
+        Map<Long, Long> participantCounts = eventParticipantCounter.getCounts(events.getContent().stream()
+                .filter(event -> !event.isClosed())
+                .map(Event::getId)
+                .toList());
+
+        return events.map(event -> EventResponseDto.of(event, userId, event.isClosed()
+                ? event.getCurrentParticipants()
+                : participantCounts.getOrDefault(event.getId(), 0L)));
+    }
+
 // ------- 생성 관련 메서드 -------
 
     // 이벤트 생성 인스턴스 생성
     private Event createEventInstance(EventCreateRequestDto requestDto, Gathering gathering, User user) {
-        return Event.of(requestDto.getTitle(), requestDto.getDescription(), requestDto.getDate(),
+        return Event.of(requestDto.getTitle(), requestDto.getDescription(), parseDate(requestDto.getDate()),
                 requestDto.getLocation(), requestDto.getMaxParticipants(), gathering, user);
     }
 
-    // Redis에 참가자 수 초기화
-    private void resetParticipantCount(Event event) {
-        String participantCountKey = "event:" + event.getId() + ":currentParticipants";
-        RAtomicLong currentParticipants = redissonClient.getAtomicLong(participantCountKey);
-        currentParticipants.set(1);
-        eventRepository.save(event);
+    // 'YYYY-MM-DD' 형식은 요청 검증에서 확인하고, 존재하지 않는 날짜(예: 2024-02-30)는 여기서 거절
+    private LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new ResponseCodeException(ResponseCode.INVALID_EVENT_DATE);
+        }
     }
 
 // ------- 참여 관련 메서드 -------
 
+    // 종료된 이벤트는 참가 / 취소 / 수정 불가
+    private void validateOpen(Event event) {
+        if (event.isClosed()) {
+            throw new ResponseCodeException(ResponseCode.EVENT_CLOSED);
+        }
+    }
+
     // 참가자 수 제한 검증
     private void validateParticipantLimit(Event event, int maxParticipants) {
         if (event.getCurrentParticipants() > maxParticipants) {
@@ -377,64 +432,38 @@ public class EventService {
     }
 
     // 이벤트 참가 조건 검증
-    private void validateParticipation(User user, Event event, Long userId) {
-        if (user.getUserRole().equals(UserRole.ROLE_ADMIN)) {
+    private void validateParticipation(boolean isAdmin, Event event, Long userId) {
+        if (isAdmin) {
             throw new ResponseCodeException(ResponseCode.ADMIN_CANNOT_PARTICIPATE);
         }
         if (event.getUser().getId().equals(userId)) {
             throw new ResponseCodeException(ResponseCode.EVENT_CREATOR_CANNOT_PARTICIPATE);
         }
-        if (participantRepository.findByEventAndUserId(event, userId).isPresent()) {
-            throw new ResponseCodeException(ResponseCode.ALREADY_PARTICIPATED);
-        }
-    }
-
-    // 참가자 수가 제한을 초과했는지 확인
-    private boolean isParticipantLimitExceeded(int maxParticipants, Long eventId) {
-        long currentCount = getParticipantCountRedis(eventId);
-        return currentCount >= maxParticipants;
-    }
-
-    // 참가자 등록
-    private void registerParticipant(User user, Event event) {
-        Participant participant = Participant.of(event, user);
-        participantRepository.save(participant);
-
-        long updatedCount = addParticipant(event.getId());
-        if (updatedCount > event.getMaxParticipants()) {
-            undoRegistration(participant, updatedCount);
-        }
-    }
-
-    // 참가자 등록 취소 및 롤백
-    private void undoRegistration(Participant participant, long updatedCount) {
-        removeParticipant(participant.getEvent().getId());
-        participantRepository.delete(participant);
-        throw new ResponseCodeException(ResponseCode.PARTICIPANT_LIMIT_EXCEEDED);
-    }
-
-    // Redis에서 참가자 수 증가
-    private long addParticipant(Long eventId) {
-        RAtomicLong currentParticipants = redissonClient.getAtomicLong("event:" + eventId + ":currentParticipants");
-        return currentParticipants.incrementAndGet();
     }
 
-    // Redis에서 참가자 수 감소
-    private void removeParticipant(Long eventId) {
-        RAtomicLong currentParticipants = redissonClient.getAtomicLong("event:" + eventId + ":currentParticipants");
-        if (currentParticipants.get() > 0) {
-            currentParticipants.decrementAndGet();
+    // 참가자 저장이 롤백되면 예약한 좌석 반환 (대기 중인 유저가 있으면 승급)
+    private void releaseSeatOnRollback(Long eventId, Long userId, int maxParticipants) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    eventWaitlistService.releaseAndPromote(eventId, userId, maxParticipants);
+                }
+            }
+        });
     }
 
 // ------- 취소 관련 메서드 -------
 
     // 취소 관련 조건 검증
-    private void checkCancelPermission(User user, Event event) {
-        if (user.getUserRole().equals(UserRole.ROLE_ADMIN)) {
+    private void checkCancelPermission(boolean isAdmin, Long userId, Event event) {
+        if (isAdmin) {
             throw new ResponseCodeException(ResponseCode.ADMIN_CANNOT_CANCEL_PARTICIPATION);
         }
-        if (event.getUser().getId().equals(user.getId())) {
+        if (event.getUser().getId().equals(userId)) {
             throw new ResponseCodeException(ResponseCode.EVENT_CREATOR_CANNOT_CANCEL);
         }
     }
@@ -443,16 +472,26 @@ public class EventService {
     private void removeParticipant(Participant participant, Event event) {
         event.removeParticipant(participant);
         participantRepository.delete(participant);
-        removeParticipant(event.getId());
-    }
 
-// ------- 조회 관련 메서드 -------
+        // 참가자 삭제가 커밋된 후 좌석 반환 + 대기열 승급
+        Long eventId = event.getId();
+        Long userId = participant.getUser().getId();
+        int maxParticipants = event.getMaxParticipants();
+        runAfterCommit(() -> eventWaitlistService.releaseAndPromote(eventId, userId, maxParticipants));
+    }
 
-    // 이벤트에 대한 댓글 조회
-    private List<CommentResponseDto> getCommentsForEvent(Long eventId) {
-        return commentRepository.findByEventId(eventId).stream()
-                .map(CommentResponseDto::of)
-                .collect(Collectors.toList());
+    // 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 바로 실행)
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
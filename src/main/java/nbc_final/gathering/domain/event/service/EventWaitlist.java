@@ -0,0 +1,110 @@
+package nbc_final.gathering.domain.event.service;
+
+import lombok.RequiredArgsConstructor;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static nbc_final.gathering.domain.event.service.EventParticipantCounter.countKey;
+import static nbc_final.gathering.domain.event.service.EventParticipantCounter.participantsKey;
+
+/**
+ * 정원이 찬 이벤트의 참가 대기열 (Redis)
+ * - event:{id}:waitlist    : 대기 userId ZSET (점수 = 등록 순번, 순번 조회는 ZRANK 로 O(log n))
+ * - event:{id}:waitlistSeq : 등록 순번
+ * 좌석 반환과 승급을 하나의 Lua 스크립트로 처리하므로 반환된 좌석은 새 참가 요청보다 대기열 맨 앞 유저에게 먼저 돌아갑니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventWaitlist {
+
+    private static final long ALREADY_PARTICIPATED = -1;
+    private static final long SEAT_AVAILABLE = -2;
+    private static final long NOT_INITIALIZED = -3;
+    private static final long NO_RELEASE = 0; // 좌석 반환 없이 승급만
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScript<Long> eventWaitlistJoinScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> eventWaitlistPromoteScript;
+    private final EventParticipantCounter eventParticipantCounter;
+
+    public static String waitlistKey(Long eventId) {
+        return "event:" + eventId + ":waitlist";
+    }
+
+    public static String sequenceKey(Long eventId) {
+        return "event:" + eventId + ":waitlistSeq";
+    }
+
+    /**
+     * 대기열에 등록하고 대기 순번(1부터)을 반환합니다. 이미 등록된 경우 기존 순번을 반환합니다.
+     * 이미 참가한 경우 ALREADY_PARTICIPATED, 빈 좌석이 있는 경우 SEAT_AVAILABLE 예외를 던집니다.
+     */
+    public long enqueue(Long eventId, Long userId, int maxParticipants) {
+        List<String> keys = List.of(participantsKey(eventId), countKey(eventId), waitlistKey(eventId), sequenceKey(eventId));
+        Long result = redisTemplate.execute(eventWaitlistJoinScript, keys, userId, maxParticipants, 0);
+
+        // 참가자 Set 또는 참가자 수가 없으면 DB 참가자로 채운 뒤 한 번 더 시도
+        if (result != null && result == NOT_INITIALIZED) {
+            eventParticipantCounter.rebuild(eventId);
+            result = redisTemplate.execute(eventWaitlistJoinScript, keys, userId, maxParticipants, 1);
+        }
+
+        if (result == null) {
+            throw new ResponseCodeException(ResponseCode.TRANSACTION_FAILED);
+        }
+        if (result == ALREADY_PARTICIPATED) {
+            throw new ResponseCodeException(ResponseCode.ALREADY_PARTICIPATED);
+        }
+        if (result == SEAT_AVAILABLE) {
+            throw new ResponseCodeException(ResponseCode.SEAT_AVAILABLE);
+        }
+        return result;
+    }
+
+    // 대기 순번 조회 (1부터, 대기 중이 아니면 null)
+    public Long position(Long eventId, Long userId) {
+        Long rank = redisTemplate.opsForZSet().rank(waitlistKey(eventId), userId);
+        return rank == null ? null : rank + 1;
+    }
+
+    // 대기 인원 수
+    public long size(Long eventId) {
+        Long size = redisTemplate.opsForZSet().zCard(waitlistKey(eventId));
+        return size == null ? 0 : size;
+    }
+
+    // 대기열에서 제거, 대기 중이었는지 반환
+    public boolean remove(Long eventId, Long userId) {
+        Long removed = redisTemplate.opsForZSet().remove(waitlistKey(eventId), userId);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 좌석을 반환하고 빈 좌석만큼 대기열 앞에서부터 참가자로 등록합니다.
+     *
+     * @param releasedUserId 좌석을 반환할 유저 (null 이면 반환 없이 승급만, 예: 정원 증가)
+     * @return 승급된 userId 목록 (대기 순서)
+     */
+    public List<Long> releaseAndPromote(Long eventId, Long releasedUserId, int maxParticipants) {
+        List<String> keys = List.of(participantsKey(eventId), countKey(eventId), waitlistKey(eventId));
+        List<?> promoted = redisTemplate.execute(eventWaitlistPromoteScript, keys,
+                releasedUserId == null ? NO_RELEASE : releasedUserId, maxParticipants);
+        if (promoted == null) {
+            return List.of();
+        }
+        return promoted.stream()
+                .map(userId -> Long.valueOf(String.valueOf(userId)))
+                .toList();
+    }
+
+    // 이벤트 삭제 시 대기열 제거
+    public void clear(Long eventId) {
+        redisTemplate.delete(List.of(waitlistKey(eventId), sequenceKey(eventId)));
+    }
+}
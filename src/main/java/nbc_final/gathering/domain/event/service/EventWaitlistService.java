@@ -0,0 +1,153 @@
+package nbc_final.gathering.domain.event.service;
+
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.alarmconfig.AlarmDto;
+import nbc_final.gathering.common.alarmconfig.AlarmService;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.event.dto.response.WaitlistResponseDto;
+import nbc_final.gathering.domain.event.entity.Event;
+import nbc_final.gathering.domain.event.entity.Participant;
+import nbc_final.gathering.domain.event.repository.EventRepository;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import nbc_final.gathering.domain.member.service.AccessControlService;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 정원이 찬 이벤트의 참가 대기열
+ * - 참가 요청을 재시도하는 대신 대기열에 한 번 등록하고 순번을 조회
+ * - 참가 취소 · 정원 증가로 좌석이 생기면 대기열 맨 앞 유저를 참가자로 승급하고 알림 전송
+ */
+@Slf4j
+@Service
+public class EventWaitlistService {
+
+    private final EventRepository eventRepository;
+    private final ParticipantRepository participantRepository;
+    private final UserRepository userRepository;
+    private final EventWaitlist eventWaitlist;
+    private final EventParticipantCounter eventParticipantCounter;
+    private final AccessControlService accessControlService;
+    private final AlarmService alarmService;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public EventWaitlistService(EventRepository eventRepository,
+                                ParticipantRepository participantRepository,
+                                UserRepository userRepository,
+                                EventWaitlist eventWaitlist,
+                                EventParticipantCounter eventParticipantCounter,
+                                AccessControlService accessControlService,
+                                AlarmService alarmService,
+                                PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.participantRepository = participantRepository;
+        this.userRepository = userRepository;
+        this.eventWaitlist = eventWaitlist;
+        this.eventParticipantCounter = eventParticipantCounter;
+        this.accessControlService = accessControlService;
+        this.alarmService = alarmService;
+        // 승급은 취소 트랜잭션 커밋 이후에 실행되므로 별도 트랜잭션으로 저장
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 대기열 등록 (권한: 어드민 불가, 이벤트 생성자 불가, 소모임 멤버 가능)
+    @Transactional(readOnly = true)
+    public WaitlistResponseDto joinWaitlist(Long userId, Long gatheringId, Long eventId) {
+        if (accessControlService.isAdmin(userId)) {
+            throw new ResponseCodeException(ResponseCode.ADMIN_CANNOT_PARTICIPATE);
+        }
+        verifyMembership(userId, gatheringId);
+
+        Event event = getEventOrThrow(gatheringId, eventId);
+        if (event.getUser().getId().equals(userId)) {
+            throw new ResponseCodeException(ResponseCode.EVENT_CREATOR_CANNOT_PARTICIPATE);
+        }
+        if (event.isClosed()) {
+            throw new ResponseCodeException(ResponseCode.EVENT_CLOSED);
+        }
+
+        long position = eventWaitlist.enqueue(eventId, userId, event.getMaxParticipants());
+        return WaitlistResponseDto.of(eventId, position, eventWaitlist.size(eventId));
+    }
+
+    // 대기 순번 조회
+    @Transactional(readOnly = true)
+    public WaitlistResponseDto getPosition(Long userId, Long gatheringId, Long eventId) {
+        verifyMembership(userId, gatheringId);
+        getEventOrThrow(gatheringId, eventId);
+
+        Long position = eventWaitlist.position(eventId, userId);
+        if (position == null) {
+            throw new ResponseCodeException(ResponseCode.NOT_IN_WAITLIST);
+        }
+        return WaitlistResponseDto.of(eventId, position, eventWaitlist.size(eventId));
+    }
+
+    // 대기열 등록 취소
+    @Transactional(readOnly = true)
+    public void leaveWaitlist(Long userId, Long gatheringId, Long eventId) {
+        verifyMembership(userId, gatheringId);
+        getEventOrThrow(gatheringId, eventId);
+
+        if (!eventWaitlist.remove(eventId, userId)) {
+            throw new ResponseCodeException(ResponseCode.NOT_IN_WAITLIST);
+        }
+    }
+
+    /**
+     * 좌석을 반환하고 빈 좌석만큼 대기열 맨 앞 유저를 참가자로 승급합니다.
+     * 참가 취소 트랜잭션이 커밋된 이후(또는 참가 저장이 롤백된 이후)에 호출합니다.
+     *
+     * @param releasedUserId 좌석을 반환할 유저 (null 이면 반환 없이 승급만)
+     */
+    public void releaseAndPromote(Long eventId, Long releasedUserId, int maxParticipants) {
+        List<Long> promotedUserIds = eventWaitlist.releaseAndPromote(eventId, releasedUserId, maxParticipants);
+        promotedUserIds.forEach(userId -> confirmPromotion(eventId, userId));
+    }
+
+    // 이벤트 삭제 시 대기열 제거
+    public void clear(Long eventId) {
+        eventWaitlist.clear(eventId);
+    }
+
+    // 승급된 유저를 참가자로 저장하고 알림 전송, 저장에 실패하면 좌석 반환
+    private void confirmPromotion(Long eventId, Long userId) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                Event event = eventRepository.findById(eventId)
+                        .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_EVENT));
+                participantRepository.save(Participant.of(event, userRepository.getReferenceById(userId)));
+                accessControlService.evictParticipation(userId, eventId);
+
+                String message = "대기 중이던 이벤트 '" + event.getTitle() + "'에 참가가 확정되었습니다.";
+                alarmService.sendAlarm(new AlarmDto.AlarmMessageReq(userId, message));
+            });
+            log.info("이벤트 대기열 승급: 이벤트 ID={}, 유저 ID={}", eventId, userId);
+        } catch (RuntimeException e) {
+            log.warn("이벤트 대기열 승급 저장 실패, 좌석 반환: 이벤트 ID={}, 유저 ID={}", eventId, userId, e);
+            eventParticipantCounter.release(eventId, userId);
+        }
+    }
+
+    // 소모임 멤버 여부 확인
+    private void verifyMembership(Long userId, Long gatheringId) {
+        if (!accessControlService.isApprovedMember(userId, gatheringId)) {
+            throw new ResponseCodeException(ResponseCode.FORBIDDEN);
+        }
+    }
+
+    // 소모임의 이벤트 확인
+    private Event getEventOrThrow(Long gatheringId, Long eventId) {
+        return eventRepository.findById(eventId)
+                .filter(event -> event.getGathering().getId().equals(gatheringId))
+                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_EVENT));
+    }
+}
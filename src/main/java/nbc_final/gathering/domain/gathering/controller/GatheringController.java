@@ -10,9 +10,12 @@ import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
 import nbc_final.gathering.domain.gathering.dto.GatheringElasticDto;
 import nbc_final.gathering.domain.gathering.dto.request.GatheringRequestDto;
+import nbc_final.gathering.domain.gathering.dto.response.GatheringRankingResponseDto;
 import nbc_final.gathering.domain.gathering.dto.response.GatheringResponseDto;
 import nbc_final.gathering.domain.gathering.dto.response.GatheringWithCountResponseDto;
+import nbc_final.gathering.domain.gathering.dto.response.NearbyGatheringResponseDto;
 import nbc_final.gathering.domain.gathering.service.GatheringService;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -103,6 +106,48 @@ public class GatheringController {
     }
 
 
+    /**
+     * 구간별 소모임 랭킹 조회
+     *
+     * @param window 집계 구간 (hour, day, week)
+     * @param page
+     * @param size
+     * @return
+     */
+    @Operation(summary = "구간별 소모임 랭킹 조회", description = "최근 1시간/24시간/7일 동안의 조회수 기준 소모임 랭킹을 페이지 단위로 조회합니다.")
+    @GetMapping("/v1/gatherings/ranking")
+    public ResponseEntity<ApiResponse<Page<GatheringRankingResponseDto>>> getGatheringRanking(
+            @RequestParam(defaultValue = "day") String window,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<GatheringRankingResponseDto> res = gatheringService.getGatheringRanking(window, page, size);
+        return ResponseEntity.ok(ApiResponse.createSuccess(res));
+    }
+
+    /**
+     * 주변 소모임 조회
+     *
+     * @param lat    위도
+     * @param lng    경도
+     * @param radius 반경 (km, 최대 50)
+     * @param page
+     * @param size
+     * @return
+     */
+    @Operation(summary = "주변 소모임 조회", description = "좌표 기준 반경 안의 소모임을 가까운 순으로 페이지 단위로 조회합니다.")
+    @GetMapping("/v1/gatherings/nearby")
+    public ResponseEntity<ApiResponse<Page<NearbyGatheringResponseDto>>> getNearbyGatherings(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "3") double radius,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<NearbyGatheringResponseDto> res = gatheringService.getNearbyGatherings(lat, lng, radius, page, size);
+        return ResponseEntity.ok(ApiResponse.createSuccess(res));
+    }
+
     /**
      * 소모임 다건 조회
      *
@@ -0,0 +1,13 @@
+package nbc_final.gathering.domain.gathering.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class GatheringRankingResponseDto {
+    private final long rank;
+    private final Long gatheringId;
+    private final String title;
+    private final long viewCount;
+}
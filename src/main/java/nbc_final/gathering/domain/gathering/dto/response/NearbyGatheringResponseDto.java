@@ -0,0 +1,32 @@
+package nbc_final.gathering.domain.gathering.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import nbc_final.gathering.domain.gathering.entity.Gathering;
+
+@Getter
+@AllArgsConstructor
+public class NearbyGatheringResponseDto {
+
+    private Long gatheringId;
+    private String title;
+    private String description;
+    private String gatheringImage;
+    private Integer gatheringMaxCount;
+    private Integer gatheringCount;
+    private String location;
+    private double distanceKm; // 검색 위치로부터 거리(km)
+
+    public static NearbyGatheringResponseDto of(Gathering gathering, double distanceKm) {
+        return new NearbyGatheringResponseDto(
+                gathering.getId(),
+                gathering.getTitle(),
+                gathering.getDescription(),
+                gathering.getGatheringImage(),
+                gathering.getGatheringMaxCount(),
+                gathering.getGatheringCount(),
+                gathering.getLocation(),
+                distanceKm
+        );
+    }
+}
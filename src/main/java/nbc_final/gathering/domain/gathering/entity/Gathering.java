@@ -16,6 +16,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -64,6 +65,11 @@ public class Gathering extends TimeStamped {
     @Column(length = 30, nullable = false)
     private String location;
 
+    // location 을 지오코딩한 좌표 (지오코딩 전이거나 실패하면 null)
+    private Double latitude;
+
+    private Double longitude;
+
     private long totalGatheringViewCount;
 
     private LocalDate displayDate;  // 광고 노출 희망일 필드 추가
@@ -113,6 +119,11 @@ public class Gathering extends TimeStamped {
         this.title = title;
         this.description = description;
         this.gatheringMaxCount = gatheringMaxCount;
+        if (!Objects.equals(location, this.location)) {
+            // 위치가 바뀌면 다시 지오코딩할 때까지 좌표 제거
+            this.latitude = null;
+            this.longitude = null;
+        }
         this.location = location;
     }
 
@@ -0,0 +1,19 @@
+package nbc_final.gathering.domain.gathering.enums;
+
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+
+import java.util.Arrays;
+
+// 소모임 랭킹 집계 구간 (HOUR : 현재 시간, DAY : 최근 24시간, WEEK : 최근 7일)
+public enum RankingWindow {
+
+    HOUR, DAY, WEEK;
+
+    public static RankingWindow of(String window) {
+        return Arrays.stream(RankingWindow.values())
+                .filter(w -> w.name().equalsIgnoreCase(window))
+                .findFirst()
+                .orElseThrow(() -> new ResponseCodeException(ResponseCode.INVALID_RANKING_WINDOW));
+    }
+}
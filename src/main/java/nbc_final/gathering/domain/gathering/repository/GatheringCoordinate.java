@@ -0,0 +1,5 @@
+package nbc_final.gathering.domain.gathering.repository;
+
+// 소모임 위치와 지오코딩한 좌표 (좌표가 없으면 null)
+public record GatheringCoordinate(Long id, String location, Double latitude, Double longitude) {
+}
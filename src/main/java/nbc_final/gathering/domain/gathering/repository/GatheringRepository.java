@@ -2,7 +2,9 @@ package nbc_final.gathering.domain.gathering.repository;
 
 import nbc_final.gathering.domain.gathering.entity.Gathering;
 import nbc_final.gathering.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
@@ -16,4 +18,16 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long>, Que
     @Query("SELECT g FROM Gathering g WHERE g.userId = :userId")
         // JPQL 쿼리 설정
     List<Gathering> findByUserId(@Param("userId") Long userId);
+
+    // 지오코딩한 좌표 저장 (그 사이 위치가 바뀌었다면 저장하지 않음)
+    @Modifying
+    @Query("UPDATE Gathering g SET g.latitude = :latitude, g.longitude = :longitude " +
+            "WHERE g.id = :gatheringId AND g.location = :location")
+    int updateCoordinate(@Param("gatheringId") Long gatheringId, @Param("location") String location,
+                         @Param("latitude") double latitude, @Param("longitude") double longitude);
+
+    // 위치 색인 보정용 (id 기준 키셋 페이지)
+    @Query("SELECT new nbc_final.gathering.domain.gathering.repository.GatheringCoordinate(g.id, g.location, g.latitude, g.longitude) " +
+            "FROM Gathering g WHERE g.id > :lastId ORDER BY g.id")
+    List<GatheringCoordinate> findCoordinatesAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package nbc_final.gathering.domain.gathering.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class GatheringViewCountBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 소모임별 누적 조회수 증가분을 한 번의 UPDATE ... CASE 쿼리로 반영합니다.
+     *
+     * @param viewCountIncrements 소모임 ID → 더할 조회수
+     * @return 갱신된 row 수
+     */
+    public int addTotalViewCounts(Map<Long, Long> viewCountIncrements) {
+        if (viewCountIncrements.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "UPDATE gatherings SET total_gathering_view_count = total_gathering_view_count + CASE id");
+        List<Object> params = new ArrayList<>(viewCountIncrements.size() * 3);
+
+        viewCountIncrements.forEach((gatheringId, increment) -> {
+            sql.append(" WHEN ? THEN ?");
+            params.add(gatheringId);
+            params.add(increment);
+        });
+
+        sql.append(" ELSE 0 END WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(viewCountIncrements.size(), "?")))
+                .append(")");
+        params.addAll(viewCountIncrements.keySet());
+
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+}
@@ -0,0 +1,239 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.gathering.repository.GatheringCoordinate;
+import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+import nbc_final.gathering.domain.location.service.LocationService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소모임 위치 색인 (Redis GEO)
+ * - gathering:geo : 소모임 ID -> 좌표 GEO Set
+ * - 소모임 생성 / 위치 변경 시 커밋 이후 별도 스레드에서 한 번만 지오코딩하고 좌표를 DB 와 GEO Set 에 저장
+ * - 주변 소모임 검색은 GEOSEARCH 한 번으로 처리하므로 요청마다 외부 API 를 호출하지 않습니다.
+ * - 위치가 바뀌면 커밋 이후 이전 좌표를 바로 GEO Set 에서 빼고, 새 좌표는 지오코딩 후 추가
+ * 지오코딩에 실패했거나 GEO Set 이 사라진 소모임은 매일 보정 작업이 DB 좌표(없으면 지오코딩)로 다시 색인합니다.
+ * 보정 작업은 지오코딩 스레드에서 실행하고, 여러 노드 중 임대(gathering:geo:backfill:lock)를 잡은 노드 하나만 실행합니다.
+ */
+@Slf4j
+@Component
+public class GatheringGeoIndex {
+
+    public static final String GEO_KEY = "gathering:geo";
+    public static final String BACKFILL_LOCK_KEY = "gathering:geo:backfill:lock";
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final Duration BACKFILL_LOCK_TTL = Duration.ofHours(1);
+    private static final int GEOCODE_THREADS = 2;
+    private static final int GEOCODE_QUEUE_CAPACITY = 1_000;
+
+    private final GatheringRepository gatheringRepository;
+    private final LocationService locationService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScript<Long> singleFlightReleaseScript;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor geocodeExecutor;
+    private final Counter indexed;
+    private final Counter failures;
+    private final Counter rejected;
+
+    public GatheringGeoIndex(GatheringRepository gatheringRepository,
+                             LocationService locationService,
+                             RedisTemplate<String, Object> redisTemplate,
+                             RedisScript<Long> singleFlightReleaseScript,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.gatheringRepository = gatheringRepository;
+        this.locationService = locationService;
+        this.redisTemplate = redisTemplate;
+        this.singleFlightReleaseScript = singleFlightReleaseScript;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 고정 크기 스레드 풀, 큐가 가득 차면 거부하고 기록 (빠진 소모임은 보정 작업에서 다시 색인)
+        this.geocodeExecutor = new ThreadPoolExecutor(GEOCODE_THREADS, GEOCODE_THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(GEOCODE_QUEUE_CAPACITY),
+                new CustomizableThreadFactory("gathering-geocode-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.indexed = meterRegistry.counter("gathering.geo.index", "result", "indexed");
+        this.failures = meterRegistry.counter("gathering.geo.index", "result", "failure");
+        this.rejected = meterRegistry.counter("gathering.geo.index", "result", "rejected");
+        meterRegistry.gauge("gathering.geo.queue.depth", geocodeExecutor, executor -> executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        geocodeExecutor.shutdown();
+    }
+
+    /**
+     * 커밋 이후 소모임 위치를 지오코딩해 색인합니다. (트랜잭션 밖이면 바로 예약)
+     */
+    public void index(Long gatheringId, String location) {
+        runAfterCommit(() -> submit("소모임 ID=" + gatheringId, () -> geocodeAndIndex(gatheringId, location)));
+    }
+
+    /**
+     * 위치가 바뀐 소모임을 커밋 이후 바로 색인에서 빼고, 새 위치를 지오코딩해 다시 색인합니다.
+     * (지오코딩이 끝나기 전까지 이전 좌표로 검색되지 않도록)
+     */
+    public void reindex(Long gatheringId, String location) {
+        runAfterCommit(() -> {
+            redisTemplate.opsForGeo().remove(GEO_KEY, gatheringId);
+            submit("소모임 ID=" + gatheringId, () -> geocodeAndIndex(gatheringId, location));
+        });
+    }
+
+    // 커밋 이후 색인에서 제거
+    public void remove(Long gatheringId) {
+        runAfterCommit(() -> redisTemplate.opsForGeo().remove(GEO_KEY, gatheringId));
+    }
+
+    /**
+     * 좌표 기준 반경 안의 소모임을 가까운 순으로 최대 limit 개 조회합니다.
+     */
+    public List<NearbyGathering> search(double latitude, double longitude, double radiusKm, int limit) {
+        GeoResults<RedisGeoCommands.GeoLocation<Object>> results = redisTemplate.opsForGeo().search(GEO_KEY,
+                GeoReference.fromCoordinate(longitude, latitude),
+                new Distance(radiusKm, Metrics.KILOMETERS),
+                RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending().limit(limit));
+        if (results == null) {
+            return List.of();
+        }
+        return results.getContent().stream()
+                .map(result -> new NearbyGathering(
+                        Long.valueOf(String.valueOf(result.getContent().getName())),
+                        result.getDistance().getValue()))
+                .toList();
+    }
+
+    // 매일 04:30 좌표가 없는 소모임 지오코딩 + GEO Set 다시 채움 (스케줄러 스레드를 붙잡지 않도록 지오코딩 스레드에서 실행)
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void backfillScheduled() {
+        submit("위치 색인 보정", this::backfillWithLock);
+    }
+
+    /**
+     * 보정 임대를 잡은 경우에만 보정 작업을 실행합니다. 다른 노드가 실행 중이면 건너뜁니다.
+     *
+     * @return 색인한 소모임 수, 건너뛰었으면 -1
+     */
+    int backfillWithLock() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(BACKFILL_LOCK_KEY, token, BACKFILL_LOCK_TTL))) {
+            log.info("다른 노드가 소모임 위치 색인 보정 중이므로 건너뜁니다.");
+            return -1;
+        }
+        try {
+            return backfill();
+        } finally {
+            redisTemplate.execute(singleFlightReleaseScript, List.of(BACKFILL_LOCK_KEY), token);
+        }
+    }
+
+    /**
+     * 모든 소모임을 다시 색인합니다. 좌표가 있으면 그대로 사용하고 없으면 지오코딩합니다.
+     *
+     * @return 색인한 소모임 수
+     */
+    public int backfill() {
+        int count = 0;
+        long lastId = 0;
+        List<GatheringCoordinate> batch;
+        while (!(batch = gatheringRepository.findCoordinatesAfter(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE))).isEmpty()) {
+            Map<Object, Point> points = new HashMap<>();
+            for (GatheringCoordinate gathering : batch) {
+                if (gathering.latitude() != null && gathering.longitude() != null) {
+                    points.put(gathering.id(), new Point(gathering.longitude(), gathering.latitude()));
+                } else if (geocodeAndIndex(gathering.id(), gathering.location())) {
+                    count++;
+                }
+            }
+            if (!points.isEmpty()) {
+                redisTemplate.opsForGeo().add(GEO_KEY, points);
+                count += points.size();
+            }
+            lastId = batch.get(batch.size() - 1).id();
+        }
+
+        log.info("소모임 위치 색인 보정 완료: {}개", count);
+        return count;
+    }
+
+    // 지오코딩 → DB 좌표 저장 → GEO Set 추가, 실패하면 기록만 (보정 작업에서 다시 시도)
+    boolean geocodeAndIndex(Long gatheringId, String location) {
+        try {
+            CoordinateDto coordinate = locationService.getCoordinateDto(location);
+            Integer updated = transactionTemplate.execute(status -> gatheringRepository.updateCoordinate(
+                    gatheringId, location, coordinate.getLatitude(), coordinate.getLongitude()));
+            if (updated == null || updated == 0) {
+                // 그 사이 삭제되었거나 위치가 바뀜 (바뀐 위치는 다시 예약된 작업이 색인)
+                return false;
+            }
+
+            redisTemplate.opsForGeo().add(GEO_KEY,
+                    new Point(coordinate.getLongitude(), coordinate.getLatitude()), gatheringId);
+            indexed.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("소모임 위치 색인 실패: 소모임 ID={}, 위치={}, {}", gatheringId, location, e.getMessage());
+            return false;
+        }
+    }
+
+    // 지오코딩 스레드에서 실행, 대기열이 가득 차면 거부 수를 기록 (보정 작업에서 다시 색인)
+    private void submit(String description, Runnable task) {
+        try {
+            geocodeExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("소모임 위치 색인 대기열 초과로 생략: {}, 대기 {}건", description, geocodeExecutor.getQueue().size());
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 주변 소모임 검색 결과 (소모임 ID, 거리 km)
+    public record NearbyGathering(Long gatheringId, double distanceKm) {
+    }
+}
@@ -0,0 +1,298 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.gathering.dto.response.GatheringRankingResponseDto;
+import nbc_final.gathering.domain.gathering.entity.Gathering;
+import nbc_final.gathering.domain.gathering.enums.RankingWindow;
+import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소모임 조회수 랭킹
+ * - 조회 시 gatheringId 를 멤버로 시간 버킷(gatheringRanking:hour:{yyyyMMddHH}), 일 버킷(gatheringRanking:day:{yyyyMMdd})에 반영
+ * - DAY(최근 24시간), WEEK(최근 7일) 구간은 버킷을 ZUNIONSTORE 로 합쳐 짧게 캐싱 (Lua 스크립트로 확인 + 생성을 원자적으로 처리)
+ * - 소모임 삭제 시 남아 있는 버킷에서 제거해 페이지 전체 개수에 포함되지 않도록 함
+ * - 제목은 gatheringTitle:{id} 를 MGET 으로 한 번에 조회하고, 없는 것만 DB 에서 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GatheringRankingService {
+
+    public static final long HOUR_BUCKET_TTL_SECONDS = TimeUnit.HOURS.toSeconds(26);
+    public static final long DAY_BUCKET_TTL_SECONDS = TimeUnit.DAYS.toSeconds(8);
+    public static final long TITLE_CACHE_TTL_SECONDS = TimeUnit.HOURS.toSeconds(24);
+
+    private static final String RANKING_KEY_PREFIX = "gatheringRanking:";
+    private static final String TITLE_KEY_PREFIX = "gatheringTitle:";
+    private static final long WINDOW_CACHE_TTL_MILLIS = TimeUnit.SECONDS.toMillis(60);
+    // 남은 TTL 이 이보다 짧은 구간 ZSET 은 읽는 도중 만료되지 않도록 다시 생성
+    private static final long WINDOW_CACHE_MIN_REMAINING_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    // 버킷별로 유지할 상위 소모임 수 (주기적으로 나머지를 정리)
+    private static final int BUCKET_RETAIN_SIZE = 1000;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final DateTimeFormatter HOUR_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final GatheringRepository gatheringRepository;
+    private final RedisScript<Long> gatheringRankingWindowScript;
+
+    public static String hourBucketKey(LocalDateTime dateTime) {
+        return RANKING_KEY_PREFIX + "hour:" + dateTime.format(HOUR_BUCKET_FORMAT);
+    }
+
+    public static String dayBucketKey(LocalDate date) {
+        return RANKING_KEY_PREFIX + "day:" + date.format(DAY_BUCKET_FORMAT);
+    }
+
+    public static String titleKey(Long gatheringId) {
+        return TITLE_KEY_PREFIX + gatheringId;
+    }
+
+    /**
+     * 구간별 소모임 랭킹을 페이지 단위로 조회합니다.
+     *
+     * @param window 집계 구간
+     * @param page   페이지 번호 (1부터 시작)
+     * @param size   페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    public Page<GatheringRankingResponseDto> getRanking(RankingWindow window, int page, int size) {
+        return getRanking(window, page, size, LocalDateTime.now());
+    }
+
+    Page<GatheringRankingResponseDto> getRanking(RankingWindow window, int page, int size, LocalDateTime now) {
+        String rankingKey = windowKey(window, now);
+        // 크기가 0 이하면 ZREVRANGE 0 -1 로 전체 랭킹을 읽으므로 1 ~ MAX_PAGE_SIZE 로 제한
+        PageRequest pageable = PageRequest.of(Math.max(page, 1) - 1, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+
+        Long total = countWindow(window, rankingKey, now);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+
+        long start = pageable.getOffset();
+        Set<ZSetOperations.TypedTuple<Object>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(rankingKey, start, start + pageable.getPageSize() - 1);
+
+        List<Long> gatheringIds = tuples.stream()
+                .map(tuple -> toGatheringId(tuple.getValue()))
+                .toList();
+        Map<Long, String> titles = getTitles(gatheringIds);
+
+        List<GatheringRankingResponseDto> content = new ArrayList<>(tuples.size());
+        long rank = start;
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            rank++;
+            Long gatheringId = toGatheringId(tuple.getValue());
+            String title = titles.get(gatheringId);
+
+            // 삭제된 소모임은 랭킹 응답에서 제외
+            if (title != null) {
+                content.add(new GatheringRankingResponseDto(rank, gatheringId, title, tuple.getScore().longValue()));
+            }
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 오늘의 인기 소모임 상위 N개를 (제목 → 조회수) 로 반환합니다.
+     */
+    public Map<String, Integer> getTodayTopTitles(int count) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(dayBucketKey(LocalDate.now()), 0, count - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> titles = getTitles(tuples.stream().map(tuple -> toGatheringId(tuple.getValue())).toList());
+
+        Map<String, Integer> topTitles = new LinkedHashMap<>();
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            String title = titles.get(toGatheringId(tuple.getValue()));
+            if (title != null) {
+                topTitles.merge(title, tuple.getScore().intValue(), Integer::sum);
+            }
+        }
+        return topTitles;
+    }
+
+    // 제목 변경 시 제목 캐시 제거
+    public void evictTitle(Long gatheringId) {
+        redisTemplate.unlink(titleKey(gatheringId));
+    }
+
+    /**
+     * 커밋 이후 삭제된 소모임을 남아 있는 시간/일 버킷, 구간 ZSET, 제목 캐시에서 제거합니다.
+     */
+    public void removeGathering(Long gatheringId) {
+        runAfterCommit(() -> removeFromRankings(gatheringId, LocalDateTime.now()));
+    }
+
+    void removeFromRankings(Long gatheringId, LocalDateTime now) {
+        List<String> rankingKeys = new ArrayList<>();
+        // 버킷 TTL 동안 남아 있을 수 있는 시간 버킷 (26시간), 일 버킷 (8일)
+        for (int i = 0; i < TimeUnit.SECONDS.toHours(HOUR_BUCKET_TTL_SECONDS); i++) {
+            rankingKeys.add(hourBucketKey(now.minusHours(i)));
+        }
+        for (int i = 0; i < TimeUnit.SECONDS.toDays(DAY_BUCKET_TTL_SECONDS); i++) {
+            rankingKeys.add(dayBucketKey(now.toLocalDate().minusDays(i)));
+        }
+        rankingKeys.add(windowKey(RankingWindow.DAY, now));
+        rankingKeys.add(windowKey(RankingWindow.WEEK, now));
+
+        RedisSerializer<String> keySerializer = redisTemplate.getStringSerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] member = rawValue(gatheringId);
+            for (String rankingKey : rankingKeys) {
+                connection.zSetCommands().zRem(keySerializer.serialize(rankingKey), member);
+            }
+            connection.keyCommands().del(keySerializer.serialize(titleKey(gatheringId)));
+            return null;
+        });
+    }
+
+    /**
+     * 현재/직전 시간 버킷과 오늘 버킷을 상위 BUCKET_RETAIN_SIZE 개만 남기고 정리합니다.
+     */
+    public void trimRankings() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> bucketKeys = List.of(
+                hourBucketKey(now),
+                hourBucketKey(now.minusHours(1)),
+                dayBucketKey(now.toLocalDate())
+        );
+
+        long removed = 0;
+        for (String bucketKey : bucketKeys) {
+            Long count = redisTemplate.opsForZSet().removeRange(bucketKey, 0, -(BUCKET_RETAIN_SIZE + 1));
+            removed += count == null ? 0 : count;
+        }
+        log.info("소모임 랭킹 버킷 정리 완료: {}개 제거", removed);
+    }
+
+    // 구간에 해당하는 ZSET 키 (HOUR 는 현재 시간 버킷, DAY, WEEK 는 버킷을 합친 구간 ZSET)
+    private String windowKey(RankingWindow window, LocalDateTime now) {
+        if (window == RankingWindow.HOUR) {
+            return hourBucketKey(now);
+        }
+        return RANKING_KEY_PREFIX + "window:" + window.name().toLowerCase();
+    }
+
+    // 구간 ZSET 의 소모임 수 (DAY, WEEK 는 구간 ZSET 이 없거나 곧 만료되면 버킷을 합쳐 다시 생성)
+    private Long countWindow(RankingWindow window, String rankingKey, LocalDateTime now) {
+        if (window == RankingWindow.HOUR) {
+            return redisTemplate.opsForZSet().zCard(rankingKey);
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(rankingKey);
+        if (window == RankingWindow.DAY) {
+            for (int i = 0; i < 24; i++) {
+                keys.add(hourBucketKey(now.minusHours(i)));
+            }
+        } else {
+            for (int i = 0; i < 7; i++) {
+                keys.add(dayBucketKey(now.toLocalDate().minusDays(i)));
+            }
+        }
+
+        return redisTemplate.execute(gatheringRankingWindowScript, keys,
+                WINDOW_CACHE_TTL_MILLIS, WINDOW_CACHE_MIN_REMAINING_MILLIS);
+    }
+
+    // 제목 캐시를 MGET 으로 한 번에 조회하고, 없는 제목만 DB 에서 조회 후 파이프라인으로 캐싱
+    private Map<Long, String> getTitles(List<Long> gatheringIds) {
+        Map<Long, String> titles = new HashMap<>();
+        if (gatheringIds.isEmpty()) {
+            return titles;
+        }
+
+        List<Object> cachedTitles = redisTemplate.opsForValue()
+                .multiGet(gatheringIds.stream().map(GatheringRankingService::titleKey).toList());
+
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < gatheringIds.size(); i++) {
+            Object cachedTitle = cachedTitles == null ? null : cachedTitles.get(i);
+            if (cachedTitle != null) {
+                titles.put(gatheringIds.get(i), cachedTitle.toString());
+            } else {
+                missingIds.add(gatheringIds.get(i));
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<Long, String> loadedTitles = new HashMap<>();
+            for (Gathering gathering : gatheringRepository.findAllById(missingIds)) {
+                loadedTitles.put(gathering.getId(), gathering.getTitle());
+            }
+            cacheTitles(loadedTitles);
+            titles.putAll(loadedTitles);
+        }
+
+        return titles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void cacheTitles(Map<Long, String> titles) {
+        if (titles.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<String> keySerializer = redisTemplate.getStringSerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            titles.forEach((gatheringId, title) -> connection.stringCommands().setEx(
+                    keySerializer.serialize(titleKey(gatheringId)), TITLE_CACHE_TTL_SECONDS, valueSerializer.serialize(title)));
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // ZSET 멤버(gatheringId) 를 Long 으로 변환
+    private Long toGatheringId(Object member) {
+        return Long.valueOf(String.valueOf(member));
+    }
+}
@@ -1,41 +1,41 @@
 package nbc_final.gathering.domain.gathering.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nbc_final.gathering.common.alarmconfig.AlarmDto;
 import nbc_final.gathering.common.alarmconfig.AlarmService;
-import nbc_final.gathering.common.config.redis.RedisLimiter;
 import nbc_final.gathering.common.dto.AuthUser;
 import nbc_final.gathering.common.elasticsearch.GatheringElasticSearchRepository;
 import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
 import nbc_final.gathering.domain.gathering.dto.GatheringElasticDto;
 import nbc_final.gathering.domain.gathering.dto.request.GatheringRequestDto;
+import nbc_final.gathering.domain.gathering.dto.response.GatheringRankingResponseDto;
 import nbc_final.gathering.domain.gathering.dto.response.GatheringResponseDto;
 import nbc_final.gathering.domain.gathering.dto.response.GatheringWithCountResponseDto;
+import nbc_final.gathering.domain.gathering.dto.response.NearbyGatheringResponseDto;
 import nbc_final.gathering.domain.gathering.entity.Gathering;
+import nbc_final.gathering.domain.gathering.enums.RankingWindow;
 import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
 import nbc_final.gathering.domain.member.entity.Member;
 import nbc_final.gathering.domain.member.enums.MemberRole;
 import nbc_final.gathering.domain.member.enums.MemberStatus;
 import nbc_final.gathering.domain.member.repository.MemberRepository;
+import nbc_final.gathering.domain.member.service.AccessControlService;
 import nbc_final.gathering.domain.user.entity.User;
 import nbc_final.gathering.domain.user.enums.UserRole;
 import nbc_final.gathering.domain.user.repository.UserRepository;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,14 +44,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GatheringService {
 
-    public static final String TODAY_RANKING_KEY = "todayGatheringRanking";
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_RESULTS = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final GatheringRepository gatheringRepository;
     private final UserRepository userRepository;
     private final MemberRepository memberRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
     private final AlarmService alarmService;
     private final GatheringElasticSearchRepository gatheringElasticSearchRepository;
-    private final RedisLimiter redisLimiter;
+    private final GatheringViewCounter gatheringViewCounter;
+    private final GatheringRankingService gatheringRankingService;
+    private final UserGatheringCache userGatheringCache;
+    private final AccessControlService accessControlService;
+    private final GatheringGeoIndex gatheringGeoIndex;
 
     private static void validateMaxCount(GatheringRequestDto gatheringRequestDto, Gathering gathering) {
         // 변경하려는 최대 인원이 소모임의 현재 인원보다 적은 경우
@@ -127,6 +133,13 @@ public class GatheringService {
         gatheringElasticSearchRepository.save(gatheringElasticDto); //엘라스틱 서치 추가
         memberRepository.save(member);
 
+        // 커밋 이후 위치 지오코딩 + 위치 색인 추가 (비동기)
+        gatheringGeoIndex.index(savedGathering.getId(), savedGathering.getLocation());
+
+        // 주최자의 가입 소모임 목록, 권한 캐시 무효화
+        userGatheringCache.evict(user.getId());
+        accessControlService.evictMembership(user.getId(), savedGathering.getId());
+
         // 알림 요청을 위한 AlarmMessageReq 객체 생성
         AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(
                 user.getId(), "새로운 소모임이 생성되었습니다."
@@ -140,26 +153,16 @@ public class GatheringService {
     // 소모임 단 건 조회 로직
     public GatheringWithCountResponseDto getGathering(AuthUser authUser, Long gatheringId) {
 
-        // 레이트 리미팅 체크 (10초 동안 최대 5번 허용)
-        boolean isAllowed = redisLimiter.isAllowed(authUser, "getGathering" + gatheringId, 10, 5);
-
-        if (!isAllowed) {
-            throw new ResponseCodeException(ResponseCode.TOO_MANY_REQUSETS);
-        }
-
         // 소모임 조회
         Gathering gathering = findGatheringById(gatheringId);
-        // Redis Set 의 Key 설정
-        String todayGatheringViewSetKey = "todayGatheringSet:" + gatheringId;
 
-        // 유저 ID를 Set 에 추가하고, 반환된 값으로 추가 성공 여부 확인
-        redisTemplate.opsForSet().add(todayGatheringViewSetKey, authUser.getUserId());
+        // 레이트 리미팅(5초 동안 최대 10번), 조회 기록, 랭킹 반영, Top3 유지를 하나의 스크립트로 처리
+        Long todayGatheringViewCount =
+                gatheringViewCounter.recordView(authUser.getUserId(), gatheringId, gathering.getTitle());
 
-        // 조회수를 Set의 크기로 계산
-        Long todayGatheringViewCount = redisTemplate.opsForSet().size(todayGatheringViewSetKey);
-
-        // 가장 인기 있는 Top3 카드 업데이트
-        updateTopGatheringTitles(gatheringId, authUser);
+        if (todayGatheringViewCount == null || todayGatheringViewCount < 0) {
+            throw new ResponseCodeException(ResponseCode.TOO_MANY_REQUSETS);
+        }
 
         // Dto 반환
         return new GatheringWithCountResponseDto(gathering, todayGatheringViewCount);
@@ -167,47 +170,53 @@ public class GatheringService {
 
     // 인기 소모임 Top3 조회 ( redis )
     public Map<String, Integer> getTopViewGatheringList() {
-        Set<ZSetOperations.TypedTuple<Object>> topGatheringsWithScores =
-                redisTemplate.opsForZSet().reverseRangeWithScores(TODAY_RANKING_KEY, 0, 2);
-
-        return topGatheringsWithScores.stream()
-                .collect(Collectors.toMap(
-                        tuple -> tuple.getValue().toString(), // title
-                        tuple -> tuple.getScore().intValue()  // 조회수 ( score )
-                ));
+        return gatheringRankingService.getTodayTopTitles(3);
     }
 
-    // 유저가 가입한 소모임 다 건 조회 로직
-    public List<GatheringResponseDto> getAllGatherings(AuthUser authUser) {
-        String cacheKey = "userGathering:" + authUser.getUserId();
-        ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        // Redis에서 캐시 조회
-        Object cachedData = valueOperations.get(cacheKey);
-        if (cachedData != null) {
-            // JSON 형식으로 저장된 데이터를 List<GatheringResponseDto>로 역직렬화
-            return objectMapper.convertValue(cachedData, new TypeReference<List<GatheringResponseDto>>() {
-            });
-        }
-
-        List<Member> members = memberRepository.findByUserId(authUser.getUserId());
-
-        // 각 Member가 참여한 소모임을 모두 조회
-        List<GatheringResponseDto> gatheringResponses = new ArrayList<>();
+    // 구간별 소모임 랭킹 조회 ( redis )
+    public Page<GatheringRankingResponseDto> getGatheringRanking(String window, int page, int size) {
+        return gatheringRankingService.getRanking(RankingWindow.of(window), page, size);
+    }
 
-        for (Member member : members) {
-            Gathering gathering = findGatheringByMember(member);
-            if (gathering != null && (member.getStatus() == MemberStatus.APPROVED)) {
-                gatheringResponses.add(GatheringResponseDto.of(gathering));
-            }
+    // 주변 소모임 조회 ( redis GEO, 가까운 순, 페이지 크기는 최대 MAX_PAGE_SIZE )
+    public Page<NearbyGatheringResponseDto> getNearbyGatherings(double latitude, double longitude, double radiusKm,
+                                                                int page, int size) {
+        if (latitude < -85 || latitude > 85 || longitude < -180 || longitude > 180
+                || radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new ResponseCodeException(ResponseCode.INVALID_COORDINATE);
         }
 
-        // Redis에 캐싱
-        valueOperations.set(cacheKey, gatheringResponses, 10, TimeUnit.MINUTES);
+        // 가까운 순 최대 MAX_NEARBY_RESULTS 개까지만 페이지로 나눔
+        List<GatheringGeoIndex.NearbyGathering> nearby =
+                gatheringGeoIndex.search(latitude, longitude, radiusKm, MAX_NEARBY_RESULTS);
+        PageRequest pageable = PageRequest.of(Math.max(page, 1) - 1, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        List<GatheringGeoIndex.NearbyGathering> pageContent = nearby.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+
+        // 현재 페이지의 소모임만 한 번에 조회 (색인에만 남은 삭제된 소모임은 제외)
+        Map<Long, Gathering> gatherings = gatheringRepository.findAllById(pageContent.stream()
+                        .map(GatheringGeoIndex.NearbyGathering::gatheringId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Gathering::getId, Function.identity()));
+        List<NearbyGatheringResponseDto> content = pageContent.stream()
+                .filter(result -> gatherings.containsKey(result.gatheringId()))
+                .map(result -> NearbyGatheringResponseDto.of(gatherings.get(result.gatheringId()), result.distanceKm()))
+                .toList();
+
+        return new PageImpl<>(content, pageable, nearby.size());
+    }
 
-        // DTO List 변환
-        return gatheringResponses;
+    // 유저가 가입한 소모임 다 건 조회 로직 (L1 로컬 캐시 → L2 Redis → DB)
+    public List<GatheringResponseDto> getAllGatherings(AuthUser authUser) {
+        Long userId = authUser.getUserId();
+
+        return userGatheringCache.get(userId, () ->
+                // 승인된 멤버 정보와 소모임을 한 번의 fetch join 쿼리로 조회
+                memberRepository.findAllWithGatheringByUserIdAndStatus(userId, MemberStatus.APPROVED).stream()
+                        .map(member -> GatheringResponseDto.of(member.getGathering()))
+                        .toList());
     }
 
     // 소모임 수정 로직
@@ -222,7 +231,8 @@ public class GatheringService {
         // MaxCount 체크
         validateMaxCount(gatheringRequestDto, gathering);
 
-        // 소모임 정보 업데이트
+        // 소모임 정보 업데이트 (위치가 바뀌면 좌표 초기화)
+        boolean locationChanged = !gathering.getLocation().equals(gatheringRequestDto.getLocation());
         gathering.updateDetails(gatheringRequestDto.getTitle(),
                 gatheringRequestDto.getDescription(),
                 gatheringRequestDto.getGatheringMaxCount(),
@@ -231,25 +241,19 @@ public class GatheringService {
         // 소모임 저장
         gatheringRepository.save(gathering);
 
-        // 소모임에 속한 모든 멤버에게 알림 전송
-        gathering.getMembers().forEach(member -> {
-            String message = gathering.getTitle() + " 소모임이 수정되었습니다.";
-
-            // 호스트에게는 동일한 메시지를 전송
-            if (member.getRole() == MemberRole.HOST) {
-                AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(
-                        member.getUser().getId(), message
-                );
-                alarmService.sendAlarm(alarmMessageReq);  // AlarmService를 사용하여 알림 전송
-            }
-            // 승인된 게스트에게는 수정된 소모임에 대한 메시지를 전송
-            else if (member.getStatus() == MemberStatus.APPROVED && member.getRole() == MemberRole.GUEST) {
-                AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(
-                        member.getUser().getId(), message
-                );
-                alarmService.sendAlarm(alarmMessageReq);  // AlarmService를 사용하여 알림 전송
-            }
-        });
+        // 랭킹 제목 캐시 제거 (변경된 제목으로 다시 채워짐)
+        gatheringRankingService.evictTitle(gatheringId);
+
+        // 위치가 바뀌었으면 커밋 이후 다시 지오코딩 + 위치 색인 갱신 (비동기)
+        if (locationChanged) {
+            gatheringGeoIndex.reindex(gatheringId, gathering.getLocation());
+        }
+
+        // 멤버들의 가입 소모임 목록 캐시 무효화
+        userGatheringCache.evict(memberUserIds(gathering));
+
+        // 소모임의 호스트와 승인된 게스트에게 알림 일괄 전송 (커밋 이후 비동기)
+        alarmService.sendAlarmToAll(alarmRecipientIds(gathering), gathering.getTitle() + " 소모임이 수정되었습니다.");
         // 업데이트된 정보를 DTO로 반환
         return GatheringResponseDto.of(gathering);
     }
@@ -264,34 +268,24 @@ public class GatheringService {
         // 사용자 권한 검증 (HOST or ADMIN)
         validateHostAndAdminPermission(authUser, gathering);
 
-        // 승인된 멤버들을 조회
-        List<Member> approvedMembers = memberRepository.findAllByGatheringAndStatus(gathering, MemberStatus.APPROVED);
-
-        // 소모임에 속한 모든 승인된 멤버에게 알림 전송
-        gathering.getMembers().forEach(member -> {
-            String message = gathering.getTitle() + " 소모임이 삭제되었습니다.";
-
-            // 호스트에게 알림 전송
-            if (member.getRole() == MemberRole.HOST) {
-                AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(
-                        member.getUser().getId(), message
-                );
-                alarmService.sendAlarm(alarmMessageReq);  // AlarmService를 사용하여 알림 전송
-            }
-            // 승인된 게스트에게만 알림 전송
-            else if (member.getStatus() == MemberStatus.APPROVED && member.getRole() == MemberRole.GUEST) {
-                AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(
-                        member.getUser().getId(), message
-                );
-                alarmService.sendAlarm(alarmMessageReq);  // AlarmService를 사용하여 알림 전송
-            }
-        });
+        // 소모임의 호스트와 승인된 게스트에게 알림 일괄 전송 (커밋 이후 비동기)
+        alarmService.sendAlarmToAll(alarmRecipientIds(gathering), gathering.getTitle() + " 소모임이 삭제되었습니다.");
+
+        // 멤버들의 가입 소모임 목록 캐시 무효화 (멤버 삭제 전에 대상 수집)
+        userGatheringCache.evict(memberUserIds(gathering));
 
         // 모임과 관련된 멤버 삭제
         memberRepository.deleteByGathering(gathering); // 모임에 속한 멤버를 삭제하는 메서드
+        accessControlService.evictGathering(gatheringId); // 멤버 권한 캐시 무효화
 
         // 모임 삭제
         gatheringRepository.delete(gathering);
+
+        // 커밋 이후 랭킹 버킷 · 제목 캐시에서 제거 (랭킹 전체 개수에서도 빠짐)
+        gatheringRankingService.removeGathering(gatheringId);
+
+        // 커밋 이후 위치 색인에서 제거
+        gatheringGeoIndex.remove(gatheringId);
     }
 
     private User findUserById(AuthUser authUser) {
@@ -299,6 +293,21 @@ public class GatheringService {
                 () -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
     }
 
+    // 알림 대상 : 호스트와 승인된 게스트
+    private List<Long> alarmRecipientIds(Gathering gathering) {
+        return gathering.getMembers().stream()
+                .filter(member -> member.getRole() == MemberRole.HOST
+                        || (member.getRole() == MemberRole.GUEST && member.getStatus() == MemberStatus.APPROVED))
+                .map(member -> member.getUser().getId())
+                .toList();
+    }
+
+    private List<Long> memberUserIds(Gathering gathering) {
+        return gathering.getMembers().stream()
+                .map(member -> member.getUser().getId())
+                .toList();
+    }
+
     private List<Member> findMembersByUserId(AuthUser authUser) {
         List<Member> members = memberRepository.findByUserId(authUser.getUserId());
 
@@ -308,12 +317,6 @@ public class GatheringService {
         return members;
     }
 
-    private Gathering findGatheringByMember(Member member) {
-        return gatheringRepository.findByMembers(member).orElseThrow(
-                () -> new ResponseCodeException(ResponseCode.NOT_FOUND_GATHERING)
-        );
-    }
-
     private Gathering findGatheringById(Long gatheringId) {
         return gatheringRepository.findById(gatheringId).orElseThrow(
                 () -> new ResponseCodeException(ResponseCode.NOT_FOUND_GATHERING)
@@ -352,24 +355,6 @@ public class GatheringService {
 
     ////////////////////// Redis 조회 메서드 ///////////////////////
 
-    // 소모임 제목을 Redis 에서 가져오고, 없으면 데이터베이스에서 조회 후 Redis 에 저장
-    private String getGatheringTitle(Long gatheringId) {
-        String gatheringTitleKey = "gatheringTitle:" + gatheringId;
-        String title = (String) redisTemplate.opsForValue().get(gatheringTitleKey);
-
-        // Redis에 제목이 없을 경우 DB에 조회 후 캐싱
-        if (title == null) {
-            Gathering gathering = gatheringRepository.findById(gatheringId)
-                    .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_GATHERING));
-            title = gathering.getTitle();
-
-            // 24시간 후 만료되게 Redis에 캐싱
-            redisTemplate.opsForValue().set(gatheringTitleKey, title, 24, TimeUnit.HOURS);
-        }
-
-        return title;
-    }
-
     // Gathering DB에서 조회
     public Gathering findGathering(Long gatheringId) {
         Gathering gathering = gatheringRepository.findById(gatheringId)
@@ -382,40 +367,6 @@ public class GatheringService {
         gatheringRepository.save(gathering);
     }
 
-    // TOP3 Gathering 업데이트 메서드
-    public void updateTopGatheringTitles(Long gatheringId, AuthUser authUser) {
-
-        Long userId = authUser.getUserId();
-        // Key : gatheringViewSet{gatheringId}
-        String todayGatheringViewSetKey = "todayGatheringViewSet" + gatheringId;
-
-        // 유저 ID를 문자열로 변환하여 Redis Set에 추가 (중복 조회 방지), Set에 추가된 요소가 새 값일 때만 Boolean true로 처리
-        Long isNewViewerCount = redisTemplate.opsForSet().add(todayGatheringViewSetKey, userId.toString());
-        Boolean isNewViewer = isNewViewerCount != null && isNewViewerCount > 0;
-
-        // 유저가 처음 조회한 경우에만 조회수를 증가시킴
-        if (Boolean.TRUE.equals(isNewViewer)) {
-            // Gathering 제목 가져오기 (Redis 사용)
-            String gatheringTitle = getGatheringTitle(gatheringId);
-
-            // Gathering 제목과 조회수를 Sorted Set에 추가 (score 증가)
-            redisTemplate.opsForZSet().incrementScore(TODAY_RANKING_KEY, gatheringTitle, 1);
-        }
-        // 상위 3개 카드 제목만 유지
-        maintainTopGathering();
-    }
-
-    // Top Gathering 제목 가져오는 메서드
-    public void maintainTopGathering() {
-        // 전체 소모임 수 가져오기
-        Long size = redisTemplate.opsForZSet().zCard(TODAY_RANKING_KEY);
-
-        // 상위 3개를 제외한 나머지 제거 (3개 이하일 때는 아무것도 제거하지 않음)
-        if (size == null || size > 3) {
-            redisTemplate.opsForZSet().removeRange(TODAY_RANKING_KEY, 3, size - 1);
-        }
-    }
-
     public List<GatheringResponseDto> findGatheringsByOwner(Long userId) {
         List<Gathering> gatherings = gatheringRepository.findByUserId(userId);
 
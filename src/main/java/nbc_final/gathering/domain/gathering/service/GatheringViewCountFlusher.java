@@ -0,0 +1,200 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.gathering.repository.GatheringViewCountBulkRepository;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Redis 에 쌓인 소모임 조회수 키를 SCAN 으로 페이지 단위 순회하며 DB 로 반영/정리하는 엔진
+ * - KEYS 대신 커서 기반 SCAN 을 사용하여 Redis 를 블로킹하지 않음
+ * - 페이지마다 스냅샷 조회수를 반영 중 키로 한 번에 옮기고(Lua), UPDATE ... CASE 한 번으로 누적 조회수 반영
+ * - 반영 중 키는 DB 반영이 커밋된 뒤에만 정리하고, 반영에 실패하면 스냅샷 키로 되돌려 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+public class GatheringViewCountFlusher {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "gathering:snapshot(1h):";
+    private static final String SNAPSHOT_KEY_PATTERN = SNAPSHOT_KEY_PREFIX + "*";
+    private static final String FLUSHING_KEY_PREFIX = "gathering:snapshot-flushing:";
+    private static final String PREVIOUS_VIEW_COUNT_KEY_PREFIX = "previousViewCount:";
+    private static final int SCAN_PAGE_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final GatheringViewCountBulkRepository gatheringViewCountBulkRepository;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> gatheringViewCountClaimScript;
+    private final RedisScript<Long> gatheringViewCountSettleScript;
+
+    private final Counter flushedKeyCounter;
+    private final Counter flushedRowCounter;
+    private final Timer flushTimer;
+    private final AtomicLong lastKeysPerSecond;
+    private final AtomicLong lastRowsPerSecond;
+
+    @SuppressWarnings("rawtypes")
+    public GatheringViewCountFlusher(RedisTemplate<String, Object> redisTemplate,
+                                     GatheringViewCountBulkRepository gatheringViewCountBulkRepository,
+                                     RedisScript<List> gatheringViewCountClaimScript,
+                                     RedisScript<Long> gatheringViewCountSettleScript,
+                                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.gatheringViewCountBulkRepository = gatheringViewCountBulkRepository;
+        this.gatheringViewCountClaimScript = gatheringViewCountClaimScript;
+        this.gatheringViewCountSettleScript = gatheringViewCountSettleScript;
+        this.flushedKeyCounter = meterRegistry.counter("gathering.view.flush.keys");
+        this.flushedRowCounter = meterRegistry.counter("gathering.view.flush.rows");
+        this.flushTimer = meterRegistry.timer("gathering.view.flush.duration");
+        this.lastKeysPerSecond = meterRegistry.gauge("gathering.view.flush.keys.per.second", new AtomicLong());
+        this.lastRowsPerSecond = meterRegistry.gauge("gathering.view.flush.rows.per.second", new AtomicLong());
+    }
+
+    /**
+     * 스냅샷 조회수 키를 모두 DB 의 totalGatheringViewCount 에 더하고 삭제합니다.
+     *
+     * @return 처리한 스냅샷 키 수
+     */
+    public long flushSnapshotKeys() {
+        long startNanos = System.nanoTime();
+        long[] totals = new long[2]; // [0] : 키 수, [1] : 갱신 row 수
+
+        scanInPages(SNAPSHOT_KEY_PATTERN, page -> {
+            totals[0] += page.size();
+            totals[1] += flushSnapshotPage(page);
+        });
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        flushTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        flushedKeyCounter.increment(totals[0]);
+        flushedRowCounter.increment(totals[1]);
+
+        double elapsedSeconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+        lastKeysPerSecond.set(Math.round(totals[0] / elapsedSeconds));
+        lastRowsPerSecond.set(Math.round(totals[1] / elapsedSeconds));
+
+        log.info("소모임 조회수 스냅샷 반영 완료: 키 {}개, row {}개, {} ms",
+                totals[0], totals[1], TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return totals[0];
+    }
+
+    /**
+     * 패턴에 해당하는 키를 SCAN 으로 찾아 페이지 단위로 UNLINK 합니다.
+     *
+     * @param pattern 삭제할 키 패턴
+     * @return 삭제 요청한 키 수
+     */
+    public long unlinkKeys(String pattern) {
+        long[] total = new long[1];
+        scanInPages(pattern, page -> {
+            redisTemplate.unlink(page);
+            total[0] += page.size();
+        });
+        return total[0];
+    }
+
+    // 한 페이지의 스냅샷 조회수를 반영 중 키로 옮기고 DB 에 일괄 반영, 커밋 후 반영 중 키 정리 (실패 시 스냅샷 키로 복구)
+    private int flushSnapshotPage(List<String> keys) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() * 2);
+        scriptKeys.addAll(keys);
+        keys.forEach(key -> scriptKeys.add(FLUSHING_KEY_PREFIX + extractGatheringIdFromKey(key)));
+
+        @SuppressWarnings("unchecked")
+        List<Object> claimed = redisTemplate.execute(gatheringViewCountClaimScript, scriptKeys);
+
+        Map<Long, Long> increments = new LinkedHashMap<>();
+        List<Object> settleArgs = new ArrayList<>(keys.size() + 1);
+        settleArgs.add(0);
+        for (int i = 0; i < keys.size(); i++) {
+            long viewCount = claimed.get(i) instanceof Number count ? count.longValue() : 0;
+            settleArgs.add(viewCount);
+            if (viewCount > 0) {
+                increments.merge(extractGatheringIdFromKey(keys.get(i)), viewCount, Long::sum);
+            }
+        }
+
+        int updated;
+        try {
+            updated = gatheringViewCountBulkRepository.addTotalViewCounts(increments);
+        } catch (RuntimeException e) {
+            // DB 반영 실패 시 꺼낸 조회수를 다시 스냅샷 키로 돌려놓아 다음 주기에 재시도
+            restoreSnapshotCounts(scriptKeys, settleArgs, increments.size());
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 호출자 트랜잭션 안에서는 커밋된 뒤에만 정리하고, 롤백되면 복구
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        settle(keys, scriptKeys, settleArgs);
+                    } else {
+                        restoreSnapshotCounts(scriptKeys, settleArgs, increments.size());
+                    }
+                }
+            });
+        } else {
+            settle(keys, scriptKeys, settleArgs);
+        }
+        return updated;
+    }
+
+    // 반영 완료 : 반영 중 키에서 꺼낸 조회수만큼 빼고 이전 조회수 키 삭제
+    private void settle(List<String> keys, List<String> scriptKeys, List<Object> settleArgs) {
+        redisTemplate.execute(gatheringViewCountSettleScript, scriptKeys, settleArgs.toArray());
+        redisTemplate.delete(keys.stream()
+                .map(key -> PREVIOUS_VIEW_COUNT_KEY_PREFIX + extractGatheringIdFromKey(key))
+                .toList());
+    }
+
+    private void restoreSnapshotCounts(List<String> scriptKeys, List<Object> settleArgs, int gatherings) {
+        Object[] args = settleArgs.toArray();
+        args[0] = 1;
+        redisTemplate.execute(gatheringViewCountSettleScript, scriptKeys, args);
+        log.warn("조회수 스냅샷 DB 반영 실패, {}개 소모임 조회수를 Redis 에 복구했습니다.", gatherings);
+    }
+
+    // SCAN 커서를 순회하며 최대 SCAN_PAGE_SIZE 개씩 모아 처리 (SCAN 중복 반환 키는 페이지 내에서 제거)
+    private void scanInPages(String pattern, Consumer<List<String>> pageHandler) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_PAGE_SIZE).build();
+        Set<String> page = new LinkedHashSet<>();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                page.add(cursor.next());
+                if (page.size() >= SCAN_PAGE_SIZE) {
+                    pageHandler.accept(new ArrayList<>(page));
+                    page.clear();
+                }
+            }
+        }
+
+        if (!page.isEmpty()) {
+            pageHandler.accept(new ArrayList<>(page));
+        }
+    }
+
+    // "gathering:snapshot(1h):{gatheringId}"에서 gatheringId 추출 메서드
+    private Long extractGatheringIdFromKey(String key) {
+        return Long.valueOf(key.substring(key.lastIndexOf(':') + 1));
+    }
+}
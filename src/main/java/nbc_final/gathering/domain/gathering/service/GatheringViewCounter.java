@@ -0,0 +1,126 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import nbc_final.gathering.common.config.redis.GatheringViewProperties;
+import nbc_final.gathering.common.config.redis.GatheringViewProperties.CountingMode;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소모임 조회 기록기
+ * - EXACT : 조회 유저를 Set 에 저장하여 정확한 일일 조회수 집계
+ * - HLL   : HyperLogLog 로 일일 조회수를 추정하고, 블룸 필터로 신규 조회자를 판별하여 랭킹 반영
+ * 두 모드 모두 한 번의 EVALSHA 로 레이트 리밋 ~ 시간/일 랭킹 반영 ~ 오늘 조회수 반환까지 처리합니다.
+ */
+@Component
+public class GatheringViewCounter {
+
+    public static final String TODAY_VIEW_BLOOM_KEY = "todayGatheringViewBloom";
+
+    private static final int RATE_LIMIT_MAX_REQUESTS = 10;
+    private static final int RATE_LIMIT_WINDOW_SECONDS = 5;
+    private static final long BLOOM_TTL_SECONDS = TimeUnit.HOURS.toSeconds(25);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScript<Long> gatheringViewScript;
+    private final RedisScript<Long> gatheringViewHllScript;
+    private final CountingMode countingMode;
+
+    private final long bloomBitSize;
+    private final int bloomHashCount;
+
+    public GatheringViewCounter(RedisTemplate<String, Object> redisTemplate,
+                                RedisScript<Long> gatheringViewScript,
+                                RedisScript<Long> gatheringViewHllScript,
+                                GatheringViewProperties gatheringViewProperties) {
+        this.redisTemplate = redisTemplate;
+        this.gatheringViewScript = gatheringViewScript;
+        this.gatheringViewHllScript = gatheringViewHllScript;
+        this.countingMode = gatheringViewProperties.getCountingMode();
+
+        // 블룸 필터 크기 m = -n * ln(p) / (ln2)^2, 해시 수 k = m / n * ln2
+        GatheringViewProperties.Bloom bloom = gatheringViewProperties.getBloom();
+        long expectedInsertions = Math.max(1, bloom.getExpectedInsertions());
+        this.bloomBitSize = (long) Math.ceil(
+                -expectedInsertions * Math.log(bloom.getFalsePositiveRate()) / (Math.log(2) * Math.log(2)));
+        this.bloomHashCount = Math.max(1, (int) Math.round((double) bloomBitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 소모임 조회를 기록하고 오늘 조회수를 반환합니다.
+     *
+     * @return 오늘 조회수 (HLL 모드에서는 추정치), 레이트 리밋 초과 시 -1
+     */
+    public Long recordView(Long userId, Long gatheringId, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        if (countingMode == CountingMode.HLL) {
+            return recordViewWithHll(userId, gatheringId, title, now);
+        }
+
+        List<String> keys = List.of(
+                "rate_limit:" + userId + ":getGathering" + gatheringId,
+                "todayGatheringSet:" + gatheringId,
+                "todayGatheringViewSet" + gatheringId,
+                GatheringRankingService.titleKey(gatheringId),
+                GatheringRankingService.hourBucketKey(now),
+                GatheringRankingService.dayBucketKey(now.toLocalDate())
+        );
+
+        return redisTemplate.execute(gatheringViewScript, keys,
+                userId, userId.toString(), title,
+                RATE_LIMIT_MAX_REQUESTS, RATE_LIMIT_WINDOW_SECONDS, GatheringRankingService.TITLE_CACHE_TTL_SECONDS,
+                gatheringId, GatheringRankingService.HOUR_BUCKET_TTL_SECONDS, GatheringRankingService.DAY_BUCKET_TTL_SECONDS);
+    }
+
+    private Long recordViewWithHll(Long userId, Long gatheringId, String title, LocalDateTime now) {
+        List<String> keys = List.of(
+                "rate_limit:" + userId + ":getGathering" + gatheringId,
+                "todayGatheringHll:" + gatheringId,
+                TODAY_VIEW_BLOOM_KEY,
+                GatheringRankingService.titleKey(gatheringId),
+                GatheringRankingService.hourBucketKey(now),
+                GatheringRankingService.dayBucketKey(now.toLocalDate())
+        );
+
+        List<Object> args = new ArrayList<>(9 + bloomHashCount);
+        args.add(userId);
+        args.add(title);
+        args.add(RATE_LIMIT_MAX_REQUESTS);
+        args.add(RATE_LIMIT_WINDOW_SECONDS);
+        args.add(GatheringRankingService.TITLE_CACHE_TTL_SECONDS);
+        args.add(gatheringId);
+        args.add(GatheringRankingService.HOUR_BUCKET_TTL_SECONDS);
+        args.add(GatheringRankingService.DAY_BUCKET_TTL_SECONDS);
+        args.add(BLOOM_TTL_SECONDS);
+        for (long bitOffset : bloomBitOffsets(gatheringId, userId)) {
+            args.add(bitOffset);
+        }
+
+        return redisTemplate.execute(gatheringViewHllScript, keys, args.toArray());
+    }
+
+    // (소모임, 유저) 쌍의 블룸 필터 비트 위치 계산 (64bit 해시를 둘로 나눈 double hashing)
+    long[] bloomBitOffsets(Long gatheringId, Long userId) {
+        long hash = mix64(gatheringId * 0x9E3779B97F4A7C15L + userId);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        long[] offsets = new long[bloomHashCount];
+        for (int i = 0; i < bloomHashCount; i++) {
+            offsets[i] = Math.floorMod((long) hash1 + (long) i * hash2, bloomBitSize);
+        }
+        return offsets;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
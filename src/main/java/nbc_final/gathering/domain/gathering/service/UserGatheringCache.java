@@ -0,0 +1,152 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.gathering.dto.response.GatheringResponseDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 유저가 가입한 소모임 목록 2단 캐시
+ * - L1 : 노드 로컬 Caffeine (짧은 TTL)
+ * - L2 : Redis userGathering:{userId}
+ * 멤버/소모임 변경 시 L2 를 삭제하고 pub/sub 으로 모든 노드의 L1 을 무효화합니다.
+ */
+@Slf4j
+@Component
+public class UserGatheringCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "userGathering:";
+    private static final String INVALIDATION_CHANNEL = "userGathering:invalidate";
+    private static final Duration L1_TTL = Duration.ofMinutes(1);
+    private static final long L1_MAX_SIZE = 10_000;
+    private static final long L2_TTL_MINUTES = 10;
+    private static final TypeReference<List<GatheringResponseDto>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> pubSubRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, List<GatheringResponseDto>> localCache;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public UserGatheringCache(RedisTemplate<String, Object> redisTemplate,
+                              @Qualifier("pubSubRedisTemplate") RedisTemplate<String, Object> pubSubRedisTemplate,
+                              ObjectMapper objectMapper,
+                              RedisMessageListenerContainer redisMessageListenerContainer,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.pubSubRedisTemplate = pubSubRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(L1_MAX_SIZE)
+                .expireAfterWrite(L1_TTL)
+                .build();
+
+        this.l1Hits = meterRegistry.counter("gathering.user.cache.requests", "tier", "l1", "result", "hit");
+        this.l1Misses = meterRegistry.counter("gathering.user.cache.requests", "tier", "l1", "result", "miss");
+        this.l2Hits = meterRegistry.counter("gathering.user.cache.requests", "tier", "l2", "result", "hit");
+        this.l2Misses = meterRegistry.counter("gathering.user.cache.requests", "tier", "l2", "result", "miss");
+        meterRegistry.gauge("gathering.user.cache.hit.ratio", List.of(Tag.of("tier", "l1")),
+                this, cache -> hitRatio(cache.l1Hits, cache.l1Misses));
+        meterRegistry.gauge("gathering.user.cache.hit.ratio", List.of(Tag.of("tier", "l2")),
+                this, cache -> hitRatio(cache.l2Hits, cache.l2Misses));
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 유저의 소모임 목록을 조회합니다.
+     */
+    public List<GatheringResponseDto> get(Long userId, Supplier<List<GatheringResponseDto>> loader) {
+        List<GatheringResponseDto> cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            l1Hits.increment();
+            return cached;
+        }
+        l1Misses.increment();
+
+        Object cachedData = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        if (cachedData != null) {
+            l2Hits.increment();
+            // JSON 형식으로 저장된 데이터를 List<GatheringResponseDto>로 역직렬화
+            List<GatheringResponseDto> gatherings = List.copyOf(objectMapper.convertValue(cachedData, RESPONSE_TYPE));
+            localCache.put(userId, gatherings);
+            return gatherings;
+        }
+        l2Misses.increment();
+
+        List<GatheringResponseDto> gatherings = List.copyOf(loader.get());
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, gatherings, L2_TTL_MINUTES, TimeUnit.MINUTES);
+        localCache.put(userId, gatherings);
+        return gatherings;
+    }
+
+    /**
+     * 유저들의 캐시를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 무효화합니다.
+     */
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> targets = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(targets);
+                }
+            });
+        } else {
+            evictNow(targets);
+        }
+    }
+
+    public void evict(Long userId) {
+        evict(List.of(userId));
+    }
+
+    // 다른 노드(자신 포함)에서 발행한 무효화 메시지 수신 시 L1 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object userIds = pubSubRedisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (userIds instanceof Collection<?> ids) {
+            ids.forEach(id -> localCache.invalidate(Long.valueOf(String.valueOf(id))));
+        }
+    }
+
+    private void evictNow(List<Long> userIds) {
+        redisTemplate.delete(userIds.stream().map(userId -> KEY_PREFIX + userId).toList());
+        userIds.forEach(localCache::invalidate);
+        pubSubRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userIds);
+    }
+
+    private static double hitRatio(Counter hits, Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+}
@@ -0,0 +1,20 @@
+package nbc_final.gathering.domain.location.service;
+
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+
+import java.util.Optional;
+
+/**
+ * 주소 → 좌표 변환 (외부 지오코딩 API)
+ * LocationService 가 캐시와 요청 병합을 거쳐 호출하며, 테스트에서는 고정 좌표를 돌려주는 구현으로 교체할 수 있습니다.
+ */
+public interface GeocodingProvider {
+
+    /**
+     * 주소에 해당하는 좌표를 조회합니다.
+     *
+     * @return 좌표, 주소에 해당하는 좌표가 없으면 empty (결과 없음으로 캐시됨)
+     * @throws nbc_final.gathering.common.exception.ResponseCodeException 외부 API 가 오류를 응답하면 (캐시하지 않음)
+     */
+    Optional<CoordinateDto> geocode(String address);
+}
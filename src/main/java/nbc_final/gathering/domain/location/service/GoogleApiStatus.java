@@ -0,0 +1,36 @@
+package nbc_final.gathering.domain.location.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+
+/**
+ * Google Maps 웹 서비스 응답의 status 확인
+ * 한도 초과 / 키 거부 / 잘못된 요청 / 일시 오류에도 results 는 빈 배열로 오므로, ZERO_RESULTS 만 결과 없음으로 봅니다.
+ */
+@Slf4j
+final class GoogleApiStatus {
+
+    static final String OK = "OK";
+    static final String ZERO_RESULTS = "ZERO_RESULTS";
+
+    private GoogleApiStatus() {
+    }
+
+    /**
+     * @return 결과가 있으면 true, 결과 없음(ZERO_RESULTS)이면 false
+     * @throws ResponseCodeException 그 외 상태 (OVER_QUERY_LIMIT, REQUEST_DENIED, INVALID_REQUEST, UNKNOWN_ERROR 등), 결과 없음으로 캐시하지 않음
+     */
+    static boolean hasResults(String api, JsonNode response) {
+        String status = response.path("status").asText("");
+        if (OK.equals(status)) {
+            return true;
+        }
+        if (ZERO_RESULTS.equals(status)) {
+            return false;
+        }
+        log.warn("{} API 오류 응답: status={}, message={}", api, status, response.path("error_message").asText(""));
+        throw new ResponseCodeException(ResponseCode.EXTERNAL_API_UNAVAILABLE);
+    }
+}
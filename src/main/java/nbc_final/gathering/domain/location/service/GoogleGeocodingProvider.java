@@ -0,0 +1,65 @@
+package nbc_final.gathering.domain.location.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import nbc_final.gathering.common.config.http.OutboundHttpClient;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Optional;
+
+// Google Geocoding API 로 주소 → 좌표 변환
+@Component
+@RequiredArgsConstructor
+public class GoogleGeocodingProvider implements GeocodingProvider {
+
+    private final OutboundHttpClient outboundHttpClient;
+    private final ObjectMapper objectMapper;
+    @Value("${GEOCODE_URL}")
+    private String GEOCODE_URL;
+    @Value("${API_KEY}")
+    private String API_KEY;
+
+    @Override
+    public Optional<CoordinateDto> geocode(String address) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(GEOCODE_URL)
+                .queryParam("address", address)
+                .queryParam("key", API_KEY)
+                .encode()
+                .build()
+                .toUri();
+
+        try {
+            // 공용 연결 풀 · 응답 제한 시간 · 서킷 브레이커를 거쳐 호출
+            String response = outboundHttpClient.get(uri).block();
+            JsonNode jsonNode = objectMapper.readTree(response);
+            if (!GoogleApiStatus.hasResults("Geocoding", jsonNode)) {
+                return Optional.empty();
+            }
+
+            JsonNode results = jsonNode.path("results");
+            if (!results.isArray() || results.size() == 0) {
+                return Optional.empty();
+            }
+
+            JsonNode location = results.get(0).path("geometry").path("location");
+            double latitude = location.path("lat").asDouble(0.0);
+            double longitude = location.path("lng").asDouble(0.0);
+
+            if (latitude == 0.0 && longitude == 0.0) {
+                return Optional.empty();
+            }
+            return Optional.of(new CoordinateDto(latitude, longitude));
+        } catch (ResponseCodeException e) {
+            // 동시 호출 수 초과 / 서킷 열림 / 외부 API 오류 응답은 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Geocoding API 호출 실패: " + e.getMessage());
+        }
+    }
+}
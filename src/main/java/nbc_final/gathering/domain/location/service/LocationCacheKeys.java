@@ -0,0 +1,103 @@
+package nbc_final.gathering.domain.location.service;
+
+import lombok.RequiredArgsConstructor;
+import nbc_final.gathering.common.config.redis.LocationCacheProperties;
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 위치 캐시 키 생성
+ * - 주소 : 유니코드 NFC 정규화 + 연속 공백 하나로 + 앞뒤 공백 제거 + 소문자 → "서울  강남구" 와 "서울 강남구" 가 같은 키
+ * - 좌표 : 설정한 자릿수의 지오해시 격자로 맞춤 → 가까운 좌표의 주변 장소 조회가 같은 키를 공유
+ */
+@Component
+@RequiredArgsConstructor
+public class LocationCacheKeys {
+
+    private static final String GEOCODE_PREFIX = "geocode:";
+    private static final String PLACES_PREFIX = "places:";
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private final LocationCacheProperties locationCacheProperties;
+
+    // 주소 → 좌표 캐시 키
+    public String geocode(String address) {
+        return GEOCODE_PREFIX + normalize(address);
+    }
+
+    // 주변 장소 캐시 키 (지오해시 격자 · 반경 · 타입)
+    public String places(String geohash, int radius, String type) {
+        return PLACES_PREFIX + geohash + ":" + radius + ":" + normalize(type);
+    }
+
+    // 좌표가 속한 지오해시 격자
+    public String geohash(double latitude, double longitude) {
+        return encodeGeohash(latitude, longitude, locationCacheProperties.getGeohashPrecision());
+    }
+
+    /**
+     * 주소 / 검색어 정규화 (NFC, 공백, 대소문자)
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replaceAll("[\\p{javaWhitespace}\\u00A0]+", " ")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 위도, 경도 → 지오해시 (경도부터 한 비트씩 번갈아 반으로 나눔)
+    static String encodeGeohash(double latitude, double longitude, int precision) {
+        double[] latRange = {-90, 90};
+        double[] lngRange = {-180, 180};
+        StringBuilder geohash = new StringBuilder(precision);
+        boolean even = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (geohash.length() < precision) {
+            double[] range = even ? lngRange : latRange;
+            double value = even ? longitude : latitude;
+            double mid = (range[0] + range[1]) / 2;
+            ch <<= 1;
+            if (value >= mid) {
+                ch |= 1;
+                range[0] = mid;
+            } else {
+                range[1] = mid;
+            }
+            even = !even;
+
+            if (++bit == 5) {
+                geohash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return geohash.toString();
+    }
+
+    // 지오해시 → 격자 중심 좌표 (외부 API 는 격자 중심으로 호출해 캐시 값이 키와 일치하도록)
+    public static CoordinateDto decodeGeohash(String geohash) {
+        double[] latRange = {-90, 90};
+        double[] lngRange = {-180, 180};
+        boolean even = true;
+
+        for (char c : geohash.toCharArray()) {
+            int ch = BASE32.indexOf(c);
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                double[] range = even ? lngRange : latRange;
+                double mid = (range[0] + range[1]) / 2;
+                if ((ch & mask) != 0) {
+                    range[0] = mid;
+                } else {
+                    range[1] = mid;
+                }
+                even = !even;
+            }
+        }
+        return new CoordinateDto((latRange[0] + latRange[1]) / 2, (lngRange[0] + lngRange[1]) / 2);
+    }
+}
@@ -2,7 +2,11 @@ package nbc_final.gathering.domain.location.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.config.http.OutboundHttpClient;
+import nbc_final.gathering.common.config.redis.LocationCacheProperties;
 import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
 import nbc_final.gathering.domain.location.dto.request.RecommandRequestDto;
@@ -13,23 +17,33 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LocationService {
 
-    private static final String LOCK_PREFIX = "lock:";
-    private final RestTemplate restTemplate;
+    // 결과가 없는 주소 / 장소 캐시 값 (JSON 이 아니므로 정상 값과 겹치지 않음)
+    static final String NOT_FOUND_MARKER = "!not-found";
+
+    private final OutboundHttpClient outboundHttpClient;
     private final ObjectMapper objectMapper;
     private final StringRedisTemplate redisTemplate;
-    @Value("${GEOCODE_URL}")
-    private String GEOCODE_URL;
+    private final LocationSingleFlight locationSingleFlight;
+    private final GeocodingProvider geocodingProvider;
+    private final LocationCacheKeys locationCacheKeys;
+    private final LocationCacheProperties locationCacheProperties;
+    private final MeterRegistry meterRegistry;
     @Value("${API_KEY}")
     private String API_KEY;
     @Value("${PLACES_URL}")
@@ -46,117 +60,91 @@ public class LocationService {
         return getNearbyPlacesCache(coordinates, radius, type);
     }
 
-    // 주소를 바탕으로 위도, 경도 추출 메서드
-    private CoordinateDto getCoordinateDto(String address) {
-        String encodedAddress = address.replace(" ", "%20");
-        String url = String.format("%s?address=%s&key=%s", GEOCODE_URL, encodedAddress, API_KEY);
+    // 주소를 바탕으로 위도, 경도 추출 메서드 (캐시 → 외부 API)
+    public CoordinateDto getCoordinateDto(String address) {
+        String normalizedAddress = LocationCacheKeys.normalize(address);
+        String cacheKey = locationCacheKeys.geocode(address);
 
-        // 캐시된 데이터가 있다면
-        String cachedData = redisTemplate.opsForValue().get(encodedAddress);
+        // 캐시된 데이터가 있다면 (결과 없음으로 캐시된 주소는 예외)
+        CoordinateDto cachedData = readCache("geocode", cacheKey, CoordinateDto.class);
         if (cachedData != null) {
-            try {
-                return objectMapper.readValue(cachedData, CoordinateDto.class);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-
-        // 캐시가 없으면, 락을 걸고 진행
-        String lockKey = LOCK_PREFIX + encodedAddress;
-        boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, "LOCKED", 5, TimeUnit.SECONDS); // 10초 락 설정
-        if (locked) {
-            try {
-                // 외부 API 호출
-                return fetchCoordinatesFromAPI(url, encodedAddress);
-            } finally {
-                // 작업 후 락 해제
-                redisTemplate.delete(lockKey);
-            }
+            return cachedData;
         }
 
-        // 락을 얻지 못했을 경우, 다른 스레드가 작업을 진행하도록 기다림
-        try {
-            Thread.sleep(100);
-            return getCoordinateDto(address);
-        } catch (InterruptedException e) {
-            throw new RuntimeException("잠시 후 다시 시도해주세요.");
-        }
+        // 캐시가 없으면 같은 주소의 동시 요청을 하나로 묶어 외부 API 는 한 번만 호출
+        return locationSingleFlight.load("geocode", cacheKey,
+                () -> readCache(null, cacheKey, CoordinateDto.class),
+                () -> fetchCoordinatesFromAPI(normalizedAddress, cacheKey));
     }
 
-    private CoordinateDto fetchCoordinatesFromAPI(String url, String encodedAddress) {
-        try {
-            String response = restTemplate.getForObject(url, String.class);
-            JsonNode jsonNode = objectMapper.readTree(response);
-            JsonNode results = jsonNode.path("results");
-
-            if (!results.isArray() || results.size() == 0) {
-                throw new RuntimeException("Geocoding API 호출 실패: 주소에 해당하는 좌표를 찾을 수 없습니다.");
-            }
-
-            JsonNode location = results.get(0).path("geometry").path("location");
-            double latitude = location.path("lat").asDouble(0.0);
-            double longitude = location.path("lng").asDouble(0.0);
-
-            if (latitude == 0.0 && longitude == 0.0) {
-                throw new RuntimeException("좌표 정보를 가져올 수 없습니다.");
-            }
-
-            CoordinateDto coordinateDto = new CoordinateDto(latitude, longitude);
-
-            // 직렬화 & 캐싱
-            String jsonData = objectMapper.writeValueAsString(coordinateDto);
-            redisTemplate.opsForValue().set(encodedAddress, jsonData, 365, TimeUnit.DAYS);
+    private CoordinateDto fetchCoordinatesFromAPI(String address, String cacheKey) {
+        Optional<CoordinateDto> coordinateDto = callOrigin("geocode", () -> geocodingProvider.geocode(address));
 
-            return coordinateDto;
-        } catch (Exception e) {
-            throw new RuntimeException("Geocoding API 호출 실패: " + e.getMessage());
+        // 좌표가 없는 주소는 짧게 캐시해 같은 주소로 외부 API 를 반복 호출하지 않음
+        if (coordinateDto.isEmpty()) {
+            writeNotFound("geocode", cacheKey);
+            throw new ResponseCodeException(ResponseCode.NOT_FOUND_LOCATION);
         }
+
+        writeCache(cacheKey, coordinateDto.get(), locationCacheProperties.getGeocodeTtl());
+        return coordinateDto.get();
     }
 
-    // 위도, 경도를 바탕으로 주변 장소를 추천
+    // 위도, 경도를 바탕으로 주변 장소를 추천 (같은 지오해시 격자 안의 좌표는 캐시 공유)
     private RecommandResponseDto getNearbyPlacesCache(CoordinateDto coordinateDto, int requestRadius, String requestType) {
-        double latitude = coordinateDto.getLatitude();
-        double longitude = coordinateDto.getLongitude();
-        String url = String.format("%s?location=%f,%f&radius=%d&type=%s&key=%s"
-                , PLACES_URL, latitude, longitude, requestRadius, requestType, API_KEY);
-
-        String cacheKey = String.format("places:%f:%f:%d:%s", latitude, longitude, requestRadius, requestType);
-        String cachedData = redisTemplate.opsForValue().get(cacheKey);
-
+        String geohash = locationCacheKeys.geohash(coordinateDto.getLatitude(), coordinateDto.getLongitude());
+        String cacheKey = locationCacheKeys.places(geohash, requestRadius, requestType);
+        RecommandResponseDto cachedData = readCache("places", cacheKey, RecommandResponseDto.class);
         if (cachedData != null) {
-            try {
-                return objectMapper.readValue(cachedData, RecommandResponseDto.class);
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+            return cachedData;
         }
 
-        String lockKey = LOCK_PREFIX + cacheKey;
-        boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, "LOCKED", 5, TimeUnit.SECONDS);
-        if (locked) {
-            try {
-                return getNearbyPlacesFromAPI(url, cacheKey, requestType);
-            } finally {
-                redisTemplate.delete(lockKey);
-            }
+        // 외부 API 는 격자 중심 좌표로 호출해 캐시 값이 키와 일치하도록 함
+        CoordinateDto cellCenter = LocationCacheKeys.decodeGeohash(geohash);
+        URI uri = UriComponentsBuilder.fromHttpUrl(PLACES_URL)
+                .queryParam("location", cellCenter.getLatitude() + "," + cellCenter.getLongitude())
+                .queryParam("radius", requestRadius)
+                .queryParam("type", requestType)
+                .queryParam("key", API_KEY)
+                .encode()
+                .build()
+                .toUri();
+
+        // 같은 격자 · 반경 · 타입의 동시 요청을 하나로 묶어 외부 API 는 한 번만 호출
+        return locationSingleFlight.load("places", cacheKey,
+                () -> readCache(null, cacheKey, RecommandResponseDto.class),
+                () -> getNearbyPlacesFromAPI(uri, cacheKey, requestType));
+    }
+
+    private RecommandResponseDto getNearbyPlacesFromAPI(URI uri, String cacheKey, String requestType) {
+        List<PlaceDto> places = callOrigin("places", () -> fetchPlaces(uri, requestType));
+
+        // 조건에 맞는 장소가 없으면 짧게 캐시
+        if (places.isEmpty()) {
+            writeNotFound("places", cacheKey);
+            throw new ResponseCodeException(ResponseCode.NOT_FOUND_LOCATION);
         }
 
-        // 다른 스레드가 작업을 진행할 때까지 대기 후 재시도
-        try {
-            Thread.sleep(100);
-            return getNearbyPlacesCache(coordinateDto, requestRadius, requestType); // 재귀 호출
-        } catch (InterruptedException e) {
-            throw new RuntimeException("잠시 후 다시 시도해주세요.");
+        if (places.size() >= 5) {
+            places = places.subList(0, 5);
         }
+
+        RecommandResponseDto recommandResponseDto = new RecommandResponseDto(places);
+        writeCache(cacheKey, recommandResponseDto, locationCacheProperties.getPlacesTtl());
+        return recommandResponseDto;
     }
 
-    private RecommandResponseDto getNearbyPlacesFromAPI(String url, String cacheKey, String requestType) {
+    private List<PlaceDto> fetchPlaces(URI uri, String requestType) {
         try {
-            String response = restTemplate.getForObject(url, String.class);
+            // 공용 연결 풀 · 응답 제한 시간 · 서킷 브레이커를 거쳐 호출
+            String response = outboundHttpClient.get(uri).block();
             List<PlaceDto> places = new ArrayList<>();
             JsonNode jsonNode = objectMapper.readTree(response);
-            JsonNode results = jsonNode.path("results");
+            if (!GoogleApiStatus.hasResults("Places", jsonNode)) {
+                return places;
+            }
 
+            JsonNode results = jsonNode.path("results");
             if (results.isArray()) {
                 for (JsonNode placeNode : results) {
                     String name = placeNode.path("name").asText("");
@@ -172,25 +160,78 @@ public class LocationService {
                         places.add(place);
                     }
                 }
-
-                if (places.isEmpty()) {
-                    throw new ResponseCodeException(ResponseCode.NOT_FOUND_LOCATION);
-                }
-
-                if (places.size() >= 5) {
-                    places = places.subList(0, 5);
-                }
             }
+            return places;
+        } catch (ResponseCodeException e) {
+            // 동시 호출 수 초과 / 서킷 열림 / 외부 API 오류 응답은 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Places API 호출 실패: " + e.getMessage());
+        }
+    }
 
-            RecommandResponseDto recommandResponseDto = new RecommandResponseDto(places);
+    // 외부 API 호출 시간 기록 (키 종류별, 실패 포함)
+    private <T> T callOrigin(String family, Supplier<T> origin) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = origin.get();
+            outcome = "success";
+            return result;
+        } finally {
+            meterRegistry.timer("location.origin.latency", "family", family, "outcome", outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 캐시 조회 (없거나 역직렬화에 실패하면 null)
+     * 결과 없음으로 캐시된 키는 NOT_FOUND_LOCATION 예외를 던집니다.
+     *
+     * @param family 지표 구분 (geocode, places), null 이면 기록하지 않음 (요청 병합 중 재확인)
+     */
+    private <T> T readCache(String family, String cacheKey, Class<T> type) {
+        String cachedData = redisTemplate.opsForValue().get(cacheKey);
+        if (cachedData == null) {
+            recordCache(family, "miss");
+            return null;
+        }
+        if (NOT_FOUND_MARKER.equals(cachedData)) {
+            recordCache(family, "negative_hit");
+            throw new ResponseCodeException(ResponseCode.NOT_FOUND_LOCATION);
+        }
+        try {
+            T value = objectMapper.readValue(cachedData, type);
+            recordCache(family, "hit");
+            return value;
+        } catch (Exception e) {
+            log.warn("캐시 역직렬화 실패: {}, {}", cacheKey, e.getMessage());
+            recordCache(family, "miss");
+            return null;
+        }
+    }
 
-            // 직렬화 & 캐싱
-            String jsonLocationsData = objectMapper.writeValueAsString(recommandResponseDto);
-            redisTemplate.opsForValue().set(cacheKey, jsonLocationsData, 7, TimeUnit.DAYS);
+    // 직렬화 & 캐싱 (캐시 저장 실패는 응답에 영향을 주지 않음)
+    private void writeCache(String cacheKey, Object value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("캐시 저장 실패: {}, {}", cacheKey, e.getMessage());
+        }
+    }
 
-            return recommandResponseDto;
+    private void writeNotFound(String family, String cacheKey) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, NOT_FOUND_MARKER, locationCacheProperties.getNegativeTtl());
+            recordCache(family, "negative_store");
         } catch (Exception e) {
-            throw new RuntimeException("Places API 호출 실패: " + e.getMessage());
+            log.warn("캐시 저장 실패: {}, {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private void recordCache(String family, String result) {
+        if (family != null) {
+            meterRegistry.counter("location.cache.requests", "family", family, "result", result).increment();
         }
     }
 }
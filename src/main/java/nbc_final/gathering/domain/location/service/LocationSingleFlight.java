@@ -0,0 +1,216 @@
+package nbc_final.gathering.domain.location.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 위치 API 캐시 미스 시 요청 병합 (single-flight)
+ * - 노드 안 : 같은 캐시 키의 동시 요청은 하나의 CompletableFuture 를 함께 기다림
+ * - 노드 간 : Redis 임대(SET NX PX)를 잡은 노드만 외부 API 를 호출하고, 나머지 노드는 완료 알림(pub/sub)을 받으면 캐시를 읽음
+ *   완료 알림을 놓쳐도 POLL_INTERVAL 마다 캐시 / 임대를 다시 확인
+ * 대기는 WAIT_TIMEOUT 까지만 하며, 임대를 잡은 노드가 내려가도 임대가 만료되면 다른 노드가 이어서 적재합니다.
+ */
+@Slf4j
+@Component
+public class LocationSingleFlight implements MessageListener {
+
+    private static final String LEASE_PREFIX = "singleflight:";
+    private static final String DONE_CHANNEL = "singleflight:done";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(5);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> pubSubRedisTemplate;
+    private final RedisScript<Long> singleFlightReleaseScript;
+    private final MeterRegistry meterRegistry;
+    private final Duration waitTimeout;
+
+    // 이 노드에서 적재 중인 캐시 키 -> 적재 결과
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 다른 노드의 적재를 기다리는 캐시 키 -> 완료 알림
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> remoteWaiters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LocationSingleFlight(RedisTemplate<String, Object> redisTemplate,
+                                @Qualifier("pubSubRedisTemplate") RedisTemplate<String, Object> pubSubRedisTemplate,
+                                RedisScript<Long> singleFlightReleaseScript,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                MeterRegistry meterRegistry) {
+        this(redisTemplate, pubSubRedisTemplate, singleFlightReleaseScript, redisMessageListenerContainer, meterRegistry,
+                WAIT_TIMEOUT);
+    }
+
+    LocationSingleFlight(RedisTemplate<String, Object> redisTemplate,
+                         RedisTemplate<String, Object> pubSubRedisTemplate,
+                         RedisScript<Long> singleFlightReleaseScript,
+                         RedisMessageListenerContainer redisMessageListenerContainer,
+                         MeterRegistry meterRegistry,
+                         Duration waitTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.pubSubRedisTemplate = pubSubRedisTemplate;
+        this.singleFlightReleaseScript = singleFlightReleaseScript;
+        this.meterRegistry = meterRegistry;
+        this.waitTimeout = waitTimeout;
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(DONE_CHANNEL));
+    }
+
+    /**
+     * 캐시 미스인 값을 한 번만 적재합니다.
+     * 외부 API 호출(origin)은 캐시에 값을 저장한 뒤 반환해야 하며, 다른 노드가 적재한 값은 cacheReader 로 읽습니다.
+     * 대기 시간이 지나면 LOCATION_LOAD_TIMEOUT 예외를 던집니다.
+     *
+     * @param type       지표 구분 (geocode, places)
+     * @param cacheKey   캐시 키
+     * @param cacheReader 캐시 조회 (없으면 null)
+     * @param origin     외부 API 호출 + 캐시 저장
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String type, String cacheKey, Supplier<T> cacheReader, Supplier<T> origin) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, flight);
+        if (existing != null) {
+            // 이 노드에서 이미 적재 중이면 같은 결과를 기다림
+            record(type, "coalesced");
+            return (T) await(existing);
+        }
+
+        try {
+            T value = loadAcrossNodes(type, cacheKey, cacheReader, origin);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
+    // 다른 노드(자신 포함)의 적재 완료 알림 수신 시 기다리던 요청을 깨움
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object cacheKey = pubSubRedisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (cacheKey != null) {
+            CompletableFuture<Void> waiter = remoteWaiters.remove(String.valueOf(cacheKey));
+            if (waiter != null) {
+                waiter.complete(null);
+            }
+        }
+    }
+
+    private <T> T loadAcrossNodes(String type, String cacheKey, Supplier<T> cacheReader, Supplier<T> origin) {
+        String leaseKey = LEASE_PREFIX + cacheKey;
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            // 임대 확인 전에 먼저 등록해야 그 사이 발행된 완료 알림을 놓치지 않음
+            CompletableFuture<Void> waiter = remoteWaiters.computeIfAbsent(cacheKey, key -> new CompletableFuture<>());
+            try {
+                String token = UUID.randomUUID().toString();
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, token, LEASE_TTL))) {
+                    return loadWithLease(type, cacheKey, leaseKey, token, cacheReader, origin);
+                }
+
+                // 다른 노드가 적재 중 : 이미 끝났으면 캐시에서 읽고, 아니면 완료 알림 또는 다음 확인 주기까지 대기
+                T cached = cacheReader.get();
+                if (cached != null) {
+                    record(type, "remote");
+                    return cached;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    record(type, "timeout");
+                    throw new ResponseCodeException(ResponseCode.LOCATION_LOAD_TIMEOUT);
+                }
+                waitForRemote(waiter, Math.min(remaining, POLL_INTERVAL.toNanos()));
+            } finally {
+                remoteWaiters.remove(cacheKey, waiter);
+            }
+        }
+    }
+
+    private <T> T loadWithLease(String type, String cacheKey, String leaseKey, String token,
+                                Supplier<T> cacheReader, Supplier<T> origin) {
+        try {
+            // 임대를 잡기 직전에 다른 노드가 적재를 마쳤을 수 있으므로 한 번 더 확인
+            T cached = cacheReader.get();
+            if (cached != null) {
+                record(type, "remote");
+                return cached;
+            }
+            record(type, "origin");
+            return origin.get();
+        } finally {
+            try {
+                redisTemplate.execute(singleFlightReleaseScript, List.of(leaseKey), token);
+            } catch (RuntimeException e) {
+                // 임대는 만료 시간이 지나면 풀리므로 반환 실패는 기록만
+                log.warn("캐시 적재 임대 반환 실패: {}, {}", leaseKey, e.getMessage());
+            }
+            try {
+                // 기다리는 노드를 깨움 (놓쳐도 대기 중인 노드는 주기적으로 캐시를 확인)
+                pubSubRedisTemplate.convertAndSend(DONE_CHANNEL, cacheKey);
+            } catch (RuntimeException e) {
+                log.warn("캐시 적재 완료 알림 실패: {}, {}", cacheKey, e.getMessage());
+            }
+        }
+    }
+
+    private void waitForRemote(CompletableFuture<Void> waiter, long remainingNanos) {
+        try {
+            waiter.get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 다음 반복에서 캐시 / 임대를 다시 확인 (남은 시간이 없으면 시간 초과 처리)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseCodeException(ResponseCode.LOCATION_LOAD_TIMEOUT);
+        } catch (ExecutionException e) {
+            // 완료 알림은 정상 완료만 하므로 발생하지 않음
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseCodeException(ResponseCode.LOCATION_LOAD_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseCodeException(ResponseCode.LOCATION_LOAD_TIMEOUT);
+        } catch (ExecutionException e) {
+            // 적재한 요청과 같은 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void record(String type, String result) {
+        meterRegistry.counter("location.singleflight.requests", "type", type, "result", result).increment();
+    }
+}
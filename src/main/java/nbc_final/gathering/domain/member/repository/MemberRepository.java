@@ -30,6 +30,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     // 승인된 멤버를 조회하는 메서드 추가
     List<Member> findAllByGatheringAndStatus(Gathering gathering, MemberStatus status);
 
+    // 유저의 멤버 정보와 소모임을 한 번에 조회 (fetch join)
+    @Query("SELECT m FROM Member m JOIN FETCH m.gathering WHERE m.user.id = :userId AND m.status = :status")
+    List<Member> findAllWithGatheringByUserIdAndStatus(@Param("userId") Long userId, @Param("status") MemberStatus status);
+
     @Query("SELECT m.gathering FROM Member m WHERE m.user.id = :userId AND m.role = :role")
     List<Gathering> findHostGatheringsByUserId(@Param("userId") Long userId, @Param("role") MemberRole role);
 
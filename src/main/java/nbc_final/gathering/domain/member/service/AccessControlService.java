@@ -0,0 +1,220 @@
+package nbc_final.gathering.domain.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import nbc_final.gathering.domain.member.enums.MemberRole;
+import nbc_final.gathering.domain.member.enums.MemberStatus;
+import nbc_final.gathering.domain.member.repository.MemberRepository;
+import nbc_final.gathering.domain.user.enums.UserRole;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Event / Poll / Comment / Member 요청의 권한 확인용 캐시
+ * - userId → 유저 권한 (ADMIN 여부)
+ * - (userId, gatheringId) → 멤버 역할 / 상태 (멤버가 아니면 NONE)
+ * - (userId, eventId) → 이벤트 참가 여부
+ * 노드 로컬 Caffeine 에 짧은 TTL 로 저장하고, 가입 신청 · 승인 · 거절 · 삭제 · 참가 · 취소 · 회원 탈퇴 시
+ * 커밋 이후 pub/sub(마스터 단독 연결)으로 모든 노드의 캐시를 무효화합니다.
+ */
+@Service
+public class AccessControlService implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "accessControl:invalidate";
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final long MAX_SIZE = 100_000;
+
+    private static final String USER = "user";
+    private static final String MEMBER = "member";
+    private static final String GATHERING = "gathering";
+    private static final String PARTICIPANT = "participant";
+    private static final String EVENT = "event";
+
+    private final UserRepository userRepository;
+    private final MemberRepository memberRepository;
+    private final ParticipantRepository participantRepository;
+    private final RedisTemplate<String, Object> pubSubRedisTemplate;
+
+    private final Cache<Long, UserRole> userRoles;
+    private final Cache<MembershipKey, MemberAccess> memberships;
+    private final Cache<ParticipationKey, Boolean> participations;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public AccessControlService(UserRepository userRepository,
+                                MemberRepository memberRepository,
+                                ParticipantRepository participantRepository,
+                                @Qualifier("pubSubRedisTemplate") RedisTemplate<String, Object> pubSubRedisTemplate,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.memberRepository = memberRepository;
+        this.participantRepository = participantRepository;
+        this.pubSubRedisTemplate = pubSubRedisTemplate;
+        this.userRoles = Caffeine.newBuilder().maximumSize(MAX_SIZE).expireAfterWrite(TTL).build();
+        this.memberships = Caffeine.newBuilder().maximumSize(MAX_SIZE).expireAfterWrite(TTL).build();
+        this.participations = Caffeine.newBuilder().maximumSize(MAX_SIZE).expireAfterWrite(TTL).build();
+
+        this.hits = meterRegistry.counter("access.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("access.cache.requests", "result", "miss");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 멤버 역할 / 상태 (멤버가 아니면 role, status 모두 null)
+    public record MemberAccess(MemberRole role, MemberStatus status) {
+
+        public static final MemberAccess NONE = new MemberAccess(null, null);
+
+        public boolean isMember() {
+            return role != null;
+        }
+
+        public boolean isApproved() {
+            return status == MemberStatus.APPROVED;
+        }
+
+        public boolean isApprovedHost() {
+            return role == MemberRole.HOST && isApproved();
+        }
+    }
+
+    private record MembershipKey(Long userId, Long gatheringId) {
+    }
+
+    private record ParticipationKey(Long userId, Long eventId) {
+    }
+
+    // ------- 조회 -------
+
+    /**
+     * 유저 권한을 조회합니다. 유저가 없으면 NOT_FOUND_USER 예외를 던집니다.
+     */
+    public UserRole getUserRole(Long userId) {
+        return get(userRoles, userId, id -> userRepository.findById(id)
+                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER))
+                .getUserRole());
+    }
+
+    public boolean isAdmin(Long userId) {
+        return getUserRole(userId) == UserRole.ROLE_ADMIN;
+    }
+
+    // 소모임 내 멤버 역할 / 상태 조회
+    public MemberAccess getMembership(Long userId, Long gatheringId) {
+        return get(memberships, new MembershipKey(userId, gatheringId), key ->
+                memberRepository.findByUserIdAndGatheringId(key.userId(), key.gatheringId())
+                        .map(member -> new MemberAccess(member.getRole(), member.getStatus()))
+                        .orElse(MemberAccess.NONE));
+    }
+
+    // 승인된 소모임 멤버인지 확인
+    public boolean isApprovedMember(Long userId, Long gatheringId) {
+        return getMembership(userId, gatheringId).isApproved();
+    }
+
+    // 이벤트 참가자인지 확인
+    public boolean isParticipant(Long userId, Long eventId) {
+        return get(participations, new ParticipationKey(userId, eventId), key ->
+                participantRepository.existsByEventIdAndUserId(key.eventId(), key.userId()));
+    }
+
+    // ------- 무효화 (트랜잭션 안에서 호출되면 커밋 이후에 무효화) -------
+
+    // 회원 탈퇴 / 권한 변경
+    public void evictUser(Long userId) {
+        publishAfterCommit(USER + ":" + userId);
+    }
+
+    // 가입 신청 / 승인 / 거절 / 삭제
+    public void evictMembership(Long userId, Long gatheringId) {
+        publishAfterCommit(MEMBER + ":" + userId + ":" + gatheringId);
+    }
+
+    // 소모임 삭제 시 해당 소모임의 모든 멤버
+    public void evictGathering(Long gatheringId) {
+        publishAfterCommit(GATHERING + ":" + gatheringId);
+    }
+
+    // 이벤트 참가 / 취소
+    public void evictParticipation(Long userId, Long eventId) {
+        publishAfterCommit(PARTICIPANT + ":" + userId + ":" + eventId);
+    }
+
+    // 이벤트 삭제 시 해당 이벤트의 모든 참가자
+    public void evictEvent(Long eventId) {
+        publishAfterCommit(EVENT + ":" + eventId);
+    }
+
+    // 다른 노드(자신 포함)에서 발행한 무효화 메시지 수신 시 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = pubSubRedisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body != null) {
+            invalidate(String.valueOf(body));
+        }
+    }
+
+    private void publishAfterCommit(String invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(invalidation);
+                }
+            });
+        } else {
+            publish(invalidation);
+        }
+    }
+
+    private void publish(String invalidation) {
+        invalidate(invalidation);
+        pubSubRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, invalidation);
+    }
+
+    private void invalidate(String invalidation) {
+        String[] parts = invalidation.split(":");
+        switch (parts[0]) {
+            case USER -> userRoles.invalidate(Long.valueOf(parts[1]));
+            case MEMBER -> memberships.invalidate(new MembershipKey(Long.valueOf(parts[1]), Long.valueOf(parts[2])));
+            case GATHERING -> memberships.asMap().keySet()
+                    .removeIf(key -> key.gatheringId().equals(Long.valueOf(parts[1])));
+            case PARTICIPANT -> participations.invalidate(new ParticipationKey(Long.valueOf(parts[1]), Long.valueOf(parts[2])));
+            case EVENT -> participations.asMap().keySet()
+                    .removeIf(key -> key.eventId().equals(Long.valueOf(parts[1])));
+            default -> {
+            }
+        }
+    }
+
+    private <K, V> V get(Cache<K, V> cache, K key, Function<K, V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        V loaded = loader.apply(key);
+        cache.put(key, loaded);
+        return loaded;
+    }
+}
@@ -10,6 +10,7 @@ import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
 import nbc_final.gathering.domain.gathering.entity.Gathering;
 import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import nbc_final.gathering.domain.gathering.service.UserGatheringCache;
 import nbc_final.gathering.domain.member.dto.MemberElasticDto;
 import nbc_final.gathering.domain.member.dto.response.MemberResponseDto;
 import nbc_final.gathering.domain.member.entity.Member;
@@ -37,6 +38,8 @@ public class MemberService {
     private final UserRepository userRepository;
     private final MemberElasticSearchRepository memberElasticSearchRepository;
     private final AlarmService alarmService;
+    private final UserGatheringCache userGatheringCache;
+    private final AccessControlService accessControlService;
 
     @Transactional
     public MemberResponseDto requestToJoin(AuthUser authUser, Long gatheringId) {
@@ -71,6 +74,7 @@ public class MemberService {
         // 새로운 가입 요청 처리 (PENDING 상태로 저장)
         Member newMember = new Member(user, savedGathering, MemberRole.GUEST, MemberStatus.PENDING);
         memberRepository.save(newMember);
+        accessControlService.evictMembership(user.getId(), gatheringId);
 
         //엘라스틱 서치 추가
         MemberElasticDto memberElasticDto = MemberElasticDto.of(newMember);
@@ -104,18 +108,14 @@ public class MemberService {
         // 소모임 조회
         Gathering gathering = member.getGathering();
 
-        // 현재 로그인한 사용자가 소모임의 HOST인지 확인
-        User user = userRepository.findById(authUser.getUserId())
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
+        // 현재 로그인한 사용자가 소모임의 HOST인지 확인 (캐시된 권한 정보 사용)
+        AccessControlService.MemberAccess currentMember = getCurrentMemberAccess(authUser, gathering.getId());
 
-        Member currentMember = memberRepository.findByUserAndGathering(user, gathering)
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER));
-
-        if (currentMember.getRole() != MemberRole.HOST) {
+        if (currentMember.role() != MemberRole.HOST) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
 
-        if (currentMember.getStatus() != MemberStatus.APPROVED) {
+        if (currentMember.status() != MemberStatus.APPROVED) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
 
@@ -139,6 +139,10 @@ public class MemberService {
         member.approve();
         gathering.updateGatheirngCount(gathering.getGatheringCount() + 1);
 
+        // 승인된 멤버의 가입 소모임 목록, 권한 캐시 무효화
+        userGatheringCache.evict(member.getUser().getId());
+        accessControlService.evictMembership(member.getUser().getId(), gathering.getId());
+
         // 승인된 멤버에게 알림 메시지 전송
         String guestMessage = gathering.getTitle() + " 소모임에 가입이 승인되었습니다.";
         AlarmDto.AlarmMessageReq guestAlarmMessageReq = new AlarmDto.AlarmMessageReq(member.getUser().getId(), guestMessage);
@@ -146,7 +150,7 @@ public class MemberService {
 
         // 호스트에게 알림 메시지 전송
         String hostMessage = member.getUser().getNickname() + "이(가) " + gathering.getTitle() + " 소모임에 가입했습니다.";
-        AlarmDto.AlarmMessageReq hostAlarmMessageReq = new AlarmDto.AlarmMessageReq(currentMember.getUser().getId(), hostMessage);
+        AlarmDto.AlarmMessageReq hostAlarmMessageReq = new AlarmDto.AlarmMessageReq(authUser.getUserId(), hostMessage);
         alarmService.sendAlarm(hostAlarmMessageReq);  // 호스트에게 알림 전송
 
         return MemberResponseDto.from(member);
@@ -156,26 +160,24 @@ public class MemberService {
 
         // ADMIN인지 확인
         if (!isAdmin(authUser)) {
-            // ADMIN이 아닌 경우 현재 사용자의 멤버 정보 가져오기
-            User user = userRepository.findById(authUser.getUserId())
-                    .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
-
-            Member currentUserMember = memberRepository.findByUserAndGathering(user, gatheringRepository.findById(gatheringId)
-                            .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_GATHERING)))
-                    .orElseThrow(() -> new ResponseCodeException(ResponseCode.FORBIDDEN));
+            // ADMIN이 아닌 경우 현재 사용자의 멤버 정보 가져오기 (캐시된 권한 정보 사용)
+            AccessControlService.MemberAccess currentUserMember = accessControlService.getMembership(authUser.getUserId(), gatheringId);
+            if (!currentUserMember.isMember()) {
+                throw new ResponseCodeException(ResponseCode.FORBIDDEN);
+            }
 
             // 현재 사용자의 역할이 HOST 또는 GUEST가 아니면 조회 불가
-            if (currentUserMember.getRole() != MemberRole.HOST && currentUserMember.getRole() != MemberRole.GUEST) {
+            if (currentUserMember.role() != MemberRole.HOST && currentUserMember.role() != MemberRole.GUEST) {
                 throw new ResponseCodeException(ResponseCode.FORBIDDEN);
             }
 
             // 현재 사용자의 상태가 APPROVED가 아니면 조회 불가
-            if (currentUserMember.getStatus() != MemberStatus.APPROVED) {
+            if (currentUserMember.status() != MemberStatus.APPROVED) {
                 throw new ResponseCodeException(ResponseCode.FORBIDDEN);
             }
 
             // GUEST는 APPROVED 상태의 멤버만 조회 가능
-            if (currentUserMember.getRole() == MemberRole.GUEST) {
+            if (currentUserMember.role() == MemberRole.GUEST) {
                 return memberRepository.findAllByGatheringId(gatheringId).stream()
                         .filter(member -> member.getStatus() == MemberStatus.APPROVED) // APPROVED 상태의 멤버만 필터링
                         .map(MemberResponseDto::from)
@@ -197,25 +199,24 @@ public class MemberService {
 
         // ADMIN인지 확인
         if (!isAdmin(authUser)) {
-            // ADMIN이 아니면 현재 사용자의 멤버 정보 가져오기
-            User user = userRepository.findById(authUser.getUserId())
-                    .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
-
-            Member currentUserMember = memberRepository.findByUserAndGathering(user, gathering)
-                    .orElseThrow(() -> new ResponseCodeException(ResponseCode.FORBIDDEN));
+            // ADMIN이 아니면 현재 사용자의 멤버 정보 가져오기 (캐시된 권한 정보 사용)
+            AccessControlService.MemberAccess currentUserMember = accessControlService.getMembership(authUser.getUserId(), gathering.getId());
+            if (!currentUserMember.isMember()) {
+                throw new ResponseCodeException(ResponseCode.FORBIDDEN);
+            }
 
             // 현재 사용자의 역할이 HOST 또는 GUEST가 아니면 조회 불가
-            if (currentUserMember.getRole() != MemberRole.GUEST && currentUserMember.getRole() != MemberRole.HOST) {
+            if (currentUserMember.role() != MemberRole.GUEST && currentUserMember.role() != MemberRole.HOST) {
                 throw new ResponseCodeException(ResponseCode.FORBIDDEN);
             }
 
             // 현재 사용자의 상태가 APPROVED가 아니면 조회 불가
-            if (currentUserMember.getStatus() != MemberStatus.APPROVED) {
+            if (currentUserMember.status() != MemberStatus.APPROVED) {
                 throw new ResponseCodeException(ResponseCode.FORBIDDEN);
             }
 
             // GUEST는 APPROVED 상태의 멤버만 조회 가능
-            if (currentUserMember.getRole() == MemberRole.GUEST) {
+            if (currentUserMember.role() == MemberRole.GUEST) {
                 Member member = memberRepository.findByIdAndGatheringId(memberId, gatheringId)
                         .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER));
 
@@ -241,10 +242,6 @@ public class MemberService {
         Member memberToDelete = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER));
 
-        // 현재 로그인한 사용자 정보 조회
-        User user = userRepository.findById(authUser.getUserId())
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
-
         // 관리자 권한 확인
         boolean isAdmin = authUser.getAuthorities().stream()
                 .anyMatch(authority -> authority.getAuthority().equals(UserRole.Authority.ADMIN));
@@ -252,15 +249,16 @@ public class MemberService {
         // 관리자는 멤버 상태나 역할에 상관없이 삭제 가능
         if (isAdmin) {
             memberRepository.delete(memberToDelete);
+            userGatheringCache.evict(memberToDelete.getUser().getId());
+            accessControlService.evictMembership(memberToDelete.getUser().getId(), memberToDelete.getGathering().getId());
             return;
         }
 
-        // 소모임 내 현재 사용자의 Member 정보를 가져옴 (현재 사용자의 역할 및 상태를 확인하기 위해)
-        Member currentUserMember = memberRepository.findByUserAndGathering(user, memberToDelete.getGathering())
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER));
+        // 소모임 내 현재 사용자의 멤버 권한을 가져옴 (현재 사용자의 역할 및 상태를 확인하기 위해)
+        AccessControlService.MemberAccess currentUserMember = getCurrentMemberAccess(authUser, memberToDelete.getGathering().getId());
 
         // 현재 사용자가 HOST이고 상태가 APPROVED인지 확인
-        if (currentUserMember.getRole() != MemberRole.HOST || currentUserMember.getStatus() != MemberStatus.APPROVED) {
+        if (!currentUserMember.isApprovedHost()) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN); // 권한이 없을 경우 예외 발생
         }
 
@@ -276,7 +274,7 @@ public class MemberService {
 
         // 호스트에게 알람 전송
         AlarmDto.AlarmMessageReq hostAlarmMessageReq = new AlarmDto.AlarmMessageReq(
-                currentUserMember.getUser().getId(),
+                authUser.getUserId(),
                 memberName + "이(가) " + gatheringTitle + " 소모임에서 삭제되었습니다."
         );
         alarmService.sendAlarm(hostAlarmMessageReq);  // 호스트에게 알림 전송
@@ -284,6 +282,10 @@ public class MemberService {
         // 삭제하려는 멤버는 PENDING 상태에서도 삭제 가능하므로 멤버의 상태는 체크하지 않음
         // 멤버 삭제 진행
         memberRepository.delete(memberToDelete);
+
+        // 삭제된 멤버의 가입 소모임 목록, 권한 캐시 무효화
+        userGatheringCache.evict(memberToDelete.getUser().getId());
+        accessControlService.evictMembership(memberToDelete.getUser().getId(), memberToDelete.getGathering().getId());
     }
 
     @Transactional
@@ -298,27 +300,23 @@ public class MemberService {
             throw new ResponseCodeException(ResponseCode.ALREADY_MEMBER); // PENDING 상태가 아니라면 거절 불가
         }
 
-        // 현재 로그인한 사용자를 가져오기
-        User user = userRepository.findById(authUser.getUserId())
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
-
-        // 로그인한 사용자가 속한 소모임의 멤버 정보 가져오기
+        // 로그인한 사용자가 속한 소모임의 멤버 권한 가져오기 (캐시된 권한 정보 사용)
         Gathering gathering = memberToReject.getGathering();
-        Member currentUserMember = memberRepository.findByUserAndGathering(user, gathering)
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER));
+        AccessControlService.MemberAccess currentUserMember = getCurrentMemberAccess(authUser, gathering.getId());
 
         // 현재 사용자의 역할이 HOST인지 확인
-        if (currentUserMember.getRole() != MemberRole.HOST) {
+        if (currentUserMember.role() != MemberRole.HOST) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN); // HOST가 아닌 경우 거절 불가
         }
 
         // 현재 사용자의 상태가 APPROVED인지 확인
-        if (currentUserMember.getStatus() != MemberStatus.APPROVED) {
+        if (currentUserMember.status() != MemberStatus.APPROVED) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN); // APPROVED 상태가 아니면 거절 불가
         }
 
         // 멤버 거절 처리 (상태를 REJECTED로 변경)
         memberToReject.reject();
+        accessControlService.evictMembership(memberToReject.getUser().getId(), gathering.getId());
 
         // 거절된 멤버에게 알림 전송
         AlarmDto.AlarmMessageReq memberAlarmMessageReq = new AlarmDto.AlarmMessageReq(
@@ -329,7 +327,7 @@ public class MemberService {
 
         // 호스트에게 알림 전송
         AlarmDto.AlarmMessageReq hostAlarmMessageReq = new AlarmDto.AlarmMessageReq(
-                currentUserMember.getUser().getId(),
+                authUser.getUserId(),
                 memberToReject.getUser().getNickname() + "의 가입 요청이 거절되었습니다."
         );
         alarmService.sendAlarm(hostAlarmMessageReq);  // 호스트에게 알림 전송
@@ -345,41 +343,31 @@ public class MemberService {
         Gathering gathering = gatheringRepository.findById(gatheringId)
                 .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_GATHERING, "소모임이 존재하지 않습니다."));
 
-        // 현재 로그인한 사용자가 소모임의 호스트인지 확인
-        User user = userRepository.findById(authUser.getUserId())
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER, "사용자가 존재하지 않습니다."));
-
-
-        // 호스트 권한과 승인 상태 확인
-        Member currentMember = memberRepository.findByUserAndGathering(user, gathering)
-                .orElseThrow(() -> new ResponseCodeException(ResponseCode.FORBIDDEN, "사용자에게 권한이 없습니다."));
+        // 현재 로그인한 사용자의 호스트 권한과 승인 상태 확인 (캐시된 권한 정보 사용)
+        AccessControlService.MemberAccess currentMember = accessControlService.getMembership(authUser.getUserId(), gatheringId);
+        if (!currentMember.isMember()) {
+            throw new ResponseCodeException(ResponseCode.FORBIDDEN, "사용자에게 권한이 없습니다.");
+        }
 
         // 호스트가 아니거나 승인되지 않은 상태일 경우 예외 발생
-        if (currentMember.getRole() != MemberRole.HOST || currentMember.getStatus() != MemberStatus.APPROVED) {
+        if (!currentMember.isApprovedHost()) {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN, "호스트 권한 또는 승인 상태가 아닙니다.");
         }
 
         // 소모임 내 승인된 게스트 멤버 조회
-        List<Member> guestMembers = memberRepository.findAllByGatheringId(gatheringId).stream()
+        List<Long> guestUserIds = memberRepository.findAllByGatheringId(gatheringId).stream()
                 .filter(member -> member.getRole() == MemberRole.GUEST && member.getStatus() == MemberStatus.APPROVED)
+                .map(member -> member.getUser().getId())
                 .collect(Collectors.toList());
 
-        if (guestMembers.isEmpty()) {
-            System.err.println("오류: 승인된 게스트 멤버가 없습니다. 소모임 ID: " + gatheringId);
+        if (guestUserIds.isEmpty()) {
+            log.warn("승인된 게스트 멤버가 없습니다. 소모임 ID: {}", gatheringId);
             return; // 메세지를 보낼 게스트가 없으면 종료
         }
 
-        // 각 게스트 멤버에게 알림 전송
-        guestMembers.forEach(guest -> {
-            // 알림 요청을 위한 AlarmMessageReq 객체 생성
-            AlarmDto.AlarmMessageReq alarmMessageReq = new AlarmDto.AlarmMessageReq(
-                    guest.getUser().getId(), message
-            );
-
-            // AlarmService를 통해 알림 전송
-            alarmService.sendAlarm(alarmMessageReq); // 알림 전송
-            System.out.println("알림 전송 성공: 멤버 ID " + guest.getUser().getId() + ", 메시지: " + message);
-        });
+        // 게스트 멤버들에게 알림 일괄 전송 (커밋 이후 비동기)
+        alarmService.sendAlarmToAll(guestUserIds, message);
+        log.info("알림 일괄 전송 요청: 소모임 ID {}, 수신자 {}명", gatheringId, guestUserIds.size());
     }
 
 
@@ -390,6 +378,15 @@ public class MemberService {
                 .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(UserRole.Authority.ADMIN));
     }
 
+    // 현재 사용자의 멤버 권한 (멤버가 아니면 NOT_FOUND_MEMBER)
+    private AccessControlService.MemberAccess getCurrentMemberAccess(AuthUser authUser, Long gatheringId) {
+        AccessControlService.MemberAccess memberAccess = accessControlService.getMembership(authUser.getUserId(), gatheringId);
+        if (!memberAccess.isMember()) {
+            throw new ResponseCodeException(ResponseCode.NOT_FOUND_MEMBER);
+        }
+        return memberAccess;
+    }
+
     private User findUserById(AuthUser authUser) {
         return userRepository.findById(authUser.getUserId()).orElseThrow(
                 () -> new ResponseCodeException(ResponseCode.NOT_FOUND_USER));
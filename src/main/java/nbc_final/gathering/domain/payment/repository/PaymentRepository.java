@@ -5,7 +5,12 @@ import nbc_final.gathering.domain.payment.entity.Payment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -20,4 +25,20 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Page<Payment> findAllByGathering_UserId(Long userId, Pageable pageable);
 
+    // 결제 타임아웃 : 아직 결제되지 않은 주문의 광고를 FAILED 로 변경 (결제 상태 변경 전에 실행)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Ad a SET a.status = nbc_final.gathering.domain.ad.entity.AdStatus.FAILED " +
+            "WHERE a.adId IN (SELECT p.ad.adId FROM Payment p WHERE p.orderId IN :orderIds AND p.status IN :statuses)")
+    int failAdsOfPayments(@Param("orderIds") Collection<String> orderIds,
+                          @Param("statuses") Collection<PayStatus> statuses);
+
+    // 결제 타임아웃 : 아직 결제되지 않은 주문만 FAILED 로 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = nbc_final.gathering.domain.payment.entity.PayStatus.FAILED, " +
+            "p.failReason = :reason, p.updatedAt = :now " +
+            "WHERE p.orderId IN :orderIds AND p.status IN :statuses")
+    int failPayments(@Param("orderIds") Collection<String> orderIds,
+                     @Param("statuses") Collection<PayStatus> statuses,
+                     @Param("reason") String reason,
+                     @Param("now") LocalDateTime now);
 }
@@ -24,7 +24,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +43,7 @@ public class PaymentService {
     private final MemberRepository memberRepository;
     private final RestTemplate restTemplate;
     private final AdRepository adRepository;
+    private final PaymentTimeoutScheduler paymentTimeoutScheduler;
 
     @Value("${payment.toss.url}")
     private String tossUrl;
@@ -57,7 +57,6 @@ public class PaymentService {
     private final RedisTemplate<String, Object> redisTemplate;
 
     private static final long IDEMPOTENCY_KEY_TTL_SECONDS = 1800; // 30분
-    private static final long PAYMENT_TIMEOUT_SECONDS = 1800; // 30분
 
     // 결제 요청
     @Transactional(isolation = Isolation.SERIALIZABLE)
@@ -115,6 +114,7 @@ public class PaymentService {
             // 결제 완료 처리
             payment.completePayment(paymentKey);
             paymentRepository.save(payment);
+            paymentTimeoutScheduler.cancel(orderId);
 
             // 광고 상태 업데이트
             Ad ad = payment.getAd();
@@ -137,6 +137,7 @@ public class PaymentService {
 
         payment.failPayment(reason);
         paymentRepository.save(payment);
+        paymentTimeoutScheduler.cancel(orderId);
 
         Ad ad = payment.getAd();
         ad.updateStatus(AdStatus.FAILED);
@@ -171,6 +172,7 @@ public class PaymentService {
             // 결제 취소 처리
             payment.cancelPayment(cancelRequestDto.getCancelReason());
             paymentRepository.save(payment);
+            paymentTimeoutScheduler.cancel(payment.getOrderId());
 
             // 광고 상태 CANCELED로 업데이트
             ad.updateStatus(AdStatus.CANCELED);
@@ -191,8 +193,8 @@ public class PaymentService {
             throw new ResponseCodeException(ResponseCode.FORBIDDEN);
         }
 
-        String redisKey = "payments:timeout:" + orderId;
-        redisTemplate.opsForValue().set(redisKey, "PENDING", PAYMENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // 결제 마감 등록 (마감이 지나면 PaymentTimeoutScheduler 가 결제 실패 처리)
+        paymentTimeoutScheduler.schedule(orderId);
 
         return PaymentSuccessResponseDto.from(payment);
     }
@@ -286,23 +288,4 @@ public class PaymentService {
             return false;
         }
     }
-
-    // 결제 타임아웃
-    @Scheduled(fixedRate = 60000)
-    public void checkPaymentTimeouts() {
-        Set<String> keys = redisTemplate.keys("payments:timeout:*");
-        if (keys != null) {
-            for (String key : keys) {
-                String orderId = key.split(":")[2];
-                Payment payment = paymentRepository.findByOrderId(orderId)
-                        .orElse(null);
-                if (payment != null && payment.getStatus() == PayStatus.PENDING) {
-                    log.info("결제 타임아웃 발생: Order ID = {}", orderId);
-
-                    handlePaymentFailure(orderId, "결제 타임아웃 발생");
-                    redisTemplate.delete(key);
-                }
-            }
-        }
-    }
 }
@@ -0,0 +1,152 @@
+package nbc_final.gathering.domain.payment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.payment.entity.PayStatus;
+import nbc_final.gathering.domain.payment.repository.PaymentRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 결제 타임아웃 처리
+ * - payments:timeouts : 주문 ID -> 마감 시각(ms) ZSET, 결제 상세 조회 시 등록하고 결제 완료 / 실패 / 취소 시 제거
+ * - 리더 임대를 가진 노드 하나만 주기적으로 마감이 지난 주문을 꺼내고, 꺼낸 주문은 처리 제한 시간(CLAIM_VISIBILITY) 동안 숨겨 다시 꺼내지 않음
+ * - 꺼낸 주문은 UPDATE 한 번으로 아직 결제되지 않은 것만 FAILED 처리 (이미 결제된 주문은 조건에서 빠짐)하고, 커밋한 뒤 ZSET 에서 제거
+ * 커밋 전에 노드가 내려가면 처리 제한 시간이 지나 다른 노드가 다시 꺼냅니다.
+ * DB 반영에 실패하면 꺼낸 주문을 다음 주기 시각으로 ZSET 에 다시 넣고 이번 주기를 멈춥니다 (같은 주기에 다시 꺼내 반복 실패하지 않도록).
+ */
+@Slf4j
+@Component
+public class PaymentTimeoutScheduler {
+
+    public static final String TIMEOUTS_KEY = "payments:timeouts";
+    public static final String LEADER_KEY = "payments:timeouts:leader";
+    static final String TIMEOUT_REASON = "결제 타임아웃 발생";
+
+    private static final Duration PAYMENT_TIMEOUT = Duration.ofMinutes(30);
+    private static final long POLL_INTERVAL_MILLIS = 5_000;
+    // 리더가 내려가면 임대 만료 후 다른 노드가 이어받음
+    private static final Duration LEADER_LEASE = Duration.ofMillis(POLL_INTERVAL_MILLIS * 3);
+    // 꺼낸 주문을 숨기는 시간, 리더 임대 동안은 다른 노드가 같은 주문을 다시 꺼내지 않음
+    static final Duration CLAIM_VISIBILITY = LEADER_LEASE;
+    static final int BATCH_SIZE = 500;
+    // 결제되지 않은 상태 (결제 요청 전 PENDING, 결제 요청 후 READY)
+    private static final List<PayStatus> UNPAID_STATUSES = List.of(PayStatus.PENDING, PayStatus.READY);
+
+    private final PaymentRepository paymentRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> paymentTimeoutClaimScript;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter timedOutCounter;
+
+    @SuppressWarnings("rawtypes")
+    public PaymentTimeoutScheduler(PaymentRepository paymentRepository,
+                                   RedisTemplate<String, Object> redisTemplate,
+                                   RedisScript<List> paymentTimeoutClaimScript,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.redisTemplate = redisTemplate;
+        this.paymentTimeoutClaimScript = paymentTimeoutClaimScript;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timedOutCounter = meterRegistry.counter("payment.timeout.failed");
+    }
+
+    // 결제 마감 등록 (이미 등록된 주문이면 마감을 다시 계산)
+    public void schedule(String orderId) {
+        long deadline = System.currentTimeMillis() + PAYMENT_TIMEOUT.toMillis();
+        redisTemplate.opsForZSet().add(TIMEOUTS_KEY, orderId, deadline);
+    }
+
+    // 결제 완료 / 실패 / 취소된 주문의 마감 제거 (트랜잭션 안이면 커밋 후, 롤백되면 마감 유지)
+    public void cancel(String orderId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.opsForZSet().remove(TIMEOUTS_KEY, orderId);
+                }
+            });
+        } else {
+            redisTemplate.opsForZSet().remove(TIMEOUTS_KEY, orderId);
+        }
+    }
+
+    @Scheduled(fixedDelay = POLL_INTERVAL_MILLIS)
+    public void processScheduled() {
+        failDueTimeouts(System.currentTimeMillis());
+    }
+
+    /**
+     * nowMillis 까지 마감이 지난 주문을 꺼내 결제 실패 처리합니다. 리더가 아니면 아무것도 하지 않습니다.
+     *
+     * @return 결제 실패 처리한 주문 수
+     */
+    public int failDueTimeouts(long nowMillis) {
+        int failed = 0;
+        List<String> orderIds;
+        while (!(orderIds = claimDue(nowMillis)).isEmpty()) {
+            Integer updated = failPayments(orderIds, nowMillis);
+            if (updated == null) {
+                break;
+            }
+            failed += updated;
+            if (orderIds.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (failed > 0) {
+            timedOutCounter.increment(failed);
+            log.info("결제 타임아웃 처리 완료: {}건", failed);
+        }
+        return failed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> claimDue(long nowMillis) {
+        List<Object> claimed = redisTemplate.execute(paymentTimeoutClaimScript, List.of(TIMEOUTS_KEY, LEADER_KEY),
+                nodeId, LEADER_LEASE.toMillis(), nowMillis, BATCH_SIZE, CLAIM_VISIBILITY.toMillis());
+        if (claimed == null) {
+            return List.of();
+        }
+        return claimed.stream().map(String::valueOf).toList();
+    }
+
+    /**
+     * @return 결제 실패 처리한 주문 수, DB 반영에 실패하면 null
+     */
+    private Integer failPayments(List<String> orderIds, long nowMillis) {
+        Integer updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                paymentRepository.failAdsOfPayments(orderIds, UNPAID_STATUSES);
+                return paymentRepository.failPayments(orderIds, UNPAID_STATUSES, TIMEOUT_REASON, LocalDateTime.now());
+            });
+        } catch (RuntimeException e) {
+            // 꺼낸 주문을 다음 주기 시각으로 되돌려 다음 주기에 다시 처리
+            log.warn("결제 타임아웃 DB 반영 실패, 다음 주기에 재시도: {}건, {}", orderIds.size(), e.getMessage());
+            long retryAt = nowMillis + POLL_INTERVAL_MILLIS;
+            orderIds.forEach(orderId -> redisTemplate.opsForZSet().add(TIMEOUTS_KEY, orderId, retryAt));
+            return null;
+        }
+
+        // 커밋한 뒤 마감 제거 (제거 전에 내려가면 처리 제한 시간 후 다시 꺼내지만 이미 FAILED 라 UPDATE 대상에서 빠짐)
+        redisTemplate.opsForZSet().remove(TIMEOUTS_KEY, orderIds.toArray());
+        return updated == null ? 0 : updated;
+    }
+}
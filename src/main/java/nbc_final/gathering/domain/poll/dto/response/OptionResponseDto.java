@@ -3,15 +3,22 @@ package nbc_final.gathering.domain.poll.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
+import nbc_final.gathering.domain.poll.entity.Option;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class OptionResponseDto {
 
-    private Long id;
+    private int optionNum;
     private String name;
     private int voteCount;
 
+    public static OptionResponseDto of(Option option, int voteCount) {
+        return new OptionResponseDto(
+                option.getId().getOptionNum(),
+                option.getName(),
+                voteCount
+        );
+    }
 }
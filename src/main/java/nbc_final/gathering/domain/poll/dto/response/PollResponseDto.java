@@ -4,12 +4,10 @@ package nbc_final.gathering.domain.poll.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import nbc_final.gathering.domain.poll.entity.Option;
 import nbc_final.gathering.domain.poll.entity.Poll;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,16 +18,23 @@ public class PollResponseDto {
     private Long gatheringId;
     private Long eventId;
     private String agenda;
-    private List<Option> options;
+    private List<OptionResponseDto> options;
 
     public static PollResponseDto of(Poll poll) {
+        return of(poll, Map.of());
+    }
+
+    // 득표 수는 Redis 득표 수 기준 (없는 선택지는 DB 에 반영된 득표 수)
+    public static PollResponseDto of(Poll poll, Map<Integer, Integer> voteCounts) {
         return new PollResponseDto(
                 poll.getId(),
                 poll.getGathering().getId(),
                 poll.getEvent().getId(),
                 poll.getAgenda(),
-                poll.getOptions() // (Option을 조회하기 위해 페이지에 존재하는 Poll 숫자만큼 N + 1 문제 발생해서 Batch Size 설정으로 해결)
+                poll.getOptions().stream() // (Option을 조회하기 위해 페이지에 존재하는 Poll 숫자만큼 N + 1 문제 발생해서 Batch Size 설정으로 해결)
+                        .map(option -> OptionResponseDto.of(option,
+                                voteCounts.getOrDefault(option.getId().getOptionNum(), option.getVoteCount())))
+                        .toList()
         );
     }
 }
-
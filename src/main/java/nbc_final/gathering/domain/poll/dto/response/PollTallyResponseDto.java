@@ -0,0 +1,27 @@
+package nbc_final.gathering.domain.poll.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// 실시간 투표 현황 (/topic/poll.{pollId} 로 전송)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PollTallyResponseDto {
+
+    private Long pollId;
+    private Map<Integer, Integer> voteCounts; // 선택지 번호 -> 득표 수
+    private int totalVotes;
+
+    public static PollTallyResponseDto of(Long pollId, Map<Integer, Integer> voteCounts) {
+        return new PollTallyResponseDto(
+                pollId,
+                new TreeMap<>(voteCounts),
+                voteCounts.values().stream().mapToInt(Integer::intValue).sum()
+        );
+    }
+}
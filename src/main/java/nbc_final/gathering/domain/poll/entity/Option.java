@@ -45,6 +45,11 @@ public class Option{
         this.voteCount--;
     }
 
+    // 득표 수 반영 (Redis 득표 수를 DB 에 반영)
+    public void updateVoteCount(int voteCount) {
+        this.voteCount = voteCount;
+    }
+
     // 투표에 선택지 추가
     public void setPoll(Poll poll) {
         this.poll = poll;
@@ -7,11 +7,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
+
 public interface PollRepository extends JpaRepository<Poll, Long> {
 
     // ( Option을 조회하기 위해 페이지에 존재하는 Poll 숫자만큼 N + 1 문제 발생) => BatchSize 조절로 해결
     Page<Poll> findAllByEventId(Long eventId, Pageable pageable);
 
+    // 투표가 속한 이벤트 ID (실시간 현황 구독 권한 확인용)
+    @Query("SELECT p.event.id FROM Poll p WHERE p.id = :pollId")
+    Optional<Long> findEventIdById(@Param("pollId") Long pollId);
+
 
     /* 특정 이벤트 안의 모든 투표 조회(각 투표의 옵션 포함)
        Fetch Join으로 N + 1 문제 해결 => ~ToMany 관계에서 Fetch Join과 Paging을 같이 썼기 때문에 OOM 발생 가능성 */
@@ -0,0 +1,5 @@
+package nbc_final.gathering.domain.poll.repository;
+
+// 투표별 유저가 선택한 선택지
+public record PollVoteSelection(Long userId, int optionNum) {
+}
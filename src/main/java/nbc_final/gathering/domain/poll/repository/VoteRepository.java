@@ -2,10 +2,23 @@ package nbc_final.gathering.domain.poll.repository;
 
 import nbc_final.gathering.domain.poll.entity.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface VoteRepository extends JpaRepository<Vote, Long> {
 
     Optional<Vote> findByUserIdAndPollId(Long userId, Long pollId);
+
+    // 투표 완료 상태인 표의 유저별 선택지 (Redis 득표 수 재작성용)
+    @Query("SELECT new nbc_final.gathering.domain.poll.repository.PollVoteSelection(v.id.userId, v.selectedOption) " +
+            "FROM Vote v WHERE v.id.pollId = :pollId AND v.isDone = true")
+    List<PollVoteSelection> findSelectionsByPollId(@Param("pollId") Long pollId);
+
+    // 투표 내 특정 유저들의 표 (Redis 투표 DB 반영용)
+    @Query("SELECT v FROM Vote v WHERE v.id.pollId = :pollId AND v.id.userId IN :userIds")
+    List<Vote> findAllByPollIdAndUserIds(@Param("pollId") Long pollId, @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,106 @@
+package nbc_final.gathering.domain.poll.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.poll.dto.response.PollTallyResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 투표 현황 전송 (STOMP /topic/poll.{pollId}, RabbitMQ 브로커 릴레이)
+ * 투표마다 전송하지 않고 투표별로 PUBLISH_INTERVAL_MS 동안 들어온 투표를 득표 수 스냅샷 한 프레임으로 묶어서 전송합니다.
+ * - 전송 창은 Redis SET NX 로 열기 때문에 서버가 여러 대여도 투표별 전송 창은 하나
+ * - 창을 닫은(DEL) 뒤 득표 수를 읽으므로 창을 열지 못한 투표도 모두 스냅샷에 포함
+ */
+@Slf4j
+@Component
+public class PollResultPublisher {
+
+    public static final String DESTINATION_PREFIX = "/topic/poll.";
+    private static final long PUBLISH_INTERVAL_MS = 500;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final PollVoteCounter pollVoteCounter;
+    private final long publishIntervalMs;
+    private final Set<Long> pendingPolls = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService publishScheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("poll-result-"));
+
+    @Autowired
+    public PollResultPublisher(SimpMessagingTemplate messagingTemplate,
+                               RedisTemplate<String, Object> redisTemplate,
+                               PollVoteCounter pollVoteCounter) {
+        this(messagingTemplate, redisTemplate, pollVoteCounter, PUBLISH_INTERVAL_MS);
+    }
+
+    PollResultPublisher(SimpMessagingTemplate messagingTemplate,
+                        RedisTemplate<String, Object> redisTemplate,
+                        PollVoteCounter pollVoteCounter,
+                        long publishIntervalMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.pollVoteCounter = pollVoteCounter;
+        this.publishIntervalMs = publishIntervalMs;
+    }
+
+    public static String destination(Long pollId) {
+        return DESTINATION_PREFIX + pollId;
+    }
+
+    public static String windowKey(Long pollId) {
+        return "poll:" + pollId + ":publishWindow";
+    }
+
+    // 투표가 반영된 뒤 호출, 열린 전송 창이 없을 때만 전송 예약 (전송 실패가 투표를 실패시키지 않도록 예외는 기록만)
+    public void votesChanged(Long pollId) {
+        try {
+            // 전송 전에 서버가 내려가도 창이 남지 않도록 만료 설정
+            Boolean opened = redisTemplate.opsForValue()
+                    .setIfAbsent(windowKey(pollId), 1, Duration.ofMillis(publishIntervalMs * 10));
+            if (Boolean.TRUE.equals(opened)) {
+                pendingPolls.add(pollId);
+                publishScheduler.schedule(() -> publish(pollId), publishIntervalMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception e) {
+            log.warn("실시간 투표 현황 전송 예약 실패: 투표 ID={}, {}", pollId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publishScheduler.shutdown();
+        // 종료 전에 예약된 현황을 모두 전송
+        new ArrayList<>(pendingPolls).forEach(this::publish);
+    }
+
+    private void publish(Long pollId) {
+        if (!pendingPolls.remove(pollId)) {
+            return;
+        }
+
+        try {
+            redisTemplate.delete(windowKey(pollId));
+            Map<Integer, Integer> voteCounts = pollVoteCounter.peekCounts(pollId);
+            if (voteCounts.isEmpty()) {
+                // 그 사이 투표가 삭제됨
+                return;
+            }
+            messagingTemplate.convertAndSend(destination(pollId), PollTallyResponseDto.of(pollId, voteCounts));
+        } catch (Exception e) {
+            log.error("실시간 투표 현황 전송 실패: 투표 ID={}, {}", pollId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package nbc_final.gathering.domain.poll.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.poll.entity.Option;
+import nbc_final.gathering.domain.poll.entity.Poll;
+import nbc_final.gathering.domain.poll.repository.PollVoteSelection;
+import nbc_final.gathering.domain.poll.repository.VoteRepository;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 투표 득표 수 관리 (Redis)
+ * - poll:{id}:counts : 선택지 번호 -> 득표 수 Hash
+ * - poll:{id}:votes  : userId -> 선택지 번호 Hash (투표 완료 상태인 유저만)
+ * - poll:{id}:dirty  : DB 반영 대기 userId Set, poll:dirty : DB 반영 대기 pollId Set
+ * - poll:{id}:flush:lock : DB 반영 임대 (한 투표의 반영은 한 번에 하나만)
+ * 선택 · 취소 · 변경과 득표 수 반영을 하나의 Lua 스크립트로 처리하므로 동시 투표에도 표가 유실되지 않으며,
+ * DB(votes / poll_options)에는 PollVoteFlusher 가 모아서 반영합니다.
+ * 득표 수 키가 사라진 경우(장애 조치, flush) 처음 접근할 때 DB 표 기준으로 다시 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PollVoteCounter {
+
+    public static final String DIRTY_POLLS_KEY = "poll:dirty";
+
+    private static final long CANCELLED = 0;
+    private static final long INVALID_OPTION = -2;
+    private static final long NOT_INITIALIZED = -3;
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScript<Long> pollVoteScript;
+    private final RedisScript<Long> pollVoteInitScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> pollVoteDrainScript;
+    private final RedisScript<Long> singleFlightReleaseScript;
+    private final VoteRepository voteRepository;
+
+    public static String countsKey(Long pollId) {
+        return "poll:" + pollId + ":counts";
+    }
+
+    public static String votesKey(Long pollId) {
+        return "poll:" + pollId + ":votes";
+    }
+
+    public static String dirtyKey(Long pollId) {
+        return "poll:" + pollId + ":dirty";
+    }
+
+    public static String flushingKey(Long pollId) {
+        return "poll:" + pollId + ":dirty:flushing";
+    }
+
+    public static String flushLockKey(Long pollId) {
+        return "poll:" + pollId + ":flush:lock";
+    }
+
+    // 투표 생성 시 모든 선택지 득표 수를 0 으로 등록
+    public void initialize(Poll poll) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        poll.getOptions().forEach(option -> counts.put(String.valueOf(option.getId().getOptionNum()), 0));
+        redisTemplate.opsForHash().putAll(countsKey(poll.getId()), counts);
+    }
+
+    /**
+     * 선택지에 투표합니다. 이미 같은 선택지에 투표한 상태라면 투표를 취소하고, 다른 선택지라면 선택지를 변경합니다.
+     * 없는 선택지인 경우 INVALID_POLL_OPTION 예외를 던집니다.
+     *
+     * @return 투표 완료 상태이면 true, 투표를 취소했다면 false
+     */
+    public boolean vote(Poll poll, Long userId, int optionNum) {
+        Long pollId = poll.getId();
+        List<String> keys = List.of(countsKey(pollId), votesKey(pollId), dirtyKey(pollId), DIRTY_POLLS_KEY);
+        Long result = redisTemplate.execute(pollVoteScript, keys, userId, optionNum, pollId);
+
+        // 득표 수가 없으면 DB 표 기준으로 채운 뒤 한 번 더 시도
+        if (result != null && result == NOT_INITIALIZED) {
+            rebuild(poll);
+            result = redisTemplate.execute(pollVoteScript, keys, userId, optionNum, pollId);
+        }
+
+        if (result == null) {
+            throw new ResponseCodeException(ResponseCode.TRANSACTION_FAILED);
+        }
+        if (result == INVALID_OPTION || result == NOT_INITIALIZED) {
+            throw new ResponseCodeException(ResponseCode.INVALID_POLL_OPTION);
+        }
+        return result != CANCELLED;
+    }
+
+    // 투표 득표 수 조회 (키가 없으면 DB 기준으로 다시 채운 값)
+    public Map<Integer, Integer> getCounts(Poll poll) {
+        return getCounts(List.of(poll)).get(poll.getId());
+    }
+
+    /**
+     * 여러 투표의 득표 수를 파이프라인 HGETALL 한 번으로 조회합니다.
+     * Redis 에 득표 수가 없는 투표는 DB 표 기준으로 다시 채운 뒤 그 값을 반환합니다.
+     *
+     * @return 투표 ID 별 (선택지 번호 -> 득표 수)
+     */
+    public Map<Long, Map<Integer, Integer>> getCounts(Collection<Poll> polls) {
+        Map<Long, Map<Integer, Integer>> countsByPoll = new HashMap<>();
+        if (polls.isEmpty()) {
+            return countsByPoll;
+        }
+
+        List<Poll> pollList = new ArrayList<>(polls);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                pollList.forEach(poll -> redisOperations.opsForHash().entries(countsKey(poll.getId())));
+                return null;
+            }
+        });
+
+        for (int i = 0; i < pollList.size(); i++) {
+            Poll poll = pollList.get(i);
+            Map<Integer, Integer> counts = toCounts((Map<?, ?>) results.get(i));
+            if (counts.isEmpty() && !poll.getOptions().isEmpty()) {
+                log.info("Redis 에 득표 수가 없어 DB 기준으로 다시 채웁니다: 투표 ID={}", poll.getId());
+                counts = rebuild(poll);
+            }
+            countsByPoll.put(poll.getId(), counts);
+        }
+        return countsByPoll;
+    }
+
+    // Redis 에 저장된 득표 수를 그대로 조회 (키가 없으면 빈 Map)
+    public Map<Integer, Integer> peekCounts(Long pollId) {
+        return toCounts(redisTemplate.opsForHash().entries(countsKey(pollId)));
+    }
+
+    /**
+     * 득표 수와 유저 선택지를 DB 표 기준으로 다시 채웁니다.
+     * 그 사이 다른 요청이 먼저 채웠다면 덮어쓰지 않습니다.
+     *
+     * @return DB 표 기준 득표 수
+     */
+    public Map<Integer, Integer> rebuild(Poll poll) {
+        List<PollVoteSelection> selections = voteRepository.findSelectionsByPollId(poll.getId());
+
+        Map<Integer, Integer> counts = new LinkedHashMap<>();
+        for (Option option : poll.getOptions()) {
+            counts.put(option.getId().getOptionNum(), 0);
+        }
+        selections.forEach(selection -> counts.computeIfPresent(selection.optionNum(), (optionNum, count) -> count + 1));
+
+        List<Object> args = new ArrayList<>();
+        args.add(counts.size());
+        counts.forEach((optionNum, count) -> {
+            args.add(optionNum);
+            args.add(count);
+        });
+        selections.forEach(selection -> {
+            args.add(selection.userId());
+            args.add(selection.optionNum());
+        });
+        redisTemplate.execute(pollVoteInitScript, List.of(countsKey(poll.getId()), votesKey(poll.getId())), args.toArray());
+        return counts;
+    }
+
+    /**
+     * 투표의 DB 반영 임대를 잡습니다. 다른 노드 · 스레드가 반영 중이면 null 을 반환합니다.
+     * 반영이 멈춰도 FLUSH_LOCK_TTL 이 지나면 임대가 풀려 다음 반영이 이어받습니다.
+     *
+     * @return 임대 토큰 (unlockFlush 에 전달)
+     */
+    public String tryLockFlush(Long pollId) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(flushLockKey(pollId), token, FLUSH_LOCK_TTL);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    // DB 반영 임대 반환 (만료 후 다른 반영이 잡은 임대는 건드리지 않음)
+    public void unlockFlush(Long pollId, String token) {
+        redisTemplate.execute(singleFlightReleaseScript, List.of(flushLockKey(pollId)), token);
+    }
+
+    /**
+     * DB 반영 대기 유저를 반영 중 Set 으로 옮기고 목록을 반환합니다.
+     * 반영을 마치면 completeFlush 로 반영한 유저를 반영 중 Set 에서 빼야 하며, 실패하면 다음 반영 때 다시 포함됩니다.
+     */
+    public List<Long> drain(Long pollId) {
+        List<?> userIds = redisTemplate.execute(pollVoteDrainScript, List.of(dirtyKey(pollId), flushingKey(pollId)));
+        if (userIds == null) {
+            return List.of();
+        }
+        return userIds.stream()
+                .map(userId -> Long.valueOf(String.valueOf(userId)))
+                .toList();
+    }
+
+    // 유저별 현재 선택지 (투표 취소 상태인 유저는 결과에 포함되지 않음)
+    public Map<Long, Integer> getSelections(Long pollId, List<Long> userIds) {
+        Map<Long, Integer> selections = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return selections;
+        }
+
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(votesKey(pollId), userIds.stream().<Object>map(String::valueOf).toList());
+        for (int i = 0; i < userIds.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                selections.put(userIds.get(i), Integer.parseInt(value.toString()));
+            }
+        }
+        return selections;
+    }
+
+    // DB 반영 완료 : 이번 반영에서 꺼낸 유저만 제거 (그 사이 다른 반영이 합친 유저는 남김)
+    public void completeFlush(Long pollId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(flushingKey(pollId), userIds.toArray());
+    }
+
+    // DB 반영 대기 투표를 최대 count 개 꺼냄
+    public List<Long> popDirtyPolls(int count) {
+        List<Object> pollIds = redisTemplate.opsForSet().pop(DIRTY_POLLS_KEY, count);
+        if (pollIds == null) {
+            return List.of();
+        }
+        return pollIds.stream()
+                .map(pollId -> Long.valueOf(String.valueOf(pollId)))
+                .toList();
+    }
+
+    // DB 반영 대기 투표로 다시 등록 (반영 실패 시)
+    public void markDirty(Long pollId) {
+        redisTemplate.opsForSet().add(DIRTY_POLLS_KEY, pollId);
+    }
+
+    // 투표 삭제 시 득표 수 / 유저 선택지 / 반영 대기 키 제거
+    public void clear(Long pollId) {
+        redisTemplate.delete(List.of(countsKey(pollId), votesKey(pollId), dirtyKey(pollId), flushingKey(pollId)));
+        redisTemplate.opsForSet().remove(DIRTY_POLLS_KEY, pollId);
+    }
+
+    private Map<Integer, Integer> toCounts(Map<?, ?> entries) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        if (entries != null) {
+            entries.forEach((optionNum, count) ->
+                    counts.put(Integer.parseInt(optionNum.toString()), Integer.parseInt(count.toString())));
+        }
+        return counts;
+    }
+}
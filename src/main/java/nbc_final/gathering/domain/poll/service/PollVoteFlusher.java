@@ -0,0 +1,145 @@
+package nbc_final.gathering.domain.poll.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nbc_final.gathering.domain.poll.entity.Poll;
+import nbc_final.gathering.domain.poll.entity.Vote;
+import nbc_final.gathering.domain.poll.repository.PollRepository;
+import nbc_final.gathering.domain.poll.repository.VoteRepository;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 투표 DB 반영 작업 (write-behind)
+ * - 투표가 있었던 poll 을 poll:dirty 에서 꺼내 반영 대기 유저의 현재 선택지를 votes 에 반영
+ * - 선택지 득표 수는 Redis 득표 수를 그대로 poll_options 에 덮어씀
+ * 증감이 아닌 현재 값을 반영하므로 같은 유저를 여러 번 반영해도 결과가 같고, 실패한 투표는 다음 주기에 다시 반영합니다.
+ * 같은 투표의 반영은 임대(poll:{id}:flush:lock)로 한 번에 하나만 실행합니다.
+ */
+@Slf4j
+@Component
+public class PollVoteFlusher {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PollRepository pollRepository;
+    private final VoteRepository voteRepository;
+    private final UserRepository userRepository;
+    private final PollVoteCounter pollVoteCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushedCounter;
+
+    public PollVoteFlusher(PollRepository pollRepository,
+                           VoteRepository voteRepository,
+                           UserRepository userRepository,
+                           PollVoteCounter pollVoteCounter,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.pollRepository = pollRepository;
+        this.voteRepository = voteRepository;
+        this.userRepository = userRepository;
+        this.pollVoteCounter = pollVoteCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushedCounter = meterRegistry.counter("poll.vote.flushed");
+    }
+
+    // 1초마다 투표 반영 (이전 실행이 끝난 뒤 1초)
+    @Scheduled(fixedDelay = 1000)
+    public void flushScheduled() {
+        flushDirtyPolls();
+    }
+
+    /**
+     * 투표가 있었던 poll 을 최대 BATCH_SIZE 개 꺼내 DB 에 반영합니다.
+     *
+     * @return 반영한 유저 표 수
+     */
+    public int flushDirtyPolls() {
+        int flushed = 0;
+        for (Long pollId : pollVoteCounter.popDirtyPolls(BATCH_SIZE)) {
+            flushed += flush(pollId);
+        }
+        if (flushed > 0) {
+            flushedCounter.increment(flushed);
+            log.debug("투표 DB 반영 완료: {}표", flushed);
+        }
+        return flushed;
+    }
+
+    // 투표 하나의 반영 대기 유저 표와 득표 수를 한 트랜잭션으로 반영, 실패하면 다음 주기에 다시 반영
+    private int flush(Long pollId) {
+        String token = pollVoteCounter.tryLockFlush(pollId);
+        if (token == null) {
+            // 다른 노드가 반영 중, 그 뒤에 쌓인 표는 다음 주기에 반영
+            pollVoteCounter.markDirty(pollId);
+            return 0;
+        }
+
+        try {
+            List<Long> userIds = pollVoteCounter.drain(pollId);
+            Boolean exists = transactionTemplate.execute(status -> write(pollId, userIds));
+            if (Boolean.FALSE.equals(exists)) {
+                // 반영 전에 투표가 삭제됨
+                pollVoteCounter.clear(pollId);
+                return 0;
+            }
+            pollVoteCounter.completeFlush(pollId, userIds);
+            return userIds.size();
+        } catch (RuntimeException e) {
+            log.warn("투표 DB 반영 실패, 다음 주기에 다시 반영: 투표 ID={}", pollId, e);
+            pollVoteCounter.markDirty(pollId);
+            return 0;
+        } finally {
+            pollVoteCounter.unlockFlush(pollId, token);
+        }
+    }
+
+    private boolean write(Long pollId, List<Long> userIds) {
+        Optional<Poll> optionalPoll = pollRepository.findById(pollId);
+        if (optionalPoll.isEmpty()) {
+            return false;
+        }
+        Poll poll = optionalPoll.get();
+
+        // 반영 대기 유저 표 : 투표 완료면 선택지 반영(없으면 생성), 취소면 미완료 상태로
+        Map<Long, Integer> selections = pollVoteCounter.getSelections(pollId, userIds);
+        Map<Long, Vote> votes = userIds.isEmpty() ? Map.of() :
+                voteRepository.findAllByPollIdAndUserIds(pollId, userIds).stream()
+                        .collect(Collectors.toMap(vote -> vote.getId().getUserId(), Function.identity()));
+        for (Long userId : userIds) {
+            Integer selectedOption = selections.get(userId);
+            Vote vote = votes.get(userId);
+            if (selectedOption == null) {
+                if (vote != null) {
+                    vote.resetStatus();
+                }
+            } else if (vote == null) {
+                voteRepository.save(Vote.castVote(poll, userRepository.getReferenceById(userId),
+                        poll.getGathering(), poll.getEvent(), selectedOption));
+            } else {
+                vote.updateSelectedOption(selectedOption);
+                vote.updateStatus();
+            }
+        }
+
+        // 선택지 득표 수 : Redis 득표 수로 덮어씀 (키가 사라졌다면 DB 값 유지)
+        Map<Integer, Integer> counts = pollVoteCounter.peekCounts(pollId);
+        poll.getOptions().forEach(option -> {
+            Integer count = counts.get(option.getId().getOptionNum());
+            if (count != null) {
+                option.updateVoteCount(count);
+            }
+        });
+        return true;
+    }
+}
@@ -13,6 +13,7 @@ import nbc_final.gathering.common.config.jwt.JwtUtil;
 import nbc_final.gathering.common.elasticsearch.UserElasticSearchRepository;
 import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.member.service.AccessControlService;
 import nbc_final.gathering.domain.user.dto.UserElasticDto;
 import nbc_final.gathering.domain.user.dto.request.*;
 import nbc_final.gathering.domain.user.dto.response.LoginResponseDto;
@@ -45,6 +46,7 @@ public class UserService {
     private final WebSocketSessionManager webSocketSessionManager;
     private final JwtUtil jwtUtil;
     private final UserElasticSearchRepository userElasticSearchRepository;
+    private final AccessControlService accessControlService;
 
 
     @Value("${ADMIN_TOKEN}")
@@ -151,6 +153,7 @@ public class UserService {
                 validateCorrectPassword(requestDto.getPassword(), user.getPassword());
             }
             user.updateIsDeleted();
+            accessControlService.evictUser(userId);
             log.info("회원 탈퇴 처리 완료 및 DB 반영됨, userId: {}", userId);
         } catch (Exception e) {
             log.error("회원 탈퇴 처리 중 오류 발생, userId: {}: {}", userId, e.getMessage());
@@ -0,0 +1,15 @@
+-- 이벤트 참가 좌석 반환 : 참가자 Set 에서 제거된 경우에만 참가자 수 감소 (중복 취소 시 감소하지 않음)
+-- KEYS[1] : event:{eventId}:participants        (참가자 userId Set)
+-- KEYS[2] : event:{eventId}:currentParticipants (참가자 수)
+-- ARGV[1] : userId
+-- return  : 반환 후 참가자 수, -1 : 참가하지 않은 유저
+
+if redis.call('SREM', KEYS[1], ARGV[1]) == 0 then
+    return -1
+end
+
+local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+if current > 0 then
+    return redis.call('DECR', KEYS[2])
+end
+return 0
@@ -0,0 +1,22 @@
+-- 이벤트 참가 좌석 예약 : 중복 참가 확인 + 정원 확인 + 참가자 수 증가를 한 번에 처리
+-- KEYS[1] : event:{eventId}:participants        (참가자 userId Set)
+-- KEYS[2] : event:{eventId}:currentParticipants (참가자 수)
+-- ARGV[1] : userId, ARGV[2] : 최대 참가자 수, ARGV[3] : 참가자 Set/참가자 수 초기화 완료 여부 (1 : 완료)
+-- return  : 예약 후 참가자 수, -1 : 이미 참가, -2 : 정원 초과, -3 : 참가자 Set/참가자 수 초기화 필요
+
+-- 장애 조치나 flush 로 키가 사라졌다면 0 부터 세지 않고 DB 기준으로 다시 채우도록 요청
+if ARGV[3] ~= '1' and redis.call('EXISTS', KEYS[1], KEYS[2]) < 2 then
+    return -3
+end
+
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return -1
+end
+
+local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+if current >= tonumber(ARGV[2]) then
+    return -2
+end
+
+redis.call('SADD', KEYS[1], ARGV[1])
+return redis.call('INCR', KEYS[2])
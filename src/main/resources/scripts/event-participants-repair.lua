@@ -0,0 +1,19 @@
+-- 이벤트 참가자 복구 : 관측한 참가자 수가 그대로일 때만 참가자 Set 과 참가자 수를 DB 기준으로 다시 작성
+-- (관측 이후 참가/취소로 값이 바뀌었다면 덮어쓰지 않고 다음 주기에 다시 비교)
+-- KEYS[1] : event:{eventId}:participants        (참가자 userId Set)
+-- KEYS[2] : event:{eventId}:currentParticipants (참가자 수)
+-- ARGV[1] : 관측한 참가자 수 (-1 : 키 없음), ARGV[2] : DB 참가자 수, ARGV[3..] : DB 참가자 userId
+-- return  : 1 : 복구, 0 : 관측 이후 값이 바뀌어 건너뜀
+
+local current = tonumber(redis.call('GET', KEYS[2]) or '-1')
+if current ~= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+-- unpack 인자 수 제한을 피하기 위해 나누어 추가
+for i = 3, #ARGV, 1000 do
+    redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+end
+redis.call('SET', KEYS[2], ARGV[2])
+return 1
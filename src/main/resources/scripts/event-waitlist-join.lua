@@ -0,0 +1,28 @@
+-- 이벤트 대기열 등록 : 정원이 찬 경우에만 FIFO 대기열(ZSET, 점수 = 등록 순번)에 추가
+-- KEYS[1] : event:{eventId}:participants        (참가자 userId Set)
+-- KEYS[2] : event:{eventId}:currentParticipants (참가자 수)
+-- KEYS[3] : event:{eventId}:waitlist            (대기 userId ZSET)
+-- KEYS[4] : event:{eventId}:waitlistSeq         (등록 순번)
+-- ARGV[1] : userId, ARGV[2] : 최대 참가자 수, ARGV[3] : 참가자 Set/참가자 수 초기화 완료 여부 (1 : 완료)
+-- return  : 대기 순번 (1부터, 이미 등록된 경우 기존 순번), -1 : 이미 참가, -2 : 빈 좌석 있음, -3 : 초기화 필요
+
+if ARGV[3] ~= '1' and redis.call('EXISTS', KEYS[1], KEYS[2]) < 2 then
+    return -3
+end
+
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return -1
+end
+
+local rank = redis.call('ZRANK', KEYS[3], ARGV[1])
+if rank then
+    return rank + 1
+end
+
+local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+if current < tonumber(ARGV[2]) then
+    return -2
+end
+
+redis.call('ZADD', KEYS[3], redis.call('INCR', KEYS[4]), ARGV[1])
+return redis.call('ZRANK', KEYS[3], ARGV[1]) + 1
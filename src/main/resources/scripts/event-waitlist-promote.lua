@@ -0,0 +1,29 @@
+-- 이벤트 좌석 반환 + 대기열 승급 : 반환된 좌석을 다른 참가 요청이 가로채지 않도록 한 번에 처리
+-- KEYS[1] : event:{eventId}:participants        (참가자 userId Set)
+-- KEYS[2] : event:{eventId}:currentParticipants (참가자 수)
+-- KEYS[3] : event:{eventId}:waitlist            (대기 userId ZSET)
+-- ARGV[1] : 좌석을 반환할 userId (0 : 반환 없이 승급만), ARGV[2] : 최대 참가자 수
+-- return  : 승급된 userId 목록 (대기 순서)
+
+if redis.call('EXISTS', KEYS[1], KEYS[2]) < 2 then
+    -- 키가 사라졌다면 0 부터 세지 않음 (다음 접근 시 DB 기준으로 다시 채운 뒤 승급)
+    return {}
+end
+
+local current = tonumber(redis.call('GET', KEYS[2]))
+if ARGV[1] ~= '0' and redis.call('SREM', KEYS[1], ARGV[1]) == 1 and current > 0 then
+    current = redis.call('DECR', KEYS[2])
+end
+
+local promoted = {}
+while current < tonumber(ARGV[2]) do
+    local head = redis.call('ZPOPMIN', KEYS[3])
+    if #head == 0 then
+        break
+    end
+    if redis.call('SADD', KEYS[1], head[1]) == 1 then
+        current = redis.call('INCR', KEYS[2])
+        promoted[#promoted + 1] = head[1]
+    end
+end
+return promoted
@@ -0,0 +1,12 @@
+-- 소모임 구간 랭킹 : 버킷을 합친 구간 ZSET 을 원자적으로 재사용하거나 다시 생성
+-- (동시에 조회해도 중간에 만들어지는 중인 ZSET 을 읽지 않음)
+-- KEYS[1] : gatheringRanking:window:{day|week}, KEYS[2..] : 합칠 시간/일 버킷
+-- ARGV[1] : 구간 ZSET TTL(ms), ARGV[2] : 재사용할 최소 남은 TTL(ms)
+-- return  : 구간 ZSET 의 소모임 수
+
+if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[2]) then
+    redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+    redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[1]))
+end
+
+return redis.call('ZCARD', KEYS[1])
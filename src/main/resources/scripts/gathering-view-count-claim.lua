@@ -0,0 +1,16 @@
+-- 소모임 조회수 스냅샷 꺼내기 : 스냅샷 조회수를 반영 중 키로 옮기고 옮긴 조회수 반환
+-- 반영 중 키는 DB 반영이 커밋된 뒤에만 줄이므로, 그 전에 실패하면 스냅샷 키로 되돌릴 수 있음
+-- KEYS[1..n] : gathering:snapshot(1h):{gatheringId}, KEYS[n+1..2n] : gathering:snapshot-flushing:{gatheringId}
+-- return  : 키 순서대로 옮긴 조회수 (없으면 0)
+
+local n = #KEYS / 2
+local claimed = {}
+for i = 1, n do
+    local count = tonumber(redis.call('GET', KEYS[i]) or 0) or 0
+    if count > 0 then
+        redis.call('INCRBY', KEYS[n + i], count)
+    end
+    redis.call('DEL', KEYS[i])
+    claimed[i] = count
+end
+return claimed
@@ -0,0 +1,22 @@
+-- 소모임 조회수 스냅샷 반영 마무리 : 반영 중 키에서 꺼낸 조회수만큼 빼고, 실패한 경우 스냅샷 키로 되돌림
+-- (같은 소모임을 다른 노드가 동시에 꺼냈을 수 있으므로 키를 지우지 않고 자신이 꺼낸 만큼만 뺌)
+-- KEYS[1..n] : gathering:snapshot(1h):{gatheringId}, KEYS[n+1..2n] : gathering:snapshot-flushing:{gatheringId}
+-- ARGV[1] : 1 이면 스냅샷 키로 되돌림 (DB 반영 실패), 0 이면 반영 완료, ARGV[2..n+1] : 꺼낸 조회수
+-- return  : 되돌린 조회수 합
+
+local n = #KEYS / 2
+local restore = ARGV[1] == '1'
+local restored = 0
+for i = 1, n do
+    local count = tonumber(ARGV[i + 1])
+    if count > 0 then
+        if redis.call('DECRBY', KEYS[n + i], count) <= 0 then
+            redis.call('DEL', KEYS[n + i])
+        end
+        if restore then
+            redis.call('INCRBY', KEYS[i], count)
+            restored = restored + count
+        end
+    end
+end
+return restored
@@ -0,0 +1,56 @@
+-- 소모임 단 건 조회 (HLL 모드) : Set 대신 HyperLogLog 로 일일 조회자 수를 집계
+-- 신규 조회자 여부는 하루짜리 블룸 필터 비트맵으로 판별하여 랭킹 증가 여부를 결정
+-- KEYS[1] : rate_limit:{userId}:getGathering{gatheringId}
+-- KEYS[2] : todayGatheringHll:{gatheringId}      (일일 조회 유저 HLL)
+-- KEYS[3] : todayGatheringViewBloom              (일일 (소모임, 유저) 블룸 필터)
+-- KEYS[4] : gatheringTitle:{gatheringId}         (제목 캐시)
+-- KEYS[5] : gatheringRanking:hour:{yyyyMMddHH}   (시간 단위 랭킹 ZSET)
+-- KEYS[6] : gatheringRanking:day:{yyyyMMdd}      (일 단위 랭킹 ZSET)
+-- ARGV[1] : userId (JSON 숫자), ARGV[2] : 소모임 제목 (JSON 문자열)
+-- ARGV[3] : 최대 요청 수, ARGV[4] : 레이트 리밋 시간 창(초), ARGV[5] : 제목 캐시 TTL(초)
+-- ARGV[6] : gatheringId, ARGV[7] : 시간 랭킹 TTL(초), ARGV[8] : 일 랭킹 TTL(초)
+-- ARGV[9] : 블룸 필터 TTL(초), ARGV[10..] : 블룸 필터 비트 위치
+-- return  : 오늘 조회수(추정치), 레이트 리밋 초과 시 -1
+
+local requestCount = redis.call('GET', KEYS[1])
+if not requestCount then
+    redis.call('SET', KEYS[1], 1, 'EX', tonumber(ARGV[4]))
+elseif tonumber(requestCount) < tonumber(ARGV[3]) then
+    redis.call('INCR', KEYS[1])
+else
+    return -1
+end
+
+redis.call('PFADD', KEYS[2], ARGV[1])
+
+local isNewViewer = false
+for i = 10, #ARGV do
+    if redis.call('GETBIT', KEYS[3], ARGV[i]) == 0 then
+        isNewViewer = true
+        break
+    end
+end
+
+if isNewViewer then
+    for i = 10, #ARGV do
+        redis.call('SETBIT', KEYS[3], ARGV[i], 1)
+    end
+    if redis.call('TTL', KEYS[3]) < 0 then
+        redis.call('EXPIRE', KEYS[3], tonumber(ARGV[9]))
+    end
+
+    if redis.call('EXISTS', KEYS[4]) == 0 then
+        redis.call('SET', KEYS[4], ARGV[2], 'EX', tonumber(ARGV[5]))
+    end
+
+    redis.call('ZINCRBY', KEYS[5], 1, ARGV[6])
+    if redis.call('TTL', KEYS[5]) < 0 then
+        redis.call('EXPIRE', KEYS[5], tonumber(ARGV[7]))
+    end
+    redis.call('ZINCRBY', KEYS[6], 1, ARGV[6])
+    if redis.call('TTL', KEYS[6]) < 0 then
+        redis.call('EXPIRE', KEYS[6], tonumber(ARGV[8]))
+    end
+end
+
+return redis.call('PFCOUNT', KEYS[2])
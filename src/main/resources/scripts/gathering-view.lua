@@ -0,0 +1,39 @@
+-- 소모임 단 건 조회 시 조회 기록/중복 제거/랭킹 반영을 한 번에 처리
+-- KEYS[1] : rate_limit:{userId}:getGathering{gatheringId}
+-- KEYS[2] : todayGatheringSet:{gatheringId}      (일일 조회 유저 Set)
+-- KEYS[3] : todayGatheringViewSet{gatheringId}   (랭킹 중복 조회 방지 Set)
+-- KEYS[4] : gatheringTitle:{gatheringId}         (제목 캐시)
+-- KEYS[5] : gatheringRanking:hour:{yyyyMMddHH}   (시간 단위 랭킹 ZSET)
+-- KEYS[6] : gatheringRanking:day:{yyyyMMdd}      (일 단위 랭킹 ZSET)
+-- ARGV[1] : userId (JSON 숫자), ARGV[2] : userId (JSON 문자열), ARGV[3] : 소모임 제목 (JSON 문자열)
+-- ARGV[4] : 최대 요청 수, ARGV[5] : 레이트 리밋 시간 창(초), ARGV[6] : 제목 캐시 TTL(초)
+-- ARGV[7] : gatheringId, ARGV[8] : 시간 랭킹 TTL(초), ARGV[9] : 일 랭킹 TTL(초)
+-- return  : 오늘 조회수, 레이트 리밋 초과 시 -1
+
+local requestCount = redis.call('GET', KEYS[1])
+if not requestCount then
+    redis.call('SET', KEYS[1], 1, 'EX', tonumber(ARGV[5]))
+elseif tonumber(requestCount) < tonumber(ARGV[4]) then
+    redis.call('INCR', KEYS[1])
+else
+    return -1
+end
+
+redis.call('SADD', KEYS[2], ARGV[1])
+
+if redis.call('SADD', KEYS[3], ARGV[2]) == 1 then
+    if redis.call('EXISTS', KEYS[4]) == 0 then
+        redis.call('SET', KEYS[4], ARGV[3], 'EX', tonumber(ARGV[6]))
+    end
+
+    redis.call('ZINCRBY', KEYS[5], 1, ARGV[7])
+    if redis.call('TTL', KEYS[5]) < 0 then
+        redis.call('EXPIRE', KEYS[5], tonumber(ARGV[8]))
+    end
+    redis.call('ZINCRBY', KEYS[6], 1, ARGV[7])
+    if redis.call('TTL', KEYS[6]) < 0 then
+        redis.call('EXPIRE', KEYS[6], tonumber(ARGV[9]))
+    end
+end
+
+return redis.call('SCARD', KEYS[2])
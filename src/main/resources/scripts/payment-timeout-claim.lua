@@ -0,0 +1,24 @@
+-- 결제 타임아웃 꺼내기 : 리더 임대를 가진 노드만 마감이 지난 주문을 꺼냄
+-- 꺼낸 주문은 ZSET 에서 바로 지우지 않고 마감을 현재 시각 + 처리 제한 시간으로 미룸 (처리 중 숨김)
+-- DB 반영을 커밋한 뒤 ZREM 하며, 그 전에 노드가 내려가면 처리 제한 시간이 지나 다시 꺼내짐
+-- KEYS[1] : payments:timeouts (주문 ID -> 마감 시각 ms), KEYS[2] : payments:timeouts:leader
+-- ARGV[1] : 노드 ID, ARGV[2] : 리더 임대 시간 ms, ARGV[3] : 현재 시각 ms, ARGV[4] : 최대 개수, ARGV[5] : 처리 제한 시간 ms
+-- return  : 마감이 지난 주문 ID 목록 (리더가 아니면 빈 목록)
+
+local leader = redis.call('GET', KEYS[2])
+if leader and leader ~= ARGV[1] then
+    return {}
+end
+redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[3], 'LIMIT', 0, ARGV[4])
+if #due > 0 then
+    local invisibleUntil = tonumber(ARGV[3]) + tonumber(ARGV[5])
+    local args = {}
+    for i, orderId in ipairs(due) do
+        args[2 * i - 1] = invisibleUntil
+        args[2 * i] = orderId
+    end
+    redis.call('ZADD', KEYS[1], unpack(args))
+end
+return due
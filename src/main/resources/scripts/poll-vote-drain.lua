@@ -0,0 +1,10 @@
+-- 투표 DB 반영 대상 꺼내기 : 반영 대기 유저를 반영 중 Set 으로 옮기고 목록 반환
+-- (이전 반영이 실패해 남아 있는 반영 중 Set 이 있으면 합쳐서 다시 반영)
+-- KEYS[1] : poll:{pollId}:dirty, KEYS[2] : poll:{pollId}:dirty:flushing
+-- return  : 반영할 userId 목록
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('SUNIONSTORE', KEYS[2], KEYS[1], KEYS[2])
+    redis.call('DEL', KEYS[1])
+end
+return redis.call('SMEMBERS', KEYS[2])
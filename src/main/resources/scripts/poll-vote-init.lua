@@ -0,0 +1,19 @@
+-- 투표 득표 수 초기화 : 득표 수 Hash 가 없을 때만 DB 기준으로 득표 수 + 유저 선택지를 채움
+-- KEYS[1] : poll:{pollId}:counts, KEYS[2] : poll:{pollId}:votes
+-- ARGV[1] : 선택지 수 n, ARGV[2 .. 2n+1] : (선택지 번호, 득표 수) 쌍, 이후 (userId, 선택지 번호) 쌍
+-- return  : 1 초기화, 0 이미 초기화됨 (그 사이 다른 요청이 먼저 채움)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+local optionCount = tonumber(ARGV[1])
+for i = 2, optionCount * 2, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+
+redis.call('DEL', KEYS[2])
+for i = optionCount * 2 + 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+end
+return 1
@@ -0,0 +1,35 @@
+-- 투표 참여 : 유저 선택지 기록 + 선택지 득표 수 반영 + 반영 대기 표시를 한 번에 처리
+-- KEYS[1] : poll:{pollId}:counts (선택지 번호 -> 득표 수 Hash)
+-- KEYS[2] : poll:{pollId}:votes  (userId -> 선택지 번호 Hash, 투표 완료 상태인 유저만)
+-- KEYS[3] : poll:{pollId}:dirty  (DB 반영 대기 userId Set)
+-- KEYS[4] : poll:dirty           (DB 반영 대기 pollId Set)
+-- ARGV[1] : userId, ARGV[2] : 선택지 번호, ARGV[3] : pollId
+-- return  : 1 투표(선택 · 변경), 0 투표 취소, -2 없는 선택지, -3 득표 수가 초기화되지 않음
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -3
+end
+if redis.call('HEXISTS', KEYS[1], ARGV[2]) == 0 then
+    return -2
+end
+
+local result
+local previous = redis.call('HGET', KEYS[2], ARGV[1])
+if previous == ARGV[2] then
+    -- 같은 선택지를 한 번 더 고르면 투표 취소
+    redis.call('HDEL', KEYS[2], ARGV[1])
+    redis.call('HINCRBY', KEYS[1], ARGV[2], -1)
+    result = 0
+else
+    -- 다른 선택지를 고르면 기존 선택지 득표 수 - 1
+    if previous then
+        redis.call('HINCRBY', KEYS[1], previous, -1)
+    end
+    redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+    redis.call('HINCRBY', KEYS[1], ARGV[2], 1)
+    result = 1
+end
+
+redis.call('SADD', KEYS[3], ARGV[1])
+redis.call('SADD', KEYS[4], ARGV[3])
+return result
@@ -0,0 +1,10 @@
+-- 캐시 적재 임대 반환 : 자신이 잡은 임대일 때만 삭제 (완료 알림은 pub/sub 전용 연결로 따로 발행)
+-- KEYS[1] : 임대 키 (singleflight:{cacheKey}, 투표 DB 반영 poll:{pollId}:flush:lock, 위치 색인 보정 gathering:geo:backfill:lock)
+-- ARGV[1] : 임대 토큰
+-- return  : 1 삭제, 0 이미 만료되어 다른 노드가 잡은 임대
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+return 0
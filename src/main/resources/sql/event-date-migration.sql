@@ -0,0 +1,16 @@
+-- events.date(VARCHAR 'YYYY-MM-DD') → events.event_date(DATE) 이관 (MySQL, 배포 후 한 번 실행)
+-- ddl-auto: update 가 event_date / status 컬럼과 인덱스를 추가하지만 기존 값 이관과 기존 컬럼 삭제는 하지 않습니다.
+
+-- 1. 기존 문자열 날짜를 DATE 로 이관 (형식이 맞지 않는 값은 NULL 로 남으므로 확인 후 수정)
+UPDATE events
+SET event_date = STR_TO_DATE(`date`, '%Y-%m-%d')
+WHERE event_date IS NULL
+  AND `date` REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$';
+
+SELECT id, `date` FROM events WHERE event_date IS NULL;
+
+-- 2. 상태가 없는 기존 이벤트는 진행 중으로 설정 (날짜가 지난 이벤트는 종료 작업이 CLOSED 로 변경)
+UPDATE events SET status = 'OPEN' WHERE status IS NULL;
+
+-- 3. 이관 확인 후 기존 컬럼 삭제
+ALTER TABLE events DROP COLUMN `date`;
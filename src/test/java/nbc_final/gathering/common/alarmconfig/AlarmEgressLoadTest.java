@@ -0,0 +1,141 @@
+package nbc_final.gathering.common.alarmconfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접속자 수에 따른 알림 전송량 확인 (브로커를 메모리 안에서 구성)
+ * 운영의 RabbitMQ 리레이 대신 같은 유저 목적지 처리(UserDestinationMessageHandler)와 단순 브로커를 사용하며,
+ * 클라이언트로 나가는 채널(clientOutboundChannel)의 프레임 수 · 바이트 수를 셉니다.
+ * 알림 한 건의 전송량은 수신자 세션 수에만 비례하고 접속자 수와 무관해야 합니다.
+ */
+class AlarmEgressLoadTest {
+
+    private static final int[] CONNECTED_CLIENTS = {10, 100, 1_000};
+    private static final int ALARMS = 20;
+
+    private ExecutorSubscribableChannel clientInboundChannel;
+    private ExecutorSubscribableChannel clientOutboundChannel;
+    private ExecutorSubscribableChannel brokerChannel;
+    private SimpleBrokerMessageHandler broker;
+    private UserDestinationMessageHandler userDestinationHandler;
+    private DefaultSimpUserRegistry userRegistry;
+    private SimpMessagingTemplate messagingTemplate;
+    private ScheduledExecutorService flushScheduler;
+
+    private final AtomicLong egressFrames = new AtomicLong();
+    private final AtomicLong egressBytes = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        clientInboundChannel = new ExecutorSubscribableChannel();
+        clientOutboundChannel = new ExecutorSubscribableChannel();
+        brokerChannel = new ExecutorSubscribableChannel();
+        clientOutboundChannel.subscribe(this::countEgress);
+
+        broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel,
+                List.of("/queue", "/topic"));
+        broker.start();
+
+        userRegistry = new DefaultSimpUserRegistry();
+        userDestinationHandler = new UserDestinationMessageHandler(clientInboundChannel, brokerChannel,
+                new DefaultUserDestinationResolver(userRegistry));
+        userDestinationHandler.start();
+
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        flushScheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flushScheduler.shutdownNow();
+        userDestinationHandler.stop();
+        broker.stop();
+    }
+
+    @Test
+    @DisplayName("알림 한 건당 전송 프레임 · 바이트는 접속자 수가 늘어도 그대로")
+    void egressPerAlarmStaysFlat() throws Exception {
+        List<Long> bytesPerRun = new ArrayList<>();
+        int connected = 0;
+
+        for (int clients : CONNECTED_CLIENTS) {
+            // given : 유저 1..clients 가 각자 세션 하나로 접속해 알림 큐 구독
+            for (int userId = connected + 1; userId <= clients; userId++) {
+                connectAndSubscribe(userId);
+            }
+            connected = clients;
+            egressFrames.set(0);
+            egressBytes.set(0);
+
+            // when : 수신자(유저 1)에게 서로 떨어진 알림을 보냄 (묶음 없이 한 건씩 전송되도록 창 0)
+            AlarmMessageReceiver receiver = new AlarmMessageReceiver(messagingTemplate, 0, flushScheduler);
+            for (int i = 0; i < ALARMS; i++) {
+                receiver.receiveAlarmMessage(new AlarmDto.AlarmMessageRes(1L, "알림"));
+                drain();
+            }
+
+            // then : 수신자 세션에만 알림 한 건당 한 프레임
+            assertThat(egressFrames.get()).as("접속자 %d명", clients).isEqualTo(ALARMS);
+            bytesPerRun.add(egressBytes.get());
+        }
+
+        assertThat(bytesPerRun).as("접속자 수별 전송 바이트").containsOnly(bytesPerRun.get(0));
+    }
+
+    private void connectAndSubscribe(int userId) {
+        String sessionId = "session-" + userId;
+        Principal user = () -> String.valueOf(userId);
+
+        SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        connect.setSessionId(sessionId);
+        connect.setUser(user);
+        Message<byte[]> connectMessage = MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders());
+        clientInboundChannel.send(connectMessage);
+        userRegistry.onApplicationEvent(new SessionConnectedEvent(this, connectMessage, user));
+
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        subscribe.setSessionId(sessionId);
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination("/user" + AlarmMessageReceiver.USER_ALARM_DESTINATION);
+        subscribe.setUser(user);
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+    }
+
+    private void countEgress(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            egressFrames.incrementAndGet();
+            egressBytes.addAndGet(((byte[]) message.getPayload()).length);
+        }
+    }
+
+    // 예약된 전송이 끝날 때까지 대기
+    private void drain() throws Exception {
+        flushScheduler.schedule(() -> null, 0, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+    }
+}
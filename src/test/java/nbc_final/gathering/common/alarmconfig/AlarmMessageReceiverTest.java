@@ -0,0 +1,101 @@
+package nbc_final.gathering.common.alarmconfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AlarmMessageReceiverTest {
+
+    private static final long COALESCE_WINDOW_MS = 100;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    // 예약된 전송은 테스트에서 직접 실행 (실제 시간에 의존하지 않음)
+    @Mock
+    private ScheduledExecutorService flushScheduler;
+
+    private AlarmMessageReceiver alarmMessageReceiver;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        alarmMessageReceiver = new AlarmMessageReceiver(messagingTemplate, COALESCE_WINDOW_MS, flushScheduler);
+    }
+
+    @Test
+    @DisplayName("같은 유저에게 몰린 알림은 하나의 프레임으로 묶어서 해당 유저에게만 전송")
+    void coalesceBurstForSameUser() {
+        // when
+        for (int i = 0; i < 50; i++) {
+            alarmMessageReceiver.receiveAlarmMessage(new AlarmDto.AlarmMessageRes(1L, "알림 " + i));
+        }
+        runScheduledFlushes(1);
+
+        // then
+        ArgumentCaptor<AlarmDto.AlarmInboxRes> captor = ArgumentCaptor.forClass(AlarmDto.AlarmInboxRes.class);
+        verify(messagingTemplate, times(1))
+                .convertAndSendToUser(eq("1"), eq(AlarmMessageReceiver.USER_ALARM_DESTINATION), captor.capture());
+        assertThat(captor.getValue().getMessages()).hasSize(50).startsWith("알림 0").endsWith("알림 49");
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("전송 이후 도착한 알림은 새 프레임으로 다시 예약")
+    void scheduleNewWindowAfterFlush() {
+        // given
+        alarmMessageReceiver.receiveAlarmMessage(new AlarmDto.AlarmMessageRes(1L, "알림 0"));
+        runScheduledFlushes(1);
+
+        // when
+        alarmMessageReceiver.receiveAlarmMessage(new AlarmDto.AlarmMessageRes(1L, "알림 1"));
+        runScheduledFlushes(2);
+
+        // then
+        verify(messagingTemplate, times(2)).convertAndSendToUser(
+                eq("1"), eq(AlarmMessageReceiver.USER_ALARM_DESTINATION), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("알림은 접속자 전체가 아닌 수신자 세션에만 한 번씩 전송")
+    void sendOnlyToRecipients() {
+        // given
+        long[] recipients = {7L, 42L, 999L};
+
+        // when
+        for (long userId : recipients) {
+            alarmMessageReceiver.receiveAlarmMessage(new AlarmDto.AlarmMessageRes(userId, "이벤트가 생성되었습니다."));
+        }
+        runScheduledFlushes(recipients.length);
+
+        // then
+        for (long userId : recipients) {
+            verify(messagingTemplate, times(1)).convertAndSendToUser(
+                    eq(String.valueOf(userId)), eq(AlarmMessageReceiver.USER_ALARM_DESTINATION), any(Object.class));
+        }
+        verify(messagingTemplate, times(recipients.length))
+                .convertAndSendToUser(anyString(), anyString(), any(Object.class));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    // 지금까지 예약된 전송 횟수를 확인하고 모두 실행
+    private void runScheduledFlushes(int expectedSchedules) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(flushScheduler, times(expectedSchedules))
+                .schedule(captor.capture(), eq(COALESCE_WINDOW_MS), eq(TimeUnit.MILLISECONDS));
+        captor.getAllValues().forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,92 @@
+package nbc_final.gathering.common.alarmconfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AlarmServiceTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    @Mock
+    private AlarmMessageRepository alarmMessageRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // 발행 콜백을 바로 실행
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitTemplate.OperationsCallback<Object>>getArgument(0).doInRabbit(rabbitOperations));
+    }
+
+    @Test
+    @DisplayName("수신자를 500명 단위로 나눠 insertMany 후 한 채널에서 발행하고 청크마다 발행 확인")
+    void fanOutInChunks() throws InterruptedException {
+        // given
+        AlarmService alarmService = new AlarmService(rabbitTemplate, alarmMessageRepository, meterRegistry, 1, 10);
+        List<Long> recipients = LongStream.rangeClosed(1, 1200).boxed().toList();
+
+        // when
+        alarmService.sendAlarmToAll(recipients, "소모임이 수정되었습니다.");
+        alarmService.shutdown();
+
+        // then
+        verify(alarmMessageRepository, times(3)).insert(anyList());
+        verify(rabbitOperations, times(1200)).convertAndSend(anyString(), anyString(), any(Object.class));
+        verify(rabbitOperations, times(3)).waitForConfirmsOrDie(anyLong());
+        assertThat(meterRegistry.counter("alarm.fanout.recipients").count()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청 스레드에서 실행하지 않고 버린 뒤 지표로 기록")
+    void dropOnOverflow() throws InterruptedException {
+        // given : 스레드 1개, 대기열 1개, 첫 전송은 끝나지 않음
+        AlarmService alarmService = new AlarmService(rabbitTemplate, alarmMessageRepository, meterRegistry, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Thread> fanOutThreads = ConcurrentHashMap.newKeySet();
+        when(alarmMessageRepository.insert(anyList())).thenAnswer(invocation -> {
+            fanOutThreads.add(Thread.currentThread());
+            started.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        // when
+        alarmService.sendAlarmToAll(List.of(1L), "첫 번째");
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        alarmService.sendAlarmToAll(List.of(2L), "두 번째");
+        alarmService.sendAlarmToAll(List.of(3L), "세 번째");
+
+        // then : 세 번째는 바로 버려짐
+        assertThat(meterRegistry.counter("alarm.fanout.rejected").count()).isEqualTo(1);
+        assertThat(fanOutThreads).doesNotContain(Thread.currentThread());
+
+        release.countDown();
+        alarmService.shutdown();
+        verify(alarmMessageRepository, times(2)).insert(anyList());
+        assertThat(fanOutThreads).doesNotContain(Thread.currentThread());
+    }
+}
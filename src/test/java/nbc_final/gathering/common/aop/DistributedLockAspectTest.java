@@ -0,0 +1,144 @@
+package nbc_final.gathering.common.aop;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.annotation.DistributedLock;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RLock;
+import org.redisson.api.RReadWriteLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class DistributedLockAspectTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AnnotationConfigApplicationContext context;
+    private LockedService lockedService;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        MockitoAnnotations.openMocks(this);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        // 실제 프록시 생성 방식대로 애스펙트를 적용하기 위해 최소 컨텍스트 구성
+        context = new AnnotationConfigApplicationContext();
+        context.register(AopConfig.class, LockedService.class);
+        context.registerBean(DistributedLockAspect.class, () -> new DistributedLockAspect(redissonClient, meterRegistry));
+        context.refresh();
+        lockedService = context.getBean(LockedService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("락 키의 SpEL 을 메서드 파라미터로 평가하여 이벤트마다 다른 락 사용")
+    void resolveSpelKeyPerArgument() {
+        // given
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+
+        // when
+        lockedService.join(1L, 7L);
+        lockedService.join(1L, 8L);
+
+        // then
+        verify(redissonClient).getLock("event:7:lock");
+        verify(redissonClient).getLock("event:8:lock");
+        verify(lock, times(2)).unlock();
+        assertThat(meterRegistry.get("distributed.lock.hold").tag("name", "event:{#eventId}:lock").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("어노테이션의 시간 단위로 락 획득 시도")
+    void useConfiguredTimeUnit() throws InterruptedException {
+        // given
+        when(redissonClient.getFairLock(anyString())).thenReturn(lock);
+
+        // when
+        lockedService.fair(3L);
+
+        // then
+        verify(redissonClient).getFairLock("fair:3");
+        verify(lock).tryLock(500L, 2000L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("여러 키는 멀티 락, READ 타입은 읽기 락으로 획득")
+    void multiAndReadLock() {
+        // given
+        RReadWriteLock readWriteLock = mock(RReadWriteLock.class);
+        RLock readLock = mock(RLock.class);
+        when(redissonClient.getReadWriteLock(anyString())).thenReturn(readWriteLock);
+        when(readWriteLock.readLock()).thenReturn(readLock);
+        when(redissonClient.getMultiLock(any(RLock[].class))).thenReturn(lock);
+
+        // when
+        lockedService.readBoth(1L, 2L);
+
+        // then
+        verify(redissonClient).getReadWriteLock("gathering:1");
+        verify(redissonClient).getReadWriteLock("event:2");
+        verify(redissonClient).getMultiLock(readLock, readLock);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("락 획득 실패 시 LOCK_TIMEOUT 예외 및 실패 메트릭 기록")
+    void recordFailureWhenNotAcquired() throws InterruptedException {
+        // given
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> lockedService.join(1L, 7L))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.LOCK_TIMEOUT.getMessage());
+        verify(lock, never()).unlock();
+        assertThat(meterRegistry.get("distributed.lock.failures")
+                .tags("name", "event:{#eventId}:lock", "reason", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @EnableAspectJAutoProxy
+    static class AopConfig {
+    }
+
+    static class LockedService {
+
+        @DistributedLock(key = "event:{#eventId}:lock")
+        public void join(Long userId, Long eventId) {
+        }
+
+        @DistributedLock(key = "fair:{#id}", type = DistributedLock.LockType.FAIR,
+                waitTime = 500, leaseTime = 2000, timeUnit = TimeUnit.MILLISECONDS)
+        public void fair(Long id) {
+        }
+
+        @DistributedLock(key = {"gathering:{#gatheringId}", "event:{#eventId}"}, type = DistributedLock.LockType.READ)
+        public void readBoth(Long gatheringId, Long eventId) {
+        }
+    }
+}
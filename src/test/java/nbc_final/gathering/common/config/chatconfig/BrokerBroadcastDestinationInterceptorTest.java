@@ -0,0 +1,63 @@
+package nbc_final.gathering.common.config.chatconfig;
+
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mockito;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BrokerBroadcastDestinationInterceptorTest {
+
+    private final BrokerBroadcastDestinationInterceptor interceptor = new BrokerBroadcastDestinationInterceptor();
+    private final MessageChannel channel = Mockito.mock(MessageChannel.class);
+
+    @ParameterizedTest
+    @EnumSource(value = StompCommand.class, names = {"SUBSCRIBE", "SEND"})
+    @DisplayName("서버 간 유저 목적지 전달 토픽은 클라이언트가 구독 · 전송할 수 없음")
+    void userDestinationBroadcastRejected(StompCommand command) {
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(frame(command, WebSocketConfig.USER_DESTINATION_BROADCAST), channel))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.FORBIDDEN.getMessage());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = StompCommand.class, names = {"SUBSCRIBE", "SEND"})
+    @DisplayName("서버 간 접속 유저 정보 토픽은 클라이언트가 구독 · 전송할 수 없음")
+    void userRegistryBroadcastRejected(StompCommand command) {
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(frame(command, WebSocketConfig.USER_REGISTRY_BROADCAST), channel))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.FORBIDDEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("다른 토픽 · 유저 큐 구독은 그대로 통과")
+    void otherDestinationsPass() {
+        // given
+        Message<byte[]> room = frame(StompCommand.SUBSCRIBE, "/topic/room.3");
+        Message<byte[]> alarm = frame(StompCommand.SUBSCRIBE, "/user/queue/alarm");
+
+        // when & then
+        assertThat(interceptor.preSend(room, channel)).isSameAs(room);
+        assertThat(interceptor.preSend(alarm, channel)).isSameAs(alarm);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setUser(() -> "1");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
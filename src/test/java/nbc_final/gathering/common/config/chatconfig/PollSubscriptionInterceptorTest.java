@@ -0,0 +1,110 @@
+package nbc_final.gathering.common.config.chatconfig;
+
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.member.service.AccessControlService;
+import nbc_final.gathering.domain.poll.repository.PollRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PollSubscriptionInterceptorTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long POLL_ID = 5L;
+    private static final Long EVENT_ID = 10L;
+
+    @Mock
+    private PollRepository pollRepository;
+
+    @Mock
+    private AccessControlService accessControlService;
+
+    @Mock
+    private MessageChannel channel;
+
+    private PollSubscriptionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(pollRepository.findEventIdById(POLL_ID)).thenReturn(Optional.of(EVENT_ID));
+        interceptor = new PollSubscriptionInterceptor(pollRepository, accessControlService);
+    }
+
+    @Test
+    @DisplayName("이벤트 참가자는 투표 현황 구독 가능")
+    void participantSubscribes() {
+        // given
+        when(accessControlService.isParticipant(USER_ID, EVENT_ID)).thenReturn(true);
+        Message<byte[]> message = subscribe("/topic/poll.5");
+
+        // when & then
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("이벤트 참가자가 아니면 투표 현황 구독 거부")
+    void nonParticipantRejected() {
+        // given
+        when(accessControlService.isParticipant(USER_ID, EVENT_ID)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/poll.5"), channel))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_PARTICIPATED.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/topic/*.5", "/topic/#", "/topic/poll.*", "/topic/room.#",
+            "/exchange/amq.topic/poll.5", "/exchange/amq.topic/#", "/exchange/notification-exchange",
+            "/amq/queue/stomp-subscription-abc"
+    })
+    @DisplayName("와일드카드 · 교환기 · 큐 직접 구독은 참가자 확인 없이 거부")
+    void bypassDestinationsRejected(String destination) {
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(destination), channel))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.FORBIDDEN.getMessage());
+        verify(accessControlService, never()).isParticipant(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 토픽 · 유저 큐 구독은 그대로 통과")
+    void otherDestinationsPass() {
+        // given
+        Message<byte[]> room = subscribe("/topic/room.3");
+        Message<byte[]> alarm = subscribe("/user/queue/alarm");
+
+        // when & then
+        assertThat(interceptor.preSend(room, channel)).isSameAs(room);
+        assertThat(interceptor.preSend(alarm, channel)).isSameAs(alarm);
+        verify(pollRepository, never()).findEventIdById(any());
+    }
+
+    private Message<byte[]> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(() -> String.valueOf(USER_ID));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,117 @@
+package nbc_final.gathering.common.config.http;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboundCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private OutboundCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        OutboundHttpProperties.Dependency config = new OutboundHttpProperties.Dependency();
+        config.setWindowSize(10);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setOpenDuration(Duration.ofSeconds(10));
+        circuitBreaker = new OutboundCircuitBreaker(config, now::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 이상에서 실패율이 기준을 넘으면 서킷을 열고 호출 차단")
+    void openOnFailureRate() {
+        // given : 성공 2번, 실패 1번 → 아직 최소 호출 수 미만
+        call(false);
+        call(false);
+        call(true);
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.CLOSED);
+
+        // when : 실패 1번 더 → 4번 중 2번 실패 (50%)
+        call(true);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출 한 번만 허용하고 성공하면 닫힘")
+    void halfOpenTrialSuccess() {
+        // given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when : 시험 호출 진행 중에는 다른 호출 차단
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        circuitBreaker.onSuccess();
+
+        // then : 이전 실패 기록은 지워짐
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.CLOSED);
+        call(true);
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열림")
+    void halfOpenTrialFailure() {
+        // given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.OPEN);
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도 밖으로 밀려난 실패는 실패율에서 제외")
+    void slidingWindow() {
+        // given : 실패 4번 중 3번 → 윈도 크기보다 오래된 실패는 잊혀야 함
+        OutboundHttpProperties.Dependency config = new OutboundHttpProperties.Dependency();
+        config.setWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(75);
+        circuitBreaker = new OutboundCircuitBreaker(config, now::get);
+        call(true);
+        call(true);
+        call(false);
+        call(false);
+
+        // when : 오래된 실패 2개가 밀려나고 실패 1개 추가 → 4번 중 1번 실패
+        call(false);
+        call(true);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.CLOSED);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(OutboundCircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failed) {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        if (failed) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package nbc_final.gathering.common.config.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpClientTest {
+
+    private DisposableServer server;
+    private OutboundHttpClient outboundHttpClient;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        // 느린 응답 · 5xx 응답을 돌려주는 로컬 서버
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes
+                        .get("/ok", (request, response) -> response.sendString(Mono.just("ok")))
+                        .get("/slow", (request, response) -> response.sendString(
+                                Mono.just("slow").delayElement(Duration.ofSeconds(2))))
+                        // 요청 팩토리 기본 교환 제한 시간(5초)보다 느린 응답
+                        .get("/slower", (request, response) -> response.sendString(
+                                Mono.just("slower").delayElement(Duration.ofSeconds(6))))
+                        .get("/error", (request, response) -> response.status(503).sendString(Mono.just("down"))))
+                .bindNow();
+
+        OutboundHttpProperties.Dependency local = new OutboundHttpProperties.Dependency();
+        local.setHosts(List.of("localhost"));
+        local.setResponseTimeout(Duration.ofMillis(300));
+        local.setMaxConcurrentCalls(1);
+        local.setMinimumCalls(2);
+        local.setFailureRateThreshold(100);
+
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        properties.getDependencies().put("local", local);
+        outboundHttpClient = new OutboundHttpClient(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundHttpClient.shutdown();
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("응답 제한 시간을 넘긴 호출은 실패로 끝나고 호스트별 지연 시간이 기록됨")
+    void responseTimeout() {
+        // when & then
+        assertThatThrownBy(() -> outboundHttpClient.get(uri("/slow")).block())
+                .isNotInstanceOf(ResponseCodeException.class);
+        assertThat(outboundHttpClient.get(uri("/ok")).block()).isEqualTo("ok");
+
+        assertThat(meterRegistry.find("http.client.outbound")
+                .tags("dependency", "local", "host", "localhost", "outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("http.client.outbound")
+                .tags("dependency", "local", "host", "localhost", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘는 호출은 기다리지 않고 거절")
+    void bulkheadRejectsWithoutWaiting() {
+        // given : 느린 호출 하나가 자리를 차지
+        CompletableFuture<String> slow = outboundHttpClient.get(uri("/slow")).toFuture();
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> outboundHttpClient.get(uri("/ok")).block())
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.EXTERNAL_API_UNAVAILABLE.getMessage());
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(200));
+        assertThat(meterRegistry.find("http.client.outbound.rejected").tag("reason", "bulkhead_full").counter().count())
+                .isEqualTo(1);
+        slow.exceptionally(e -> null).join();
+    }
+
+    @Test
+    @DisplayName("5xx 가 이어지면 서킷이 열려 RestTemplate 호출도 외부 API 까지 가지 않음")
+    void circuitOpensForRestTemplate() {
+        // given
+        RestTemplate restTemplate = new RestTemplate(outboundHttpClient.requestFactory());
+        restTemplate.getInterceptors().add(outboundHttpClient);
+
+        // when : 503 두 번 → 서킷 열림
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(uri("/error"), String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        // then
+        assertThatThrownBy(() -> restTemplate.getForObject(uri("/ok"), String.class))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.EXTERNAL_API_UNAVAILABLE.getMessage());
+        assertThat(meterRegistry.find("http.client.outbound.circuit.open").tag("dependency", "local").gauge().value())
+                .isEqualTo(1);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.port() + path);
+    }
+
+    @Test
+    @DisplayName("RestTemplate 호출은 요청 팩토리 기본 제한 시간이 아니라 외부 API 별 응답 제한 시간을 따름")
+    void restTemplateHonorsResponseTimeout() {
+        // given : 응답 제한 시간 8초
+        OutboundHttpProperties.Dependency local = new OutboundHttpProperties.Dependency();
+        local.setHosts(List.of("localhost"));
+        local.setResponseTimeout(Duration.ofSeconds(8));
+
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        properties.getDependencies().put("local", local);
+        OutboundHttpClient client = new OutboundHttpClient(properties, meterRegistry);
+        RestTemplate restTemplate = new RestTemplate(client.requestFactory());
+        restTemplate.getInterceptors().add(client);
+
+        try {
+            // when & then : 6초 걸리는 응답도 받음
+            assertThat(restTemplate.getForObject(uri("/slower"), String.class)).isEqualTo("slower");
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 호스트는 호스트마다 벌크헤드 · 서킷 브레이커를 따로 사용")
+    void defaultsArePerHost() {
+        // when
+        OutboundDependency first = outboundHttpClient.resolve("a.example.com");
+        OutboundDependency second = outboundHttpClient.resolve("b.example.com");
+
+        // then
+        assertThat(first).isNotSameAs(second);
+        assertThat(outboundHttpClient.resolve("a.example.com")).isSameAs(first);
+        assertThat(first.getName()).isEqualTo("default:a.example.com");
+        assertThat(outboundHttpClient.resolve("localhost").getName()).isEqualTo("local");
+    }
+}
@@ -0,0 +1,40 @@
+package nbc_final.gathering.common.config.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisConfigTest {
+
+    @Test
+    @DisplayName("pub/sub 전용 연결은 정적 마스터/레플리카가 아닌 마스터 단독 연결")
+    void pubSubConnectsToMaster() {
+        // given
+        RedisSentinelProperties.RedisMasterProperties master = new RedisSentinelProperties.RedisMasterProperties();
+        master.setHost("redis-master");
+        master.setPort(6379);
+        RedisSentinelProperties properties = new RedisSentinelProperties();
+        properties.setMaster(master);
+        properties.setNodes(List.of("redis-replica:6380"));
+
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "redisSentinelProperties", properties);
+
+        // when
+        LettuceConnectionFactory main = (LettuceConnectionFactory) redisConfig.redisConnectionFactory();
+        LettuceConnectionFactory pubSub = (LettuceConnectionFactory) redisConfig.pubSubConnectionFactory();
+
+        // then : 정적 마스터/레플리카 연결은 SUBSCRIBE 를 지원하지 않음
+        assertThat(ReflectionTestUtils.getField(main, "configuration")).isInstanceOf(RedisStaticMasterReplicaConfiguration.class);
+        assertThat(ReflectionTestUtils.getField(pubSub, "configuration")).isInstanceOf(RedisStandaloneConfiguration.class);
+        assertThat(pubSub.getStandaloneConfiguration().getHostName()).isEqualTo("redis-master");
+        assertThat(pubSub.getStandaloneConfiguration().getPort()).isEqualTo(6379);
+    }
+}
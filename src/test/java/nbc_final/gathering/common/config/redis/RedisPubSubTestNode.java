@@ -0,0 +1,99 @@
+package nbc_final.gathering.common.config.redis;
+
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 노드 간 pub/sub 테스트용 노드 하나 (임베디드 Redis)
+ * 운영 설정(RedisConfig)과 같이 데이터용 연결과 pub/sub 전용 연결을 따로 두고, 구독 컨테이너는 pub/sub 전용 연결을 사용합니다.
+ */
+public class RedisPubSubTestNode implements AutoCloseable {
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final LettuceConnectionFactory pubSubConnectionFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> pubSubRedisTemplate;
+    private final RedisMessageListenerContainer container;
+
+    public RedisPubSubTestNode(int port) {
+        this.connectionFactory = connectionFactory(port);
+        this.pubSubConnectionFactory = connectionFactory(port);
+        this.redisTemplate = template(connectionFactory);
+        this.pubSubRedisTemplate = template(pubSubConnectionFactory);
+
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(pubSubConnectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    public RedisTemplate<String, Object> redisTemplate() {
+        return redisTemplate;
+    }
+
+    public RedisTemplate<String, Object> pubSubRedisTemplate() {
+        return pubSubRedisTemplate;
+    }
+
+    public RedisMessageListenerContainer container() {
+        return container;
+    }
+
+    // 채널 구독자 수 (PUBSUB NUMSUB), 구독은 비동기로 맺어지므로 발행 전에 확인
+    @SuppressWarnings("unchecked")
+    public long subscribers(String channel) {
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            RedisAsyncCommands<byte[], byte[]> commands = (RedisAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            try {
+                Map<byte[], Long> reply = commands.pubsubNumsub(channel.getBytes(StandardCharsets.UTF_8)).get();
+                return reply.values().stream().mapToLong(Long::longValue).sum();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return count == null ? 0 : count;
+    }
+
+    public void flushAll() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Override
+    public void close() throws Exception {
+        container.destroy();
+        pubSubConnectionFactory.destroy();
+        connectionFactory.destroy();
+    }
+
+    private static LettuceConnectionFactory connectionFactory(int port) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static RedisTemplate<String, Object> template(LettuceConnectionFactory factory) {
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer(new RedisConfig().objectMapper());
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(valueSerializer);
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -0,0 +1,166 @@
+package nbc_final.gathering.domain.chatting.chatmessage.repository;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import nbc_final.gathering.domain.chatting.chatmessage.entity.ChatMessage;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방 메시지 키셋 페이지 조회
+ * 복합 인덱스만으로 조회 · 정렬하고, 커서 위치와 무관하게 페이지당 읽는 인덱스 키/문서 수가 페이지 크기에 비례하는지 확인합니다.
+ */
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChatMessageCursorRepositoryTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+    private static final Long OTHER_CHAT_ROOM_ID = 2L;
+    private static final int MESSAGES = 50_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Container
+    static GenericContainer<?> mongo = new GenericContainer<>("mongo:7.0").withExposedPorts(27017);
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private ChatMessageCursorRepository repository;
+
+    @BeforeAll
+    void setUp() {
+        mongoClient = MongoClients.create("mongodb://" + mongo.getHost() + ":" + mongo.getMappedPort(27017));
+        mongoTemplate = new MongoTemplate(mongoClient, "chat_cursor_test");
+        repository = new ChatMessageCursorRepository(mongoTemplate);
+        repository.ensureIndexes();
+
+        seed();
+    }
+
+    @AfterAll
+    void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("최신 · 중간 · 가장 오래된 위치의 페이지 모두 복합 인덱스로 조회하고 페이지 크기만큼만 읽음")
+    void indexBoundedPage() {
+        ChatMessageCursor middle = cursorAt(MESSAGES / 2);
+        ChatMessageCursor oldest = cursorAt(MESSAGES - PAGE_SIZE - 1);
+
+        for (ChatMessageCursor cursor : Arrays.asList(null, middle, oldest)) {
+            Document explain = explain(ChatMessageCursorRepository.pageQuery(CHAT_ROOM_ID, cursor, false, PAGE_SIZE + 1));
+            Document stats = explain.get("executionStats", Document.class);
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            List<Object> stages = collect(winningPlan, "stage", new ArrayList<>());
+            List<Object> indexNames = collect(winningPlan, "indexName", new ArrayList<>());
+
+            // 복합 인덱스로 조회하고 메모리 정렬 · 컬렉션 스캔 없음
+            assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+            assertThat(indexNames).containsOnly(ChatMessageCursorRepository.CHAT_ROOM_CREATED_AT_INDEX);
+
+            // $or 의 두 분기(createdAt < c, createdAt = c AND _id < id)를 합쳐도 페이지 크기에 비례
+            assertThat(stats.get("nReturned", Number.class).longValue()).isEqualTo(PAGE_SIZE + 1);
+            assertThat(stats.get("totalDocsExamined", Number.class).longValue()).isLessThanOrEqualTo(2L * (PAGE_SIZE + 1));
+            assertThat(stats.get("totalKeysExamined", Number.class).longValue()).isLessThanOrEqualTo(2L * (PAGE_SIZE + 2));
+        }
+    }
+
+    @Test
+    @DisplayName("createdAt 이 같은 메시지도 _id 기준으로 누락 · 중복 없이 이어서 조회")
+    void pagesAreContiguous() {
+        List<String> ids = new ArrayList<>();
+        ChatMessageCursor cursor = null;
+        for (int page = 0; page < 20; page++) {
+            List<ChatMessage> chatMessages;
+            try (Stream<ChatMessage> stream = repository.streamPage(CHAT_ROOM_ID, cursor, false, PAGE_SIZE)) {
+                chatMessages = stream.toList();
+            }
+            chatMessages.forEach(chatMessage -> ids.add(chatMessage.getId()));
+            cursor = ChatMessageCursor.of(chatMessages.get(chatMessages.size() - 1));
+        }
+
+        assertThat(ids).doesNotHaveDuplicates().hasSize(20 * PAGE_SIZE);
+    }
+
+    // 두 메시지마다 같은 createdAt 을 갖도록 시드 (동일 시각 tie-break 검증), 다른 채팅방 메시지는 섞어서 저장
+    private void seed() {
+        MongoCollection<Document> collection = mongoTemplate.getCollection("chat_message");
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+
+        List<Document> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < MESSAGES * 2; i++) {
+            Date createdAt = Date.from(base.plusNanos((i / 4) * 1_000_000L).atZone(ZoneId.systemDefault()).toInstant());
+            batch.add(new Document("_id", new ObjectId())
+                    .append("chatRoomId", i % 2 == 0 ? CHAT_ROOM_ID : OTHER_CHAT_ROOM_ID)
+                    .append("memberId", (long) (i % 100))
+                    .append("message", "테스트 메시지 " + i)
+                    .append("createdAt", createdAt));
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                collection.insertMany(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            collection.insertMany(batch);
+        }
+    }
+
+    private ChatMessageCursor cursorAt(int offset) {
+        Query query = new Query(Criteria.where("chatRoomId").is(CHAT_ROOM_ID))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "_id")))
+                .skip(offset)
+                .limit(1);
+        return ChatMessageCursor.of(mongoTemplate.findOne(query, ChatMessage.class));
+    }
+
+    private Document explain(Query query) {
+        return mongoTemplate.getCollection("chat_message")
+                .find(query.getQueryObject())
+                .projection(query.getFieldsObject())
+                .sort(query.getSortObject())
+                .limit(query.getLimit())
+                .explain(ExplainVerbosity.EXECUTION_STATS);
+    }
+
+    // 실행 계획 트리에서 주어진 필드 값을 모두 수집 (inputStage, inputStages, queryPlan 등 중첩 구조 포함)
+    private List<Object> collect(Object node, String field, List<Object> values) {
+        if (node instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> {
+                if (field.equals(key)) {
+                    values.add(value);
+                } else {
+                    collect(value, field, values);
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(item -> collect(item, field, values));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,187 @@
+package nbc_final.gathering.domain.chatting.chatmessage.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.config.chatconfig.ChatDispatchProperties;
+import nbc_final.gathering.common.config.chatconfig.ChatDispatchProperties.Backpressure;
+import nbc_final.gathering.common.config.chatconfig.ChatMessageRes;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ChatMessageDispatcherTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatMessageDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 채팅방에 동시에 보내도 채팅방별 전송 순서가 유지된다")
+    void preservePerRoomOrder() throws InterruptedException {
+        // given
+        dispatcher = new ChatMessageDispatcher(messagingTemplate, properties(4, 10_000, Backpressure.BLOCK), meterRegistry);
+        Map<String, List<String>> received = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            ChatMessageRes res = invocation.getArgument(1);
+            received.computeIfAbsent(invocation.getArgument(0), key -> new ArrayList<>()).add(res.getMessage());
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+        int rooms = 10;
+        int messagesPerRoom = 500;
+        ExecutorService senders = Executors.newFixedThreadPool(rooms);
+
+        // when : 채팅방마다 한 스레드가 순서대로 전송
+        for (long roomId = 1; roomId <= rooms; roomId++) {
+            long chatRoomId = roomId;
+            senders.execute(() -> {
+                for (int i = 0; i < messagesPerRoom; i++) {
+                    dispatcher.dispatch(chatRoomId, message(chatRoomId, String.valueOf(i)));
+                }
+            });
+        }
+        senders.shutdown();
+        senders.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        verify(messagingTemplate, timeout(5000).times(rooms * messagesPerRoom)).convertAndSend(anyString(), any(Object.class));
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < messagesPerRoom; i++) {
+            expected.add(String.valueOf(i));
+        }
+        for (long roomId = 1; roomId <= rooms; roomId++) {
+            assertThat(received.get(ChatMessageDispatcher.ROOM_DESTINATION_PREFIX + roomId)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("REJECT 모드에서 레인이 가득 차면 CHAT_DISPATCH_QUEUE_FULL 예외")
+    void rejectWhenLaneFull() throws InterruptedException {
+        // given : 레인 스레드가 첫 메시지 전송에서 멈춰 있도록 설정
+        dispatcher = new ChatMessageDispatcher(messagingTemplate, properties(1, 2, Backpressure.REJECT), meterRegistry);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+        dispatcher.dispatch(1L, message(1L, "in-flight"));
+        sending.await(1, TimeUnit.SECONDS);
+        dispatcher.dispatch(1L, message(1L, "queued-1"));
+        dispatcher.dispatch(1L, message(1L, "queued-2"));
+
+        // when & then
+        assertThatThrownBy(() -> dispatcher.dispatch(1L, message(1L, "overflow")))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.CHAT_DISPATCH_QUEUE_FULL.getMessage());
+        assertThat(meterRegistry.get("chat.dispatch.lane.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.dispatch.lane.depth").gauge().value()).isEqualTo(2);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 메시지는 레인이 가득 차도 거절하지 않고 호출 스레드에서 바로 전송한다")
+    void sendPersistedDirectlyWhenLaneFull() throws InterruptedException {
+        // given : 레인 스레드가 첫 메시지 전송에서 멈춰 있도록 설정
+        dispatcher = new ChatMessageDispatcher(messagingTemplate, properties(1, 2, Backpressure.REJECT), meterRegistry);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> directlySent = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        doAnswer(invocation -> {
+            if (Thread.currentThread() == caller) {
+                directlySent.add(((ChatMessageRes) invocation.getArgument(1)).getMessage());
+                return null;
+            }
+            sending.countDown();
+            release.await();
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+        dispatcher.dispatch(1L, message(1L, "in-flight"));
+        sending.await(1, TimeUnit.SECONDS);
+        dispatcher.dispatch(1L, message(1L, "queued-1"));
+        dispatcher.dispatch(1L, message(1L, "queued-2"));
+
+        // when
+        dispatcher.dispatchPersisted(1L, message(1L, "persisted"));
+
+        // then
+        assertThat(directlySent).containsExactly("persisted");
+        assertThat(meterRegistry.get("chat.dispatch.lane.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.dispatch.lane.direct").counter().count()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 모드에서 레인이 가득 차면 가장 오래된 대기 메시지를 버린다")
+    void dropOldestWhenLaneFull() throws InterruptedException {
+        // given
+        dispatcher = new ChatMessageDispatcher(messagingTemplate, properties(1, 2, Backpressure.DROP_OLDEST), meterRegistry);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new ArrayList<>();
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            received.add(((ChatMessageRes) invocation.getArgument(1)).getMessage());
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+        dispatcher.dispatch(1L, message(1L, "in-flight"));
+        sending.await(1, TimeUnit.SECONDS);
+
+        // when
+        dispatcher.dispatch(1L, message(1L, "old"));
+        dispatcher.dispatch(1L, message(1L, "middle"));
+        dispatcher.dispatch(1L, message(1L, "new"));
+        release.countDown();
+
+        // then
+        verify(messagingTemplate, timeout(1000).times(3)).convertAndSend(anyString(), any(Object.class));
+        assertThat(received).containsExactly("in-flight", "middle", "new");
+        assertThat(meterRegistry.get("chat.dispatch.lane.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private ChatDispatchProperties properties(int lanes, int capacity, Backpressure backpressure) {
+        ChatDispatchProperties properties = new ChatDispatchProperties();
+        properties.setLanes(lanes);
+        properties.setLaneCapacity(capacity);
+        properties.setBackpressure(backpressure);
+        return properties;
+    }
+
+    private ChatMessageRes message(Long chatRoomId, String message) {
+        return ChatMessageRes.builder()
+                .chatRoomId(chatRoomId)
+                .memberId(1L)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package nbc_final.gathering.domain.chatting.chatmessage.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.config.chatconfig.ChatPersistenceProperties;
+import nbc_final.gathering.domain.chatting.chatmessage.entity.ChatMessage;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChatMessageWriteBehindBufferTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @TempDir
+    Path spillDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatMessageWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(ChatMessage.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        buffer = new ChatMessageWriteBehindBuffer(mongoTemplate, objectMapper, properties(20_000), meterRegistry);
+    }
+
+    // 백그라운드 저장이 끼어들지 않도록 SYNC 모드로 생성하고 flush 를 직접 호출
+    private ChatPersistenceProperties properties(int maxPending) {
+        ChatPersistenceProperties properties = new ChatPersistenceProperties();
+        properties.setMode(ChatPersistenceProperties.Mode.SYNC);
+        properties.setFlushBatchSize(3);
+        properties.setMaxPending(maxPending);
+        properties.setSpillDir(spillDir.toString());
+        properties.setSpillReplayIntervalMs(0);
+        return properties;
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 메시지를 배치 크기 단위의 insertMany 로 저장")
+    @SuppressWarnings("unchecked")
+    void flushInBatches() {
+        // given
+        for (int i = 0; i < 7; i++) {
+            buffer.add(message(i));
+        }
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<?>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations, times(3)).insert(captor.capture());
+        List<Integer> batchSizes = captor.getAllValues().stream().map(List::size).toList();
+        assertThat(batchSizes).containsExactly(3, 3, 1);
+        assertThat(meterRegistry.get("chat.persistence.flushed").counter().count()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 스필 파일에 기록하고, 복구되면 재적재 후 파일 삭제")
+    @SuppressWarnings("unchecked")
+    void spillOnFailureAndReplay() throws Exception {
+        // given : MongoDB 장애
+        when(bulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("timeout"));
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            messages.add(message(i));
+            buffer.add(messages.get(i));
+        }
+
+        // when
+        buffer.flush();
+
+        // then : 스필 파일에 기록
+        Path spillFile = spillDir.resolve("chat-spill.jsonl");
+        assertThat(Files.readAllLines(spillFile)).hasSize(2);
+        assertThat(meterRegistry.get("chat.persistence.spilled").counter().count()).isEqualTo(2);
+
+        // given : MongoDB 복구
+        reset(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        buffer.replaySpill();
+
+        // then : 같은 ID 로 재적재되고 스필 파일은 정리됨
+        verify(bulkOperations).insert(captor.capture());
+        assertThat(captor.getValue()).extracting(ChatMessage::getId)
+                .containsExactlyElementsOf(messages.stream().map(ChatMessage::getId).toList());
+        try (var files = Files.list(spillDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 메시지가 maxPending 을 넘으면 초과분을 모아 보낸 순서대로 스필 파일에 기록")
+    void spillOverflowInBatches() throws Exception {
+        // given : 모든 메시지가 초과분이 되도록 maxPending 0
+        buffer.shutdown();
+        buffer = new ChatMessageWriteBehindBuffer(mongoTemplate, objectMapper, properties(0), meterRegistry);
+        List<String> ids = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            ChatMessage chatMessage = message(i);
+            ids.add(chatMessage.getId());
+            buffer.add(chatMessage);
+        }
+        buffer.shutdown();
+
+        // then : MongoDB 를 거치지 않고 모두 순서대로 기록됨
+        List<String> spilled = new ArrayList<>();
+        for (String line : Files.readAllLines(spillDir.resolve("chat-spill.jsonl"))) {
+            spilled.add(objectMapper.readValue(line, ChatMessage.class).getId());
+        }
+        assertThat(spilled).containsExactlyElementsOf(ids);
+        assertThat(meterRegistry.get("chat.persistence.spilled").counter().count()).isEqualTo(50);
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("SYNC 모드에서는 스필 디렉터리를 만들지 않음")
+    void syncModeDoesNotCreateSpillDir() {
+        // given
+        Path missingDir = spillDir.resolve("not-created");
+        ChatPersistenceProperties properties = properties(20_000);
+        properties.setSpillDir(missingDir.toString());
+
+        // when
+        ChatMessageWriteBehindBuffer syncBuffer = new ChatMessageWriteBehindBuffer(mongoTemplate, objectMapper, properties, meterRegistry);
+        syncBuffer.shutdown();
+
+        // then
+        assertThat(missingDir).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("재적재 중 읽을 수 없는 줄은 격리 파일로 옮기고 나머지 메시지는 계속 재적재")
+    @SuppressWarnings("unchecked")
+    void quarantineMalformedLine() throws Exception {
+        // given : 정상 메시지 사이에 기록 도중 끊긴 줄
+        ChatMessage first = message(0);
+        ChatMessage second = message(1);
+        String truncated = objectMapper.writeValueAsString(message(2)).substring(0, 20);
+        Files.write(spillDir.resolve("chat-spill.jsonl"), List.of(
+                objectMapper.writeValueAsString(first), truncated, objectMapper.writeValueAsString(second)));
+        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        buffer.replaySpill();
+
+        // then : 정상 메시지는 재적재, 끊긴 줄은 격리 파일에만 남음
+        verify(bulkOperations).insert(captor.capture());
+        assertThat(captor.getValue()).extracting(ChatMessage::getId).containsExactly(first.getId(), second.getId());
+        assertThat(Files.readAllLines(spillDir.resolve("chat-spill.quarantine.jsonl"))).containsExactly(truncated);
+        assertThat(meterRegistry.get("chat.persistence.quarantined").counter().count()).isEqualTo(1);
+        try (var files = Files.list(spillDir)) {
+            assertThat(files).extracting(path -> path.getFileName().toString())
+                    .containsExactly("chat-spill.quarantine.jsonl");
+        }
+
+        // when : 다음 재적재에서는 같은 줄로 다시 실패하지 않음
+        buffer.replaySpill();
+
+        // then
+        verify(bulkOperations, times(1)).insert(anyList());
+    }
+
+    private ChatMessage message(int index) {
+        return ChatMessage.builder()
+                .id(new ObjectId().toHexString())
+                .chatRoomId(1L)
+                .memberId(1L)
+                .message("메시지 " + index)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
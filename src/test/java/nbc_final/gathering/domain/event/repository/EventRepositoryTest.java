@@ -0,0 +1,106 @@
+package nbc_final.gathering.domain.event.repository;
+
+import jakarta.persistence.EntityManager;
+import nbc_final.gathering.common.config.common.QuerydslConfig;
+import nbc_final.gathering.domain.event.entity.Event;
+import nbc_final.gathering.domain.event.entity.Participant;
+import nbc_final.gathering.domain.event.enums.EventStatus;
+import nbc_final.gathering.domain.gathering.entity.Gathering;
+import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import nbc_final.gathering.domain.user.entity.User;
+import nbc_final.gathering.domain.user.enums.UserRole;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(QuerydslConfig.class)
+class EventRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Gathering gathering;
+    private Event pastEvent;
+    private Event upcomingEvent;
+
+    @BeforeEach
+    void setUp() {
+        gathering = gatheringRepository.save(Gathering.of("테스트 소모임", 10, "테스트 소모임 설명입니다."));
+        User creator = userRepository.save(createUser("creator"));
+        User guest = userRepository.save(createUser("guest"));
+
+        pastEvent = eventRepository.save(Event.of("지난 이벤트", "설명", TODAY.minusDays(1), "장소", 10, gathering, creator));
+        upcomingEvent = eventRepository.save(Event.of("다가오는 이벤트", "설명", TODAY, "장소", 10, gathering, creator));
+        participantRepository.save(Participant.of(pastEvent, creator));
+        participantRepository.save(Participant.of(pastEvent, guest));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("날짜가 지난 이벤트를 종료하면 참가자 수가 DB 기준으로 확정되고 진행 중 목록에서 빠짐")
+    void closePastEvents() {
+        // given
+        List<Long> pastIds = eventRepository.findIdsByStatusAndDateBefore(EventStatus.OPEN, TODAY, PageRequest.of(0, 10));
+
+        // when
+        int closed = eventRepository.closeEvents(pastIds);
+
+        // then
+        assertThat(pastIds).containsExactly(pastEvent.getId());
+        assertThat(closed).isEqualTo(1);
+
+        Event event = eventRepository.findById(pastEvent.getId()).orElseThrow();
+        assertThat(event.isClosed()).isTrue();
+        assertThat(event.getCurrentParticipants()).isEqualTo(2);
+        assertThat(eventRepository.findIdsByStatusAfter(EventStatus.OPEN, 0L, PageRequest.of(0, 10)))
+                .containsExactly(upcomingEvent.getId());
+        assertThat(eventRepository.findEventDetail(pastEvent.getId(), 0, 20).orElseThrow().currentParticipants())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다가오는 이벤트는 오늘 이후 날짜만 조회")
+    void findUpcoming() {
+        // when
+        List<Event> events = eventRepository.findUpcoming(gathering.getId(), TODAY, PageRequest.of(0, 10)).getContent();
+
+        // then
+        assertThat(events).extracting(Event::getId).containsExactly(upcomingEvent.getId());
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .email(nickname + "@example.com")
+                .password("password")
+                .userRole(UserRole.ROLE_USER)
+                .nickname(nickname)
+                .build();
+    }
+}
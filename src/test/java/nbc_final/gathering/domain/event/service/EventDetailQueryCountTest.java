@@ -0,0 +1,159 @@
+package nbc_final.gathering.domain.event.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import nbc_final.gathering.domain.comment.dto.request.CommentRequestDto;
+import nbc_final.gathering.domain.comment.dto.response.CommentResponseDto;
+import nbc_final.gathering.domain.comment.entity.Comment;
+import nbc_final.gathering.domain.comment.repository.CommentRepository;
+import nbc_final.gathering.domain.comment.service.CommentService;
+import nbc_final.gathering.domain.event.dto.response.EventResponseDto;
+import nbc_final.gathering.domain.event.entity.Event;
+import nbc_final.gathering.domain.event.repository.EventRepository;
+import nbc_final.gathering.domain.gathering.entity.Gathering;
+import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import nbc_final.gathering.domain.member.enums.MemberRole;
+import nbc_final.gathering.domain.member.enums.MemberStatus;
+import nbc_final.gathering.domain.user.entity.User;
+import nbc_final.gathering.domain.user.enums.UserRole;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 상세 조회 쿼리 수 비교 (Hibernate Statistics)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EventDetailQueryCountTest {
+
+    private static final int COMMENT_COUNT = 30;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GatheringRepository gatheringRepository;
+
+    @Autowired
+    private EventParticipantCounter eventParticipantCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long gatheringId;
+    private Long eventId;
+    private Long viewerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Gathering gathering = gatheringRepository.saveAndFlush(Gathering.of("테스트 소모임", 100, "테스트 소모임 설명입니다."));
+        gatheringId = gathering.getId();
+
+        User creator = userRepository.saveAndFlush(createUser());
+        gathering.addMember(creator, MemberRole.HOST, MemberStatus.APPROVED);
+        gatheringRepository.saveAndFlush(gathering);
+        viewerId = creator.getId();
+
+        Event event = eventRepository.saveAndFlush(
+                Event.of("테스트 이벤트", "테스트 설명", LocalDate.parse("2024-12-31"), "테스트 장소", 10, gathering, creator));
+        eventId = event.getId();
+        eventParticipantCounter.initialize(eventId, creator.getId());
+
+        // 댓글마다 다른 작성자
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            User author = userRepository.saveAndFlush(createUser());
+            commentRepository.saveAndFlush(new Comment("댓글 " + i, gathering, event, author));
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트 + 작성자 + 댓글 + 댓글 작성자를 한 번의 쿼리로 조회")
+    void detailInSingleQuery() {
+        // when : 기존 조회 방식 (이벤트 findById + 작성자 지연 로딩 + 댓글 조회 + 댓글 작성자 지연 로딩)
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            event.getUser().getNickname();
+            commentRepository.findByEventId(eventId).forEach(comment -> {
+                comment.getUser().getNickname();
+                CommentResponseDto.of(comment);
+            });
+        });
+        long before = statistics.getPrepareStatementCount();
+
+        // when : 읽기 모델 조회
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status ->
+                eventRepository.findEventDetail(eventId, 0, COMMENT_COUNT));
+        long after = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(after).isEqualTo(1);
+        assertThat(after).isLessThan(before);
+        assertThat(before).isGreaterThan(COMMENT_COUNT);
+    }
+
+    @Test
+    @DisplayName("같은 이벤트를 다시 조회하면 캐시를 사용하고, 댓글 작성 시 무효화")
+    void cachedUntilCommentWrite() {
+        // given
+        eventService.getEvent(viewerId, gatheringId, eventId, 1, 20);
+
+        // when : 상세, 권한 확인 모두 캐시 적중
+        statistics.clear();
+        eventService.getEvent(viewerId, gatheringId, eventId, 1, 20);
+        long cached = statistics.getPrepareStatementCount();
+
+        // when : 댓글 작성으로 무효화된 뒤 조회
+        CommentRequestDto requestDto = new CommentRequestDto();
+        ReflectionTestUtils.setField(requestDto, "content", "새 댓글");
+        commentService.saveComment(requestDto, gatheringId, viewerId, eventId);
+
+        statistics.clear();
+        EventResponseDto response = eventService.getEvent(viewerId, gatheringId, eventId, 2, 20);
+        eventService.getEvent(viewerId, gatheringId, eventId, 1, 20);
+        long reloaded = statistics.getPrepareStatementCount();
+
+        // then : 캐시 적중 시 쿼리 없음, 무효화 후에는 상세 조회만 다시 실행됨 (2 페이지 1개 + 1 페이지 1개)
+        assertThat(cached).isZero();
+        assertThat(reloaded).isEqualTo(2);
+        assertThat(response.getComments()).hasSize(COMMENT_COUNT + 1 - 20);
+    }
+
+    private User createUser() {
+        return User.builder()
+                .email("testUser" + System.nanoTime() + "@example.com")
+                .password("password")
+                .userRole(UserRole.ROLE_USER)
+                .nickname("User" + System.nanoTime())
+                .build();
+    }
+}
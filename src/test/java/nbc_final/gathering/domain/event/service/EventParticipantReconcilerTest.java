@@ -0,0 +1,89 @@
+package nbc_final.gathering.domain.event.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.domain.event.enums.EventStatus;
+import nbc_final.gathering.domain.event.repository.EventParticipantCount;
+import nbc_final.gathering.domain.event.repository.EventRepository;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EventParticipantReconcilerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private EventParticipantCounter eventParticipantCounter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventParticipantReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reconciler = new EventParticipantReconciler(eventRepository, participantRepository, eventParticipantCounter, meterRegistry);
+
+        // 진행 중인 이벤트 1 ~ 4 를 한 페이지로 조회
+        when(eventRepository.findIdsByStatusAfter(eq(EventStatus.OPEN), eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(eventRepository.findIdsByStatusAfter(eq(EventStatus.OPEN), eq(4L), any(Pageable.class))).thenReturn(List.of());
+        when(participantRepository.countByEventIds(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                new EventParticipantCount(1L, 5L),
+                new EventParticipantCount(2L, 3L),
+                new EventParticipantCount(3L, 2L),
+                new EventParticipantCount(4L, 7L)));
+    }
+
+    @Test
+    @DisplayName("키가 없거나 DB 보다 작은 카운터는 바로 복구하고 불일치 수를 메트릭으로 기록")
+    void repairMissingAndUndercountedImmediately() {
+        // given : 1 일치, 2 키 없음(flush), 3 DB 보다 작음, 4 DB 보다 큼
+        when(eventParticipantCounter.peekCounts(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Map.of(1L, 5L, 3L, 0L, 4L, 8L));
+
+        // when
+        long drift = reconciler.reconcile();
+
+        // then
+        assertThat(drift).isEqualTo(3);
+        verify(eventParticipantCounter).repair(Map.of(2L, EventParticipantCounter.MISSING, 3L, 0L));
+        assertThat(meterRegistry.get("event.participants.reconcile.drift").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("event.participants.reconcile.last.drift").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("DB 보다 큰 카운터는 다음 주기에도 같은 값일 때만 복구")
+    void repairOvercountOnlyWhenStable() {
+        // given : 4 번 이벤트가 DB(7) 보다 큰 8 로 두 번 연속 관측
+        when(eventParticipantCounter.peekCounts(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Map.of(1L, 5L, 2L, 3L, 3L, 2L, 4L, 8L));
+
+        // when
+        reconciler.reconcile();
+
+        // then : 첫 주기에는 커밋 전 예약일 수 있으므로 복구하지 않음
+        verify(eventParticipantCounter, never()).repair(anyMap());
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(eventParticipantCounter).repair(Map.of(4L, 8L));
+    }
+}
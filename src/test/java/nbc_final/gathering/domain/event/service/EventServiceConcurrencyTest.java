@@ -2,9 +2,11 @@ package nbc_final.gathering.domain.event.service;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import nbc_final.gathering.common.exception.ResponseCode;
 import nbc_final.gathering.common.exception.ResponseCodeException;
 import nbc_final.gathering.domain.event.dto.request.EventCreateRequestDto;
 import nbc_final.gathering.domain.event.entity.Event;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
 import nbc_final.gathering.domain.event.repository.EventRepository;
 import nbc_final.gathering.domain.gathering.entity.Gathering;
 import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
@@ -16,6 +18,7 @@ import nbc_final.gathering.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.redisson.api.RAtomicLong;
@@ -24,12 +27,14 @@ import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -56,6 +61,9 @@ public class EventServiceConcurrencyTest {
     @Autowired
     private GatheringRepository gatheringRepository;
 
+    @Autowired
+    private ParticipantRepository participantRepository;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -86,7 +94,7 @@ public class EventServiceConcurrencyTest {
         EventCreateRequestDto requestDto = EventCreateRequestDto.of(
                 "테스트 이벤트", "테스트 설명", "2024-12-31", "테스트 장소", MAX_PARTICIPANTS
         );
-        Event event = Event.of(requestDto.getTitle(), requestDto.getDescription(), requestDto.getDate(),
+        Event event = Event.of(requestDto.getTitle(), requestDto.getDescription(), LocalDate.parse(requestDto.getDate()),
                 requestDto.getLocation(), requestDto.getMaxParticipants(), gathering, eventCreator);
         eventRepository.saveAndFlush(event);
         eventId = event.getId();
@@ -111,7 +119,7 @@ public class EventServiceConcurrencyTest {
             executorService.submit(() -> {
                 try {
                     System.out.println("사용자 " + testUserId + "가 이벤트 " + eventId + "에 참가 요청");
-                    eventService.joinEventWithLock(testUserId, eventId);
+                    eventService.joinEvent(testUserId, eventId);
                     System.out.println("사용자 " + testUserId + "가 이벤트 " + eventId + "에 참가 성공");
                 } catch (ResponseCodeException e) {
                     System.out.println("사용자 " + testUserId + "가 이벤트 " + eventId + "에 참가 실패: " + e.getMessage());
@@ -256,6 +264,65 @@ public class EventServiceConcurrencyTest {
         }
     }
 
+    // 처리량 측정용 (오래 걸리므로 EVENT_JOIN_BENCHMARK=true 일 때만 실행)
+    @Test
+    @EnabledIfEnvironmentVariable(named = "EVENT_JOIN_BENCHMARK", matches = "true")
+    @DisplayName("7. 5,000명 동시 참가 요청 시 정원(100석)만큼만 참가하고 나머지는 정원 초과로 거절, 처리량 측정")
+    public void shouldAdmitExactlyMaxParticipantsUnderHeavyContention() throws InterruptedException {
+        int concurrentUsers = 5_000;
+        List<Long> joinerIds = new ArrayList<>();
+        List<User> joiners = new ArrayList<>();
+        for (int i = 0; i < concurrentUsers; i++) {
+            joiners.add(createUser());
+        }
+        userRepository.saveAllAndFlush(joiners).forEach(user -> joinerIds.add(user.getId()));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(64);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(concurrentUsers);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger otherFailures = new AtomicInteger();
+
+        for (Long joinerId : joinerIds) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    eventService.joinEvent(joinerId, eventId);
+                    succeeded.incrementAndGet();
+                } catch (ResponseCodeException e) {
+                    if (ResponseCode.PARTICIPANT_LIMIT_EXCEEDED.getMessage().equals(e.getMessage())) {
+                        rejected.incrementAndGet();
+                    } else {
+                        otherFailures.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    otherFailures.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        ready.countDown();
+        latch.await();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        executorService.shutdown();
+
+        RAtomicLong currentParticipants = redissonClient.getAtomicLong("event:" + eventId + ":currentParticipants");
+        System.out.printf("동시 참가 요청 %d건 처리: %d ms (%.0f req/s), 성공 %d, 거절 %d%n",
+                concurrentUsers, elapsedMillis, concurrentUsers * 1000.0 / elapsedMillis, succeeded.get(), rejected.get());
+
+        assertThat(succeeded.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(concurrentUsers - MAX_PARTICIPANTS);
+        assertThat(otherFailures.get()).isZero();
+        assertThat(currentParticipants.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(participantRepository.findUserIdsByEventId(eventId)).hasSize(MAX_PARTICIPANTS);
+    }
+
     private User createUser() {
         String uniqueEmail = "testUser" + System.nanoTime() + "@example.com";
         String uniqueNickname = "User" + System.nanoTime();
@@ -0,0 +1,97 @@
+package nbc_final.gathering.domain.event.service;
+
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.event.repository.EventRepository;
+import nbc_final.gathering.domain.event.repository.EventRepositoryCustom;
+import nbc_final.gathering.domain.member.service.AccessControlService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class EventServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long GATHERING_ID = 2L;
+    private static final Long EVENT_ID = 3L;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    // EventRepository 도 EventRepositoryCustom 이므로 생성자에 직접 전달
+    @Mock
+    private EventRepositoryCustom eventRepositoryCustom;
+
+    @Mock
+    private EventParticipantCounter eventParticipantCounter;
+
+    @Mock
+    private EventDetailCache eventDetailCache;
+
+    @Mock
+    private AccessControlService accessControlService;
+
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventService = new EventService(null, null, eventRepository, eventRepositoryCustom, null, null, null,
+                eventParticipantCounter, null, eventDetailCache, accessControlService, null);
+        when(accessControlService.isApprovedMember(USER_ID, GATHERING_ID)).thenReturn(true);
+        when(eventRepository.findAllByGatheringId(anyLong(), any(Pageable.class))).thenReturn(Page.empty());
+        when(eventRepository.findUpcoming(anyLong(), any(LocalDate.class), any(Pageable.class))).thenReturn(Page.empty());
+        when(eventRepositoryCustom.findEventDetail(anyLong(), anyInt(), anyInt())).thenReturn(Optional.empty());
+        when(eventParticipantCounter.getCounts(anyList())).thenReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("이벤트 목록 페이지 크기는 최대 100, 페이지 번호는 1 이상으로 제한")
+    void eventPageBounds() {
+        // when
+        eventService.getAllEvents(USER_ID, GATHERING_ID, 0, 10_000);
+        eventService.getUpcomingEvents(USER_ID, GATHERING_ID, -5, 10_000);
+        eventService.getAllEvents(USER_ID, GATHERING_ID, 2, 0);
+
+        // then
+        verify(eventRepository).findAllByGatheringId(GATHERING_ID, PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "id")));
+        verify(eventRepository).findUpcoming(eq(GATHERING_ID), any(LocalDate.class), eq(PageRequest.of(0, 100)));
+        verify(eventRepository).findAllByGatheringId(GATHERING_ID, PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Test
+    @DisplayName("이벤트 상세의 댓글 페이지 크기는 최대 100, 페이지 번호는 1 이상으로 제한")
+    void commentPageBounds() {
+        // when & then
+        assertThatThrownBy(() -> eventService.getEvent(USER_ID, GATHERING_ID, EVENT_ID, 0, 10_000))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_FOUND_EVENT.getMessage());
+        verify(eventRepositoryCustom).findEventDetail(EVENT_ID, 0, 100);
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 번호가 매우 커도 오프셋이 음수가 되지 않음")
+    void commentOffsetDoesNotOverflow() {
+        // when & then
+        assertThatThrownBy(() -> eventService.getEvent(USER_ID, GATHERING_ID, EVENT_ID, Integer.MAX_VALUE, 100))
+                .isInstanceOf(ResponseCodeException.class);
+        verify(eventRepositoryCustom).findEventDetail(EVENT_ID, Integer.MAX_VALUE, 100);
+    }
+}
@@ -0,0 +1,153 @@
+package nbc_final.gathering.domain.event.service;
+
+import nbc_final.gathering.common.alarmconfig.AlarmDto;
+import nbc_final.gathering.common.alarmconfig.AlarmService;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.event.entity.Event;
+import nbc_final.gathering.domain.event.entity.Participant;
+import nbc_final.gathering.domain.event.repository.EventRepository;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import nbc_final.gathering.domain.gathering.entity.Gathering;
+import nbc_final.gathering.domain.member.service.AccessControlService;
+import nbc_final.gathering.domain.user.entity.User;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EventWaitlistServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventWaitlist eventWaitlist;
+
+    @Mock
+    private EventParticipantCounter eventParticipantCounter;
+
+    @Mock
+    private AccessControlService accessControlService;
+
+    @Mock
+    private AlarmService alarmService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventWaitlistService eventWaitlistService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        eventWaitlistService = new EventWaitlistService(eventRepository, participantRepository, userRepository,
+                eventWaitlist, eventParticipantCounter, accessControlService, alarmService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("좌석이 반환되면 대기열 맨 앞 유저를 참가자로 저장하고 알림 전송")
+    void promoteHeadOnRelease() {
+        // given : 1번 유저 취소 → 7번 유저 승급
+        Event event = mock(Event.class);
+        when(event.getTitle()).thenReturn("테스트 이벤트");
+        when(eventRepository.findById(100L)).thenReturn(Optional.of(event));
+        when(userRepository.getReferenceById(7L)).thenReturn(mock(User.class));
+        when(eventWaitlist.releaseAndPromote(100L, 1L, 10)).thenReturn(List.of(7L));
+
+        // when
+        eventWaitlistService.releaseAndPromote(100L, 1L, 10);
+
+        // then
+        verify(participantRepository).save(any(Participant.class));
+        verify(accessControlService).evictParticipation(7L, 100L);
+        verify(alarmService).sendAlarm(any(AlarmDto.AlarmMessageReq.class));
+        verify(eventParticipantCounter, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("승급된 유저를 저장하지 못하면 좌석을 다시 반환")
+    void releaseSeatWhenPromotionFails() {
+        // given : 그 사이 이벤트가 삭제됨
+        when(eventRepository.findById(100L)).thenReturn(Optional.empty());
+        when(eventWaitlist.releaseAndPromote(100L, 1L, 10)).thenReturn(List.of(7L));
+
+        // when
+        eventWaitlistService.releaseAndPromote(100L, 1L, 10);
+
+        // then
+        verify(participantRepository, never()).save(any());
+        verify(eventParticipantCounter).release(100L, 7L);
+    }
+
+    @Test
+    @DisplayName("대기열에 없는 유저의 순번 조회는 예외")
+    void positionNotInWaitlist() {
+        // given
+        when(accessControlService.isApprovedMember(7L, 1L)).thenReturn(true);
+        Event event = eventOf(1L);
+        when(eventRepository.findById(100L)).thenReturn(Optional.of(event));
+        when(eventWaitlist.position(100L, 7L)).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> eventWaitlistService.getPosition(7L, 1L, 100L))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_IN_WAITLIST.getMessage());
+    }
+
+    @Test
+    @DisplayName("다른 소모임의 이벤트 대기 순번은 조회할 수 없음")
+    void positionOfOtherGatheringEvent() {
+        // given : 1번 소모임 멤버가 2번 소모임의 이벤트를 요청
+        when(accessControlService.isApprovedMember(7L, 1L)).thenReturn(true);
+        Event event = eventOf(2L);
+        when(eventRepository.findById(100L)).thenReturn(Optional.of(event));
+
+        // when & then
+        assertThatThrownBy(() -> eventWaitlistService.getPosition(7L, 1L, 100L))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_FOUND_EVENT.getMessage());
+        verify(eventWaitlist, never()).position(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 소모임의 이벤트 대기열에서는 나갈 수 없음")
+    void leaveOtherGatheringEvent() {
+        // given
+        when(accessControlService.isApprovedMember(7L, 1L)).thenReturn(true);
+        Event event = eventOf(2L);
+        when(eventRepository.findById(100L)).thenReturn(Optional.of(event));
+
+        // when & then
+        assertThatThrownBy(() -> eventWaitlistService.leaveWaitlist(7L, 1L, 100L))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_FOUND_EVENT.getMessage());
+        verify(eventWaitlist, never()).remove(any(), any());
+    }
+
+    private Event eventOf(Long gatheringId) {
+        Gathering gathering = mock(Gathering.class);
+        when(gathering.getId()).thenReturn(gatheringId);
+        Event event = mock(Event.class);
+        when(event.getGathering()).thenReturn(gathering);
+        return event;
+    }
+}
@@ -0,0 +1,248 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.gathering.repository.GatheringCoordinate;
+import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+import nbc_final.gathering.domain.location.service.LocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GatheringGeoIndexTest {
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+
+    @Mock
+    private LocationService locationService;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private GeoOperations<String, Object> geoOperations;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private RedisScript<Long> releaseScript;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GatheringGeoIndex gatheringGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForGeo()).thenReturn(geoOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        gatheringGeoIndex = new GatheringGeoIndex(gatheringRepository, locationService, redisTemplate,
+                releaseScript, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gatheringGeoIndex.shutdown();
+    }
+
+    @Test
+    @DisplayName("지오코딩한 좌표를 DB 에 저장하고 위치 색인에 추가")
+    void geocodeAndIndex() {
+        // given
+        when(locationService.getCoordinateDto("서울 강남구")).thenReturn(new CoordinateDto(37.49, 127.02));
+        when(gatheringRepository.updateCoordinate(1L, "서울 강남구", 37.49, 127.02)).thenReturn(1);
+
+        // when
+        boolean indexed = gatheringGeoIndex.geocodeAndIndex(1L, "서울 강남구");
+
+        // then
+        assertThat(indexed).isTrue();
+        verify(geoOperations).add(GatheringGeoIndex.GEO_KEY, new Point(127.02, 37.49), 1L);
+    }
+
+    @Test
+    @DisplayName("지오코딩 사이 위치가 바뀐 소모임은 이전 좌표로 색인하지 않음")
+    void skipWhenLocationChanged() {
+        // given : 저장 시점에 위치가 달라 갱신된 행이 없음
+        when(locationService.getCoordinateDto("서울 강남구")).thenReturn(new CoordinateDto(37.49, 127.02));
+        when(gatheringRepository.updateCoordinate(anyLong(), anyString(), anyDouble(), anyDouble())).thenReturn(0);
+
+        // when
+        boolean indexed = gatheringGeoIndex.geocodeAndIndex(1L, "서울 강남구");
+
+        // then
+        assertThat(indexed).isFalse();
+        verify(geoOperations, never()).add(anyString(), any(Point.class), any());
+    }
+
+    @Test
+    @DisplayName("지오코딩에 실패해도 예외를 던지지 않고 보정 작업으로 넘김")
+    void geocodeFailureIsSwallowed() {
+        // given
+        when(locationService.getCoordinateDto(anyString()))
+                .thenThrow(new ResponseCodeException(ResponseCode.LOCATION_LOAD_TIMEOUT));
+
+        // when
+        boolean indexed = gatheringGeoIndex.geocodeAndIndex(1L, "서울 강남구");
+
+        // then
+        assertThat(indexed).isFalse();
+        verify(gatheringRepository, never()).updateCoordinate(anyLong(), anyString(), anyDouble(), anyDouble());
+        verifyNoInteractions(geoOperations);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 저장된 좌표를 그대로 색인하고 좌표가 없는 소모임만 지오코딩")
+    @SuppressWarnings("unchecked")
+    void backfill() {
+        // given
+        when(gatheringRepository.findCoordinatesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new GatheringCoordinate(1L, "서울 강남구", 37.49, 127.02),
+                new GatheringCoordinate(2L, "서울 마포구", null, null)));
+        when(gatheringRepository.findCoordinatesAfter(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(locationService.getCoordinateDto("서울 마포구")).thenReturn(new CoordinateDto(37.56, 126.90));
+        when(gatheringRepository.updateCoordinate(2L, "서울 마포구", 37.56, 126.90)).thenReturn(1);
+
+        // when
+        int count = gatheringGeoIndex.backfill();
+
+        // then
+        assertThat(count).isEqualTo(2);
+        verify(locationService, times(1)).getCoordinateDto(anyString());
+
+        ArgumentCaptor<Map<Object, Point>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(geoOperations).add(eq(GatheringGeoIndex.GEO_KEY), captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(1L);
+        verify(geoOperations).add(GatheringGeoIndex.GEO_KEY, new Point(126.90, 37.56), 2L);
+    }
+
+    @Test
+    @DisplayName("위치가 바뀌면 지오코딩 전에 이전 좌표를 색인에서 바로 제거")
+    void reindexRemovesOldPointFirst() {
+        // given : 지오코딩이 끝나지 않은 상태
+        CountDownLatch geocoding = new CountDownLatch(1);
+        when(locationService.getCoordinateDto("서울 마포구")).thenAnswer(invocation -> {
+            geocoding.await();
+            return new CoordinateDto(37.56, 126.90);
+        });
+
+        // when
+        gatheringGeoIndex.reindex(1L, "서울 마포구");
+
+        // then
+        verify(geoOperations).remove(GatheringGeoIndex.GEO_KEY, 1L);
+        verify(geoOperations, never()).add(anyString(), any(Point.class), any());
+        geocoding.countDown();
+    }
+
+    @Test
+    @DisplayName("지오코딩 대기열이 가득 차면 거부 수를 기록하고 요청 스레드에서 예외를 던지지 않음")
+    void rejectedGeocodeIsCounted() {
+        // given : 지오코딩 스레드 2개가 모두 멈춰 있음
+        CountDownLatch geocoding = new CountDownLatch(1);
+        when(locationService.getCoordinateDto(anyString())).thenAnswer(invocation -> {
+            geocoding.await();
+            throw new ResponseCodeException(ResponseCode.LOCATION_LOAD_TIMEOUT);
+        });
+
+        // when : 스레드 2개 + 대기열 1,000개를 넘겨 예약
+        try {
+            for (long id = 1; id <= 1_003; id++) {
+                gatheringGeoIndex.index(id, "서울 강남구");
+            }
+
+            // then
+            assertThat(meterRegistry.counter("gathering.geo.index", "result", "rejected").count()).isEqualTo(1);
+        } finally {
+            geocoding.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보정 임대를 갖고 있으면 보정 작업을 건너뜀")
+    void backfillSkippedWhenLocked() {
+        // given
+        when(valueOperations.setIfAbsent(eq(GatheringGeoIndex.BACKFILL_LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        // when
+        int count = gatheringGeoIndex.backfillWithLock();
+
+        // then
+        assertThat(count).isEqualTo(-1);
+        verify(gatheringRepository, never()).findCoordinatesAfter(anyLong(), any(Pageable.class));
+        verify(redisTemplate, never()).execute(eq(releaseScript), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("보정 임대를 잡으면 보정 작업 후 자신의 임대를 반환")
+    void backfillReleasesLock() {
+        // given
+        ArgumentCaptor<Object> token = ArgumentCaptor.forClass(Object.class);
+        when(valueOperations.setIfAbsent(eq(GatheringGeoIndex.BACKFILL_LOCK_KEY), token.capture(), any(Duration.class)))
+                .thenReturn(true);
+        when(gatheringRepository.findCoordinatesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        int count = gatheringGeoIndex.backfillWithLock();
+
+        // then
+        assertThat(count).isZero();
+        verify(redisTemplate).execute(releaseScript, List.of(GatheringGeoIndex.BACKFILL_LOCK_KEY), token.getValue());
+    }
+
+    @Test
+    @DisplayName("주변 검색 결과를 소모임 ID 와 거리로 변환")
+    void search() {
+        // given : 값 직렬화를 거친 소모임 ID 는 Integer 로 돌아옴
+        GeoResults<RedisGeoCommands.GeoLocation<Object>> results = new GeoResults<>(List.of(
+                new GeoResult<>(new RedisGeoCommands.GeoLocation<>(3, null), new Distance(0.4, Metrics.KILOMETERS)),
+                new GeoResult<>(new RedisGeoCommands.GeoLocation<>(1, null), new Distance(1.2, Metrics.KILOMETERS))));
+        when(geoOperations.search(eq(GatheringGeoIndex.GEO_KEY), any(), any(Distance.class),
+                any(RedisGeoCommands.GeoSearchCommandArgs.class))).thenReturn(results);
+
+        // when
+        List<GatheringGeoIndex.NearbyGathering> nearby = gatheringGeoIndex.search(37.49, 127.02, 3, 500);
+
+        // then
+        assertThat(nearby).containsExactly(
+                new GatheringGeoIndex.NearbyGathering(3L, 0.4),
+                new GatheringGeoIndex.NearbyGathering(1L, 1.2));
+    }
+}
@@ -0,0 +1,194 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nbc_final.gathering.common.config.redis.RedisScriptConfig;
+import nbc_final.gathering.domain.gathering.dto.response.GatheringRankingResponseDto;
+import nbc_final.gathering.domain.gathering.entity.Gathering;
+import nbc_final.gathering.domain.gathering.enums.RankingWindow;
+import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 구간 랭킹 병합 · 페이지 전체 개수 확인 (임베디드 Redis)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GatheringRankingServiceTest {
+
+    private static final int REDIS_PORT = 6392;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 18, 15, 30);
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private GatheringRepository gatheringRepository;
+    private GatheringRankingService gatheringRankingService;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer(new ObjectMapper());
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        gatheringRepository = mock(GatheringRepository.class);
+        gatheringRankingService = new GatheringRankingService(redisTemplate, gatheringRepository,
+                new RedisScriptConfig().gatheringRankingWindowScript());
+    }
+
+    @AfterAll
+    void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        // 제목 캐시가 없으면 DB 에서 조회 (모든 소모임이 존재)
+        when(gatheringRepository.findAllById(anyIterable())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream().map(this::gathering).toList());
+    }
+
+    @Test
+    @DisplayName("최근 24시간 버킷의 조회수를 합쳐 순위를 매기고 24시간이 지난 버킷은 제외")
+    void mergeDayWindow() {
+        // given
+        view(GatheringRankingService.hourBucketKey(NOW), 1L, 3);
+        view(GatheringRankingService.hourBucketKey(NOW.minusHours(5)), 1L, 2);
+        view(GatheringRankingService.hourBucketKey(NOW.minusHours(23)), 2L, 4);
+        view(GatheringRankingService.hourBucketKey(NOW.minusHours(24)), 3L, 10);
+
+        // when
+        Page<GatheringRankingResponseDto> ranking = gatheringRankingService.getRanking(RankingWindow.DAY, 1, 10, NOW);
+
+        // then
+        assertThat(ranking.getTotalElements()).isEqualTo(2);
+        assertThat(ranking.getContent()).extracting(GatheringRankingResponseDto::getGatheringId).containsExactly(1L, 2L);
+        assertThat(ranking.getContent()).extracting(GatheringRankingResponseDto::getViewCount).containsExactly(5L, 4L);
+        assertThat(ranking.getContent()).extracting(GatheringRankingResponseDto::getRank).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("최근 7일 일 버킷을 합치고 구간 ZSET 은 TTL 동안 재사용")
+    void mergeWeekWindowAndReuse() {
+        // given
+        view(GatheringRankingService.dayBucketKey(NOW.toLocalDate()), 1L, 1);
+        view(GatheringRankingService.dayBucketKey(NOW.toLocalDate().minusDays(6)), 2L, 3);
+        view(GatheringRankingService.dayBucketKey(NOW.toLocalDate().minusDays(7)), 3L, 9);
+        gatheringRankingService.getRanking(RankingWindow.WEEK, 1, 10, NOW);
+
+        // when : 구간 ZSET 생성 이후의 조회는 TTL 이 끝날 때까지 반영되지 않음
+        view(GatheringRankingService.dayBucketKey(NOW.toLocalDate()), 4L, 1);
+        Page<GatheringRankingResponseDto> ranking = gatheringRankingService.getRanking(RankingWindow.WEEK, 1, 10, NOW);
+
+        // then
+        assertThat(ranking.getTotalElements()).isEqualTo(2);
+        assertThat(ranking.getContent()).extracting(GatheringRankingResponseDto::getGatheringId).containsExactly(2L, 1L);
+        assertThat(redisTemplate.getExpire("gatheringRanking:window:week")).isPositive();
+    }
+
+    @Test
+    @DisplayName("페이지 전체 개수와 순위는 페이지가 바뀌어도 이어지고 삭제된 소모임은 전체 개수에서 제외")
+    void paginationTotalExcludesDeleted() {
+        // given : 소모임 1~5, 조회수 5~1
+        for (long gatheringId = 1; gatheringId <= 5; gatheringId++) {
+            view(GatheringRankingService.hourBucketKey(NOW), gatheringId, (int) (6 - gatheringId));
+        }
+
+        // when
+        Page<GatheringRankingResponseDto> secondPage = gatheringRankingService.getRanking(RankingWindow.HOUR, 2, 2, NOW);
+        gatheringRankingService.removeFromRankings(2L, NOW);
+        Page<GatheringRankingResponseDto> afterDelete = gatheringRankingService.getRanking(RankingWindow.HOUR, 1, 2, NOW);
+
+        // then
+        assertThat(secondPage.getTotalElements()).isEqualTo(5);
+        assertThat(secondPage.getTotalPages()).isEqualTo(3);
+        assertThat(secondPage.getContent()).extracting(GatheringRankingResponseDto::getRank).containsExactly(3L, 4L);
+
+        assertThat(afterDelete.getTotalElements()).isEqualTo(4);
+        assertThat(afterDelete.getContent()).extracting(GatheringRankingResponseDto::getGatheringId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("삭제된 소모임은 이미 만들어진 구간 ZSET 에서도 제거")
+    void removeFromWindow() {
+        // given
+        view(GatheringRankingService.dayBucketKey(NOW.toLocalDate().minusDays(1)), 1L, 2);
+        view(GatheringRankingService.dayBucketKey(NOW.toLocalDate()), 2L, 1);
+        gatheringRankingService.getRanking(RankingWindow.WEEK, 1, 10, NOW);
+
+        // when
+        gatheringRankingService.removeFromRankings(1L, NOW);
+        Page<GatheringRankingResponseDto> ranking = gatheringRankingService.getRanking(RankingWindow.WEEK, 1, 10, NOW);
+
+        // then
+        assertThat(ranking.getTotalElements()).isEqualTo(1);
+        assertThat(ranking.getContent()).extracting(GatheringRankingResponseDto::getGatheringId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("페이지 번호 · 크기는 1 ~ 최대 크기로 제한 (크기 0 으로 전체 랭킹을 읽지 않음)")
+    void pageBounds() {
+        // given : 소모임 1~150
+        for (long gatheringId = 1; gatheringId <= 150; gatheringId++) {
+            view(GatheringRankingService.hourBucketKey(NOW), gatheringId, 1);
+        }
+
+        // when
+        Page<GatheringRankingResponseDto> zeroSize = gatheringRankingService.getRanking(RankingWindow.HOUR, 0, 0, NOW);
+        Page<GatheringRankingResponseDto> hugeSize = gatheringRankingService.getRanking(RankingWindow.HOUR, -3, 10_000, NOW);
+
+        // then
+        assertThat(zeroSize.getNumber()).isZero();
+        assertThat(zeroSize.getContent()).hasSize(1);
+        assertThat(hugeSize.getNumber()).isZero();
+        assertThat(hugeSize.getContent()).hasSize(GatheringRankingService.MAX_PAGE_SIZE);
+        assertThat(hugeSize.getTotalElements()).isEqualTo(150);
+    }
+
+    private void view(String bucketKey, Long gatheringId, int count) {
+        redisTemplate.opsForZSet().incrementScore(bucketKey, gatheringId, count);
+    }
+
+    private Gathering gathering(Long gatheringId) {
+        Gathering gathering = mock(Gathering.class);
+        when(gathering.getId()).thenReturn(gatheringId);
+        when(gathering.getTitle()).thenReturn("소모임" + gatheringId);
+        return gathering;
+    }
+}
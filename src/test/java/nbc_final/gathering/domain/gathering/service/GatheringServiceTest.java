@@ -0,0 +1,78 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import nbc_final.gathering.domain.gathering.dto.response.NearbyGatheringResponseDto;
+import nbc_final.gathering.domain.gathering.entity.Gathering;
+import nbc_final.gathering.domain.gathering.repository.GatheringRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.when;
+
+class GatheringServiceTest {
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+
+    @Mock
+    private GatheringGeoIndex gatheringGeoIndex;
+
+    @InjectMocks
+    private GatheringService gatheringService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        // 반경 안의 소모임 150개
+        when(gatheringGeoIndex.search(anyDouble(), anyDouble(), anyDouble(), anyInt())).thenReturn(
+                LongStream.rangeClosed(1, 150).mapToObj(id -> new GatheringGeoIndex.NearbyGathering(id, id * 0.01)).toList());
+        when(gatheringRepository.findAllById(anyIterable())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream().map(this::gathering).toList());
+    }
+
+    @Test
+    @DisplayName("주변 소모임 페이지 크기가 0 이하면 1, 최대 크기를 넘으면 최대 크기로 제한")
+    void nearbyPageSizeBounds() {
+        // when
+        Page<NearbyGatheringResponseDto> zeroSize = gatheringService.getNearbyGatherings(37.49, 127.02, 3, 1, 0);
+        Page<NearbyGatheringResponseDto> hugeSize = gatheringService.getNearbyGatherings(37.49, 127.02, 3, 1, 10_000);
+
+        // then
+        assertThat(zeroSize.getContent()).hasSize(1);
+        assertThat(hugeSize.getContent()).hasSize(100);
+        assertThat(hugeSize.getTotalElements()).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("주변 소모임 페이지 번호가 1 미만이면 첫 페이지")
+    void nearbyPageNumberBounds() {
+        // when
+        Page<NearbyGatheringResponseDto> page = gatheringService.getNearbyGatherings(37.49, 127.02, 3, -1, 10);
+
+        // then
+        assertThat(page.getNumber()).isZero();
+        assertThat(page.getContent()).extracting(NearbyGatheringResponseDto::getGatheringId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 10).boxed().toList());
+    }
+
+    private Gathering gathering(Long gatheringId) {
+        Gathering gathering = Gathering.of("소모임" + gatheringId, 10, "설명");
+        ReflectionTestUtils.setField(gathering, "id", gatheringId);
+        return gathering;
+    }
+}
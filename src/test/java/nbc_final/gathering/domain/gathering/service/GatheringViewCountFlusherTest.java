@@ -0,0 +1,129 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.config.redis.RedisScriptConfig;
+import nbc_final.gathering.domain.gathering.repository.GatheringViewCountBulkRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * 소모임 조회수 스냅샷 DB 반영 (임베디드 Redis)
+ * - 반영 중 키는 DB 반영이 끝난 뒤에만 정리
+ * - DB 반영에 실패하면 꺼낸 조회수를 스냅샷 키로 되돌림
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GatheringViewCountFlusherTest {
+
+    private static final int REDIS_PORT = 6397;
+    private static final String SNAPSHOT_KEY_PREFIX = "gathering:snapshot(1h):";
+    private static final String FLUSHING_KEY_PREFIX = "gathering:snapshot-flushing:";
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private GatheringViewCountBulkRepository gatheringViewCountBulkRepository;
+    private GatheringViewCountFlusher flusher;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer(new ObjectMapper()));
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        RedisScriptConfig scripts = new RedisScriptConfig();
+        gatheringViewCountBulkRepository = mock(GatheringViewCountBulkRepository.class);
+        flusher = new GatheringViewCountFlusher(redisTemplate, gatheringViewCountBulkRepository,
+                scripts.gatheringViewCountClaimScript(), scripts.gatheringViewCountSettleScript(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회수를 DB 에 반영한 뒤 스냅샷 키와 반영 중 키를 모두 정리")
+    void flushAndSettle() {
+        // given
+        redisTemplate.opsForValue().increment(SNAPSHOT_KEY_PREFIX + 1, 3);
+        redisTemplate.opsForValue().increment(SNAPSHOT_KEY_PREFIX + 2, 5);
+        when(gatheringViewCountBulkRepository.addTotalViewCounts(anyMap())).thenReturn(2);
+
+        // when
+        long flushed = flusher.flushSnapshotKeys();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(gatheringViewCountBulkRepository).addTotalViewCounts(Map.of(1L, 3L, 2L, 5L));
+        assertThat(redisTemplate.keys("gathering:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 꺼낸 조회수를 반영 중에 쌓인 조회수와 합쳐 스냅샷 키로 되돌리고 다음 주기에 다시 반영")
+    void restoreOnFailure() {
+        // given : DB 반영 중에 1번 소모임 조회가 1건 더 쌓이고 DB 반영은 실패
+        redisTemplate.opsForValue().increment(SNAPSHOT_KEY_PREFIX + 1, 3);
+        redisTemplate.opsForValue().increment(SNAPSHOT_KEY_PREFIX + 2, 5);
+        when(gatheringViewCountBulkRepository.addTotalViewCounts(anyMap())).thenAnswer(invocation -> {
+            assertThat(redisTemplate.opsForValue().get(FLUSHING_KEY_PREFIX + 1)).isEqualTo(3);
+            redisTemplate.opsForValue().increment(SNAPSHOT_KEY_PREFIX + 1);
+            throw new DataAccessResourceFailureException("timeout");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> flusher.flushSnapshotKeys())
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(redisTemplate.opsForValue().get(SNAPSHOT_KEY_PREFIX + 1)).isEqualTo(4);
+        assertThat(redisTemplate.opsForValue().get(SNAPSHOT_KEY_PREFIX + 2)).isEqualTo(5);
+        assertThat(redisTemplate.keys(FLUSHING_KEY_PREFIX + "*")).isEmpty();
+
+        // given : DB 복구
+        reset(gatheringViewCountBulkRepository);
+        when(gatheringViewCountBulkRepository.addTotalViewCounts(anyMap())).thenReturn(2);
+
+        // when
+        flusher.flushSnapshotKeys();
+
+        // then : 유실 · 중복 없이 한 번만 반영
+        verify(gatheringViewCountBulkRepository).addTotalViewCounts(Map.of(1L, 4L, 2L, 5L));
+        assertThat(redisTemplate.keys("gathering:*")).isEmpty();
+    }
+}
@@ -0,0 +1,144 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nbc_final.gathering.common.config.redis.GatheringViewProperties;
+import nbc_final.gathering.common.config.redis.GatheringViewProperties.CountingMode;
+import nbc_final.gathering.common.config.redis.RedisScriptConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 일일 조회수 집계 방식(EXACT / HLL) 메모리 · 지연시간 비교 벤치마크
+ * 실행 : GATHERING_VIEW_BENCHMARK=true (조회자 수 : GATHERING_VIEW_BENCHMARK_VIEWERS, 기본 1,000,000)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "GATHERING_VIEW_BENCHMARK", matches = "true")
+class GatheringViewCounterBenchmarkTest {
+
+    private static final int REDIS_PORT = 6390;
+    private static final Long GATHERING_ID = 1L;
+    private static final String TITLE = "벤치마크 소모임";
+
+    private final int viewers = Integer.parseInt(
+            System.getenv().getOrDefault("GATHERING_VIEW_BENCHMARK_VIEWERS", "1000000"));
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer(new ObjectMapper());
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("EXACT 모드 : Set 기반 일일 조회수 집계")
+    void exactMode() {
+        BenchmarkResult result = run(CountingMode.EXACT);
+
+        assertThat(result.todayViewCount()).isEqualTo(viewers);
+        assertThat(result.rankingScore()).isEqualTo(viewers);
+    }
+
+    @Test
+    @DisplayName("HLL 모드 : HyperLogLog + 블룸 필터 기반 일일 조회수 집계")
+    void hllMode() {
+        BenchmarkResult result = run(CountingMode.HLL);
+
+        // HLL 표준 오차 0.81%, 블룸 필터 오탐률 1% 설정
+        assertThat((double) result.todayViewCount()).isCloseTo(viewers, within(viewers * 0.02));
+        assertThat((double) result.rankingScore()).isCloseTo(viewers, within(viewers * 0.02));
+    }
+
+    private BenchmarkResult run(CountingMode countingMode) {
+        GatheringViewProperties properties = new GatheringViewProperties();
+        properties.setCountingMode(countingMode);
+        properties.getBloom().setExpectedInsertions(viewers);
+
+        RedisScriptConfig scriptConfig = new RedisScriptConfig();
+        GatheringViewCounter counter = new GatheringViewCounter(redisTemplate,
+                scriptConfig.gatheringViewScript(), scriptConfig.gatheringViewHllScript(), properties);
+
+        long usedMemoryBefore = usedMemory();
+        long[] latencies = new long[viewers];
+        long todayViewCount = 0;
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < viewers; i++) {
+            long userId = i + 1L;
+            long callStart = System.nanoTime();
+            todayViewCount = counter.recordView(userId, GATHERING_ID, TITLE);
+            latencies[i] = System.nanoTime() - callStart;
+        }
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        // 레이트 리밋 키는 두 모드 공통이므로 메모리 측정에서 제외
+        redisTemplate.delete(redisTemplate.keys("rate_limit:*"));
+        long usedMemoryAfter = usedMemory();
+
+        Double rankingScore = redisTemplate.opsForZSet()
+                .score(GatheringRankingService.dayBucketKey(LocalDate.now()), GATHERING_ID);
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s] viewers=%d, memory=%,d bytes, total=%d ms, p50=%d us, p99=%d us, count=%d, ranking=%.0f%n",
+                countingMode, viewers, usedMemoryAfter - usedMemoryBefore, elapsedMillis,
+                latencies[viewers / 2] / 1_000, latencies[(int) (viewers * 0.99)] / 1_000,
+                todayViewCount, rankingScore);
+
+        return new BenchmarkResult(todayViewCount, rankingScore == null ? 0 : rankingScore.longValue());
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute(
+                (RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private record BenchmarkResult(long todayViewCount, long rankingScore) {
+    }
+}
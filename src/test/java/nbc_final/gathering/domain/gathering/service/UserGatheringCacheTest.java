@@ -0,0 +1,113 @@
+package nbc_final.gathering.domain.gathering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.config.redis.RedisPubSubTestNode;
+import nbc_final.gathering.domain.gathering.dto.response.GatheringResponseDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 두 노드 사이의 L1 캐시 무효화 (임베디드 Redis, 노드마다 별도 연결 · 구독 컨테이너)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserGatheringCacheTest {
+
+    private static final int REDIS_PORT = 6394;
+    private static final String INVALIDATION_CHANNEL = "userGathering:invalidate";
+
+    private RedisServer redisServer;
+    private RedisPubSubTestNode nodeA;
+    private RedisPubSubTestNode nodeB;
+    private UserGatheringCache cacheA;
+    private UserGatheringCache cacheB;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        nodeA = new RedisPubSubTestNode(REDIS_PORT);
+        nodeB = new RedisPubSubTestNode(REDIS_PORT);
+    }
+
+    @AfterAll
+    void stopRedis() throws Exception {
+        nodeA.close();
+        nodeB.close();
+        redisServer.stop();
+    }
+
+    // 테스트마다 L1 이 비어 있는 캐시로 시작 (같은 컨테이너에 구독 추가)
+    @BeforeEach
+    void setUp() {
+        nodeA.flushAll();
+        cacheA = cache(nodeA);
+        cacheB = cache(nodeB);
+        await().atMost(Duration.ofSeconds(5)).until(() -> nodeA.subscribers(INVALIDATION_CHANNEL) == 2);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 무효화하면 다른 노드의 L1 도 제거되어 다음 조회에서 다시 적재")
+    void evictionReachesOtherNode() {
+        // given : 두 노드 모두 L1 에 적재 (B 는 L2 에서 읽음)
+        AtomicInteger loadsA = new AtomicInteger();
+        AtomicInteger loadsB = new AtomicInteger();
+        cacheA.get(1L, () -> load(loadsA));
+        cacheB.get(1L, () -> load(loadsB));
+        cacheB.get(1L, () -> load(loadsB));
+        assertThat(loadsA).hasValue(1);
+        assertThat(loadsB).hasValue(0);
+
+        // when : 노드 A 에서 무효화 (L2 삭제 + 발행)
+        cacheA.evict(1L);
+
+        // then : 노드 B 의 L1 이 제거되어 L2 도 없으므로 loader 를 다시 호출
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            cacheB.get(1L, () -> load(loadsB));
+            assertThat(loadsB).hasValue(1);
+        });
+    }
+
+    @Test
+    @DisplayName("무효화 대상이 아닌 유저의 L1 은 유지")
+    void otherUsersKept() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cacheB.get(1L, () -> load(loads));
+        cacheB.get(2L, () -> load(loads));
+
+        // when : 노드 A 에서 유저 1 만 무효화
+        cacheA.evict(1L);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            cacheB.get(1L, () -> load(loads));
+            assertThat(loads).hasValue(3);
+        });
+
+        // then
+        cacheB.get(2L, () -> load(loads));
+        assertThat(loads).hasValue(3);
+    }
+
+    private UserGatheringCache cache(RedisPubSubTestNode node) {
+        return new UserGatheringCache(node.redisTemplate(), node.pubSubRedisTemplate(), new ObjectMapper(),
+                node.container(), new SimpleMeterRegistry());
+    }
+
+    private static List<GatheringResponseDto> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of();
+    }
+}
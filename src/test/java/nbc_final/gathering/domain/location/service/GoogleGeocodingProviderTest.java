@@ -0,0 +1,81 @@
+package nbc_final.gathering.domain.location.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nbc_final.gathering.common.config.http.OutboundHttpClient;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class GoogleGeocodingProviderTest {
+
+    @Mock
+    private OutboundHttpClient outboundHttpClient;
+
+    private GoogleGeocodingProvider geocodingProvider;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        geocodingProvider = new GoogleGeocodingProvider(outboundHttpClient, new ObjectMapper());
+        ReflectionTestUtils.setField(geocodingProvider, "GEOCODE_URL", "http://localhost/geocode");
+        ReflectionTestUtils.setField(geocodingProvider, "API_KEY", "test-key");
+    }
+
+    @Test
+    @DisplayName("OK 응답은 첫 결과의 좌표를 반환")
+    void ok() {
+        // given
+        respond("{\"results\":[{\"geometry\":{\"location\":{\"lat\":37.49,\"lng\":127.02}}}],\"status\":\"OK\"}");
+
+        // when
+        Optional<CoordinateDto> coordinate = geocodingProvider.geocode("seoul gangnam");
+
+        // then
+        assertThat(coordinate).isPresent();
+        assertThat(coordinate.get().getLatitude()).isEqualTo(37.49);
+        assertThat(coordinate.get().getLongitude()).isEqualTo(127.02);
+    }
+
+    @Test
+    @DisplayName("ZERO_RESULTS 응답은 결과 없음(empty)")
+    void zeroResults() {
+        // given
+        respond("{\"results\":[],\"status\":\"ZERO_RESULTS\"}");
+
+        // when & then
+        assertThat(geocodingProvider.geocode("없는 주소")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"OVER_QUERY_LIMIT", "REQUEST_DENIED", "INVALID_REQUEST", "UNKNOWN_ERROR"})
+    @DisplayName("그 외 상태는 결과 없음이 아니라 외부 서비스 오류")
+    void errorStatus(String status) {
+        // given : 오류 응답도 results 는 빈 배열
+        respond("{\"results\":[],\"status\":\"" + status + "\",\"error_message\":\"error\"}");
+
+        // when & then
+        assertThatThrownBy(() -> geocodingProvider.geocode("seoul gangnam"))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.EXTERNAL_API_UNAVAILABLE.getMessage());
+    }
+
+    private void respond(String body) {
+        when(outboundHttpClient.get(any())).thenReturn(Mono.just(body));
+    }
+}
@@ -0,0 +1,56 @@
+package nbc_final.gathering.domain.location.service;
+
+import nbc_final.gathering.common.config.redis.LocationCacheProperties;
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LocationCacheKeysTest {
+
+    private final LocationCacheKeys locationCacheKeys = new LocationCacheKeys(new LocationCacheProperties());
+
+    @Test
+    @DisplayName("대소문자, 연속 공백, 유니코드 조합 방식이 달라도 같은 주소는 같은 캐시 키")
+    void normalizeAddress() {
+        // given : 한글 자모를 분리한 NFD 주소
+        String decomposed = Normalizer.normalize("서울 강남구", Normalizer.Form.NFD);
+
+        // when & then
+        assertThat(locationCacheKeys.geocode("  Seoul   Gangnam ")).isEqualTo(locationCacheKeys.geocode("seoul gangnam"));
+        assertThat(locationCacheKeys.geocode(decomposed)).isEqualTo(locationCacheKeys.geocode("서울\t강남구"));
+        assertThat(locationCacheKeys.geocode("서울 강남구")).isEqualTo("geocode:서울 강남구");
+    }
+
+    @Test
+    @DisplayName("지오해시 인코딩 · 디코딩")
+    void geohash() {
+        // when
+        String geohash = LocationCacheKeys.encodeGeohash(57.64911, 10.40744, 11);
+        CoordinateDto center = LocationCacheKeys.decodeGeohash(geohash);
+
+        // then
+        assertThat(geohash).isEqualTo("u4pruydqqvj");
+        assertThat(center.getLatitude()).isCloseTo(57.64911, within(0.0001));
+        assertThat(center.getLongitude()).isCloseTo(10.40744, within(0.0001));
+    }
+
+    @Test
+    @DisplayName("가까운 좌표의 주변 장소 조회는 같은 지오해시 격자의 캐시 키를 공유")
+    void nearbyCoordinatesShareKey() {
+        // given : 약 10m 떨어진 두 좌표, 멀리 떨어진 좌표
+        String first = locationCacheKeys.geohash(37.497950, 127.027610);
+        String second = locationCacheKeys.geohash(37.498010, 127.027700);
+        String far = locationCacheKeys.geohash(37.566500, 126.978000);
+
+        // when & then
+        assertThat(first).hasSize(7).isEqualTo(second).isNotEqualTo(far);
+        assertThat(locationCacheKeys.places(first, 500, "Cafe"))
+                .isEqualTo(locationCacheKeys.places(second, 500, "cafe"))
+                .isEqualTo("places:" + first + ":500:cafe");
+    }
+}
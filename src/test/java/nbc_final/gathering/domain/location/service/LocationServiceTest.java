@@ -0,0 +1,135 @@
+package nbc_final.gathering.domain.location.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.config.http.OutboundHttpClient;
+import nbc_final.gathering.common.config.redis.LocationCacheProperties;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import nbc_final.gathering.domain.location.dto.request.RecommandRequestDto;
+import nbc_final.gathering.domain.location.dto.response.CoordinateDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class LocationServiceTest {
+
+    @Mock
+    private OutboundHttpClient outboundHttpClient;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private LocationSingleFlight locationSingleFlight;
+
+    @Mock
+    private GeocodingProvider geocodingProvider;
+
+    private final LocationCacheProperties locationCacheProperties = new LocationCacheProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocationService locationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // 요청 병합 없이 바로 외부 API 호출
+        when(locationSingleFlight.load(anyString(), anyString(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(3)).get());
+
+        locationService = new LocationService(outboundHttpClient, new ObjectMapper(), redisTemplate, locationSingleFlight,
+                geocodingProvider, new LocationCacheKeys(locationCacheProperties), locationCacheProperties, meterRegistry);
+        ReflectionTestUtils.setField(locationService, "PLACES_URL", "http://localhost/places");
+        ReflectionTestUtils.setField(locationService, "API_KEY", "test-key");
+        when(geocodingProvider.geocode(anyString())).thenReturn(Optional.of(new CoordinateDto(37.49, 127.02)));
+    }
+
+    @Test
+    @DisplayName("표기만 다른 주소는 같은 캐시 키로 조회하고 정규화한 주소로 외부 API 호출")
+    void normalizedCacheKey() {
+        // given
+        when(geocodingProvider.geocode("seoul gangnam")).thenReturn(Optional.of(new CoordinateDto(37.49, 127.02)));
+
+        // when
+        CoordinateDto coordinate = locationService.getCoordinateDto("  Seoul   GANGNAM ");
+
+        // then
+        assertThat(coordinate.getLatitude()).isEqualTo(37.49);
+        verify(valueOperations).get("geocode:seoul gangnam");
+        verify(valueOperations).set(eq("geocode:seoul gangnam"), anyString(), eq(locationCacheProperties.getGeocodeTtl()));
+        assertThat(meterRegistry.find("location.origin.latency").tag("family", "geocode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 주소는 짧게 캐시하고 다음 요청은 외부 API 를 호출하지 않음")
+    void negativeCaching() {
+        // given : 첫 요청은 캐시 없음, 이후 요청은 결과 없음 캐시
+        when(valueOperations.get("geocode:없는 주소")).thenReturn(null, LocationService.NOT_FOUND_MARKER);
+        when(geocodingProvider.geocode(anyString())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> locationService.getCoordinateDto("없는 주소"))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_FOUND_LOCATION.getMessage());
+        verify(valueOperations).set("geocode:없는 주소", LocationService.NOT_FOUND_MARKER, Duration.ofMinutes(10));
+
+        assertThatThrownBy(() -> locationService.getCoordinateDto("없는  주소"))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_FOUND_LOCATION.getMessage());
+        verify(geocodingProvider, times(1)).geocode(anyString());
+        assertThat(meterRegistry.find("location.cache.requests").tag("result", "negative_hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주변 장소가 없으면(ZERO_RESULTS) 결과 없음으로 짧게 캐시")
+    void placesZeroResultsCached() {
+        // given
+        when(outboundHttpClient.get(any())).thenReturn(Mono.just("{\"results\":[],\"status\":\"ZERO_RESULTS\"}"));
+
+        // when & then
+        assertThatThrownBy(() -> locationService.getNearbyPlacesFromAddress(new RecommandRequestDto("강남역", "cafe", 500)))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_FOUND_LOCATION.getMessage());
+        verify(valueOperations).set(startsWith("places:"), eq(LocationService.NOT_FOUND_MARKER), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("외부 API 오류 응답(OVER_QUERY_LIMIT 등)은 결과 없음으로 캐시하지 않고 외부 서비스 오류로 응답")
+    void placesErrorStatusNotCached() {
+        // given : 한도 초과도 results 는 빈 배열
+        when(outboundHttpClient.get(any())).thenReturn(Mono.just(
+                "{\"results\":[],\"status\":\"OVER_QUERY_LIMIT\",\"error_message\":\"quota\"}"));
+
+        // when & then
+        assertThatThrownBy(() -> locationService.getNearbyPlacesFromAddress(new RecommandRequestDto("강남역", "cafe", 500)))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.EXTERNAL_API_UNAVAILABLE.getMessage());
+        verify(valueOperations, never()).set(startsWith("places:"), anyString(), any(Duration.class));
+        assertThat(meterRegistry.find("location.origin.latency").tags("family", "places", "outcome", "error").timer().count())
+                .isEqualTo(1);
+    }
+}
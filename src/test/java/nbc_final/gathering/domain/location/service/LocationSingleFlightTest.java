@@ -0,0 +1,186 @@
+package nbc_final.gathering.domain.location.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.exception.ResponseCode;
+import nbc_final.gathering.common.exception.ResponseCodeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LocationSingleFlightTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, Object> pubSubRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private RedisScript<Long> singleFlightReleaseScript;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocationSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(serializer).when(pubSubRedisTemplate).getValueSerializer();
+        singleFlight = new LocationSingleFlight(redisTemplate, pubSubRedisTemplate, singleFlightReleaseScript,
+                redisMessageListenerContainer, meterRegistry, Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("같은 주소의 동시 요청은 외부 API 를 한 번만 호출하고 결과를 공유")
+    void coalesceConcurrentMisses() throws Exception {
+        // given : 이 노드가 임대를 잡음, 외부 API 는 100ms 소요
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+        AtomicInteger originCalls = new AtomicInteger();
+        int requests = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(requests);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(executorService.submit(() -> {
+                ready.await();
+                return singleFlight.load("geocode", "서울%20강남구", () -> null, () -> {
+                    originCalls.incrementAndGet();
+                    sleep(100);
+                    return "37.49,127.02";
+                });
+            }));
+        }
+        ready.countDown();
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("37.49,127.02");
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(originCalls.get()).isEqualTo(1);
+        assertThat(count("origin")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(requests - 1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 적재 중이면 완료 알림을 받은 뒤 캐시에서 읽음")
+    void waitForRemoteLoad() throws Exception {
+        // given : 다른 노드가 임대를 잡고 있고 아직 캐시가 없음
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        AtomicReference<String> cache = new AtomicReference<>();
+
+        // when : 100ms 뒤 다른 노드가 캐시 저장 후 완료 알림 발행
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<String> result = executorService.submit(() ->
+                singleFlight.load("places", "places:key", cache::get, () -> "origin"));
+        sleep(100);
+        cache.set("remote");
+        singleFlight.onMessage(new DefaultMessage("singleflight:done".getBytes(StandardCharsets.UTF_8),
+                serializer.serialize("places:key")), null);
+
+        // then
+        assertThat(result.get()).isEqualTo("remote");
+        assertThat(count("remote")).isEqualTo(1);
+        assertThat(count("origin")).isZero();
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("완료 알림을 받지 못해도 대기 시간 안에 주기적으로 캐시를 확인해 읽음")
+    void pollCacheWithoutNotification() throws Exception {
+        // given : 다른 노드가 임대를 잡고 있고, 완료 알림은 오지 않음
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        AtomicReference<String> cache = new AtomicReference<>();
+
+        // when : 100ms 뒤 다른 노드가 캐시 저장
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        long start = System.nanoTime();
+        Future<String> result = executorService.submit(() ->
+                singleFlight.load("places", "places:key", cache::get, () -> "origin"));
+        sleep(100);
+        cache.set("remote");
+
+        // then : 대기 시간(500ms)까지 기다리지 않고 읽음
+        assertThat(result.get()).isEqualTo("remote");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(400));
+        assertThat(count("remote")).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 적재가 끝나지 않으면 대기 시간 이후 예외")
+    void timeoutWhenRemoteNeverFinishes() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.load("geocode", "key", () -> null, () -> "origin"))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.LOCATION_LOAD_TIMEOUT.getMessage());
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("외부 API 호출이 실패하면 기다리던 요청도 같은 예외를 받고 임대는 반환")
+    void propagateOriginFailure() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.load("geocode", "key", () -> null, () -> {
+            throw new ResponseCodeException(ResponseCode.NOT_FOUND_LOCATION);
+        }))
+                .isInstanceOf(ResponseCodeException.class)
+                .hasMessage(ResponseCode.NOT_FOUND_LOCATION.getMessage());
+        verify(redisTemplate).execute(eq(singleFlightReleaseScript), eq(List.of("singleflight:key")), anyString());
+        verify(pubSubRedisTemplate).convertAndSend("singleflight:done", "key");
+    }
+
+    private double count(String result) {
+        return meterRegistry.find("location.singleflight.requests").tag("result", result).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
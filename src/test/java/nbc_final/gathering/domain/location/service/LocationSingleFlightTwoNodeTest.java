@@ -0,0 +1,95 @@
+package nbc_final.gathering.domain.location.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.config.redis.RedisPubSubTestNode;
+import nbc_final.gathering.common.config.redis.RedisScriptConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 두 노드 사이의 요청 병합 (임베디드 Redis, 노드마다 별도 연결 · 구독 컨테이너)
+ * 임대를 잡지 못한 노드는 대기 시간(3초)을 다 채우지 않고 먼저 적재한 노드의 캐시를 읽어야 합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LocationSingleFlightTwoNodeTest {
+
+    private static final int REDIS_PORT = 6396;
+    private static final String CACHE_KEY = "geocode:seoul gangnam";
+
+    private RedisServer redisServer;
+    private RedisPubSubTestNode nodeA;
+    private RedisPubSubTestNode nodeB;
+    private LocationSingleFlight singleFlightA;
+    private LocationSingleFlight singleFlightB;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        nodeA = new RedisPubSubTestNode(REDIS_PORT);
+        nodeB = new RedisPubSubTestNode(REDIS_PORT);
+        singleFlightA = singleFlight(nodeA);
+        singleFlightB = singleFlight(nodeB);
+        await().atMost(Duration.ofSeconds(5)).until(() -> nodeA.subscribers("singleflight:done") == 2);
+    }
+
+    @AfterAll
+    void stopRedis() throws Exception {
+        nodeA.close();
+        nodeB.close();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 적재 중인 키는 외부 API 를 다시 호출하지 않고 적재가 끝나는 대로 캐시에서 읽음")
+    void coalesceAcrossNodes() throws Exception {
+        // given : 노드 A 가 임대를 잡고 300ms 걸려 적재
+        AtomicInteger originCalls = new AtomicInteger();
+        CompletableFuture<Object> loadA = CompletableFuture.supplyAsync(() ->
+                singleFlightA.load("geocode", CACHE_KEY, this::readCache, () -> origin(originCalls)));
+        await().atMost(Duration.ofSeconds(5)).until(() -> nodeA.redisTemplate().hasKey("singleflight:" + CACHE_KEY));
+
+        // when : 노드 B 가 같은 키를 요청
+        long start = System.nanoTime();
+        Object valueB = singleFlightB.load("geocode", CACHE_KEY, this::readCache, () -> origin(originCalls));
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(loadA.get()).isEqualTo("37.49,127.02");
+        assertThat(valueB).isEqualTo("37.49,127.02");
+        assertThat(originCalls).hasValue(1);
+        assertThat(waited).isLessThan(Duration.ofSeconds(1));
+    }
+
+    private Object readCache() {
+        return nodeB.redisTemplate().opsForValue().get(CACHE_KEY);
+    }
+
+    private Object origin(AtomicInteger originCalls) {
+        originCalls.incrementAndGet();
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        nodeA.redisTemplate().opsForValue().set(CACHE_KEY, "37.49,127.02");
+        return "37.49,127.02";
+    }
+
+    private static LocationSingleFlight singleFlight(RedisPubSubTestNode node) {
+        return new LocationSingleFlight(node.redisTemplate(), node.pubSubRedisTemplate(),
+                new RedisScriptConfig().singleFlightReleaseScript(), node.container(), new SimpleMeterRegistry());
+    }
+}
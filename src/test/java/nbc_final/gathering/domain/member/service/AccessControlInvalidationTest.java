@@ -0,0 +1,112 @@
+package nbc_final.gathering.domain.member.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.common.config.redis.RedisPubSubTestNode;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import nbc_final.gathering.domain.member.entity.Member;
+import nbc_final.gathering.domain.member.enums.MemberRole;
+import nbc_final.gathering.domain.member.enums.MemberStatus;
+import nbc_final.gathering.domain.member.repository.MemberRepository;
+import nbc_final.gathering.domain.user.entity.User;
+import nbc_final.gathering.domain.user.enums.UserRole;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import redis.embedded.RedisServer;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 두 노드 사이의 권한 캐시 무효화 (임베디드 Redis, 노드마다 별도 연결 · 구독 컨테이너)
+ * 한 노드에서 멤버 거절 / 회원 탈퇴를 처리하면 다른 노드도 TTL 을 기다리지 않고 권한을 다시 확인해야 합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AccessControlInvalidationTest {
+
+    private static final int REDIS_PORT = 6395;
+    private static final String INVALIDATION_CHANNEL = "accessControl:invalidate";
+
+    private RedisServer redisServer;
+    private RedisPubSubTestNode nodeA;
+    private RedisPubSubTestNode nodeB;
+
+    private UserRepository userRepository;
+    private MemberRepository memberRepository;
+    private AccessControlService accessControlA;
+    private AccessControlService accessControlB;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        nodeA = new RedisPubSubTestNode(REDIS_PORT);
+        nodeB = new RedisPubSubTestNode(REDIS_PORT);
+    }
+
+    @AfterAll
+    void stopRedis() throws Exception {
+        nodeA.close();
+        nodeB.close();
+        redisServer.stop();
+    }
+
+    // 두 노드가 같은 DB 를 보도록 저장소 mock 공유, 테스트마다 캐시가 비어 있는 서비스로 시작
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        ParticipantRepository participantRepository = mock(ParticipantRepository.class);
+        accessControlA = new AccessControlService(userRepository, memberRepository, participantRepository,
+                nodeA.pubSubRedisTemplate(), nodeA.container(), new SimpleMeterRegistry());
+        accessControlB = new AccessControlService(userRepository, memberRepository, participantRepository,
+                nodeB.pubSubRedisTemplate(), nodeB.container(), new SimpleMeterRegistry());
+        await().atMost(Duration.ofSeconds(5)).until(() -> nodeA.subscribers(INVALIDATION_CHANNEL) == 2);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 멤버를 거절하면 다른 노드도 승인 멤버 권한을 곧바로 잃음")
+    void membershipEvictedOnOtherNode() {
+        // given : 노드 B 가 승인 멤버로 캐시
+        when(memberRepository.findByUserIdAndGatheringId(1L, 10L))
+                .thenReturn(Optional.of(new Member(null, null, MemberRole.GUEST, MemberStatus.APPROVED)));
+        assertThat(accessControlB.isApprovedMember(1L, 10L)).isTrue();
+
+        // when : DB 에서 거절된 뒤 노드 A 에서 무효화
+        when(memberRepository.findByUserIdAndGatheringId(1L, 10L))
+                .thenReturn(Optional.of(new Member(null, null, MemberRole.GUEST, MemberStatus.REJECTED)));
+        accessControlA.evictMembership(1L, 10L);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(accessControlB.isApprovedMember(1L, 10L)).isFalse());
+    }
+
+    @Test
+    @DisplayName("한 노드에서 회원 탈퇴 / 권한 변경을 처리하면 다른 노드의 유저 권한 캐시도 제거")
+    void userRoleEvictedOnOtherNode() {
+        // given : 노드 B 가 관리자로 캐시
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(new User("admin@test.com", "password", UserRole.ROLE_ADMIN, "admin")));
+        assertThat(accessControlB.isAdmin(1L)).isTrue();
+
+        // when
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(new User("admin@test.com", "password", UserRole.ROLE_USER, "admin")));
+        accessControlA.evictUser(1L);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(accessControlB.isAdmin(1L)).isFalse());
+    }
+}
@@ -0,0 +1,126 @@
+package nbc_final.gathering.domain.member.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.domain.event.repository.ParticipantRepository;
+import nbc_final.gathering.domain.member.entity.Member;
+import nbc_final.gathering.domain.member.enums.MemberRole;
+import nbc_final.gathering.domain.member.enums.MemberStatus;
+import nbc_final.gathering.domain.member.repository.MemberRepository;
+import nbc_final.gathering.domain.user.entity.User;
+import nbc_final.gathering.domain.user.enums.UserRole;
+import nbc_final.gathering.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AccessControlServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> pubSubRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccessControlService accessControlService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        accessControlService = new AccessControlService(userRepository, memberRepository, participantRepository,
+                pubSubRedisTemplate, redisMessageListenerContainer, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 멤버 권한을 다시 확인하면 DB 를 조회하지 않음")
+    void membershipCached() {
+        // given
+        when(memberRepository.findByUserIdAndGatheringId(1L, 10L))
+                .thenReturn(Optional.of(new Member(null, null, MemberRole.GUEST, MemberStatus.APPROVED)));
+
+        // when
+        boolean first = accessControlService.isApprovedMember(1L, 10L);
+        boolean second = accessControlService.isApprovedMember(1L, 10L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(memberRepository, times(1)).findByUserIdAndGatheringId(1L, 10L);
+        assertThat(meterRegistry.get("access.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멤버가 아닌 경우도 캐시하고, 가입 승인으로 무효화되면 다시 조회")
+    void membershipReloadedAfterEvict() {
+        // given : 처음에는 멤버가 아님
+        when(memberRepository.findByUserIdAndGatheringId(1L, 10L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new Member(null, null, MemberRole.GUEST, MemberStatus.APPROVED)));
+        assertThat(accessControlService.getMembership(1L, 10L).isMember()).isFalse();
+        assertThat(accessControlService.getMembership(1L, 10L).isMember()).isFalse();
+
+        // when : 트랜잭션 밖에서 무효화하면 즉시 제거 후 다른 노드에 발행
+        accessControlService.evictMembership(1L, 10L);
+
+        // then
+        assertThat(accessControlService.isApprovedMember(1L, 10L)).isTrue();
+        verify(memberRepository, times(2)).findByUserIdAndGatheringId(1L, 10L);
+        verify(pubSubRedisTemplate).convertAndSend("accessControl:invalidate", "member:1:10");
+    }
+
+    @Test
+    @DisplayName("이벤트 삭제 시 해당 이벤트의 참가 여부 캐시만 무효화")
+    void participationEvictedByEvent() {
+        // given
+        when(participantRepository.existsByEventIdAndUserId(100L, 1L)).thenReturn(true);
+        when(participantRepository.existsByEventIdAndUserId(200L, 1L)).thenReturn(true);
+        accessControlService.isParticipant(1L, 100L);
+        accessControlService.isParticipant(1L, 200L);
+
+        // when
+        accessControlService.evictEvent(100L);
+        accessControlService.isParticipant(1L, 100L);
+        accessControlService.isParticipant(1L, 200L);
+
+        // then
+        verify(participantRepository, times(2)).existsByEventIdAndUserId(100L, 1L);
+        verify(participantRepository, times(1)).existsByEventIdAndUserId(200L, 1L);
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 / 권한 변경으로 무효화되면 유저 권한을 다시 조회")
+    void userRoleReloadedAfterEvict() {
+        // given
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(new User("admin@test.com", "password", UserRole.ROLE_ADMIN, "admin")))
+                .thenReturn(Optional.of(new User("admin@test.com", "password", UserRole.ROLE_USER, "admin")));
+        assertThat(accessControlService.isAdmin(1L)).isTrue();
+        assertThat(accessControlService.isAdmin(1L)).isTrue();
+
+        // when
+        accessControlService.evictUser(1L);
+
+        // then
+        assertThat(accessControlService.isAdmin(1L)).isFalse();
+        verify(userRepository, times(2)).findById(1L);
+        verify(pubSubRedisTemplate).convertAndSend("accessControl:invalidate", "user:1");
+    }
+}
@@ -0,0 +1,165 @@
+package nbc_final.gathering.domain.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nbc_final.gathering.common.config.redis.RedisScriptConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 타임아웃 꺼내기 스크립트 (payment-timeout-claim.lua) 확인 (임베디드 Redis)
+ * - 리더 임대를 가진 노드만 꺼냄
+ * - 마감이 지난 주문만 최대 개수까지 꺼내고, 커밋 전까지 처리 제한 시간 동안 숨김 (ZSET 에서 제거하지 않음)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PaymentTimeoutClaimScriptTest {
+
+    private static final int REDIS_PORT = 6393;
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long LEASE_MILLIS = 15_000;
+    private static final long VISIBILITY_MILLIS = 15_000;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> claimScript;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer(new ObjectMapper()));
+        redisTemplate.afterPropertiesSet();
+
+        claimScript = new RedisScriptConfig().paymentTimeoutClaimScript();
+    }
+
+    @AfterAll
+    void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("마감이 지난 주문만 꺼내 처리 제한 시간까지 마감을 미루고 마감 전 주문은 그대로 남김")
+    void claimOnlyDue() {
+        // given
+        deadline("AD_1_000001", NOW - 1_000);
+        deadline("AD_2_000002", NOW);
+        deadline("AD_3_000003", NOW + 1_000);
+
+        // when
+        List<Object> claimed = claim("node-a", LEASE_MILLIS, 500);
+
+        // then
+        assertThat(claimed).containsExactly("AD_1_000001", "AD_2_000002");
+        assertThat(score("AD_1_000001")).isEqualTo(NOW + VISIBILITY_MILLIS);
+        assertThat(score("AD_2_000002")).isEqualTo(NOW + VISIBILITY_MILLIS);
+        assertThat(score("AD_3_000003")).isEqualTo(NOW + 1_000);
+    }
+
+    @Test
+    @DisplayName("커밋 전에 노드가 내려가 제거되지 않은 주문은 처리 제한 시간이 지나면 다시 꺼냄")
+    void reclaimAfterVisibilityTimeout() {
+        // given : node-a 가 꺼낸 뒤 ZREM 전에 내려감
+        deadline("AD_1_000001", NOW - 1_000);
+        assertThat(claim("node-a", LEASE_MILLIS, 500, NOW)).containsExactly("AD_1_000001");
+        redisTemplate.delete(PaymentTimeoutScheduler.LEADER_KEY);
+
+        // when & then : 처리 제한 시간 안에는 다시 꺼내지 않고, 지나면 node-b 가 다시 꺼냄
+        assertThat(claim("node-b", LEASE_MILLIS, 500, NOW + VISIBILITY_MILLIS - 1)).isEmpty();
+        assertThat(claim("node-b", LEASE_MILLIS, 500, NOW + VISIBILITY_MILLIS)).containsExactly("AD_1_000001");
+    }
+
+    @Test
+    @DisplayName("최대 개수까지만 마감이 이른 순서로 꺼내고 나머지는 다음 호출에서 꺼냄")
+    void claimRespectsLimit() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            deadline("AD_" + i + "_00000" + i, NOW - 10_000 + i);
+        }
+
+        // when
+        List<Object> first = claim("node-a", LEASE_MILLIS, 3);
+        List<Object> second = claim("node-a", LEASE_MILLIS, 3);
+
+        // then : 꺼낸 주문은 다시 꺼내지 않음
+        assertThat(first).containsExactly("AD_1_000001", "AD_2_000002", "AD_3_000003");
+        assertThat(second).containsExactly("AD_4_000004", "AD_5_000005");
+        assertThat(claim("node-a", LEASE_MILLIS, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리더 임대를 갖고 있으면 꺼내지 않고, 임대가 만료되면 이어받음")
+    void leaderLease() {
+        // given : node-a 가 리더가 됨
+        deadline("AD_1_000001", NOW - 1_000);
+        assertThat(claim("node-a", LEASE_MILLIS, 500)).containsExactly("AD_1_000001");
+        assertThat(redisTemplate.getExpire(PaymentTimeoutScheduler.LEADER_KEY, TimeUnit.MILLISECONDS))
+                .isBetween(LEASE_MILLIS - 5_000, LEASE_MILLIS);
+        deadline("AD_2_000002", NOW - 1_000);
+
+        // when & then : 임대 중에는 node-b 가 꺼내지 못하고 주문 마감도 그대로
+        assertThat(claim("node-b", LEASE_MILLIS, 500)).isEmpty();
+        assertThat(score("AD_2_000002")).isEqualTo(NOW - 1_000);
+
+        // when & then : 임대 만료(키 삭제로 대신) 후 node-b 가 리더가 되어 꺼냄
+        redisTemplate.delete(PaymentTimeoutScheduler.LEADER_KEY);
+        assertThat(claim("node-b", LEASE_MILLIS, 500)).containsExactly("AD_2_000002");
+        assertThat(claim("node-a", LEASE_MILLIS, 500)).isEmpty();
+        assertThat(redisTemplate.opsForValue().get(PaymentTimeoutScheduler.LEADER_KEY)).isEqualTo("node-b");
+    }
+
+    private void deadline(String orderId, long deadlineMillis) {
+        redisTemplate.opsForZSet().add(PaymentTimeoutScheduler.TIMEOUTS_KEY, orderId, deadlineMillis);
+    }
+
+    private double score(String orderId) {
+        return redisTemplate.opsForZSet().score(PaymentTimeoutScheduler.TIMEOUTS_KEY, orderId);
+    }
+
+    private List<Object> claim(String nodeId, long leaseMillis, int limit) {
+        return claim(nodeId, leaseMillis, limit, NOW);
+    }
+
+    // 스케줄러와 같은 인자 형태로 호출 (노드 ID, 임대 시간 ms, 현재 시각 ms, 최대 개수, 처리 제한 시간 ms)
+    @SuppressWarnings("unchecked")
+    private List<Object> claim(String nodeId, long leaseMillis, int limit, long nowMillis) {
+        return redisTemplate.execute(claimScript,
+                List.of(PaymentTimeoutScheduler.TIMEOUTS_KEY, PaymentTimeoutScheduler.LEADER_KEY),
+                nodeId, leaseMillis, nowMillis, limit, VISIBILITY_MILLIS);
+    }
+}
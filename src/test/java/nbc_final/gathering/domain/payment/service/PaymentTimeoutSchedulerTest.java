@@ -0,0 +1,144 @@
+package nbc_final.gathering.domain.payment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc_final.gathering.domain.payment.entity.PayStatus;
+import nbc_final.gathering.domain.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PaymentTimeoutSchedulerTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> paymentTimeoutClaimScript;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PaymentTimeoutScheduler paymentTimeoutScheduler;
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final List<PayStatus> UNPAID = List.of(PayStatus.PENDING, PayStatus.READY);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        paymentTimeoutScheduler = new PaymentTimeoutScheduler(paymentRepository, redisTemplate,
+                paymentTimeoutClaimScript, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("마감이 지난 주문을 한 번에 꺼내 UPDATE 한 번으로 결제 실패 처리")
+    void failDueTimeoutsInBatch() {
+        // given
+        List<String> orderIds = List.of("AD_1_000001", "AD_2_000002");
+        givenClaimed(orderIds);
+        when(paymentRepository.failPayments(anyCollection(), anyCollection(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        // when
+        int failed = paymentTimeoutScheduler.failDueTimeouts(NOW);
+
+        // then
+        assertThat(failed).isEqualTo(2);
+        verify(paymentRepository).failAdsOfPayments(orderIds, UNPAID);
+        verify(paymentRepository).failPayments(eq(orderIds), eq(UNPAID),
+                eq(PaymentTimeoutScheduler.TIMEOUT_REASON), any(LocalDateTime.class));
+        verify(paymentRepository, never()).findByOrderId(anyString());
+        verify(zSetOperations).remove(PaymentTimeoutScheduler.TIMEOUTS_KEY, orderIds.toArray());
+        assertThat(meterRegistry.counter("payment.timeout.failed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("리더가 아니면 꺼낸 주문이 없으므로 DB 를 조회하지 않음")
+    void notLeader() {
+        // given
+        givenClaimed(List.of());
+
+        // when
+        int failed = paymentTimeoutScheduler.failDueTimeouts(NOW);
+
+        // then
+        assertThat(failed).isZero();
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 꺼낸 주문을 다음 주기 시각으로 다시 넣고 이번 주기는 더 꺼내지 않음")
+    void requeueOnFailure() {
+        // given : 가득 찬 배치 (성공했다면 다음 배치를 이어서 꺼냄)
+        List<String> orderIds = IntStream.range(0, PaymentTimeoutScheduler.BATCH_SIZE)
+                .mapToObj(i -> "AD_" + i + "_000001")
+                .toList();
+        givenClaimed(orderIds);
+        when(paymentRepository.failAdsOfPayments(anyCollection(), anyCollection()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        int failed = paymentTimeoutScheduler.failDueTimeouts(NOW);
+
+        // then
+        assertThat(failed).isZero();
+        verify(zSetOperations).add(PaymentTimeoutScheduler.TIMEOUTS_KEY, "AD_0_000001", NOW + 5_000);
+        verify(zSetOperations, times(PaymentTimeoutScheduler.BATCH_SIZE))
+                .add(eq(PaymentTimeoutScheduler.TIMEOUTS_KEY), anyString(), eq((double) (NOW + 5_000)));
+        verify(zSetOperations, never()).remove(anyString(), any(Object[].class));
+        verify(redisTemplate, times(1)).execute(eq(paymentTimeoutClaimScript), anyList(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 마감 제거는 커밋 후에 실행")
+    void cancelAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            paymentTimeoutScheduler.cancel("AD_1_000001");
+
+            // then : 커밋 전에는 제거하지 않음
+            verify(zSetOperations, never()).remove(anyString(), any(Object[].class));
+
+            // when : 커밋
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(zSetOperations).remove(PaymentTimeoutScheduler.TIMEOUTS_KEY, "AD_1_000001");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenClaimed(List<String> orderIds) {
+        when(redisTemplate.execute(eq(paymentTimeoutClaimScript), anyList(), any(), any(), any(), any(), any()))
+                .thenReturn(orderIds, List.of());
+    }
+}
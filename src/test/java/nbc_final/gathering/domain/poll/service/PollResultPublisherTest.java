@@ -0,0 +1,103 @@
+package nbc_final.gathering.domain.poll.service;
+
+import nbc_final.gathering.domain.poll.dto.response.PollTallyResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PollResultPublisherTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private PollVoteCounter pollVoteCounter;
+
+    private PollResultPublisher pollResultPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        pollResultPublisher = new PollResultPublisher(messagingTemplate, redisTemplate, pollVoteCounter, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pollResultPublisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송 주기 안에 몰린 투표는 득표 수 스냅샷 한 프레임으로 전송")
+    void coalesceVotesIntoOneFrame() {
+        // given : 첫 투표만 전송 창을 열고 나머지는 열린 창에 포함
+        when(valueOperations.setIfAbsent(eq(PollResultPublisher.windowKey(1L)), any(), any(Duration.class)))
+                .thenReturn(true, false);
+        when(pollVoteCounter.peekCounts(1L)).thenReturn(Map.of(0, 30, 1, 20));
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            pollResultPublisher.votesChanged(1L);
+        }
+
+        // then : 창을 닫은 뒤 득표 수를 읽어 한 번만 전송
+        ArgumentCaptor<PollTallyResponseDto> captor = ArgumentCaptor.forClass(PollTallyResponseDto.class);
+        verify(messagingTemplate, timeout(1000).times(1)).convertAndSend(eq("/topic/poll.1"), captor.capture());
+        assertThat(captor.getValue().getVoteCounts()).containsEntry(0, 30).containsEntry(1, 20);
+        assertThat(captor.getValue().getTotalVotes()).isEqualTo(50);
+
+        InOrder inOrder = inOrder(redisTemplate, pollVoteCounter);
+        inOrder.verify(redisTemplate).delete(PollResultPublisher.windowKey(1L));
+        inOrder.verify(pollVoteCounter).peekCounts(1L);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 전송 창을 연 투표는 이 서버에서 전송하지 않음")
+    void skipWhenWindowOpenedElsewhere() throws InterruptedException {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+
+        // when
+        pollResultPublisher.votesChanged(1L);
+        Thread.sleep(300);
+
+        // then
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(pollVoteCounter, never()).peekCounts(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 전송 창을 열지 못해도 투표는 실패하지 않음")
+    void publishFailureDoesNotBreakVote() {
+        // given
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class)))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        pollResultPublisher.votesChanged(1L);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
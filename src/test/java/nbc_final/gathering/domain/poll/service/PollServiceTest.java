@@ -14,6 +14,7 @@ import nbc_final.gathering.domain.poll.repository.OptionRepository;
 import nbc_final.gathering.domain.poll.repository.PollRepository;
 import nbc_final.gathering.domain.poll.repository.VoteRepository;
 import org.junit.BeforeClass;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,12 @@ class PollServiceTest {
     @Autowired
     OptionRepository optionRepository;
 
+    @Autowired
+    PollVoteFlusher pollVoteFlusher;
+
+    @Autowired
+    PollVoteCounter pollVoteCounter;
+
     //    @PersistenceContext(type = PersistenceContextType.TRANSACTION)
     @PersistenceContext
     EntityManager em;
@@ -86,6 +93,14 @@ class PollServiceTest {
 //        dynamicPropertyRegistry.add("spring.jpa.hibernate.ddl-auto", () -> "create"); // init.sql이랑 동시에 쓰면 안 됨
     }
 
+    // Redis 득표 수는 테스트 트랜잭션과 함께 롤백되지 않으므로 테스트마다 제거
+    @AfterEach
+    void clearVoteCounts() {
+        for (long pollId = 1; pollId <= 4; pollId++) {
+            pollVoteCounter.clear(pollId);
+        }
+    }
+
     @Nested
     class 투표_생성_관련_테스트 {
 
@@ -121,6 +136,7 @@ class PollServiceTest {
 
             // when
             pollService.castVote(gatheringId1, eventId1, userId2, pollId1, selectedOption);
+            pollVoteFlusher.flushDirtyPolls(); // Redis 투표 DB 반영
             Vote vote = voteRepository.findByUserIdAndPollId(userId2, pollId1).get();
             Option option2 = optionRepository.findByPollAndOptionNum(poll, selectedOption); // 두 번째 option
 
@@ -145,6 +161,7 @@ class PollServiceTest {
             // when
             pollService.castVote(gatheringId1, eventId1, userId1, pollId1, selectedOption); // 득표 수 + 1
             pollService.castVote(gatheringId1, eventId1, userId1, pollId1, selectedOption); // 득표 수 - 1
+            pollVoteFlusher.flushDirtyPolls(); // Redis 투표 DB 반영
 
             // then
             assertThat(poll1.getOptions().get(selectedOption).getVoteCount()).isEqualTo(0); // 기존 1에서 -1
@@ -159,6 +176,7 @@ class PollServiceTest {
             // when
             // 이미 투표되어 있는 상황에서 다른 선택지 투표
             pollService.castVote(gatheringId1, eventId1, userId1, pollId1, 1); // 옵션1 득표 수 -1 && 옵션2 득표 수 + 1
+            pollVoteFlusher.flushDirtyPolls(); // Redis 투표 DB 반영
 
             assertThat(poll1.getOptions().get(0).getVoteCount()).isEqualTo(0);
             assertThat(poll1.getOptions().get(1).getVoteCount()).isEqualTo(1);
@@ -173,7 +191,7 @@ class PollServiceTest {
             // when
             pollService.castVote(gatheringId1, eventId1, userId1, pollId1, 0); // 옵션1(초기 데이터) 투표 취소
             pollService.castVote(gatheringId1, eventId1, userId1, pollId1, 1); // 옵션2 득표 수 + 1
-
+            pollVoteFlusher.flushDirtyPolls(); // Redis 투표 DB 반영
 
             // then
             assertThat(poll1.getOptions().get(0).getVoteCount()).isEqualTo(0); // 옵션1 득표 : 0
@@ -190,6 +208,7 @@ class PollServiceTest {
             // when
             pollService.castVote(gatheringId1, eventId1, userId1, pollId1, 0); // 투표 취소
             pollService.castVote(gatheringId1, eventId1, userId1, pollId1, 0); // 다시 똑같은 선택지 투표
+            pollVoteFlusher.flushDirtyPolls(); // Redis 투표 DB 반영
 
             // then
             assertThat(poll1.getOptions().get(0).getVoteCount()).isEqualTo(1);
@@ -400,6 +419,13 @@ class PollServiceTest {
 
             latch.await(); // 모든 스레드 작업 완료 대기
 
+            // Redis 득표 수 확인 후 DB 반영
+            assertThat(pollService.getPoll(gatheringId1, eventId1, userId1, pollId1).getOptions().get(2).getVoteCount())
+                    .isEqualTo(numberOfThreads);
+            pollVoteFlusher.flushDirtyPolls();
+            em.flush();
+            em.clear();
+
             // 결과 검증
             Poll poll = pollRepository.findById(pollId1).orElseThrow();
             Option option3 = poll.getOptions().get(2);
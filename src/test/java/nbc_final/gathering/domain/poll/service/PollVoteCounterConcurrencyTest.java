@@ -0,0 +1,205 @@
+package nbc_final.gathering.domain.poll.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nbc_final.gathering.common.config.redis.RedisScriptConfig;
+import nbc_final.gathering.domain.poll.entity.Poll;
+import nbc_final.gathering.domain.poll.repository.VoteRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동시 투표 · 겹친 DB 반영 시 표 유실 여부 확인 (임베디드 Redis)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PollVoteCounterConcurrencyTest {
+
+    private static final int REDIS_PORT = 6391;
+    private static final Long POLL_ID = 1L;
+    private static final int VOTERS = 1000;
+    private static final int OPTIONS = 3;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private PollVoteCounter pollVoteCounter;
+    private Poll poll;
+
+    @BeforeAll
+    void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer(new ObjectMapper());
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(valueSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        // DB 에는 아직 표가 없음 → 첫 투표들이 동시에 득표 수를 채우는 경합까지 포함
+        VoteRepository voteRepository = mock(VoteRepository.class);
+        when(voteRepository.findSelectionsByPollId(POLL_ID)).thenReturn(List.of());
+
+        RedisScriptConfig scriptConfig = new RedisScriptConfig();
+        pollVoteCounter = new PollVoteCounter(redisTemplate, scriptConfig.pollVoteScript(),
+                scriptConfig.pollVoteInitScript(), scriptConfig.pollVoteDrainScript(),
+                scriptConfig.singleFlightReleaseScript(), voteRepository);
+
+        poll = Poll.createPoll("동시성 테스트", null, null, List.of("선택지1", "선택지2", "선택지3"));
+        ReflectionTestUtils.setField(poll, "id", POLL_ID);
+    }
+
+    @AfterAll
+    void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("1,000명이 동시에 투표 · 변경 · 취소해도 득표 수가 유저 선택지와 일치")
+    void noLostVotes() throws InterruptedException {
+        // given : 유저마다 첫 선택 → (3의 배수) 다른 선택지로 변경 → (5의 배수) 같은 선택지 다시 골라 취소
+        ExecutorService executorService = Executors.newFixedThreadPool(100);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(VOTERS);
+        AtomicInteger failures = new AtomicInteger();
+
+        int[] expectedCounts = new int[OPTIONS];
+        int expectedVoters = 0;
+        for (int i = 1; i <= VOTERS; i++) {
+            Integer finalOption = finalOption(i);
+            if (finalOption != null) {
+                expectedCounts[finalOption]++;
+                expectedVoters++;
+            }
+        }
+
+        // when
+        for (int i = 1; i <= VOTERS; i++) {
+            long userId = i;
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    int option = (int) (userId % OPTIONS);
+                    pollVoteCounter.vote(poll, userId, option);
+                    if (userId % 3 == 0) {
+                        option = (option + 1) % OPTIONS;
+                        pollVoteCounter.vote(poll, userId, option);
+                    }
+                    if (userId % 5 == 0) {
+                        pollVoteCounter.vote(poll, userId, option);
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        Map<Integer, Integer> counts = pollVoteCounter.peekCounts(POLL_ID);
+        Long activeVoters = redisTemplate.opsForHash().size(PollVoteCounter.votesKey(POLL_ID));
+
+        assertThat(failures.get()).isZero();
+        for (int option = 0; option < OPTIONS; option++) {
+            assertThat(counts.get(option)).isEqualTo(expectedCounts[option]);
+        }
+        assertThat(counts.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(expectedVoters);
+        assertThat(activeVoters).isEqualTo(expectedVoters);
+
+        // 모든 유저가 DB 반영 대상으로 한 번씩 기록됨
+        assertThat(pollVoteCounter.drain(POLL_ID)).hasSize(VOTERS);
+        assertThat(redisTemplate.opsForSet().members(PollVoteCounter.DIRTY_POLLS_KEY)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("반영이 겹쳐도 먼저 끝난 반영은 자신이 꺼낸 유저만 반영 중 Set 에서 제거")
+    void overlappingFlushKeepsOtherDrain() {
+        // given : 반영 A 가 유저 1, 2 를 꺼낸 뒤 유저 3 이 투표하고, 반영 B 가 1, 2, 3 을 꺼냄
+        pollVoteCounter.vote(poll, 1L, 0);
+        pollVoteCounter.vote(poll, 2L, 1);
+        List<Long> drainedByA = pollVoteCounter.drain(POLL_ID);
+        pollVoteCounter.vote(poll, 3L, 2);
+        List<Long> drainedByB = pollVoteCounter.drain(POLL_ID);
+
+        // when : A 가 먼저 반영을 마침
+        pollVoteCounter.completeFlush(POLL_ID, drainedByA);
+
+        // then : B 가 실패해도 유저 3 은 다음 반영에 다시 포함됨
+        assertThat(drainedByA).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(drainedByB).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(pollVoteCounter.drain(POLL_ID)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("같은 투표의 반영 임대는 하나만 잡히고, 반환 후 다시 잡을 수 있음")
+    void flushLockSerializesFlushes() {
+        // given
+        String first = pollVoteCounter.tryLockFlush(POLL_ID);
+
+        // when & then : 반영 중에는 다른 반영이 임대를 잡지 못함
+        assertThat(first).isNotNull();
+        assertThat(pollVoteCounter.tryLockFlush(POLL_ID)).isNull();
+
+        // when & then : 만료 후 다른 반영이 잡은 임대는 이전 토큰으로 반환되지 않음
+        redisTemplate.delete(PollVoteCounter.flushLockKey(POLL_ID));
+        String second = pollVoteCounter.tryLockFlush(POLL_ID);
+        pollVoteCounter.unlockFlush(POLL_ID, first);
+        assertThat(second).isNotNull();
+        assertThat(pollVoteCounter.tryLockFlush(POLL_ID)).isNull();
+
+        // when & then : 자신의 임대를 반환하면 다시 잡을 수 있음
+        pollVoteCounter.unlockFlush(POLL_ID, second);
+        assertThat(pollVoteCounter.tryLockFlush(POLL_ID)).isNotNull();
+    }
+
+    // 유저의 최종 선택지 (취소했으면 null)
+    private Integer finalOption(long userId) {
+        int option = (int) (userId % OPTIONS);
+        if (userId % 3 == 0) {
+            option = (option + 1) % OPTIONS;
+        }
+        return userId % 5 == 0 ? null : option;
+    }
+}